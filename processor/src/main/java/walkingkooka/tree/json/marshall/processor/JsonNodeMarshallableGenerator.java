@@ -0,0 +1,349 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.processor;
+
+import walkingkooka.tree.json.marshall.JsonNodeMarshallable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the source of the marshaller for a single class annotated with {@link JsonNodeMarshallable}.
+ */
+final class JsonNodeMarshallableGenerator {
+
+    /**
+     * The suffix added to the annotated class name to form the generated class name.
+     */
+    final static String SUFFIX = "JsonNodeMarshaller";
+
+    /**
+     * The name of the static factory that is preferred over any constructor.
+     */
+    private final static String FACTORY = "with";
+
+    /**
+     * The presence of each property is tracked by a bit in a long.
+     */
+    private final static int MAX_PROPERTIES = 64;
+
+    static JsonNodeMarshallableGenerator with(final TypeElement type,
+                                              final ProcessingEnvironment environment) {
+        return new JsonNodeMarshallableGenerator(type, environment.getTypeUtils());
+    }
+
+    private JsonNodeMarshallableGenerator(final TypeElement type,
+                                          final Types types) {
+        super();
+        this.type = type;
+        this.types = types;
+
+        if (type.getModifiers().contains(Modifier.PRIVATE) || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new JsonNodeMarshallableProcessorException("Class must not be private or abstract", type);
+        }
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new JsonNodeMarshallableProcessorException("Nested class must be static", type);
+        }
+
+        this.packageName = packageName(type);
+        final String qualifiedName = type.getQualifiedName().toString();
+        this.className = (this.packageName.isEmpty() ?
+                qualifiedName :
+                qualifiedName.substring(this.packageName.length() + 1)).replace('.', '_') + SUFFIX;
+
+        final ExecutableElement creator = this.creator();
+        this.factory = creator.getKind() == ElementKind.METHOD;
+
+        final List<JsonNodeMarshallableProperty> properties = new ArrayList<>();
+        for (final VariableElement parameter : creator.getParameters()) {
+            properties.add(
+                    JsonNodeMarshallableProperty.with(
+                            parameter,
+                            this.getter(parameter),
+                            types
+                    )
+            );
+        }
+        if (properties.size() > MAX_PROPERTIES) {
+            throw new JsonNodeMarshallableProcessorException("Too many properties " + properties.size() + " > " + MAX_PROPERTIES, creator);
+        }
+        this.properties = properties;
+    }
+
+    private static String packageName(final Element element) {
+        Element e = element;
+        while (ElementKind.PACKAGE != e.getKind()) {
+            e = e.getEnclosingElement();
+        }
+        return ((PackageElement) e).getQualifiedName().toString();
+    }
+
+    /**
+     * Returns the single static <code>with</code> factory returning the annotated class, or the single non private
+     * constructor.
+     */
+    private ExecutableElement creator() {
+        final TypeElement type = this.type;
+
+        ExecutableElement factory = null;
+        ExecutableElement constructor = null;
+        int constructors = 0;
+
+        for (final Element member : type.getEnclosedElements()) {
+            final ElementKind kind = member.getKind();
+            if (member.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+
+            if (ElementKind.METHOD == kind &&
+                    member.getModifiers().contains(Modifier.STATIC) &&
+                    member.getSimpleName().contentEquals(FACTORY) &&
+                    this.types.isSameType(((ExecutableElement) member).getReturnType(), type.asType())) {
+                if (null != factory) {
+                    throw new JsonNodeMarshallableProcessorException("Multiple static " + FACTORY + " factories", member);
+                }
+                factory = (ExecutableElement) member;
+            }
+            if (ElementKind.CONSTRUCTOR == kind) {
+                constructor = (ExecutableElement) member;
+                constructors++;
+            }
+        }
+
+        if (null == factory) {
+            if (1 != constructors) {
+                throw new JsonNodeMarshallableProcessorException("Missing static " + FACTORY + " factory or single non private constructor", type);
+            }
+            factory = constructor;
+        }
+        return factory;
+    }
+
+    /**
+     * Finds the non private, non static, no argument method named after the parameter, or with a get or is prefix,
+     * returning the same type.
+     */
+    private ExecutableElement getter(final VariableElement parameter) {
+        final String name = parameter.getSimpleName().toString();
+        final String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        for (final String getter : new String[]{name, "get" + capitalized, "is" + capitalized}) {
+            for (final Element member : this.type.getEnclosedElements()) {
+                if (ElementKind.METHOD == member.getKind() &&
+                        member.getSimpleName().contentEquals(getter) &&
+                        !member.getModifiers().contains(Modifier.PRIVATE) &&
+                        !member.getModifiers().contains(Modifier.STATIC)) {
+                    final ExecutableElement method = (ExecutableElement) member;
+                    if (method.getParameters().isEmpty() &&
+                            this.types.isSameType(method.getReturnType(), parameter.asType())) {
+                        return method;
+                    }
+                }
+            }
+        }
+
+        throw new JsonNodeMarshallableProcessorException("Missing getter " + name + "() for property " + name, parameter);
+    }
+
+    /**
+     * The fully qualified name of the generated class.
+     */
+    String qualifiedClassName() {
+        return this.packageName.isEmpty() ?
+                this.className :
+                this.packageName + "." + this.className;
+    }
+
+    /**
+     * Returns the source of the generated marshaller class.
+     */
+    String source() {
+        final String type = this.type.getQualifiedName().toString();
+        final String className = this.className;
+        final List<JsonNodeMarshallableProperty> properties = this.properties;
+
+        final StringBuilder b = new StringBuilder();
+        if (!this.packageName.isEmpty()) {
+            b.append("package ").append(this.packageName).append(";\n\n");
+        }
+
+        b.append("import walkingkooka.collect.list.Lists;\n")
+                .append("import walkingkooka.tree.json.JsonNode;\n")
+                .append("import walkingkooka.tree.json.JsonPropertyName;\n")
+                .append("import walkingkooka.tree.json.marshall.JsonNodeContext;\n")
+                .append("import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;\n")
+                .append("import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;\n")
+                .append("\n")
+                .append("import java.util.Objects;\n")
+                .append("\n")
+                .append("/**\n")
+                .append(" * Marshaller for {@link ").append(type).append("} generated by ")
+                .append(JsonNodeMarshallableProcessor.class.getName()).append(".\n")
+                .append(" */\n")
+                .append("final class ").append(className).append(" {\n")
+                .append("\n");
+
+        // register
+        final String typeName = this.type.getAnnotation(JsonNodeMarshallable.class).typeName();
+        b.append("    /**\n")
+                .append("     * Registers this marshaller returning a {@link Runnable} that removes the registration.\n")
+                .append("     */\n")
+                .append("    static Runnable register() {\n")
+                .append("        return JsonNodeContext.register(\n")
+                .append("                ").append(typeName.isEmpty() ?
+                        "JsonNodeContext.computeTypeName(" + type + ".class)" :
+                        quote(typeName)).append(",\n")
+                .append("                ").append(className).append("::unmarshall,\n")
+                .append("                ").append(className).append("::marshall,\n")
+                .append("                ").append(type).append(".class\n")
+                .append("        );\n")
+                .append("    }\n")
+                .append("\n");
+
+        // unmarshall
+        b.append("    static ").append(type).append(" unmarshall(final JsonNode node,\n")
+                .append("                final JsonNodeUnmarshallContext context) {\n")
+                .append("        Objects.requireNonNull(node, \"node\");\n")
+                .append("\n");
+        for (final JsonNodeMarshallableProperty property : properties) {
+            b.append("        ").append(property.type()).append(' ').append(property.local())
+                    .append(" = ").append(property.defaultValue()).append(";\n");
+        }
+        b.append("        long present = 0;\n")
+                .append("\n")
+                .append("        for (final JsonNode child : node.objectOrFail().children()) {\n")
+                .append("            final JsonPropertyName property = child.name();\n")
+                .append("            switch (property.value()) {\n");
+        int i = 0;
+        for (final JsonNodeMarshallableProperty property : properties) {
+            b.append("                case ").append(quote(property.name())).append(":\n")
+                    .append("                    ").append(property.local()).append(" = ").append(property.unmarshall("child")).append(";\n")
+                    .append("                    present |= ").append(bit(i)).append(";\n")
+                    .append("                    break;\n");
+            i++;
+        }
+        b.append("                default:\n")
+                .append("                    JsonNodeUnmarshallContext.unknownPropertyPresent(property, node);\n")
+                .append("                    break;\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("\n");
+
+        i = 0;
+        for (final JsonNodeMarshallableProperty property : properties) {
+            b.append("        if (0 == (present & ").append(bit(i)).append(")) {\n")
+                    .append("            JsonNodeUnmarshallContext.requiredPropertyMissing(").append(property.constant()).append(", node);\n")
+                    .append("        }\n");
+            i++;
+        }
+        if (!properties.isEmpty()) {
+            b.append("\n");
+        }
+
+        b.append("        return ").append(this.factory ? type + "." + FACTORY : "new " + type).append('(');
+        i = 0;
+        for (final JsonNodeMarshallableProperty property : properties) {
+            if (i > 0) {
+                b.append(", ");
+            }
+            b.append(property.local());
+            i++;
+        }
+        b.append(");\n")
+                .append("    }\n")
+                .append("\n");
+
+        // marshall
+        b.append("    static JsonNode marshall(final ").append(type).append(" value,\n")
+                .append("                final JsonNodeMarshallContext context) {\n")
+                .append("        return JsonNode.object()\n")
+                .append("                .setChildren(\n");
+        if (properties.isEmpty()) {
+            b.append("                        Lists.empty()\n");
+        } else {
+            b.append("                        Lists.of(\n");
+            i = 0;
+            for (final JsonNodeMarshallableProperty property : properties) {
+                b.append("                                ").append(property.marshall("value"))
+                        .append(".setName(").append(property.constant()).append(')')
+                        .append(i < properties.size() - 1 ? ",\n" : "\n");
+                i++;
+            }
+            b.append("                        )\n");
+        }
+        b.append("                );\n")
+                .append("    }\n");
+
+        for (final JsonNodeMarshallableProperty property : properties) {
+            b.append("\n")
+                    .append("    private final static JsonPropertyName ").append(property.constant())
+                    .append(" = JsonPropertyName.with(").append(quote(property.name())).append(");\n");
+        }
+
+        b.append("}\n");
+        return b.toString();
+    }
+
+    private static String bit(final int i) {
+        return "0x" + Long.toHexString(1L << i) + "L";
+    }
+
+    /**
+     * Returns a java string literal, escaping any quotes or backslashes within the annotation type name.
+     */
+    private static String quote(final String text) {
+        final StringBuilder b = new StringBuilder();
+        b.append('"');
+        for (final char c : text.toCharArray()) {
+            if ('"' == c || '\\' == c) {
+                b.append('\\');
+            }
+            b.append(c);
+        }
+        return b.append('"').toString();
+    }
+
+    private final TypeElement type;
+
+    private final Types types;
+
+    private final String packageName;
+
+    private final String className;
+
+    /**
+     * When true the static factory is used, otherwise the constructor.
+     */
+    private final boolean factory;
+
+    private final List<JsonNodeMarshallableProperty> properties;
+
+    @Override
+    public String toString() {
+        return this.qualifiedClassName();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.processor;
+
+import walkingkooka.tree.json.marshall.JsonNodeMarshallable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * An annotation processor that generates a marshaller for each class annotated with {@link JsonNodeMarshallable}.
+ * The generated unmarshall switches on each property name and the generated marshall creates the json object with all
+ * its properties in a single {@link walkingkooka.tree.json.JsonObject#setChildren(java.util.List)}.
+ */
+public final class JsonNodeMarshallableProcessor extends AbstractProcessor {
+
+    public JsonNodeMarshallableProcessor() {
+        super();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(JsonNodeMarshallable.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                           final RoundEnvironment round) {
+        for (final Element element : round.getElementsAnnotatedWith(JsonNodeMarshallable.class)) {
+            if (ElementKind.CLASS != element.getKind()) {
+                this.error("@" + JsonNodeMarshallable.class.getSimpleName() + " only supports classes", element);
+                continue;
+            }
+
+            final TypeElement type = (TypeElement) element;
+            try {
+                final JsonNodeMarshallableGenerator generator = JsonNodeMarshallableGenerator.with(
+                        type,
+                        this.processingEnv
+                );
+                final JavaFileObject file = this.processingEnv.getFiler()
+                        .createSourceFile(generator.qualifiedClassName(), type);
+                try (final Writer writer = file.openWriter()) {
+                    writer.write(generator.source());
+                }
+            } catch (final JsonNodeMarshallableProcessorException cause) {
+                this.error(cause.getMessage(), cause.element());
+            } catch (final IOException cause) {
+                this.error("Unable to write marshaller: " + cause.getMessage(), type);
+            }
+        }
+
+        return true;
+    }
+
+    private void error(final String message,
+                       final Element element) {
+        this.processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
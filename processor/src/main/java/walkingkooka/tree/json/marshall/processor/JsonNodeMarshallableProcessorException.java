@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Reports an annotated class that cannot be marshalled, identifying the {@link Element} at fault.
+ */
+final class JsonNodeMarshallableProcessorException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    JsonNodeMarshallableProcessorException(final String message,
+                                           final Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    Element element() {
+        return this.element;
+    }
+
+    private final transient Element element;
+}
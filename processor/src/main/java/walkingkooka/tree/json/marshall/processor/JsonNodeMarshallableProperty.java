@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+/**
+ * A single property of a {@link walkingkooka.tree.json.marshall.JsonNodeMarshallable} class, holding the creator
+ * parameter and its getter and producing the source fragments that read and write the property.
+ */
+final class JsonNodeMarshallableProperty {
+
+    static JsonNodeMarshallableProperty with(final VariableElement parameter,
+                                             final ExecutableElement getter,
+                                             final Types types) {
+        final TypeMirror type = parameter.asType();
+        final TypeKind kind = type.getKind();
+
+        final String unmarshall;
+        final String marshall;
+
+        if (kind.isPrimitive()) {
+            unmarshall = "context.unmarshall(%, " + types.boxedClass(types.getPrimitiveType(kind)).getQualifiedName() + ".class)";
+            marshall = "context.marshall(%)";
+        } else if (TypeKind.DECLARED == kind) {
+            final DeclaredType declared = (DeclaredType) type;
+            final List<? extends TypeMirror> arguments = declared.getTypeArguments();
+            final String raw = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+
+            if (arguments.isEmpty()) {
+                unmarshall = "context.unmarshall(%, " + raw + ".class)";
+                marshall = "context.marshall(%)";
+            } else {
+                switch (raw) {
+                    case "java.util.List":
+                        unmarshall = "context.unmarshallList(%, " + rawClassLiteral(arguments.get(0), parameter) + ")";
+                        marshall = "context.marshallCollection(%)";
+                        break;
+                    case "java.util.Set":
+                        unmarshall = "context.unmarshallSet(%, " + rawClassLiteral(arguments.get(0), parameter) + ")";
+                        marshall = "context.marshallCollection(%)";
+                        break;
+                    case "java.util.Map":
+                        unmarshall = "context.unmarshallMap(%, " + rawClassLiteral(arguments.get(0), parameter) + ", " + rawClassLiteral(arguments.get(1), parameter) + ")";
+                        marshall = "context.marshallMap(%)";
+                        break;
+                    default:
+                        throw new JsonNodeMarshallableProcessorException("Unsupported generic type " + type, parameter);
+                }
+            }
+        } else {
+            throw new JsonNodeMarshallableProcessorException("Unsupported type " + type, parameter);
+        }
+
+        return new JsonNodeMarshallableProperty(
+                parameter.getSimpleName().toString(),
+                type.toString(),
+                kind,
+                getter.getSimpleName().toString(),
+                unmarshall,
+                marshall
+        );
+    }
+
+    /**
+     * Element types of collections must be non generic classes, as only a {@link Class} may be passed to the context.
+     */
+    private static String rawClassLiteral(final TypeMirror type,
+                                          final VariableElement parameter) {
+        if (TypeKind.DECLARED != type.getKind() || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            throw new JsonNodeMarshallableProcessorException("Unsupported element type " + type, parameter);
+        }
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName() + ".class";
+    }
+
+    private JsonNodeMarshallableProperty(final String name,
+                                         final String type,
+                                         final TypeKind kind,
+                                         final String getter,
+                                         final String unmarshall,
+                                         final String marshall) {
+        super();
+        this.name = name;
+        this.type = type;
+        this.kind = kind;
+        this.getter = getter;
+        this.unmarshall = unmarshall;
+        this.marshall = marshall;
+    }
+
+    /**
+     * The property name, which is also the json property name.
+     */
+    String name() {
+        return this.name;
+    }
+
+    private final String name;
+
+    /**
+     * The source form of the property type.
+     */
+    String type() {
+        return this.type;
+    }
+
+    private final String type;
+
+    /**
+     * The local variable holding the property value during unmarshalling.
+     */
+    String local() {
+        return this.name + "Value";
+    }
+
+    /**
+     * The name of the {@link walkingkooka.tree.json.JsonPropertyName} constant, eg <code>firstName</code> becomes
+     * <code>FIRST_NAME_PROPERTY</code>.
+     */
+    String constant() {
+        final StringBuilder b = new StringBuilder();
+        for (final char c : this.name.toCharArray()) {
+            if (Character.isUpperCase(c) && b.length() > 0) {
+                b.append('_');
+            }
+            b.append(Character.toUpperCase(c));
+        }
+        return b.append("_PROPERTY").toString();
+    }
+
+    /**
+     * The initial value of the local, which is always replaced or a missing property reported.
+     */
+    String defaultValue() {
+        final String value;
+
+        switch (this.kind) {
+            case BOOLEAN:
+                value = "false";
+                break;
+            case CHAR:
+                value = "'\\0'";
+                break;
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                value = "0";
+                break;
+            default:
+                value = "null";
+                break;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns an expression that unmarshalls the given node variable.
+     */
+    String unmarshall(final String node) {
+        return this.unmarshall.replace("%", node);
+    }
+
+    private final TypeKind kind;
+
+    private final String unmarshall;
+
+    /**
+     * Returns an expression that marshalls this property read from the given value variable.
+     */
+    String marshall(final String value) {
+        return this.marshall.replace("%", value + "." + this.getter + "()");
+    }
+
+    private final String getter;
+
+    private final String marshall;
+
+    @Override
+    public String toString() {
+        return this.type + " " + this.name;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.processor;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+import walkingkooka.tree.json.MissingPropertyJsonNodeException;
+import walkingkooka.tree.json.UnknownPropertyJsonNodeException;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The processor runs while compiling test sources, generating {@link TestJsonNodeMarshallableValueJsonNodeMarshaller}
+ * which is exercised here.
+ */
+public final class JsonNodeMarshallableProcessorTest implements ClassTesting2<JsonNodeMarshallableProcessor> {
+
+    private final static TestJsonNodeMarshallableValue VALUE = TestJsonNodeMarshallableValue.with(
+            "name1",
+            123,
+            Lists.of("tag1", "tag2"),
+            true
+    );
+
+    private final static JsonNode JSON = JsonNode.object()
+            .set(JsonPropertyName.with("name"), JsonNode.string("name1"))
+            .set(JsonPropertyName.with("count"), JsonNode.number(123))
+            .set(JsonPropertyName.with("tags"), JsonNode.array()
+                    .appendChild(JsonNode.string("tag1"))
+                    .appendChild(JsonNode.string("tag2")))
+            .set(JsonPropertyName.with("enabled"), JsonNode.booleanNode(true));
+
+    @Test
+    public void testMarshall() {
+        this.checkEquals(
+                JSON,
+                this.marshallContext().marshall(VALUE)
+        );
+    }
+
+    @Test
+    public void testUnmarshall() {
+        this.checkEquals(
+                VALUE,
+                this.unmarshallContext().unmarshall(JSON, TestJsonNodeMarshallableValue.class)
+        );
+    }
+
+    @Test
+    public void testUnmarshallPropertyOrderUnimportant() {
+        this.checkEquals(
+                VALUE,
+                this.unmarshallContext().unmarshall(
+                        JsonNode.object()
+                                .set(JsonPropertyName.with("enabled"), JsonNode.booleanNode(true))
+                                .set(JsonPropertyName.with("tags"), JSON.objectOrFail().getOrFail(JsonPropertyName.with("tags")))
+                                .set(JsonPropertyName.with("count"), JsonNode.number(123))
+                                .set(JsonPropertyName.with("name"), JsonNode.string("name1")),
+                        TestJsonNodeMarshallableValue.class
+                )
+        );
+    }
+
+    @Test
+    public void testUnmarshallUnknownPropertyFails() {
+        assertThrows(
+                UnknownPropertyJsonNodeException.class,
+                () -> TestJsonNodeMarshallableValueJsonNodeMarshaller.unmarshall(
+                        JSON.objectOrFail().set(JsonPropertyName.with("unknown"), JsonNode.string("!")),
+                        this.unmarshallContext()
+                )
+        );
+    }
+
+    @Test
+    public void testUnmarshallMissingPropertyFails() {
+        assertThrows(
+                MissingPropertyJsonNodeException.class,
+                () -> TestJsonNodeMarshallableValueJsonNodeMarshaller.unmarshall(
+                        JSON.objectOrFail().remove(JsonPropertyName.with("count")),
+                        this.unmarshallContext()
+                )
+        );
+    }
+
+    @Test
+    public void testMarshallWithTypeUnmarshallWithTypeRoundtrip() {
+        final JsonNode json = this.marshallContext().marshallWithType(VALUE);
+        this.checkEquals(
+                TestJsonNodeMarshallableValue.TYPE_NAME,
+                json.objectOrFail().getOrFail(JsonPropertyName.with("type")).stringOrFail()
+        );
+        this.checkEquals(
+                VALUE,
+                this.unmarshallContext().unmarshallWithType(json)
+        );
+    }
+
+    private JsonNodeMarshallContext marshallContext() {
+        return JsonNodeMarshallContexts.basic();
+    }
+
+    private JsonNodeUnmarshallContext unmarshallContext() {
+        return JsonNodeUnmarshallContexts.basic(
+                ExpressionNumberKind.DEFAULT,
+                MathContext.DECIMAL32
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeMarshallableProcessor> type() {
+        return JsonNodeMarshallableProcessor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
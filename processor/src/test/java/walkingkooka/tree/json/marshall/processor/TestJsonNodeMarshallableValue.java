@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.processor;
+
+import walkingkooka.tree.json.marshall.JsonNodeMarshallable;
+
+import java.util.List;
+import java.util.Objects;
+
+@JsonNodeMarshallable(typeName = TestJsonNodeMarshallableValue.TYPE_NAME)
+public final class TestJsonNodeMarshallableValue {
+
+    final static String TYPE_NAME = "test-JsonNodeMarshallableValue";
+
+    static {
+        TestJsonNodeMarshallableValueJsonNodeMarshaller.register();
+    }
+
+    public static TestJsonNodeMarshallableValue with(final String name,
+                                                     final int count,
+                                                     final List<String> tags,
+                                                     final boolean enabled) {
+        return new TestJsonNodeMarshallableValue(name, count, tags, enabled);
+    }
+
+    private TestJsonNodeMarshallableValue(final String name,
+                                          final int count,
+                                          final List<String> tags,
+                                          final boolean enabled) {
+        super();
+        this.name = name;
+        this.count = count;
+        this.tags = tags;
+        this.enabled = enabled;
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    private final String name;
+
+    public int getCount() {
+        return this.count;
+    }
+
+    private final int count;
+
+    public List<String> tags() {
+        return this.tags;
+    }
+
+    private final List<String> tags;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    private final boolean enabled;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.count, this.tags, this.enabled);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof TestJsonNodeMarshallableValue && this.equals0((TestJsonNodeMarshallableValue) other);
+    }
+
+    private boolean equals0(final TestJsonNodeMarshallableValue other) {
+        return Objects.equals(this.name, other.name) &&
+                this.count == other.count &&
+                Objects.equals(this.tags, other.tags) &&
+                this.enabled == other.enabled;
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " " + this.count + " " + this.tags + " " + this.enabled;
+    }
+}
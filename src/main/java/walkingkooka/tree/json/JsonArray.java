@@ -18,6 +18,7 @@
 package walkingkooka.tree.json;
 
 import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
 import walkingkooka.text.CharacterConstant;
 import walkingkooka.text.printer.IndentingPrinter;
 import walkingkooka.tree.search.HasSearchNode;
@@ -25,6 +26,7 @@ import walkingkooka.tree.search.SearchNode;
 import walkingkooka.visit.Visiting;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -46,10 +48,18 @@ public final class JsonArray extends JsonParentNode<List<JsonNode>> {
     }
 
     /**
-     * Makes a copy of the list and sets the parent upon the children.
+     * Makes a copy of the list and sets the parent upon the children. Children that are all numbers are kept as a
+     * {@link JsonArrayNumberList}.
      */
     @Override
     List<JsonNode> adoptChildren(final List<JsonNode> children) {
+        final JsonArrayNumberList numbers = JsonArrayNumberList.tryWith(children);
+        return null != numbers ?
+                numbers.setParent(this) :
+                this.adoptChildrenCopy(children);
+    }
+
+    private List<JsonNode> adoptChildrenCopy(final List<JsonNode> children) {
         final Optional<JsonNode> parent = Optional.of(this);
 
         final List<JsonNode> copy = Lists.array();
@@ -106,6 +116,17 @@ public final class JsonArray extends JsonParentNode<List<JsonNode>> {
         return this.children().get(index);
     }
 
+    /**
+     * Returns a copy of the element values when every element is a number, without creating a {@link JsonNumber}
+     * for each, otherwise returns null. An empty array also returns null.
+     */
+    public double[] numbersOrNull() {
+        final List<JsonNode> children = this.children;
+        return children instanceof JsonArrayNumberList ?
+                ((JsonArrayNumberList) children).values() :
+                null;
+    }
+
     @Override
     public JsonArray setChild(final int index, final JsonNode element) {
         return this.set(index, element);
@@ -223,6 +244,46 @@ public final class JsonArray extends JsonParentNode<List<JsonNode>> {
         return copy;
     }
 
+    // index............................................................................................................
+
+    /**
+     * Returns an index of the elements of this array keyed by the value of the given property.
+     */
+    public JsonArrayIndex index(final JsonPropertyName property) {
+        Objects.requireNonNull(property, "property");
+
+        return this.index(JsonPointer.property(property));
+    }
+
+    /**
+     * Returns an index of the elements of this array keyed by the value the given {@link JsonPointer} selects from each
+     * element. The index is built on the first request and the same instance returned afterwards, which is safe
+     * because this array and its elements never change.
+     */
+    public JsonArrayIndex index(final JsonPointer key) {
+        Objects.requireNonNull(key, "key");
+
+        synchronized (this.children) {
+            Map<JsonPointer, JsonArrayIndex> indices = this.indices;
+            if (null == indices) {
+                indices = Maps.hash();
+                this.indices = indices;
+            }
+
+            JsonArrayIndex index = indices.get(key);
+            if (null == index) {
+                index = JsonArrayIndex.with(this, key);
+                indices.put(key, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Lazily created memo of indices, guarded by the children list.
+     */
+    private Map<JsonPointer, JsonArrayIndex> indices;
+
     @Override
     JsonPropertyName defaultName() {
         return NAME;
@@ -258,10 +319,12 @@ public final class JsonArray extends JsonParentNode<List<JsonNode>> {
     // Visitor .................................................................................................
 
     @Override
-    public void accept(final JsonNodeVisitor visitor) {
-        if (Visiting.CONTINUE == visitor.startVisit(this)) {
-            this.acceptValues(visitor);
-        }
+    Visiting startVisit(final JsonNodeVisitor visitor) {
+        return visitor.startVisit(this);
+    }
+
+    @Override
+    void endVisit(final JsonNodeVisitor visitor) {
         visitor.endVisit(this);
     }
 
@@ -271,35 +334,55 @@ public final class JsonArray extends JsonParentNode<List<JsonNode>> {
     }
 
     /**
-     * Only returns true if the descendants of this node and the given children are equal ignoring the parents.
+     * Children are compared with the other child at the same index.
      */
     @Override
-    boolean equalsDescendants0(final JsonNode child, final List<JsonNode> otherChildren, final int i) {
-        return child.equalsNameValueAndDescendants(otherChildren.get(i));
+    JsonNode otherChild(final JsonNode child, final List<JsonNode> otherChildren, final int i) {
+        return otherChildren.get(i);
+    }
+
+    @Override
+    int combineStructuralHash() {
+        final List<JsonNode> children = this.children;
+        if (children instanceof JsonArrayNumberList) {
+            return ((JsonArrayNumberList) children).structuralHash();
+        }
+
+        int hash = 1;
+        for (final JsonNode child : this.children) {
+            hash = 31 * hash + child.structuralHash();
+        }
+        return hash;
     }
 
+    // printJson........................................................................................................
+
     @Override
-    void printJson0(final IndentingPrinter printer) {
-        final List<JsonNode> children = this.children();
-        if (children.isEmpty()) {
+    void printJsonBegin(final IndentingPrinter printer) {
+        if (this.children.isEmpty()) {
             printer.print(EMPTY_ARRAY_STRING);
         } else {
             printer.println(BEGIN);
-
             printer.indent();
-            {
-                int i = 0;
-                for (final JsonNode child : this.children) {
-                    if (i > 0) {
-                        printer.println(",");
-                    }
-                    i++;
-
-                    child.printJson(printer);
-                }
-            }
-            printer.outdent();
+        }
+    }
+
+    @Override
+    void printJsonBeforeChild(final IndentingPrinter printer, final JsonNode child, final int i) {
+        if (i > 0) {
+            printer.println(",");
+        }
+    }
+
+    @Override
+    void printJsonAfterChild(final IndentingPrinter printer, final int i, final int count) {
+        // nop
+    }
 
+    @Override
+    void printJsonEnd(final IndentingPrinter printer) {
+        if (!this.children.isEmpty()) {
+            printer.outdent();
             printer.println();
             printer.print(END);
         }
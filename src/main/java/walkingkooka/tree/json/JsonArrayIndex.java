@@ -0,0 +1,303 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An index over the elements of a {@link JsonArray}, keyed by the value a {@link JsonPointer} selects from each
+ * element. Because nodes are immutable the index is built once and memoised by the array, see
+ * {@link JsonArray#index(JsonPointer)}. Elements without the key are not indexed.
+ * <br>
+ * Lookups use a hash table, while range queries lazily build a sorted view that only includes keys that are booleans,
+ * numbers or strings, which are ordered with booleans first, then numbers and then strings.
+ */
+public final class JsonArrayIndex {
+
+    static JsonArrayIndex with(final JsonArray array,
+                               final JsonPointer key) {
+        return new JsonArrayIndex(array, key);
+    }
+
+    private JsonArrayIndex(final JsonArray array,
+                           final JsonPointer key) {
+        super();
+        this.key = key;
+
+        final List<JsonNode> elements = array.children();
+        final int count = elements.size();
+        final Object[] keys = new Object[count];
+        final Map<Object, List<JsonNode>> hash = Maps.hash();
+
+        for (int i = 0; i < count; i++) {
+            final JsonNode element = elements.get(i);
+            final JsonNode value = key.getOrNull(element);
+            if (null != value) {
+                final Object normalized = normalize(value);
+                keys[i] = normalized;
+
+                final List<JsonNode> existing = hash.get(normalized);
+                if (null == existing) {
+                    hash.put(normalized, Collections.singletonList(element));
+                } else {
+                    final List<JsonNode> matches;
+                    if (1 == existing.size()) {
+                        matches = Lists.array();
+                        matches.addAll(existing);
+                        hash.put(normalized, matches);
+                    } else {
+                        matches = existing;
+                    }
+                    matches.add(element);
+                }
+            }
+        }
+
+        this.elements = elements;
+        this.keys = keys;
+        this.hash = hash;
+    }
+
+    /**
+     * The pointer used to select the key from each element.
+     */
+    public JsonPointer key() {
+        return this.key;
+    }
+
+    private final JsonPointer key;
+
+    // get..............................................................................................................
+
+    /**
+     * Returns all elements with the given key in array order.
+     */
+    public List<JsonNode> get(final JsonNode key) {
+        Objects.requireNonNull(key, "key");
+
+        final List<JsonNode> matches = this.hash.get(normalize(key));
+        return null == matches ?
+                Lists.empty() :
+                Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Returns the first element with the given key.
+     */
+    public Optional<JsonNode> first(final JsonNode key) {
+        final List<JsonNode> matches = this.get(key);
+        return matches.isEmpty() ?
+                Optional.empty() :
+                Optional.of(matches.get(0));
+    }
+
+    /**
+     * Returns true if at least one element has the given key.
+     */
+    public boolean contains(final JsonNode key) {
+        Objects.requireNonNull(key, "key");
+
+        return this.hash.containsKey(normalize(key));
+    }
+
+    /**
+     * Elements grouped by their normalized key.
+     */
+    private final Map<Object, List<JsonNode>> hash;
+
+    /**
+     * Booleans, numbers and strings are keyed by their value, with negative zero replaced by zero, all other values
+     * by a copy without any parent or name so equivalent nodes are equal.
+     */
+    static Object normalize(final JsonNode node) {
+        final Object normalized;
+
+        if (node.isBoolean() || node.isString()) {
+            normalized = node.value();
+        } else if (node.isNumber()) {
+            // 0.0 and -0.0 are different Doubles
+            normalized = node.numberOrFail().doubleValue() + 0.0;
+        } else {
+            normalized = node.removeParent()
+                    .setName(node.defaultName());
+        }
+
+        return normalized;
+    }
+
+    // range............................................................................................................
+
+    /**
+     * Returns all elements with a key greater or equal to from and less than to, in key order. Both keys must be a
+     * boolean, number or string.
+     */
+    public List<JsonNode> range(final JsonNode from,
+                                final JsonNode to) {
+        final Object fromKey = sortableKey(from, "from");
+        final Object toKey = sortableKey(to, "to");
+
+        final Object[] sortedKeys = this.sortedKeys();
+        final int start = lowerBound(sortedKeys, fromKey);
+        final int end = lowerBound(sortedKeys, toKey);
+
+        return start < end ?
+                Collections.unmodifiableList(
+                        Arrays.asList(this.sortedElements)
+                                .subList(start, end)
+                ) :
+                Lists.empty();
+    }
+
+    private static Object sortableKey(final JsonNode key,
+                                      final String label) {
+        Objects.requireNonNull(key, label);
+
+        final Object normalized = normalize(key);
+        if (!isSortable(normalized)) {
+            throw new IllegalArgumentException("Invalid " + label + " " + key + " expected boolean, number or string");
+        }
+        return normalized;
+    }
+
+    /**
+     * Returns the index of the first key greater or equal to the given key.
+     */
+    private static int lowerBound(final Object[] keys,
+                                  final Object key) {
+        int low = 0;
+        int high = keys.length;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (compare(keys[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Lazily sorts the sortable keys, with elements with equal keys kept in array order.
+     */
+    private synchronized Object[] sortedKeys() {
+        if (null == this.sortedKeys) {
+            final Object[] keys = this.keys;
+
+            int count = 0;
+            for (final Object key : keys) {
+                if (isSortable(key)) {
+                    count++;
+                }
+            }
+
+            final Integer[] order = new Integer[count];
+            int j = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (isSortable(keys[i])) {
+                    order[j++] = i;
+                }
+            }
+
+            // Arrays.sort on objects is stable
+            Arrays.sort(order, (l, r) -> compare(keys[l], keys[r]));
+
+            final Object[] sortedKeys = new Object[count];
+            final JsonNode[] sortedElements = new JsonNode[count];
+            final List<JsonNode> elements = this.elements;
+            for (int i = 0; i < count; i++) {
+                final int index = order[i];
+                sortedKeys[i] = keys[index];
+                sortedElements[i] = elements.get(index);
+            }
+
+            this.sortedElements = sortedElements;
+            this.sortedKeys = sortedKeys;
+        }
+
+        return this.sortedKeys;
+    }
+
+    private static boolean isSortable(final Object key) {
+        return key instanceof Boolean || key instanceof Double || key instanceof String;
+    }
+
+    /**
+     * Booleans before numbers before strings.
+     */
+    private static int compare(final Object left,
+                               final Object right) {
+        final int leftRank = rank(left);
+        final int rightRank = rank(right);
+
+        final int result;
+        if (leftRank != rightRank) {
+            result = leftRank - rightRank;
+        } else if (left instanceof Boolean) {
+            result = Boolean.compare((Boolean) left, (Boolean) right);
+        } else if (left instanceof Double) {
+            result = Double.compare((Double) left, (Double) right);
+        } else {
+            result = ((String) left).compareTo((String) right);
+        }
+
+        return result;
+    }
+
+    private static int rank(final Object key) {
+        return key instanceof Boolean ?
+                0 :
+                key instanceof Double ?
+                        1 :
+                        2;
+    }
+
+    /**
+     * The elements of the array, shared with the array.
+     */
+    private final List<JsonNode> elements;
+
+    /**
+     * The normalized key for each element or null if the element has no key.
+     */
+    private final Object[] keys;
+
+    /**
+     * Lazily created by {@link #sortedKeys()}.
+     */
+    private Object[] sortedKeys;
+
+    private JsonNode[] sortedElements;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.key + " " + this.keys.length;
+    }
+}
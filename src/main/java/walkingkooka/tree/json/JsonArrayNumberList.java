@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The children of a {@link JsonArray} holding only numbers, kept as a <code>double[]</code>. Each {@link JsonNumber}
+ * child is created when it is fetched, which costs far less than keeping a node, name and boxed value alive for
+ * every element of a large array. The values are never modified and are shared by all copies of the list.
+ */
+final class JsonArrayNumberList extends AbstractList<JsonNode> {
+
+    /**
+     * Creates a list without a parent, taking ownership of the given values.
+     */
+    static JsonArrayNumberList with(final double[] values) {
+        return new JsonArrayNumberList(values, Optional.empty());
+    }
+
+    /**
+     * Returns a {@link JsonArrayNumberList} holding the values of the given children, or null if any is not a
+     * {@link JsonNumber} or there are no children.
+     */
+    static JsonArrayNumberList tryWith(final List<JsonNode> children) {
+        JsonArrayNumberList list = null;
+
+        if (children instanceof JsonArrayNumberList) {
+            list = (JsonArrayNumberList) children;
+        } else {
+            final int count = children.size();
+            // check the first child before allocating, so arrays of objects or strings never allocate the values
+            if (count > 0 && children.get(0) instanceof JsonNumber) {
+                final double[] values = new double[count];
+                int i = 0;
+                for (final JsonNode child : children) {
+                    if (!(child instanceof JsonNumber)) {
+                        break;
+                    }
+                    values[i] = ((JsonNumber) child).value;
+                    i++;
+                }
+                if (count == i) {
+                    list = with(values);
+                }
+            }
+        }
+
+        return list;
+    }
+
+    private JsonArrayNumberList(final double[] values,
+                                final Optional<JsonNode> parent) {
+        super();
+        this.values = values;
+        this.parent = parent;
+    }
+
+    /**
+     * Returns a list sharing the same values whose children belong to the given {@link JsonArray}.
+     */
+    JsonArrayNumberList setParent(final JsonArray parent) {
+        return new JsonArrayNumberList(this.values, Optional.of(parent));
+    }
+
+    /**
+     * Creates a new {@link JsonNumber} on every call, as no nodes are kept. Callers that fetch the same child many
+     * times should keep the returned node.
+     */
+    @Override
+    public JsonNode get(final int index) {
+        return JsonNumber.with(this.values[index])
+                .setParent(this.parent,
+                        JsonPropertyName.index(index),
+                        index);
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * Returns the value at the given index without creating a {@link JsonNumber}.
+     */
+    double value(final int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Returns a copy of the values.
+     */
+    double[] values() {
+        return this.values.clone();
+    }
+
+    /**
+     * Computes the same hash as combining the {@link JsonNode#structuralHash()} of each child, without creating them.
+     * Each value hash goes through {@link JsonNode#nonZeroHash(int)}, which is how a {@link JsonNumber} holding zero
+     * memoises its hash.
+     */
+    int structuralHash() {
+        int hash = 1;
+        for (final double value : this.values) {
+            hash = 31 * hash + JsonNode.nonZeroHash(Double.hashCode(value));
+        }
+        return hash;
+    }
+
+    private final double[] values;
+
+    private final Optional<JsonNode> parent;
+}
@@ -59,6 +59,11 @@ abstract class JsonLeafNode<V> extends JsonNode implements Value<V> {
         return this.replace0(name, index, this.value);
     }
 
+    @Override
+    final int structuralHash0() {
+        return Objects.hashCode(this.value);
+    }
+
     abstract JsonLeafNode<V> replace0(final JsonPropertyName name, final int index, final V value);
 
     /**
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import walkingkooka.collect.map.Maps;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A RFC 7396 json merge patch. Each object in the patch is merged into the matching target object, with null values
+ * removing properties and all other values replacing. Each object is created once with all its changes, and objects
+ * the patch leaves unchanged are returned as is.
+ * <br>
+ * https://datatracker.ietf.org/doc/html/rfc7396
+ */
+public final class JsonMergePatch {
+
+    public static JsonMergePatch with(final JsonNode patch) {
+        Objects.requireNonNull(patch, "patch");
+
+        return new JsonMergePatch(patch);
+    }
+
+    private JsonMergePatch(final JsonNode patch) {
+        super();
+        this.patch = patch;
+    }
+
+    /**
+     * Applies this patch returning the merged node, which keeps the name and parent of the given node.
+     */
+    public JsonNode apply(final JsonNode node) {
+        Objects.requireNonNull(node, "node");
+
+        final JsonNode merged = merge(node, this.patch, node.name());
+        return merged == node ?
+                node :
+                node.replace(merged);
+    }
+
+    /**
+     * Returns the target if the patch makes no changes.
+     */
+    private static JsonNode merge(final JsonNode target,
+                                  final JsonNode patch,
+                                  final JsonPropertyName name) {
+        final JsonNode merged;
+
+        if (patch.isObject()) {
+            final boolean targetObject = null != target && target.isObject();
+            final Map<JsonPropertyName, JsonNode> properties = Maps.ordered();
+            if (targetObject) {
+                properties.putAll(target.objectOrFail().asMap());
+            }
+
+            boolean changed = !targetObject;
+            for (final JsonNode patchValue : patch.children()) {
+                final JsonPropertyName propertyName = patchValue.name();
+                final JsonNode previous = properties.get(propertyName);
+
+                if (patchValue.isNull()) {
+                    if (null != previous) {
+                        properties.remove(propertyName);
+                        changed = true;
+                    }
+                } else {
+                    final JsonNode value = merge(previous, patchValue, propertyName);
+                    if (value != previous) {
+                        properties.put(propertyName, value);
+                        changed = true;
+                    }
+                }
+            }
+
+            merged = changed ?
+                    JsonObject.EMPTY.replace0(name, JsonNode.NO_INDEX, JsonObjectList.with(properties)) :
+                    target;
+        } else {
+            merged = null != target && target.equalsStructure(patch) ?
+                    target :
+                    patch.setName0(name);
+        }
+
+        return merged;
+    }
+
+    /**
+     * The patch document.
+     */
+    public JsonNode patch() {
+        return this.patch;
+    }
+
+    private final JsonNode patch;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.patch.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof JsonMergePatch &&
+                        this.patch.equals(((JsonMergePatch) other).patch);
+    }
+
+    @Override
+    public String toString() {
+        return this.patch.toString();
+    }
+}
@@ -26,9 +26,11 @@ import walkingkooka.text.Indentation;
 import walkingkooka.text.LineEnding;
 import walkingkooka.text.cursor.TextCursors;
 import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
 import walkingkooka.text.cursor.parser.ParserException;
 import walkingkooka.text.cursor.parser.ParserReporters;
 import walkingkooka.text.printer.IndentingPrinter;
+import walkingkooka.text.printer.Printer;
 import walkingkooka.text.printer.Printers;
 import walkingkooka.text.printer.TreePrintable;
 import walkingkooka.tree.Node;
@@ -36,6 +38,8 @@ import walkingkooka.tree.TraversableHasTextOffset;
 import walkingkooka.tree.expression.FunctionExpressionName;
 import walkingkooka.tree.json.parser.JsonNodeParserContext;
 import walkingkooka.tree.json.parser.JsonNodeParserContexts;
+import walkingkooka.tree.json.parser.JsonNodeParserLimitException;
+import walkingkooka.tree.json.parser.JsonNodeParserLimits;
 import walkingkooka.tree.json.parser.JsonNodeParserToken;
 import walkingkooka.tree.json.parser.JsonNodeParsers;
 import walkingkooka.tree.search.HasSearchNode;
@@ -61,12 +65,42 @@ public abstract class JsonNode implements Node<JsonNode, JsonPropertyName, Name,
      * Parsers the given json and returns its {@link JsonNode} equivalent.
      */
     public static JsonNode parse(final String text) {
+        return parse0(text, PARSER);
+    }
+
+    /**
+     * Parsers the given json and returns its {@link JsonNode} equivalent, enforcing the given
+     * {@link JsonNodeParserLimits} while parsing. A {@link JsonNodeParserLimitException} is thrown as is, all other
+     * parsing failures are reported as an {@link IllegalArgumentException}.
+     */
+    public static JsonNode parse(final String text,
+                                 final JsonNodeParserLimits limits) {
+        Objects.requireNonNull(limits, "limits");
+
+        final int length = text.length();
+        final int maxLength = limits.maxLength();
+        if (length > maxLength) {
+            throw new JsonNodeParserLimitException("Document length " + length + " exceeds " + maxLength, 1, 1);
+        }
+
+        return parse0(
+                text,
+                JsonNodeParserLimits.UNLIMITED.equals(limits) ?
+                        PARSER :
+                        parser(JsonNodeParsers.value(limits))
+        );
+    }
+
+    private static JsonNode parse0(final String text,
+                                   final Parser<JsonNodeParserContext> parser) {
         try {
-            return PARSER.parse(TextCursors.charSequence(text),
+            return parser.parse(TextCursors.charSequence(text),
                             JsonNodeParserContexts.basic())
                     .get()
                     .cast(JsonNodeParserToken.class)
                     .toJsonNode().get();
+        } catch (final JsonNodeParserLimitException cause) {
+            throw cause;
         } catch (final ParserException cause) {
             throw new IllegalArgumentException(cause.getMessage(), cause);
         }
@@ -75,10 +109,13 @@ public abstract class JsonNode implements Node<JsonNode, JsonPropertyName, Name,
     /**
      * Parser that will consume json or report a parsing error.
      */
-    private final static Parser<JsonNodeParserContext> PARSER = JsonNodeParsers.value()
-            .andEmptyTextCursor()
-            .orReport(ParserReporters.basic())
-            .cast();
+    private final static Parser<JsonNodeParserContext> PARSER = parser(JsonNodeParsers.value());
+
+    private static Parser<JsonNodeParserContext> parser(final Parser<ParserContext> value) {
+        return value.andEmptyTextCursor()
+                .orReport(ParserReporters.basic())
+                .cast();
+    }
 
     public static JsonArray array() {
         return JsonArray.EMPTY;
@@ -96,6 +133,16 @@ public abstract class JsonNode implements Node<JsonNode, JsonPropertyName, Name,
         return JsonNumber.with(value);
     }
 
+    /**
+     * Creates a {@link JsonArray} holding the given numbers, which are kept as a copy of the array rather than
+     * a {@link JsonNumber} for each element.
+     */
+    public static JsonArray numbers(final double... values) {
+        Objects.requireNonNull(values, "values");
+
+        return JsonArray.EMPTY.setChildren(JsonArrayNumberList.with(values.clone()));
+    }
+
     public static JsonObject object() {
         return JsonObject.EMPTY;
     }
@@ -144,7 +191,8 @@ public abstract class JsonNode implements Node<JsonNode, JsonPropertyName, Name,
      * Returns a new instance with the given name.
      */
     private JsonNode replaceName(final JsonPropertyName name) {
-        return this.replace(name, this.index);
+        return this.replace(name, this.index)
+                .copyStructure(this);
     }
 
     @Override
@@ -165,7 +213,8 @@ public abstract class JsonNode implements Node<JsonNode, JsonPropertyName, Name,
     final JsonNode removeParent0() {
         return this.isRoot() ?
                 this :
-                this.replace(this.defaultName(), NO_INDEX);
+                this.replace(this.defaultName(), NO_INDEX)
+                        .copyStructure(this);
     }
 
     /**
@@ -175,7 +224,8 @@ public abstract class JsonNode implements Node<JsonNode, JsonPropertyName, Name,
     final JsonNode setParent(final Optional<JsonNode> parent,
                              final JsonPropertyName name,
                              final int index) {
-        final JsonNode copy = this.replace(name, index);
+        final JsonNode copy = this.replace(name, index)
+                .copyStructure(this);
         copy.parent = parent;
         return copy;
     }
@@ -370,6 +420,162 @@ public abstract class JsonNode implements Node<JsonNode, JsonPropertyName, Name,
         this.printJson(printer);
     }
 
+    // structure........................................................................................................
+
+    /**
+     * Tests if this node and the other have equal values and descendants, ignoring their own name, index and parent.
+     * Nodes with a different {@link #structuralHash()} are never equal, while nodes that were copied from each other,
+     * which happens to every unchanged sibling when a parent is rebuilt, or were previously found equal, share a token
+     * and are equal without walking their descendants.
+     */
+    public final boolean equalsStructure(final JsonNode other) {
+        Objects.requireNonNull(other, "other");
+
+        final Object structure = this.structure;
+
+        boolean equals = this == other ||
+                null != structure && structure == other.structure;
+        if (!equals) {
+            equals = this.structuralHash() == other.structuralHash() &&
+                    this.canBeEqual(other) &&
+                    this.equalsValue(other) &&
+                    this.equalsDescendants(other);
+            if (equals) {
+                Object shared = structure;
+                if (null == shared) {
+                    shared = other.structure;
+                    if (null == shared) {
+                        shared = new Object();
+                    }
+                }
+                this.structure = shared;
+                other.structure = shared;
+            }
+        }
+
+        return equals;
+    }
+
+    /**
+     * A hash of the value and descendants of this node, ignoring its own name, index and parent, which is computed once
+     * and kept by all copies of this node.
+     */
+    public final int structuralHash() {
+        final int hash = this.structuralHash;
+        return 0 != hash ?
+                hash :
+                this.memoiseStructuralHash(this.structuralHash0());
+    }
+
+    abstract int structuralHash0();
+
+    /**
+     * Returns true if {@link #structuralHash()} has already been computed.
+     */
+    final boolean hasStructuralHash() {
+        return 0 != this.structuralHash;
+    }
+
+    /**
+     * Records the computed {@link #structuralHash()}, replacing zero, which is reserved for not yet computed.
+     */
+    final int memoiseStructuralHash(final int hash) {
+        final int nonZero = nonZeroHash(hash);
+        this.structuralHash = nonZero;
+        return nonZero;
+    }
+
+    /**
+     * Replaces a zero hash with one, matching the value returned by {@link #structuralHash()}.
+     */
+    static int nonZeroHash(final int hash) {
+        return 0 == hash ? 1 : hash;
+    }
+
+    /**
+     * Copies the memoised structure of the original, which must have the same value and descendants, to this copy.
+     */
+    private JsonNode copyStructure(final JsonNode original) {
+        this.structuralHash = original.structuralHash;
+        this.structure = original.structure;
+        this.canonicalDigest = original.canonicalDigest;
+        this.treeDigest = original.treeDigest;
+        return this;
+    }
+
+    /**
+     * Lazily computed by {@link #structuralHash()}, zero means not yet computed.
+     */
+    private int structuralHash;
+
+    /**
+     * A token shared by nodes known to have equal structures, null until first needed.
+     */
+    private Object structure;
+
+    // canonical........................................................................................................
+
+    /**
+     * Returns the RFC 8785 JSON Canonicalization Scheme form of this node, ignoring its name. Object properties are
+     * sorted by name, there is no whitespace and numbers use the ECMAScript layout, which means numbers that are not
+     * finite fail with a {@link JsonNodeException}.
+     */
+    public final String toCanonicalJson() {
+        final StringBuilder b = new StringBuilder();
+        JsonNodeCanonical.print(this, b::append);
+        return b.toString();
+    }
+
+    /**
+     * Prints the canonical form returned by {@link #toCanonicalJson()} to the printer.
+     */
+    public final void printCanonicalJson(final Printer printer) {
+        Objects.requireNonNull(printer, "printer");
+        JsonNodeCanonical.print(this, printer::print);
+        printer.flush();
+    }
+
+    /**
+     * Returns the SHA-256 digest of the UTF-8 encoding of {@link #toCanonicalJson()}, suitable for signing. The text is
+     * streamed into the digest without being built and the digest is computed once and kept by all copies of this node.
+     */
+    public final byte[] canonicalDigest() {
+        byte[] digest = this.canonicalDigest;
+        if (null == digest) {
+            digest = JsonNodeCanonical.digest(this);
+            this.canonicalDigest = digest;
+        }
+        return digest.clone();
+    }
+
+    /**
+     * Lazily computed by {@link #canonicalDigest()}.
+     */
+    private byte[] canonicalDigest;
+
+    /**
+     * Returns a SHA-256 Merkle digest of the canonical form of this node, suitable for content addressing. The digest of
+     * a parent is computed from the digests of its children, which are computed once and kept by all copies of each
+     * node, so after a small change only the digests along the path to the change are computed again.
+     */
+    public final byte[] treeDigest() {
+        return this.treeDigest0().clone();
+    }
+
+    final byte[] treeDigest0() {
+        byte[] digest = this.treeDigest;
+        if (null == digest) {
+            digest = JsonNodeCanonical.treeDigest(this);
+            this.treeDigest = digest;
+        }
+        return digest;
+    }
+
+    /**
+     * Lazily computed by {@link #treeDigest0()}.
+     */
+    private byte[] treeDigest;
+
     // Object .......................................................................................................
 
     @Override
@@ -410,15 +616,9 @@ public abstract class JsonNode implements Node<JsonNode, JsonPropertyName, Name,
         return result;
     }
 
-    final boolean equalsNameValueAndDescendants(final JsonNode other) {
-        return this.canBeEqual(other) &&
-                this.equalsNameAndValue(other) &&
-                this.equalsDescendants(other);
-    }
-
     abstract boolean equalsDescendants(final JsonNode other);
 
-    private boolean equalsNameAndValue(final JsonNode other) {
+    final boolean equalsNameAndValue(final JsonNode other) {
         return this.name.equals(other.name) &&
                 this.equalsValue(other);
     }
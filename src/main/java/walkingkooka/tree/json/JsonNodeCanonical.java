@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes the RFC 8785 JSON Canonicalization Scheme (JCS) form of a {@link JsonNode}, with object properties sorted by
+ * the UTF-16 code units of their names, no whitespace, numbers in the ECMAScript layout and strings with only the
+ * required escaping. The same text is used to compute digests without building it.
+ */
+final class JsonNodeCanonical {
+
+    /**
+     * Prints the canonical form of the node to the output.
+     */
+    static void print(final JsonNode node,
+                      final Consumer<CharSequence> output) {
+        print(node, output, JsonNumberFormatterBuffer.empty());
+    }
+
+    /**
+     * The output must consume each number before the next is formatted using the same buffer.
+     */
+    private static void print(final JsonNode node,
+                              final Consumer<CharSequence> output,
+                              final JsonNumberFormatterBuffer numbers) {
+        if (node.isObject()) {
+            output.accept("{");
+
+            String separator = "";
+            for (final JsonNode child : sorted(node)) {
+                output.accept(separator);
+                output.accept(child.name.quoted());
+                output.accept(":");
+                print(child, output, numbers);
+                separator = ",";
+            }
+
+            output.accept("}");
+        } else if (node.isArray()) {
+            output.accept("[");
+
+            final List<JsonNode> children = node.children();
+            if (children instanceof JsonArrayNumberList) {
+                print((JsonArrayNumberList) children, output, numbers);
+            } else {
+                String separator = "";
+                for (final JsonNode child : children) {
+                    output.accept(separator);
+                    print(child, output, numbers);
+                    separator = ",";
+                }
+            }
+
+            output.accept("]");
+        } else {
+            output.accept(leaf(node, numbers));
+        }
+    }
+
+    /**
+     * Prints the elements of an array holding only numbers, without creating a {@link JsonNumber} for each.
+     */
+    private static void print(final JsonArrayNumberList values,
+                              final Consumer<CharSequence> output,
+                              final JsonNumberFormatterBuffer numbers) {
+        final int count = values.size();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                output.accept(",");
+            }
+            output.accept(numbers.formatEcmaScript(values.value(i)));
+        }
+    }
+
+    /**
+     * Returns the canonical text of a leaf, failing for numbers that are not finite.
+     */
+    private static CharSequence leaf(final JsonNode node,
+                                     final JsonNumberFormatterBuffer numbers) {
+        final CharSequence text;
+
+        if (node.isNumber()) {
+            text = numbers.formatEcmaScript(Cast.<JsonNumber>to(node).value());
+        } else if (node.isString()) {
+            text = JsonStringEscaper.quote(Cast.<JsonString>to(node).value());
+        } else if (node.isBoolean()) {
+            text = Cast.<JsonBoolean>to(node).value().toString();
+        } else {
+            text = "null";
+        }
+
+        return text;
+    }
+
+    /**
+     * Returns the properties of the object sorted by name.
+     */
+    private static JsonNode[] sorted(final JsonNode object) {
+        final List<JsonNode> children = object.children();
+        final JsonNode[] sorted = children.toArray(new JsonNode[children.size()]);
+        Arrays.sort(sorted, NAME_COMPARATOR);
+        return sorted;
+    }
+
+    /**
+     * Compares names by their UTF-16 code units as required by JCS.
+     */
+    private final static Comparator<JsonNode> NAME_COMPARATOR = (left, right) -> left.name.value()
+            .compareTo(right.name.value());
+
+    // digest...........................................................................................................
+
+    /**
+     * Computes the SHA-256 digest of the UTF-8 encoding of the canonical form, streaming the text into the digest.
+     */
+    static byte[] digest(final JsonNode node) {
+        final JsonSha256 sha256 = JsonSha256.empty();
+        print(node, sha256::update);
+        return sha256.digest();
+    }
+
+    private final static byte LEAF = 0;
+    private final static byte ARRAY = 1;
+    private final static byte OBJECT = 2;
+
+    /**
+     * Computes the tree digest of the node from the memoised {@link JsonNode#treeDigest()} of its children.
+     * <ul>
+     * <li>leaf: SHA-256(0x00 + canonical form)</li>
+     * <li>array: SHA-256(0x01 + each element digest)</li>
+     * <li>object: SHA-256(0x02 + each canonical quoted property name and its digest, sorted by name)</li>
+     * </ul>
+     * Digests have a fixed length and quoted names end with the only unescaped quote, so no two different documents
+     * produce the same input.
+     */
+    static byte[] treeDigest(final JsonNode node) {
+        final JsonSha256 sha256 = JsonSha256.empty();
+
+        if (node.isObject()) {
+            sha256.update(OBJECT);
+            for (final JsonNode child : sorted(node)) {
+                sha256.update(child.name.quoted());
+                sha256.update(child.treeDigest0());
+            }
+        } else if (node.isArray()) {
+            sha256.update(ARRAY);
+            for (final JsonNode child : node.children()) {
+                sha256.update(child.treeDigest0());
+            }
+        } else {
+            sha256.update(LEAF);
+            sha256.update(leaf(node, JsonNumberFormatterBuffer.empty()));
+        }
+
+        return sha256.digest();
+    }
+
+    /**
+     * Stop creation
+     */
+    private JsonNodeCanonical() {
+        throw new UnsupportedOperationException();
+    }
+}
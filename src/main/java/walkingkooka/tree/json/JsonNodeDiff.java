@@ -0,0 +1,431 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Computes the difference between two {@link JsonNode} as a RFC 6902 json patch, an array of add, remove, replace and
+ * move operations that when applied in order transform the first into the second.
+ * <br>
+ * Subtrees are compared using {@link JsonNode#equalsStructure(JsonNode)}, which skips copies of the same node and
+ * nodes with different memoised structural hashes without walking their descendants. Object properties are matched by
+ * name, with a removed and an added property holding equal values reported as a move. Array elements are matched using
+ * either a longest common subsequence, or for arrays of objects with unique keys, by key which also reports moves.
+ * <br>
+ * https://datatracker.ietf.org/doc/html/rfc6902
+ */
+public final class JsonNodeDiff {
+
+    /**
+     * Arrays larger than this, after trimming any common prefix and suffix, are compared element by element rather
+     * than using a longest common subsequence.
+     */
+    final static int MAX_LCS_CELLS = 1 << 22;
+
+    final static JsonPropertyName OP = JsonPropertyName.with("op");
+    final static JsonPropertyName PATH = JsonPropertyName.with("path");
+    final static JsonPropertyName FROM = JsonPropertyName.with("from");
+    final static JsonPropertyName VALUE = JsonPropertyName.with("value");
+
+    private final static JsonString ADD = JsonNode.string("add");
+    private final static JsonString REMOVE = JsonNode.string("remove");
+    private final static JsonString REPLACE = JsonNode.string("replace");
+    private final static JsonString MOVE = JsonNode.string("move");
+
+    /**
+     * Matches array elements using a longest common subsequence.
+     */
+    public static JsonNodeDiff lcs() {
+        return LCS;
+    }
+
+    private final static JsonNodeDiff LCS = new JsonNodeDiff(null);
+
+    /**
+     * Matches the elements of arrays holding only objects with a unique value at the given key, falling back to a
+     * longest common subsequence for other arrays.
+     */
+    public static JsonNodeDiff keyed(final JsonPointer key) {
+        Objects.requireNonNull(key, "key");
+
+        return new JsonNodeDiff(key);
+    }
+
+    private JsonNodeDiff(final JsonPointer key) {
+        super();
+        this.key = key;
+    }
+
+    /**
+     * Returns a json patch that transforms from into to, which is empty if they are equal.
+     */
+    public JsonArray diff(final JsonNode from,
+                          final JsonNode to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+
+        final List<JsonNode> operations = Lists.array();
+        this.diff(from, to, "", operations);
+
+        return JsonNode.array()
+                .setChildren(operations);
+    }
+
+    private void diff(final JsonNode from,
+                      final JsonNode to,
+                      final String path,
+                      final List<JsonNode> operations) {
+        if (!from.equalsStructure(to)) {
+            if (from.isObject() && to.isObject()) {
+                this.objects(from.objectOrFail(), to.objectOrFail(), path, operations);
+            } else if (from.isArray() && to.isArray()) {
+                this.arrays(from.arrayOrFail(), to.arrayOrFail(), path, operations);
+            } else {
+                operations.add(replace(path, to));
+            }
+        }
+    }
+
+    // object...........................................................................................................
+
+    private void objects(final JsonObject from,
+                         final JsonObject to,
+                         final String path,
+                         final List<JsonNode> operations) {
+        final List<JsonPropertyName> removed = Lists.array();
+        for (final JsonNode property : from.children()) {
+            final JsonPropertyName name = property.name();
+            if (null == to.getOrNull(name.value())) {
+                removed.add(name);
+            }
+        }
+
+        final List<JsonPropertyName> added = Lists.array();
+        for (final JsonNode property : to.children()) {
+            final JsonPropertyName name = property.name();
+            if (null == from.getOrNull(name.value())) {
+                added.add(name);
+            }
+        }
+
+        // a value removed from one property and added to another is a move
+        final int addedCount = added.size();
+        for (int i = 0; i < addedCount && !removed.isEmpty(); i++) {
+            final JsonPropertyName name = added.get(i);
+            final JsonNode value = to.getOrNull(name.value());
+
+            final int removedCount = removed.size();
+            for (int j = 0; j < removedCount; j++) {
+                final JsonPropertyName removedName = removed.get(j);
+                if (from.getOrNull(removedName.value()).equalsStructure(value)) {
+                    operations.add(
+                            move(
+                                    property(path, removedName),
+                                    property(path, name)
+                            )
+                    );
+                    removed.remove(j);
+                    added.set(i, null);
+                    break;
+                }
+            }
+        }
+
+        for (final JsonPropertyName name : removed) {
+            operations.add(remove(property(path, name)));
+        }
+
+        for (final JsonNode property : from.children()) {
+            final JsonPropertyName name = property.name();
+            final JsonNode value = to.getOrNull(name.value());
+            if (null != value) {
+                this.diff(
+                        property,
+                        value,
+                        property(path, name),
+                        operations
+                );
+            }
+        }
+
+        for (final JsonPropertyName name : added) {
+            if (null != name) {
+                operations.add(add(property(path, name), to.getOrNull(name.value())));
+            }
+        }
+    }
+
+    private static String property(final String path,
+                                   final JsonPropertyName name) {
+        return path + '/' + JsonPointer.escape(name.value());
+    }
+
+    // array............................................................................................................
+
+    private void arrays(final JsonArray from,
+                        final JsonArray to,
+                        final String path,
+                        final List<JsonNode> operations) {
+        final JsonPointer key = this.key;
+        if (null == key || !this.keyed(from, to, key, path, operations)) {
+            this.lcs(from.children(), to.children(), path, operations);
+        }
+    }
+
+    /**
+     * Matches elements by key, returning false without adding any operations if any element is not an object or does
+     * not have a unique key.
+     */
+    private boolean keyed(final JsonArray from,
+                          final JsonArray to,
+                          final JsonPointer key,
+                          final String path,
+                          final List<JsonNode> operations) {
+        final List<JsonNode> fromElements = from.children();
+        final List<Object> fromKeys = keys(fromElements, key);
+        if (null == fromKeys) {
+            return false;
+        }
+
+        final List<JsonNode> toElements = to.children();
+        final List<Object> toKeys = keys(toElements, key);
+        if (null == toKeys) {
+            return false;
+        }
+
+        // remove the elements missing from to, last first so the indices of earlier elements are unchanged
+        final Map<Object, Integer> toKeyToIndex = Maps.hash();
+        for (int i = 0; i < toKeys.size(); i++) {
+            toKeyToIndex.put(toKeys.get(i), i);
+        }
+
+        final List<JsonNode> working = Lists.array();
+        final List<Object> workingKeys = Lists.array();
+        for (int i = fromElements.size() - 1; i >= 0; i--) {
+            final Object fromKey = fromKeys.get(i);
+            if (toKeyToIndex.containsKey(fromKey)) {
+                working.add(0, fromElements.get(i));
+                workingKeys.add(0, fromKey);
+            } else {
+                operations.add(remove(index(path, i)));
+            }
+        }
+
+        // every element before j is in its final position
+        final int count = toElements.size();
+        for (int j = 0; j < count; j++) {
+            final Object toKey = toKeys.get(j);
+            final JsonNode toElement = toElements.get(j);
+
+            final int current = workingKeys.indexOf(toKey);
+            if (-1 == current) {
+                operations.add(add(index(path, j), toElement));
+                working.add(j, toElement);
+                workingKeys.add(j, toKey);
+            } else {
+                if (current != j) {
+                    operations.add(move(index(path, current), index(path, j)));
+                    working.add(j, working.remove(current));
+                    workingKeys.add(j, workingKeys.remove(current));
+                }
+                this.diff(working.get(j), toElement, index(path, j), operations);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the normalized key of each element or null if any element is not an object, is missing the key, or has
+     * the same key as another.
+     */
+    private static List<Object> keys(final List<JsonNode> elements,
+                                     final JsonPointer key) {
+        final List<Object> keys = Lists.array();
+        final Map<Object, Boolean> unique = Maps.hash();
+
+        for (final JsonNode element : elements) {
+            if (!element.isObject()) {
+                return null;
+            }
+            final JsonNode value = key.getOrNull(element);
+            if (null == value) {
+                return null;
+            }
+
+            final Object normalized = JsonArrayIndex.normalize(value);
+            if (null != unique.put(normalized, Boolean.TRUE)) {
+                return null;
+            }
+            keys.add(normalized);
+        }
+
+        return keys;
+    }
+
+    /**
+     * Matches elements using a longest common subsequence, elements not part of the subsequence at the same position
+     * are diffed against each other, while others are removed or added. The position tracks the index of the next
+     * element in the array after all previous operations are applied.
+     */
+    private void lcs(final List<JsonNode> from,
+                     final List<JsonNode> to,
+                     final String path,
+                     final List<JsonNode> operations) {
+        int start = 0;
+        int fromEnd = from.size();
+        int toEnd = to.size();
+
+        while (start < fromEnd && start < toEnd && from.get(start).equalsStructure(to.get(start))) {
+            start++;
+        }
+        while (fromEnd > start && toEnd > start && from.get(fromEnd - 1).equalsStructure(to.get(toEnd - 1))) {
+            fromEnd--;
+            toEnd--;
+        }
+
+        final int rows = fromEnd - start;
+        final int columns = toEnd - start;
+        final int[] lengths = (long) (rows + 1) * (columns + 1) <= MAX_LCS_CELLS ?
+                lengths(from, to, start, rows, columns) :
+                null;
+        final int width = columns + 1;
+
+        int i = 0;
+        int j = 0;
+        int position = start;
+
+        while (i < rows && j < columns) {
+            final JsonNode fromElement = from.get(start + i);
+            final JsonNode toElement = to.get(start + j);
+
+            if (null == lengths || fromElement.equalsStructure(toElement)) {
+                this.diff(fromElement, toElement, index(path, position), operations);
+                position++;
+                i++;
+                j++;
+            } else {
+                final int here = lengths[i * width + j];
+                if (here == lengths[(i + 1) * width + j + 1]) {
+                    // neither is part of the subsequence, replace one with the other
+                    this.diff(fromElement, toElement, index(path, position), operations);
+                    position++;
+                    i++;
+                    j++;
+                } else if (lengths[(i + 1) * width + j] >= lengths[i * width + j + 1]) {
+                    operations.add(remove(index(path, position)));
+                    i++;
+                } else {
+                    operations.add(add(index(path, position), toElement));
+                    position++;
+                    j++;
+                }
+            }
+        }
+
+        while (i < rows) {
+            operations.add(remove(index(path, position)));
+            i++;
+        }
+        while (j < columns) {
+            operations.add(add(index(path, position), to.get(start + j)));
+            position++;
+            j++;
+        }
+    }
+
+    /**
+     * Fills a table where each cell holds the length of the longest common subsequence of the remaining elements.
+     */
+    private static int[] lengths(final List<JsonNode> from,
+                                 final List<JsonNode> to,
+                                 final int start,
+                                 final int rows,
+                                 final int columns) {
+        final int width = columns + 1;
+        final int[] lengths = new int[(rows + 1) * width];
+
+        for (int i = rows - 1; i >= 0; i--) {
+            final JsonNode fromElement = from.get(start + i);
+
+            for (int j = columns - 1; j >= 0; j--) {
+                lengths[i * width + j] = fromElement.equalsStructure(to.get(start + j)) ?
+                        lengths[(i + 1) * width + j + 1] + 1 :
+                        Math.max(lengths[(i + 1) * width + j], lengths[i * width + j + 1]);
+            }
+        }
+
+        return lengths;
+    }
+
+    private static String index(final String path,
+                                final int index) {
+        return path + '/' + index;
+    }
+
+    // operations.......................................................................................................
+
+    private static JsonNode add(final String path,
+                                final JsonNode value) {
+        return operation(ADD, path)
+                .set(VALUE, value);
+    }
+
+    private static JsonNode remove(final String path) {
+        return operation(REMOVE, path);
+    }
+
+    private static JsonNode replace(final String path,
+                                    final JsonNode value) {
+        return operation(REPLACE, path)
+                .set(VALUE, value);
+    }
+
+    private static JsonNode move(final String from,
+                                 final String path) {
+        return operation(MOVE, path)
+                .set(FROM, JsonNode.string(from));
+    }
+
+    private static JsonObject operation(final JsonString op,
+                                        final String path) {
+        return JsonNode.object()
+                .set(OP, op)
+                .set(PATH, JsonNode.string(path));
+    }
+
+    /**
+     * When present array elements are matched using this key.
+     */
+    private final JsonPointer key;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return null == this.key ?
+                "lcs" :
+                "keyed " + this.key;
+    }
+}
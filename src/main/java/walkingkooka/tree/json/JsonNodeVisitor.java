@@ -17,9 +17,12 @@
 
 package walkingkooka.tree.json;
 
+import walkingkooka.collect.list.Lists;
 import walkingkooka.visit.Visiting;
 import walkingkooka.visit.Visitor;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -34,15 +37,66 @@ public abstract class JsonNodeVisitor extends Visitor<JsonNode> {
 
     // JsonNode.......................................................................
 
+    /**
+     * Visits the node and all its descendants, using an explicit stack of parents rather than recursing for each level,
+     * while calling the start and end visit methods in the same order as a depth first recursive walk.
+     */
     public final void accept(final JsonNode node) {
         Objects.requireNonNull(node, "node");
 
-        if (Visiting.CONTINUE == this.startVisit(node)) {
-            node.accept(this);
+        final List<JsonParentNode<?>> parents = Lists.array();
+        int[] nextChild = new int[INITIAL_DEPTH];
+
+        JsonNode enter = node;
+        for (; ; ) {
+            if (null != enter) {
+                if (Visiting.CONTINUE == this.startVisit(enter)) {
+                    if (enter instanceof JsonParentNode) {
+                        final JsonParentNode<?> parent = (JsonParentNode<?>) enter;
+                        if (Visiting.CONTINUE == parent.startVisit(this)) {
+                            final int depth = parents.size();
+                            if (depth == nextChild.length) {
+                                nextChild = Arrays.copyOf(nextChild, depth * 2);
+                            }
+                            nextChild[depth] = 0;
+                            parents.add(parent);
+                            enter = null;
+                            continue; // end visits happen after the last child
+                        }
+                        parent.endVisit(this);
+                    } else {
+                        enter.accept(this);
+                    }
+                }
+                this.endVisit(enter);
+            }
+
+            // enter the next child of the current parent, or end visiting it
+            final int depth = parents.size() - 1;
+            if (depth < 0) {
+                break;
+            }
+
+            final JsonParentNode<?> parent = parents.get(depth);
+            final List<JsonNode> children = parent.children;
+            final int i = nextChild[depth];
+            if (i < children.size()) {
+                nextChild[depth] = i + 1;
+                enter = children.get(i);
+            } else {
+                parents.remove(depth);
+                parent.endVisit(this);
+                this.endVisit(parent);
+                enter = null;
+            }
         }
-        this.endVisit(node);
     }
 
+    /**
+     * The initial capacity of the stack of parents being visited, which grows on demand.
+     */
+    private final static int INITIAL_DEPTH = 16;
+
     protected Visiting startVisit(final JsonNode node) {
         return Visiting.CONTINUE;
     }
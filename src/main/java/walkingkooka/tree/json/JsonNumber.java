@@ -69,12 +69,13 @@ public final class JsonNumber extends JsonLeafNonNullNode<Double> {
 
     // HasText......................................................................................................
 
+    /**
+     * Whole numbers that fit in a long are returned without any fraction, otherwise the shortest text that parses back
+     * to the same value. The text is not kept, printing uses a {@link JsonNumberFormatterBuffer} instead.
+     */
     @Override
     public String text() {
-        final long i = this.value.longValue();
-        return i == this.value ?
-                String.valueOf(i) :
-                String.valueOf(this.value);
+        return JsonNumberFormatter.format(this.value);
     }
 
     // HasSearchNode...............................................................................................
@@ -103,4 +104,12 @@ public final class JsonNumber extends JsonLeafNonNullNode<Double> {
     void printJson0(final IndentingPrinter printer) {
         printer.print(this.text());
     }
+
+    /**
+     * Prints the number using the buffer shared by all numbers printed by a parent.
+     */
+    void printJson(final IndentingPrinter printer,
+                   final JsonNumberFormatterBuffer buffer) {
+        printer.print(buffer.format(this.value));
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+/**
+ * Reusable buffers used to format every number while printing json, so no {@link String} is created for each number.
+ * The returned text is only valid until the next number is formatted, and a buffer must not be shared by threads.
+ */
+final class JsonNumberFormatterBuffer {
+
+    static JsonNumberFormatterBuffer empty() {
+        return new JsonNumberFormatterBuffer();
+    }
+
+    private JsonNumberFormatterBuffer() {
+        super();
+    }
+
+    /**
+     * Returns the text of the given double in the same layout as {@link JsonNumber#text()}.
+     */
+    CharSequence format(final double value) {
+        return this.format(value, false);
+    }
+
+    /**
+     * Returns the text of the given double in the layout required by canonical json, failing if it is not finite.
+     */
+    CharSequence formatEcmaScript(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new JsonNodeException("Canonical json cannot contain " + JsonNumberFormatter.format(value));
+        }
+        return this.format(value, true);
+    }
+
+    private CharSequence format(final double value,
+                                final boolean ecmaScript) {
+        final char[] chars = this.chars;
+        final StringBuilder text = this.text;
+
+        text.setLength(0);
+        text.append(
+                chars,
+                0,
+                JsonNumberFormatter.format(value, ecmaScript, chars)
+        );
+        return text;
+    }
+
+    private final char[] chars = new char[JsonNumberFormatter.MAX_CHARS];
+
+    private final StringBuilder text = new StringBuilder(JsonNumberFormatter.MAX_CHARS);
+
+    @Override
+    public String toString() {
+        return this.text.toString();
+    }
+}
@@ -26,7 +26,6 @@ import walkingkooka.visit.Visiting;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -62,14 +61,16 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
     JsonObjectList adoptChildren(final JsonObjectList children) {
         final Optional<JsonNode> parent = Optional.of(this);
 
-        final Map<JsonPropertyName, JsonNode> nameToValues = Maps.ordered();
-        int i = 0;
-        for (JsonNode child : children) {
-            nameToValues.put(child.name(), child.setParent(parent, child.name, i));
-            i++;
+        final int count = children.size();
+        final JsonPropertyName[] names = new JsonPropertyName[count];
+        final JsonNode[] values = new JsonNode[count];
+        for (int i = 0; i < count; i++) {
+            final JsonNode child = children.get(i);
+            names[i] = child.name;
+            values[i] = child.setParent(parent, child.name, i);
         }
 
-        return JsonObjectList.with(nameToValues);
+        return JsonObjectList.with(names, values);
     }
 
     /**
@@ -83,14 +84,14 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
 
     @Override
     boolean childrenEquals(final List<JsonNode> children) {
-        final Map<JsonPropertyName, JsonNode> nameToValues = this.children.nameToValues;
+        final JsonObjectList nameToValues = this.children;
 
         boolean equals = nameToValues.size() == children.size();
         if (equals) {
 
             for (JsonNode child : children) {
                 equals = equals && JsonParentNodeChildPredicate.INSTANCE.test(
-                        nameToValues.get(child.name),
+                        nameToValues.getOrNull(child.name),
                         child); // predicate doesnt throw if 1st param is null returns false.
                 if (!equals) {
                     break;
@@ -107,16 +108,98 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
     public Optional<JsonNode> get(final JsonPropertyName name) {
         Objects.requireNonNull(name, "name");
 
-        return Optional.ofNullable(this.children.nameToValues.get(name));
+        return Optional.ofNullable(this.children.getOrNull(name));
     }
 
     /**
      * Retrieves a property value or throws a {@link IllegalArgumentException}.
      */
     public JsonNode getOrFail(final JsonPropertyName name) {
-        return this.get(name).orElseThrow(() -> {
-            throw new IllegalArgumentException("Unknown property " + CharSequences.quoteAndEscape(name.value()) + " in " + this);
-        });
+        Objects.requireNonNull(name, "name");
+
+        return this.getOrFail0(name.value());
+    }
+
+    /**
+     * Retrieves a property using the text of its name, returning null if its absent. Unlike {@link #get(JsonPropertyName)}
+     * neither a {@link JsonPropertyName} nor an {@link Optional} is created.
+     */
+    public JsonNode getOrNull(final CharSequence name) {
+        Objects.requireNonNull(name, "name");
+
+        return this.children.getOrNull(name);
+    }
+
+    /**
+     * Returns the string value of the property, or null if it is absent or a json null.
+     */
+    public String getString(final CharSequence name) {
+        final JsonNode value = this.getOrNull(name);
+        return null == value || value.isNull() ?
+                null :
+                value.stringOrFail();
+    }
+
+    /**
+     * Returns the value of the property as a long, failing if it is absent or not a whole number.
+     */
+    public long getLong(final CharSequence name) {
+        final JsonNode value = this.getOrFail0(name);
+        final double number = value.numberOrFail().doubleValue();
+        if (number != Math.rint(number) || number < Long.MIN_VALUE || number > LONG_MAX) {
+            throw new NumericLossJsonNodeException("Property " + CharSequences.quoteAndEscape(name) + " is not a long got " + value);
+        }
+        return (long) number;
+    }
+
+    /**
+     * The largest double below 2^63, because {@link Long#MAX_VALUE} rounds up to 2^63 which is too large for a long.
+     */
+    private final static double LONG_MAX = 0x1.fffffffffffffp62;
+
+    /**
+     * Returns the value of the property as a double, failing if it is absent or not a number.
+     */
+    public double getDouble(final CharSequence name) {
+        return this.getOrFail0(name)
+                .numberOrFail()
+                .doubleValue();
+    }
+
+    /**
+     * Returns the value of the property as a boolean, failing if it is absent or not a boolean.
+     */
+    public boolean getBoolean(final CharSequence name) {
+        return this.getOrFail0(name)
+                .booleanOrFail();
+    }
+
+    /**
+     * Returns the property as a {@link JsonObject}, or null if it is absent or a json null.
+     */
+    public JsonObject getObject(final CharSequence name) {
+        final JsonNode value = this.getOrNull(name);
+        return null == value || value.isNull() ?
+                null :
+                value.objectOrFail();
+    }
+
+    /**
+     * Returns the property as a {@link JsonArray}, or null if it is absent or a json null.
+     */
+    public JsonArray getArray(final CharSequence name) {
+        final JsonNode value = this.getOrNull(name);
+        return null == value || value.isNull() ?
+                null :
+                value.arrayOrFail();
+    }
+
+    private JsonNode getOrFail0(final CharSequence name) {
+        final JsonNode value = this.getOrNull(name);
+        if (null == value) {
+            throw new IllegalArgumentException("Unknown property " + CharSequences.quoteAndEscape(name) + " in " + this);
+        }
+        return value;
     }
 
     @Override
@@ -131,7 +214,7 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
         Objects.requireNonNull(name, "name");
         Objects.requireNonNull(value, "value");
 
-        final JsonNode previous = this.children.nameToValues.get(name);
+        final JsonNode previous = this.children.getOrNull(name);
         final JsonNode value2 = value.setName0(name);
         return null != previous ?
                 this.setChild(previous, name, value2) :
@@ -149,48 +232,46 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
     private JsonObject setChild0(final int index,
                                  final JsonPropertyName name,
                                  final JsonNode value) {
-        final Map<JsonPropertyName, JsonNode> children = Maps.ordered();
-
-        int i = 0;
-        for (Entry<JsonPropertyName, JsonNode> nameAndValue : this.children.nameToValues.entrySet()) {
-            if (index == i) {
-                children.put(name, value);
-            } else {
-                children.put(nameAndValue.getKey(), nameAndValue.getValue());
-            }
-            i++;
-        }
+        final JsonObjectList children = this.children;
+        final int count = children.size();
+
+        final JsonPropertyName[] names = children.names(count);
+        final JsonNode[] values = children.values(count);
+        names[index] = name;
+        values[index] = value;
 
-        return this.setChildren0(JsonObjectList.with(children))
+        return this.setChildren0(JsonObjectList.with(names, values))
                 .cast(JsonObject.class);
     }
 
     private JsonObject addChild(final JsonPropertyName name, final JsonNode value) {
-        final Map<JsonPropertyName, JsonNode> children = Maps.ordered();
-        children.putAll(this.children.nameToValues);
-        children.put(name, value.setName0(name));
+        final JsonObjectList children = this.children;
+        final int count = children.size();
 
-        return this.replaceChildren(JsonObjectList.with(children))
+        final JsonPropertyName[] names = children.names(count + 1);
+        final JsonNode[] values = children.values(count + 1);
+        names[count] = name;
+        values[count] = value.setName0(name);
+
+        return this.replaceChildren(JsonObjectList.with(names, values))
                 .cast(JsonObject.class);
     }
 
     /**
-     * Creates a new list of children and replaces the child at the given slot.
+     * Creates a new list of children and replaces the child with the same name.
      */
     //@Override
-    private JsonObject replaceChild0(final JsonNode newChild, final int index) {
-        final Map<JsonPropertyName, JsonNode> newChildren = Maps.ordered();
-        final JsonPropertyName newChildName = newChild.name;
-
-        for (Entry<JsonPropertyName, JsonNode> nameAndValue : this.children.nameToValues.entrySet()) {
-            final JsonPropertyName name = nameAndValue.getKey();
-            newChildren.put(name,
-                    newChildName.equals(name) ?
-                            newChild :
-                            nameAndValue.getValue());
+    private JsonObject replaceChild0(final JsonNode newChild) {
+        final JsonObjectList children = this.children;
+        final int count = children.size();
+
+        final JsonNode[] values = children.values(count);
+        final int index = children.propertyIndex(newChild.name);
+        if (-1 != index) {
+            values[index] = newChild;
         }
 
-        return this.replaceChildren(JsonObjectList.with(newChildren))
+        return this.replaceChildren(JsonObjectList.with(children.names(count), values))
                 .cast(JsonObject.class);
     }
 
@@ -218,7 +299,7 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
     JsonNode setChild0(final JsonNode newChild, final int index) {
         return JsonParentNodeChildPredicate.INSTANCE.test(this.children.get(index), newChild) ?
                 this :
-                this.replaceChild0(newChild, index).children.nameToValues.get(newChild.name);
+                this.replaceChild0(newChild).children.getOrNull(newChild.name);
     }
 
     /**
@@ -227,13 +308,25 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
     public JsonObject remove(final JsonPropertyName name) {
         Objects.requireNonNull(name);
 
-        final Map<JsonPropertyName, JsonNode> copy = Maps.ordered();
-        for (JsonNode child : children) {
-            copy.put(child.name(), child);
+        final JsonObjectList children = this.children;
+        final int index = children.propertyIndex(name);
+        return -1 == index ?
+                this :
+                this.remove0(index);
+    }
+
+    private JsonObject remove0(final int index) {
+        final JsonObjectList children = this.children;
+        final int count = children.size() - 1;
+
+        final JsonPropertyName[] names = children.names(count);
+        final JsonNode[] values = children.values(count);
+        for (int i = index; i < count; i++) {
+            names[i] = children.get(i + 1).name;
+            values[i] = children.get(i + 1);
         }
-        copy.remove(name);
 
-        return this.setChildren0(JsonObjectList.with(copy))
+        return this.replaceChildren(JsonObjectList.with(names, values))
                 .cast(JsonObject.class);
     }
 
@@ -241,7 +334,9 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
      * Tests if the given property is present.
      */
     public boolean contains(final JsonPropertyName name) {
-        return this.get(name).isPresent();
+        Objects.requireNonNull(name, "name");
+
+        return null != this.children.getOrNull(name);
     }
 
     @Override
@@ -250,10 +345,11 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
     }
 
     /**
-     * Returns a {@link Map} view of the object's properties.
+     * Returns a read only {@link Map} view of the object's properties in order, which reads the properties of this
+     * object without copying them.
      */
     public Map<JsonPropertyName, JsonNode> asMap() {
-        return Maps.readOnly(this.children.nameToValues);
+        return JsonObjectMap.with(this.children);
     }
 
     @Override
@@ -286,10 +382,12 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
     // JsonNodeVisitor .................................................................................................
 
     @Override
-    public void accept(final JsonNodeVisitor visitor) {
-        if (Visiting.CONTINUE == visitor.startVisit(this)) {
-            this.acceptValues(visitor);
-        }
+    Visiting startVisit(final JsonNodeVisitor visitor) {
+        return visitor.startVisit(this);
+    }
+
+    @Override
+    void endVisit(final JsonNodeVisitor visitor) {
         visitor.endVisit(this);
     }
 
@@ -301,35 +399,54 @@ public final class JsonObject extends JsonParentNode<JsonObjectList> {
     }
 
     /**
-     * Only returns true if the descendants of this node and the given children are equal ignoring the parents.
+     * Children are compared with the other property with the same name, ignoring their order.
      */
     @Override
-    boolean equalsDescendants0(final JsonNode child, final JsonObjectList otherChildren, final int i) {
-        return child.equalsNameValueAndDescendants(otherChildren.nameToValues.get(child.name));
+    JsonNode otherChild(final JsonNode child, final JsonObjectList otherChildren, final int i) {
+        return otherChildren.getOrNull(child.name);
     }
 
+    /**
+     * Combines the hash of each property name and value ignoring their order.
+     */
     @Override
-    void printJson0(final IndentingPrinter printer) {
+    int combineStructuralHash() {
+        int hash = 0;
+        for (final JsonNode child : this.children) {
+            hash += child.name.hashCode() ^ child.structuralHash();
+        }
+        return hash;
+    }
+
+    // printJson........................................................................................................
+
+    @Override
+    void printJsonBegin(final IndentingPrinter printer) {
         printer.print(BEGIN.string());
 
-        final int size = this.children.size();
-        if (size > 0) {
+        if (!this.children.isEmpty()) {
             printer.println();
             printer.indent();
+        }
+    }
 
-            int i = size - 1;
-            for (JsonNode child : this.children) {
-                printer.print(CharSequences.quoteAndEscape(child.name().value()));
-                printer.print(KEY_VALUE_SEPARATOR);
-                child.printJson(printer);
+    @Override
+    void printJsonBeforeChild(final IndentingPrinter printer, final JsonNode child, final int i) {
+        printer.print(child.name().quoted());
+        printer.print(KEY_VALUE_SEPARATOR);
+    }
 
-                if (i > 0) {
-                    printer.print(AFTER);
-                }
-                i--;
-                printer.println();
-            }
+    @Override
+    void printJsonAfterChild(final IndentingPrinter printer, final int i, final int count) {
+        if (i < count - 1) {
+            printer.print(AFTER);
+        }
+        printer.println();
+    }
 
+    @Override
+    void printJsonEnd(final IndentingPrinter printer) {
+        if (!this.children.isEmpty()) {
             printer.outdent();
         }
 
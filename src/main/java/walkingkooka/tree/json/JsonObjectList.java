@@ -21,12 +21,14 @@ import walkingkooka.collect.list.Lists;
 import walkingkooka.collect.map.Maps;
 
 import java.util.AbstractList;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
- * An immutable {@link List} view of elements belonging to a {@link JsonObject}.
+ * An immutable {@link List} view of elements belonging to a {@link JsonObject}. The names and values are held in two
+ * parallel arrays. Small objects, which are the majority, find a property by scanning the names, while larger objects
+ * also keep an open addressing table of name to index.
  */
 final class JsonObjectList extends AbstractList<JsonNode> {
 
@@ -34,53 +36,205 @@ final class JsonObjectList extends AbstractList<JsonNode> {
         Lists.registerImmutableType(JsonObjectList.class);
     }
 
+    /**
+     * Objects with more properties than this also have a hash table to find a property.
+     */
+    final static int SCAN_MAX = 8;
+
     /**
      * Empty list constant.
      */
-    static final JsonObjectList EMPTY = new JsonObjectList(Maps.empty());
+    static final JsonObjectList EMPTY = new JsonObjectList(new JsonPropertyName[0], new JsonNode[0]);
 
     /**
-     * Factory only used by {@link JsonObject}
+     * Factory that copies the names and values of the given {@link Map}.
      */
     static JsonObjectList with(final Map<JsonPropertyName, JsonNode> nameToValues) {
-        return new JsonObjectList(nameToValues);
+        final int count = nameToValues.size();
+        final JsonPropertyName[] names = new JsonPropertyName[count];
+        final JsonNode[] values = new JsonNode[count];
+
+        int i = 0;
+        for (final Entry<JsonPropertyName, JsonNode> nameAndValue : nameToValues.entrySet()) {
+            names[i] = nameAndValue.getKey();
+            values[i] = nameAndValue.getValue();
+            i++;
+        }
+
+        return with(names, values);
+    }
+
+    /**
+     * Factory only used by {@link JsonObject}, which takes ownership of the arrays. The names must be unique.
+     */
+    static JsonObjectList with(final JsonPropertyName[] names,
+                               final JsonNode[] values) {
+        return 0 == names.length ?
+                EMPTY :
+                new JsonObjectList(names, values);
     }
 
     /**
      * Private ctor use factory.
      */
-    private JsonObjectList(final Map<JsonPropertyName, JsonNode> nameToValues) {
+    private JsonObjectList(final JsonPropertyName[] names,
+                           final JsonNode[] values) {
         super();
-        this.nameToValues = nameToValues;
+        this.names = names;
+        this.values = values;
+        this.table = names.length > SCAN_MAX ?
+                table(names) :
+                null;
     }
 
     @Override
-    public JsonNode get(int index) {
-        return this.list().get(index);
+    public JsonNode get(final int index) {
+        return this.values[index];
     }
 
     @Override
     public int size() {
-        return this.nameToValues.size();
+        return this.values.length;
     }
 
-    @Override
-    public String toString() {
-        final String toString = this.nameToValues.toString();
-        return '[' + toString.substring(1, toString.length() - 1) + ']';
+    /**
+     * Returns the name of the property at the given index.
+     */
+    JsonPropertyName name(final int index) {
+        return this.names[index];
+    }
+
+    /**
+     * Returns the value of the property with the given name or null if absent.
+     */
+    JsonNode getOrNull(final JsonPropertyName name) {
+        return this.getOrNull(name.value());
+    }
+
+    /**
+     * Returns the value of the property with the given name text or null if absent.
+     */
+    JsonNode getOrNull(final CharSequence name) {
+        final int index = this.propertyIndex(name);
+        return -1 != index ?
+                this.values[index] :
+                null;
+    }
+
+    /**
+     * Returns the index of the property with the given name or -1 if absent.
+     */
+    int propertyIndex(final JsonPropertyName name) {
+        return this.propertyIndex(name.value());
+    }
+
+    /**
+     * Returns the index of the property with the given name text or -1 if absent.
+     */
+    int propertyIndex(final CharSequence name) {
+        return null == this.table ?
+                this.scan(name) :
+                this.lookup(name);
     }
 
-    final Map<JsonPropertyName, JsonNode> nameToValues;
+    private int scan(final CharSequence name) {
+        final JsonPropertyName[] names = this.names;
+        final int count = names.length;
+
+        int index = -1;
+        for (int i = 0; i < count; i++) {
+            if (names[i].equalsText(name)) {
+                index = i;
+                break;
+            }
+        }
+        return index;
+    }
+
+    private int lookup(final CharSequence name) {
+        final int[] table = this.table;
+        final int mask = table.length - 1;
+
+        int index = -1;
+        int slot = JsonPropertyName.hash(name) & mask;
+        for (; ; ) {
+            final int entry = table[slot];
+            if (0 == entry) {
+                break;
+            }
+            if (this.names[entry - 1].equalsText(name)) {
+                index = entry - 1;
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Builds an open addressing table, with a power of two length at least twice the number of names, holding the
+     * index plus one of each name, so zero marks an empty slot.
+     */
+    private static int[] table(final JsonPropertyName[] names) {
+        final int count = names.length;
+        final int[] table = new int[Integer.highestOneBit(count) << 2];
+        final int mask = table.length - 1;
+
+        for (int i = 0; i < count; i++) {
+            int slot = names[i].hashCode() & mask;
+            while (0 != table[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
 
     /**
-     * Lazily loaded list view of json object properties.
+     * Returns a new {@link Map} holding the properties in order.
      */
-    private List<JsonNode> list() {
-        if (null == this.list) {
-            this.list = new ArrayList<>(this.nameToValues.values());
+    Map<JsonPropertyName, JsonNode> toMap() {
+        final Map<JsonPropertyName, JsonNode> map = Maps.ordered();
+
+        final JsonPropertyName[] names = this.names;
+        final int count = names.length;
+        for (int i = 0; i < count; i++) {
+            map.put(names[i], this.values[i]);
         }
-        return this.list;
+        return map;
     }
 
-    private List<JsonNode> list;
+    /**
+     * Returns a copy of the names, sized to hold the given number of properties.
+     */
+    JsonPropertyName[] names(final int length) {
+        final JsonPropertyName[] copy = new JsonPropertyName[length];
+        System.arraycopy(this.names, 0, copy, 0, Math.min(length, this.names.length));
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the values, sized to hold the given number of properties.
+     */
+    JsonNode[] values(final int length) {
+        final JsonNode[] copy = new JsonNode[length];
+        System.arraycopy(this.values, 0, copy, 0, Math.min(length, this.values.length));
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        final String toString = this.toMap().toString();
+        return '[' + toString.substring(1, toString.length() - 1) + ']';
+    }
+
+    private final JsonPropertyName[] names;
+
+    private final JsonNode[] values;
+
+    /**
+     * Open addressing table of name to index plus one, only present for objects with more than {@link #SCAN_MAX}
+     * properties.
+     */
+    private final int[] table;
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read only {@link Map} view of the properties of a {@link JsonObject}. Lookups use the {@link JsonObjectList}
+ * directly and nothing is copied.
+ */
+final class JsonObjectMap extends AbstractMap<JsonPropertyName, JsonNode> {
+
+    static JsonObjectMap with(final JsonObjectList properties) {
+        return new JsonObjectMap(properties);
+    }
+
+    private JsonObjectMap(final JsonObjectList properties) {
+        super();
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != this.get(key);
+    }
+
+    @Override
+    public JsonNode get(final Object key) {
+        return key instanceof JsonPropertyName ?
+                this.properties.getOrNull((JsonPropertyName) key) :
+                null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.properties.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.properties.size();
+    }
+
+    @Override
+    public Set<Entry<JsonPropertyName, JsonNode>> entrySet() {
+        return JsonObjectMapEntrySet.with(this.properties);
+    }
+
+    private final JsonObjectList properties;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * The read only {@link Set} of entries of a {@link JsonObjectMap}.
+ */
+final class JsonObjectMapEntrySet extends AbstractSet<Entry<JsonPropertyName, JsonNode>> {
+
+    static JsonObjectMapEntrySet with(final JsonObjectList properties) {
+        return new JsonObjectMapEntrySet(properties);
+    }
+
+    private JsonObjectMapEntrySet(final JsonObjectList properties) {
+        super();
+        this.properties = properties;
+    }
+
+    @Override
+    public Iterator<Entry<JsonPropertyName, JsonNode>> iterator() {
+        return JsonObjectMapEntrySetIterator.with(this.properties);
+    }
+
+    @Override
+    public int size() {
+        return this.properties.size();
+    }
+
+    private final JsonObjectList properties;
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over the properties of a {@link JsonObjectList}, creating each read only {@link Entry} as it is
+ * returned. {@link #remove()} is not supported.
+ */
+final class JsonObjectMapEntrySetIterator implements Iterator<Entry<JsonPropertyName, JsonNode>> {
+
+    static JsonObjectMapEntrySetIterator with(final JsonObjectList properties) {
+        return new JsonObjectMapEntrySetIterator(properties);
+    }
+
+    private JsonObjectMapEntrySetIterator(final JsonObjectList properties) {
+        super();
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.index < this.properties.size();
+    }
+
+    @Override
+    public Entry<JsonPropertyName, JsonNode> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final int index = this.index;
+        this.index = index + 1;
+
+        final JsonObjectList properties = this.properties;
+        return new SimpleImmutableEntry<>(
+                properties.name(index),
+                properties.get(index)
+        );
+    }
+
+    private final JsonObjectList properties;
+
+    private int index;
+}
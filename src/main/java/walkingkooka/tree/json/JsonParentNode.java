@@ -18,9 +18,13 @@
 package walkingkooka.tree.json;
 
 import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.text.HasText;
+import walkingkooka.text.printer.IndentingPrinter;
 import walkingkooka.tree.search.SearchNode;
+import walkingkooka.visit.Visiting;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -103,12 +107,111 @@ abstract class JsonParentNode<C extends List<JsonNode>> extends JsonNode {
 
     // Visitor ........................................................................................................
 
-    final void acceptValues(final JsonNodeVisitor visitor) {
-        for (JsonNode node : this.children()) {
-            visitor.accept(node);
+    @Override
+    public final void accept(final JsonNodeVisitor visitor) {
+        if (Visiting.CONTINUE == this.startVisit(visitor)) {
+            for (final JsonNode node : this.children) {
+                visitor.accept(node);
+            }
         }
+        this.endVisit(visitor);
     }
 
+    /**
+     * Double dispatches to the typed {@link JsonNodeVisitor} start visit method.
+     */
+    abstract Visiting startVisit(final JsonNodeVisitor visitor);
+
+    /**
+     * Double dispatches to the typed {@link JsonNodeVisitor} end visit method.
+     */
+    abstract void endVisit(final JsonNodeVisitor visitor);
+
+    // printJson........................................................................................................
+
+    /**
+     * Prints this node and all its descendants using an explicit stack of parents, so deeply nested json does not
+     * overflow the call stack.
+     */
+    @Override
+    final void printJson0(final IndentingPrinter printer) {
+        final List<JsonParentNode<?>> parents = Lists.array();
+        int[] nextChild = new int[INITIAL_DEPTH];
+        final JsonNumberFormatterBuffer numbers = JsonNumberFormatterBuffer.empty();
+
+        this.printJsonBegin(printer);
+        parents.add(this);
+
+        while (!parents.isEmpty()) {
+            final int depth = parents.size() - 1;
+            final JsonParentNode<?> parent = parents.get(depth);
+            final List<JsonNode> children = parent.children;
+            final int count = children.size();
+            final int i = nextChild[depth];
+
+            if (i > 0) {
+                parent.printJsonAfterChild(printer, i - 1, count);
+            }
+
+            if (i < count) {
+                nextChild[depth] = i + 1;
+
+                if (children instanceof JsonArrayNumberList) {
+                    // array separators do not need the child, so numbers are printed without creating a JsonNumber
+                    parent.printJsonBeforeChild(printer, null, i);
+                    printer.print(numbers.format(((JsonArrayNumberList) children).value(i)));
+                    continue;
+                }
+
+                final JsonNode child = children.get(i);
+                parent.printJsonBeforeChild(printer, child, i);
+
+                if (child instanceof JsonNumber) {
+                    ((JsonNumber) child).printJson(printer, numbers);
+                } else if (child instanceof JsonParentNode) {
+                    final JsonParentNode<?> childParent = (JsonParentNode<?>) child;
+                    childParent.printJsonBegin(printer);
+
+                    if (depth + 1 == nextChild.length) {
+                        nextChild = Arrays.copyOf(nextChild, nextChild.length * 2);
+                    }
+                    nextChild[depth + 1] = 0;
+                    parents.add(childParent);
+                } else {
+                    child.printJson0(printer);
+                }
+            } else {
+                parent.printJsonEnd(printer);
+                parents.remove(depth);
+            }
+        }
+    }
+
+    /**
+     * Prints the opening of this parent, before any children.
+     */
+    abstract void printJsonBegin(final IndentingPrinter printer);
+
+    /**
+     * Prints anything that appears before the child at the given index.
+     */
+    abstract void printJsonBeforeChild(final IndentingPrinter printer, final JsonNode child, final int i);
+
+    /**
+     * Prints anything that appears after the child at the given index and all its descendants.
+     */
+    abstract void printJsonAfterChild(final IndentingPrinter printer, final int i, final int count);
+
+    /**
+     * Prints the closing of this parent, after all children.
+     */
+    abstract void printJsonEnd(final IndentingPrinter printer);
+
+    /**
+     * The initial capacity of the explicit stacks used to walk descendants, which grow on demand.
+     */
+    private final static int INITIAL_DEPTH = 16;
+
     // HasText......................................................................................................
 
     /**
@@ -132,30 +235,110 @@ abstract class JsonParentNode<C extends List<JsonNode>> extends JsonNode {
 
     // Object.....................................................................................................
 
+    /**
+     * The {@link #structuralHash()}, which ignores names, is also the hash code, and unlike a hash of the children list
+     * is the same for objects with the same properties in a different order.
+     */
     @Override
     public final int hashCode() {
-        return this.children.hashCode();
+        return this.structuralHash();
     }
 
+    /**
+     * Memoises the {@link #structuralHash()} of all descendant parents in post order using an explicit stack, before
+     * combining the hashes of the children, so no call ever recurses more than one level.
+     */
+    @Override
+    final int structuralHash0() {
+        final List<JsonParentNode<?>> parents = Lists.array();
+        int[] nextChild = new int[INITIAL_DEPTH];
+
+        parents.add(this);
+
+        while (!parents.isEmpty()) {
+            final int depth = parents.size() - 1;
+            final JsonParentNode<?> parent = parents.get(depth);
+            final List<JsonNode> children = parent.children;
+            final int count = children.size();
+
+            // numbers are never parents and are skipped without creating each child
+            int i = children instanceof JsonArrayNumberList ?
+                    count :
+                    nextChild[depth];
+            while (i < count) {
+                final JsonNode child = children.get(i);
+                if (child instanceof JsonParentNode && !child.hasStructuralHash()) {
+                    break;
+                }
+                i++;
+            }
+
+            if (i < count) {
+                nextChild[depth] = i + 1;
+
+                if (depth + 1 == nextChild.length) {
+                    nextChild = Arrays.copyOf(nextChild, nextChild.length * 2);
+                }
+                nextChild[depth + 1] = 0;
+                parents.add((JsonParentNode<?>) children.get(i));
+            } else {
+                parents.remove(depth);
+                if (depth > 0) {
+                    parent.memoiseStructuralHash(parent.combineStructuralHash());
+                }
+            }
+        }
+
+        return this.combineStructuralHash();
+    }
+
+    /**
+     * Combines the {@link #structuralHash()} of each child, which have all been computed.
+     */
+    abstract int combineStructuralHash();
+
     /**
      * Only returns true if the descendants of this node and the given children are equal ignoring the parents.
      * A compatibility test between both objects is also done as this is called directly when parents compare their children.
+     * Pairs of descendants still to be compared are kept on an explicit stack, rather than recursing for each level.
      */
     @Override
     final boolean equalsDescendants(final JsonNode other) {
         boolean equals = this.canBeEqual(other);
 
         if (equals) {
-            final C children = this.children;
-            final int count = children.size();
+            final List<JsonNode> pending = Lists.array();
+            equals = this.pushChildren(Cast.to(other), pending);
 
-            final C otherChildren = Cast.to(other.children());
-            equals = count == other.children().size();
+            while (equals && !pending.isEmpty()) {
+                final int last = pending.size() - 1;
+                final JsonNode otherChild = pending.remove(last);
+                final JsonNode child = pending.remove(last - 1);
 
-            if (equals) {
-                for (int i = 0; equals && i < count; i++) {
-                    equals = this.equalsDescendants0(children.get(i), otherChildren, i);
-                }
+                equals = child.canBeEqual(otherChild) &&
+                        child.equalsNameAndValue(otherChild) &&
+                        (!(child instanceof JsonParentNode) || ((JsonParentNode<?>) child).pushChildren(Cast.to(otherChild), pending));
+            }
+        }
+
+        return equals;
+    }
+
+    /**
+     * If the other has the same number of children, pushes each child and its counterpart, in reverse order so they
+     * are compared first to last.
+     */
+    private boolean pushChildren(final JsonParentNode<C> other, final List<JsonNode> pending) {
+        final C children = this.children;
+        final C otherChildren = other.children;
+        final int count = children.size();
+
+        final boolean equals = count == otherChildren.size();
+        if (equals) {
+            for (int i = count - 1; i >= 0; i--) {
+                final JsonNode child = children.get(i);
+                pending.add(child);
+                pending.add(this.otherChild(child, otherChildren, i));
             }
         }
 
@@ -163,9 +346,9 @@ abstract class JsonParentNode<C extends List<JsonNode>> extends JsonNode {
     }
 
     /**
-     * Tests a child for equality. It should ignore the parent.
+     * Returns the child from the other children that should be compared with the given child, or null if none exists.
      */
-    abstract boolean equalsDescendants0(final JsonNode child, final C otherChildren, final int i);
+    abstract JsonNode otherChild(final JsonNode child, final C otherChildren, final int i);
 
     /**
      * Tests if the immediate value belonging to this node for equality.
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A compiled RFC 6902 json patch, an array of add, remove, replace, move, copy and test operations.
+ * <br>
+ * Operations are applied to a transient mutable copy of only the containers along the paths they touch, so each
+ * modified object or array is created once when all operations have been applied, rather than every operation
+ * rebuilding every ancestor. Application is atomic, if any operation fails including a test, a
+ * {@link JsonNodeException} is thrown and the given node is unchanged, because nodes are immutable.
+ * <br>
+ * https://datatracker.ietf.org/doc/html/rfc6902
+ */
+public final class JsonPatch {
+
+    /**
+     * Validates and compiles the given operations, throwing {@link IllegalArgumentException} if any are invalid.
+     */
+    public static JsonPatch with(final JsonArray operations) {
+        Objects.requireNonNull(operations, "operations");
+
+        final List<JsonNode> children = operations.children();
+        final int count = children.size();
+        final JsonPatchOperation[] compiled = new JsonPatchOperation[count];
+
+        for (int i = 0; i < count; i++) {
+            compiled[i] = JsonPatchOperation.parse(children.get(i), i);
+        }
+
+        return new JsonPatch(operations, compiled);
+    }
+
+    private JsonPatch(final JsonArray json,
+                      final JsonPatchOperation[] operations) {
+        super();
+        this.json = json;
+        this.operations = operations;
+    }
+
+    /**
+     * Applies all operations in order, returning the patched node, which keeps the name and parent of the given node.
+     */
+    public JsonNode apply(final JsonNode node) {
+        Objects.requireNonNull(node, "node");
+
+        final JsonPatchDocument document = JsonPatchDocument.with(node);
+        for (final JsonPatchOperation operation : this.operations) {
+            operation.apply(document);
+        }
+
+        return node.replace(
+                document.build(node.name())
+        );
+    }
+
+    /**
+     * The original json operations.
+     */
+    public JsonArray operations() {
+        return this.json;
+    }
+
+    private final JsonArray json;
+
+    private final JsonPatchOperation[] operations;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.json.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof JsonPatch &&
+                        this.json.equals(((JsonPatch) other).json);
+    }
+
+    @Override
+    public String toString() {
+        return this.json.toString();
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.text.CharSequences;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A transient mutable view of a document that patch operations are applied to. Only the containers along the paths
+ * being modified are copied into a mutable {@link Map} or {@link List}, all other values remain the original
+ * {@link JsonNode}. Once all operations are applied {@link #build(JsonPropertyName)} creates each modified container exactly once.
+ */
+final class JsonPatchDocument {
+
+    static JsonPatchDocument with(final JsonNode root) {
+        return new JsonPatchDocument(root);
+    }
+
+    private JsonPatchDocument(final JsonNode root) {
+        super();
+        this.root = root;
+    }
+
+    // get..............................................................................................................
+
+    /**
+     * Returns the value at the given pointer or null if it is missing.
+     */
+    JsonNode get(final JsonPointer pointer) {
+        final int depth = pointer.depth();
+
+        Object current = this.root;
+        for (int i = 0; null != current && i < depth; i++) {
+            current = child(current, pointer, i);
+        }
+
+        return null != current ?
+                build(current, null) :
+                null;
+    }
+
+    /**
+     * Returns the child for the step or null if it is absent.
+     */
+    private static Object child(final Object parent,
+                                final JsonPointer pointer,
+                                final int step) {
+        Object child = null;
+
+        if (parent instanceof Map) {
+            final Map<JsonPropertyName, Object> properties = Cast.to(parent);
+            child = properties.get(pointer.nameAt(step));
+        } else if (parent instanceof List) {
+            final List<Object> elements = Cast.to(parent);
+            final int index = pointer.indexAt(step);
+            if (index >= 0 && index < elements.size()) {
+                child = elements.get(index);
+            }
+        } else {
+            final JsonNode node = (JsonNode) parent;
+            if (node.isObject()) {
+                child = node.objectOrFail()
+                        .getOrNull(pointer.nameAt(step).value());
+            } else if (node.isArray()) {
+                final List<JsonNode> elements = node.children();
+                final int index = pointer.indexAt(step);
+                if (index >= 0 && index < elements.size()) {
+                    child = elements.get(index);
+                }
+            }
+        }
+
+        return child;
+    }
+
+    // add..............................................................................................................
+
+    /**
+     * Adds or replaces an object property, inserts an array element or replaces the whole document.
+     */
+    void add(final JsonPointer pointer,
+             final Object value) {
+        final int last = pointer.depth() - 1;
+        if (-1 == last) {
+            this.root = value;
+        } else {
+            final Object parent = this.parent(pointer);
+
+            if (parent instanceof Map) {
+                final Map<JsonPropertyName, Object> properties = Cast.to(parent);
+                properties.put(pointer.nameAt(last), value);
+            } else {
+                final List<Object> elements = Cast.to(parent);
+                final int index = pointer.indexAt(last);
+                if (JsonPointer.APPEND == index) {
+                    elements.add(value);
+                } else {
+                    if (index < 0 || index > elements.size()) {
+                        throw invalidIndex(pointer);
+                    }
+                    elements.add(index, value);
+                }
+            }
+        }
+    }
+
+    // remove...........................................................................................................
+
+    /**
+     * Removes and returns an existing property or element.
+     */
+    Object remove(final JsonPointer pointer) {
+        final int last = pointer.depth() - 1;
+        if (-1 == last) {
+            throw new JsonNodeException("Unable to remove document " + CharSequences.quoteAndEscape(pointer.toString()));
+        }
+
+        final Object parent = this.parent(pointer);
+        final Object removed;
+
+        if (parent instanceof Map) {
+            final Map<JsonPropertyName, Object> properties = Cast.to(parent);
+            removed = properties.remove(pointer.nameAt(last));
+            if (null == removed) {
+                throw missing(pointer);
+            }
+        } else {
+            final List<Object> elements = Cast.to(parent);
+            removed = elements.remove(existingIndex(pointer, elements));
+        }
+
+        return removed;
+    }
+
+    // replace..........................................................................................................
+
+    /**
+     * Replaces an existing property, element or the whole document.
+     */
+    void replace(final JsonPointer pointer,
+                 final Object value) {
+        final int last = pointer.depth() - 1;
+        if (-1 == last) {
+            this.root = value;
+        } else {
+            final Object parent = this.parent(pointer);
+
+            if (parent instanceof Map) {
+                final Map<JsonPropertyName, Object> properties = Cast.to(parent);
+                final JsonPropertyName name = pointer.nameAt(last);
+                if (!properties.containsKey(name)) {
+                    throw missing(pointer);
+                }
+                properties.put(name, value);
+            } else {
+                final List<Object> elements = Cast.to(parent);
+                elements.set(existingIndex(pointer, elements), value);
+            }
+        }
+    }
+
+    private static int existingIndex(final JsonPointer pointer,
+                                     final List<Object> elements) {
+        final int index = pointer.indexAt(pointer.depth() - 1);
+        if (index < 0 || index >= elements.size()) {
+            throw invalidIndex(pointer);
+        }
+        return index;
+    }
+
+    // parent...........................................................................................................
+
+    /**
+     * Returns the mutable container that holds the last step of the pointer, copying each container along the way
+     * into a mutable form once.
+     */
+    private Object parent(final JsonPointer pointer) {
+        Object current = this.root;
+        if (current instanceof JsonNode) {
+            current = mutable((JsonNode) current, pointer);
+            this.root = current;
+        }
+
+        final int last = pointer.depth() - 1;
+        for (int i = 0; i < last; i++) {
+            Object child = child(current, pointer, i);
+            if (null == child) {
+                throw missing(pointer);
+            }
+
+            if (child instanceof JsonNode) {
+                child = mutable((JsonNode) child, pointer);
+                if (current instanceof Map) {
+                    final Map<JsonPropertyName, Object> properties = Cast.to(current);
+                    properties.put(pointer.nameAt(i), child);
+                } else {
+                    final List<Object> elements = Cast.to(current);
+                    elements.set(pointer.indexAt(i), child);
+                }
+            }
+
+            current = child;
+        }
+
+        return current;
+    }
+
+    /**
+     * Copies the properties or elements of an object or array into a {@link Map} or {@link List}, failing for any
+     * other value.
+     */
+    private static Object mutable(final JsonNode node,
+                                  final JsonPointer pointer) {
+        final Object mutable;
+
+        if (node.isObject()) {
+            final Map<JsonPropertyName, Object> properties = Maps.ordered();
+            for (final JsonNode child : node.children()) {
+                properties.put(child.name(), child);
+            }
+            mutable = properties;
+        } else if (node.isArray()) {
+            final List<Object> elements = Lists.array();
+            elements.addAll(node.children());
+            mutable = elements;
+        } else {
+            throw new JsonNodeException("Unable to patch " + CharSequences.quoteAndEscape(pointer.toString()) + " parent is not an array or object");
+        }
+
+        return mutable;
+    }
+
+    // build............................................................................................................
+
+    /**
+     * Creates the patched document with the given name.
+     */
+    JsonNode build(final JsonPropertyName name) {
+        return build(this.root, name);
+    }
+
+    /**
+     * Returns the value as a {@link JsonNode}, creating a node for each mutable container.
+     */
+    private static JsonNode build(final Object value,
+                                  final JsonPropertyName name) {
+        final JsonNode node;
+
+        if (value instanceof Map) {
+            final Map<JsonPropertyName, Object> properties = Cast.to(value);
+            final Map<JsonPropertyName, JsonNode> children = Maps.ordered();
+            for (final Map.Entry<JsonPropertyName, Object> property : properties.entrySet()) {
+                final JsonPropertyName propertyName = property.getKey();
+                children.put(propertyName, build(property.getValue(), propertyName));
+            }
+            node = JsonObject.EMPTY.replace0(
+                    null != name ? name : JsonObject.EMPTY.defaultName(),
+                    JsonNode.NO_INDEX,
+                    JsonObjectList.with(children)
+            );
+        } else if (value instanceof List) {
+            final List<Object> elements = Cast.to(value);
+            final List<JsonNode> children = Lists.array();
+            for (final Object element : elements) {
+                children.add(build(element, null));
+            }
+            node = JsonArray.EMPTY.replace0(
+                    null != name ? name : JsonArray.EMPTY.defaultName(),
+                    JsonNode.NO_INDEX,
+                    children
+            );
+        } else {
+            final JsonNode jsonNode = (JsonNode) value;
+            node = null != name ?
+                    jsonNode.setName0(name) :
+                    jsonNode;
+        }
+
+        return node;
+    }
+
+    /**
+     * The document, either the original {@link JsonNode} or a mutable container.
+     */
+    private Object root;
+
+    // helpers..........................................................................................................
+
+    private static JsonNodeException missing(final JsonPointer pointer) {
+        return new JsonNodeException("Unable to patch " + CharSequences.quoteAndEscape(pointer.toString()) + " missing");
+    }
+
+    private static JsonNodeException invalidIndex(final JsonPointer pointer) {
+        return new JsonNodeException("Unable to patch " + CharSequences.quoteAndEscape(pointer.toString()) + " invalid index");
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.root);
+    }
+}
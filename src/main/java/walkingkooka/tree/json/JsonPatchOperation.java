@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import walkingkooka.text.CharSequences;
+
+
+/**
+ * A single validated operation belonging to a {@link JsonPatch}.
+ */
+final class JsonPatchOperation {
+
+    final static String ADD = "add";
+    final static String REMOVE = "remove";
+    final static String REPLACE = "replace";
+    final static String MOVE = "move";
+    final static String COPY = "copy";
+    final static String TEST = "test";
+
+    /**
+     * Validates the given json operation, failing if it is not an object, has an unknown op, or is missing a member
+     * required by its op.
+     */
+    static JsonPatchOperation parse(final JsonNode node,
+                                    final int index) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Invalid patch operation " + index + " expected object got " + node);
+        }
+        final JsonObject object = node.objectOrFail();
+
+        final String op = string(object, JsonNodeDiff.OP, index);
+        final JsonPointer path = JsonPointer.parse(string(object, JsonNodeDiff.PATH, index));
+
+        JsonPointer from = null;
+        JsonNode value = null;
+
+        switch (op) {
+            case ADD:
+            case REPLACE:
+            case TEST:
+                value = object.getOrNull(JsonNodeDiff.VALUE.value());
+                if (null == value) {
+                    throw missing(JsonNodeDiff.VALUE, index);
+                }
+                break;
+            case REMOVE:
+                break;
+            case MOVE:
+            case COPY:
+                from = JsonPointer.parse(string(object, JsonNodeDiff.FROM, index));
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid patch operation " + index + " unknown op " + CharSequences.quoteAndEscape(op));
+        }
+
+        return new JsonPatchOperation(op, path, from, value);
+    }
+
+    private static String string(final JsonObject object,
+                                 final JsonPropertyName name,
+                                 final int index) {
+        final JsonNode node = object.getOrNull(name.value());
+        if (null == node) {
+            throw missing(name, index);
+        }
+        if (!node.isString()) {
+            throw new IllegalArgumentException("Invalid patch operation " + index + " " + CharSequences.quoteAndEscape(name.value()) + " expected string got " + node);
+        }
+        return node.stringOrFail();
+    }
+
+    private static IllegalArgumentException missing(final JsonPropertyName name,
+                                                    final int index) {
+        return new IllegalArgumentException("Invalid patch operation " + index + " missing " + CharSequences.quoteAndEscape(name.value()));
+    }
+
+    private JsonPatchOperation(final String op,
+                               final JsonPointer path,
+                               final JsonPointer from,
+                               final JsonNode value) {
+        super();
+        this.op = op;
+        this.path = path;
+        this.from = from;
+        this.value = value;
+    }
+
+    /**
+     * Applies this operation to the document.
+     */
+    void apply(final JsonPatchDocument document) {
+        final JsonPointer path = this.path;
+
+        switch (this.op) {
+            case ADD:
+                document.add(path, this.value);
+                break;
+            case REMOVE:
+                document.remove(path);
+                break;
+            case REPLACE:
+                document.replace(path, this.value);
+                break;
+            case MOVE:
+                this.move(document);
+                break;
+            case COPY:
+                document.add(
+                        path,
+                        this.getOrFail(document, this.from)
+                );
+                break;
+            case TEST:
+                this.test(document);
+                break;
+            default:
+                throw new IllegalStateException("Unknown op " + CharSequences.quoteAndEscape(this.op));
+        }
+    }
+
+    private void move(final JsonPatchDocument document) {
+        final JsonPointer from = this.from;
+        final JsonPointer path = this.path;
+
+        if (!from.equals(path)) {
+            if (path.isDescendantOf(from)) {
+                throw new JsonNodeException("Unable to move " + CharSequences.quoteAndEscape(from.toString()) + " into its own descendant " + CharSequences.quoteAndEscape(path.toString()));
+            }
+            document.add(
+                    path,
+                    document.remove(from)
+            );
+        }
+    }
+
+    private void test(final JsonPatchDocument document) {
+        final JsonNode actual = this.getOrFail(document, this.path);
+        final JsonNode expected = this.value;
+
+        if (!actual.equalsStructure(expected)) {
+            throw new JsonNodeException("Test failed " + CharSequences.quoteAndEscape(this.path.toString()) + " expected " + expected + " got " + actual);
+        }
+    }
+
+    private JsonNode getOrFail(final JsonPatchDocument document,
+                               final JsonPointer pointer) {
+        final JsonNode value = document.get(pointer);
+        if (null == value) {
+            throw new JsonNodeException("Unable to " + this.op + " " + CharSequences.quoteAndEscape(pointer.toString()) + " missing");
+        }
+        return value;
+    }
+
+    private final String op;
+    private final JsonPointer path;
+    private final JsonPointer from;
+    private final JsonNode value;
+
+    @Override
+    public String toString() {
+        return this.op +
+                (null != this.from ? " " + CharSequences.quoteAndEscape(this.from.toString()) : "") +
+                " " +
+                CharSequences.quoteAndEscape(this.path.toString()) +
+                (null != this.value ? " " + this.value : "");
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import walkingkooka.Cast;
+import walkingkooka.text.CharSequences;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A compiled json pointer, which may be used to get, set or remove a value within a {@link JsonNode} graph.
+ * Each reference token is parsed once into a {@link JsonPropertyName} and array index, so navigation never re-parses.
+ * Recently parsed pointers are cached, as the same paths tend to be used repeatedly.
+ * <br>
+ * https://datatracker.ietf.org/doc/html/rfc6901
+ * <br>
+ * Empty reference tokens, for example <code>/a//b</code> are not supported because {@link JsonPropertyName} cannot
+ * be empty.
+ */
+public final class JsonPointer {
+
+    /**
+     * The size of the cache of recently parsed pointers.
+     */
+    // VisibleForTesting
+    final static int CACHE_SIZE = 256;
+
+    /**
+     * The index of the reference token <code>-</code>, which refers to the element after the last.
+     */
+    final static int APPEND = -1;
+
+    /**
+     * The index of reference tokens that are not array indices.
+     */
+    final static int NOT_INDEX = -2;
+
+    private final static char SEPARATOR = '/';
+
+    /**
+     * A pointer to the whole document.
+     */
+    private final static JsonPointer ROOT = new JsonPointer("", new JsonPropertyName[0], new int[0]);
+
+    /**
+     * Parses the text into a {@link JsonPointer}, returning a cached instance if the same text was recently parsed.
+     */
+    public static JsonPointer parse(final String text) {
+        Objects.requireNonNull(text, "text");
+
+        JsonPointer pointer;
+        synchronized (CACHE) {
+            pointer = CACHE.get(text);
+        }
+
+        if (null == pointer) {
+            pointer = parse0(text);
+
+            synchronized (CACHE) {
+                CACHE.put(text, pointer);
+            }
+        }
+
+        return pointer;
+    }
+
+    /**
+     * A least recently used cache of parsed pointers.
+     */
+    private final static Map<String, JsonPointer> CACHE = new LinkedHashMap<String, JsonPointer>(CACHE_SIZE, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, JsonPointer> eldest) {
+            return this.size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Returns a {@link JsonPointer} with a single reference token for the given property, escaping the text.
+     */
+    static JsonPointer property(final JsonPropertyName name) {
+        final String value = name.value();
+
+        return new JsonPointer(
+                SEPARATOR + escape(value),
+                new JsonPropertyName[]{name},
+                new int[]{index(value)}
+        );
+    }
+
+    /**
+     * Escapes <code>~</code> as <code>~0</code> and <code>/</code> as <code>~1</code> so the text may be used as a
+     * reference token.
+     */
+    static String escape(final String token) {
+        return token.replace("~", "~0")
+                .replace("/", "~1");
+    }
+
+    private static JsonPointer parse0(final String text) {
+        if (text.isEmpty()) {
+            return ROOT;
+        }
+        if (SEPARATOR != text.charAt(0)) {
+            throw new IllegalArgumentException("Invalid json pointer " + CharSequences.quoteAndEscape(text) + " missing leading " + CharSequences.quoteIfChars(SEPARATOR));
+        }
+
+        int count = 0;
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (SEPARATOR == text.charAt(i)) {
+                count++;
+            }
+        }
+
+        final JsonPropertyName[] names = new JsonPropertyName[count];
+        final int[] indices = new int[count];
+
+        int start = 1;
+        for (int i = 0; i < count; i++) {
+            int end = text.indexOf(SEPARATOR, start);
+            if (-1 == end) {
+                end = length;
+            }
+            if (start == end) {
+                throw new IllegalArgumentException("Invalid json pointer " + CharSequences.quoteAndEscape(text) + " empty reference token at " + start);
+            }
+
+            final String token = unescape(text, start, end);
+            names[i] = JsonPropertyName.with(token);
+            indices[i] = index(token);
+
+            start = end + 1;
+        }
+
+        return new JsonPointer(text, names, indices);
+    }
+
+    /**
+     * Replaces <code>~1</code> with <code>/</code> and <code>~0</code> with <code>~</code>.
+     */
+    private static String unescape(final String text,
+                                   final int start,
+                                   final int end) {
+        final int tilde = text.indexOf('~', start);
+        if (-1 == tilde || tilde >= end) {
+            return text.substring(start, end);
+        }
+
+        final StringBuilder b = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if ('~' == c) {
+                final char next = i + 1 < end ? text.charAt(i + 1) : 0;
+                switch (next) {
+                    case '0':
+                        b.append('~');
+                        break;
+                    case '1':
+                        b.append(SEPARATOR);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Invalid json pointer " + CharSequences.quoteAndEscape(text) + " invalid escape at " + i);
+                }
+                i++;
+            } else {
+                b.append(c);
+            }
+        }
+        return b.toString();
+    }
+
+    /**
+     * Returns the array index for the reference token, {@link #APPEND} or {@link #NOT_INDEX}. Leading zeros are not
+     * allowed.
+     */
+    private static int index(final String token) {
+        int index = NOT_INDEX;
+
+        final int length = token.length();
+        if (1 == length && '-' == token.charAt(0)) {
+            index = APPEND;
+        } else if (length <= 9 && (1 == length || '0' != token.charAt(0))) {
+            index = 0;
+            for (int i = 0; i < length; i++) {
+                final char c = token.charAt(i);
+                if (c < '0' || c > '9') {
+                    index = NOT_INDEX;
+                    break;
+                }
+                index = index * 10 + c - '0';
+            }
+        }
+
+        return index;
+    }
+
+    private JsonPointer(final String text,
+                        final JsonPropertyName[] names,
+                        final int[] indices) {
+        super();
+        this.text = text;
+        this.names = names;
+        this.indices = indices;
+    }
+
+    /**
+     * Returns the number of reference tokens, where the pointer to the whole document has none.
+     */
+    public int depth() {
+        return this.names.length;
+    }
+
+    /**
+     * Returns the reference token at the given step as a property name.
+     */
+    JsonPropertyName nameAt(final int step) {
+        return this.names[step];
+    }
+
+    /**
+     * Returns the reference token at the given step as an array index, {@link #APPEND} or {@link #NOT_INDEX}.
+     */
+    int indexAt(final int step) {
+        return this.indices[step];
+    }
+
+    /**
+     * Returns true if this pointer refers to a descendant of the given pointer.
+     */
+    boolean isDescendantOf(final JsonPointer ancestor) {
+        final String text = this.text;
+        final String ancestorText = ancestor.text;
+
+        return text.length() > ancestorText.length() &&
+                text.startsWith(ancestorText) &&
+                SEPARATOR == text.charAt(ancestorText.length());
+    }
+
+    // get..............................................................................................................
+
+    /**
+     * Returns the value this pointer refers to within the given node, or empty if any step is missing.
+     */
+    public Optional<JsonNode> get(final JsonNode node) {
+        Objects.requireNonNull(node, "node");
+
+        return Optional.ofNullable(this.getOrNull(node));
+    }
+
+    /**
+     * Returns the value this pointer refers to within the given node, or null if any step is missing.
+     */
+    JsonNode getOrNull(final JsonNode node) {
+        final int depth = this.depth();
+        JsonNode current = node;
+
+        for (int i = 0; null != current && i < depth; i++) {
+            current = this.child(current, i);
+        }
+
+        return current;
+    }
+
+    /**
+     * Returns the child selected by the step at the given index or null.
+     */
+    private JsonNode child(final JsonNode parent,
+                           final int step) {
+        JsonNode child = null;
+
+        if (parent.isObject()) {
+            child = parent.objectOrFail()
+                    .getOrNull(this.names[step].value());
+        } else if (parent.isArray()) {
+            final int index = this.indices[step];
+            if (index >= 0) {
+                final JsonArray array = Cast.to(parent);
+                if (index < array.children().size()) {
+                    child = array.get(index);
+                }
+            }
+        }
+
+        return child;
+    }
+
+    // set..............................................................................................................
+
+    /**
+     * Sets the value this pointer refers to, returning the given node with it and its ancestors replaced. Object
+     * properties are added or replaced, array elements replaced, and the index after the last element or
+     * <code>-</code> appends. A {@link JsonNodeException} is thrown if any of the parent steps are missing.
+     */
+    public JsonNode set(final JsonNode node,
+                        final JsonNode value) {
+        Objects.requireNonNull(node, "node");
+        Objects.requireNonNull(value, "value");
+
+        final int depth = this.depth();
+        if (0 == depth) {
+            return value;
+        }
+
+        final JsonNode parent = this.parentOrFail(node);
+        final int last = depth - 1;
+        final JsonNode updated;
+
+        if (parent.isObject()) {
+            updated = parent.objectOrFail()
+                    .set(this.names[last], value);
+        } else {
+            final JsonArray array = Cast.to(parent);
+            final int size = array.children().size();
+
+            int index = this.indices[last];
+            if (APPEND == index) {
+                index = size;
+            }
+            if (index < 0 || index > size) {
+                throw this.missing(node);
+            }
+
+            updated = array.set(index, value);
+        }
+
+        return this.ancestor(updated, last);
+    }
+
+    // remove...........................................................................................................
+
+    /**
+     * Removes the value this pointer refers to, returning the given node with its ancestors replaced. If the value
+     * is missing the given node is returned, but a {@link JsonNodeException} is thrown if any of the parent steps are
+     * missing.
+     */
+    public JsonNode remove(final JsonNode node) {
+        Objects.requireNonNull(node, "node");
+
+        final int depth = this.depth();
+        if (0 == depth) {
+            throw new JsonNodeException("Unable to remove root");
+        }
+
+        final JsonNode parent = this.parentOrFail(node);
+        final int last = depth - 1;
+        final JsonNode updated;
+
+        if (null == this.child(parent, last)) {
+            updated = null;
+        } else {
+            // JsonArray#remove does not update its parent, so the new array replaces the original
+            updated = parent.isObject() ?
+                    parent.objectOrFail()
+                            .remove(this.names[last]) :
+                    parent.replace(
+                            parent.arrayOrFail()
+                                    .remove(this.indices[last])
+                    );
+        }
+
+        return null == updated ?
+                node :
+                this.ancestor(updated, last);
+    }
+
+    /**
+     * Returns the object or array that holds the value this pointer refers to, failing if it is missing.
+     */
+    private JsonNode parentOrFail(final JsonNode node) {
+        JsonNode parent = node;
+
+        final int last = this.depth() - 1;
+        for (int i = 0; i < last; i++) {
+            parent = this.child(parent, i);
+            if (null == parent) {
+                throw this.missing(node);
+            }
+        }
+
+        if (!parent.isObject() && !parent.isArray()) {
+            throw this.missing(node);
+        }
+        return parent;
+    }
+
+    /**
+     * Climbs the given number of parents from a node in a rebuilt graph, returning the replacement of the original
+     * node.
+     */
+    private JsonNode ancestor(final JsonNode node,
+                              final int levels) {
+        JsonNode ancestor = node;
+        for (int i = 0; i < levels; i++) {
+            ancestor = ancestor.parent()
+                    .get();
+        }
+        return ancestor;
+    }
+
+    private JsonNodeException missing(final JsonNode node) {
+        return new JsonNodeException("Unable to find " + CharSequences.quoteAndEscape(this.text) + " in " + node);
+    }
+
+    /**
+     * The original text form.
+     */
+    private final String text;
+
+    /**
+     * The unescaped reference tokens.
+     */
+    private final JsonPropertyName[] names;
+
+    /**
+     * The array index for each reference token, or {@link #APPEND} and {@link #NOT_INDEX}.
+     */
+    private final int[] indices;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.text.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof JsonPointer &&
+                        this.text.equals(((JsonPointer) other).text);
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+}
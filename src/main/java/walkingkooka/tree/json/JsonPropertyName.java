@@ -87,6 +87,18 @@ public final class JsonPropertyName implements Name,
 
     private final String name;
 
+    /**
+     * Returns the quoted and escaped form of this name, computing it once as the same names are printed repeatedly.
+     */
+    String quoted() {
+        if (null == this.quoted) {
+            this.quoted = JsonStringEscaper.quote(this.name);
+        }
+        return this.quoted;
+    }
+
+    private String quoted;
+
     /**
      * Returns a {@link JsonString} with this value.
      */
@@ -107,7 +119,7 @@ public final class JsonPropertyName implements Name,
 
     @Override
     public int hashCode() {
-        return CASE_SENSITIVITY.hash(this.name);
+        return this.name.hashCode();
     }
 
     @Override
@@ -121,6 +133,30 @@ public final class JsonPropertyName implements Name,
         return CASE_SENSITIVITY.equals(this.name, other.name);
     }
 
+    /**
+     * Tests if this name has the given text, without creating a {@link JsonPropertyName}.
+     */
+    boolean equalsText(final CharSequence text) {
+        return CASE_SENSITIVITY.equals(this.name, text);
+    }
+
+    /**
+     * Returns the same hash as {@link #hashCode()} of a {@link JsonPropertyName} with the given text, which is the
+     * {@link String#hashCode()} of the text.
+     */
+    static int hash(final CharSequence text) {
+        int hash = 0;
+        if (text instanceof String) {
+            hash = text.hashCode();
+        } else {
+            final int length = text.length();
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+        }
+        return hash;
+    }
+
     @Override
     public String toString() {
         return this.name;
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+/**
+ * A SHA-256 message digest (FIPS 180-4) that accepts text which is encoded as UTF-8 as it is added, so a canonical
+ * form can be hashed without ever being built. Written out rather than using {@link java.security.MessageDigest} which
+ * is not available when transpiling to javascript.
+ */
+final class JsonSha256 {
+
+    /**
+     * The length of a digest in bytes.
+     */
+    final static int LENGTH = 32;
+
+    static JsonSha256 empty() {
+        return new JsonSha256();
+    }
+
+    private JsonSha256() {
+        super();
+    }
+
+    /**
+     * Adds the UTF-8 encoding of the text. Unpaired surrogates are encoded as a question mark, matching
+     * {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    JsonSha256 update(final CharSequence text) {
+        final int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+
+            if (c < 0x80) {
+                this.update((byte) c);
+            } else if (c < 0x800) {
+                this.update((byte) (0xC0 | c >> 6));
+                this.update((byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                final int next = i + 1;
+                if (Character.isHighSurrogate(c) && next < length && Character.isLowSurrogate(text.charAt(next))) {
+                    final int codePoint = Character.toCodePoint(c, text.charAt(next));
+                    this.update((byte) (0xF0 | codePoint >> 18));
+                    this.update((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    this.update((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    this.update((byte) (0x80 | codePoint & 0x3F));
+                    i = next;
+                } else {
+                    this.update((byte) '?');
+                }
+            } else {
+                this.update((byte) (0xE0 | c >> 12));
+                this.update((byte) (0x80 | c >> 6 & 0x3F));
+                this.update((byte) (0x80 | c & 0x3F));
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds all the bytes.
+     */
+    JsonSha256 update(final byte[] bytes) {
+        for (final byte b : bytes) {
+            this.update(b);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a single byte, processing the block when it becomes full.
+     */
+    JsonSha256 update(final byte b) {
+        final int position = (int) (this.count & 63);
+        this.block[position] = b;
+        this.count++;
+        if (63 == position) {
+            this.process();
+        }
+        return this;
+    }
+
+    /**
+     * Pads the message and returns the digest. This digest should not be used after this.
+     */
+    byte[] digest() {
+        final long bits = this.count << 3;
+
+        this.update((byte) 0x80);
+        while (56 != (this.count & 63)) {
+            this.update((byte) 0);
+        }
+        for (int i = 56; i >= 0; i -= 8) {
+            this.update((byte) (bits >>> i));
+        }
+
+        final int[] state = this.state;
+        final byte[] digest = new byte[LENGTH];
+        for (int i = 0; i < 8; i++) {
+            final int s = state[i];
+            digest[i * 4] = (byte) (s >>> 24);
+            digest[i * 4 + 1] = (byte) (s >>> 16);
+            digest[i * 4 + 2] = (byte) (s >>> 8);
+            digest[i * 4 + 3] = (byte) s;
+        }
+        return digest;
+    }
+
+    /**
+     * Compresses the full block into the state.
+     */
+    private void process() {
+        final byte[] block = this.block;
+        final int[] w = this.w;
+
+        for (int i = 0; i < 16; i++) {
+            final int j = i * 4;
+            w[i] = (block[j] & 0xFF) << 24 |
+                    (block[j + 1] & 0xFF) << 16 |
+                    (block[j + 2] & 0xFF) << 8 |
+                    (block[j + 3] & 0xFF);
+        }
+        for (int i = 16; i < 64; i++) {
+            final int w15 = w[i - 15];
+            final int w2 = w[i - 2];
+            final int s0 = Integer.rotateRight(w15, 7) ^ Integer.rotateRight(w15, 18) ^ (w15 >>> 3);
+            final int s1 = Integer.rotateRight(w2, 17) ^ Integer.rotateRight(w2, 19) ^ (w2 >>> 10);
+            w[i] = w[i - 16] + s0 + w[i - 7] + s1;
+        }
+
+        final int[] state = this.state;
+        int a = state[0];
+        int b = state[1];
+        int c = state[2];
+        int d = state[3];
+        int e = state[4];
+        int f = state[5];
+        int g = state[6];
+        int h = state[7];
+
+        for (int i = 0; i < 64; i++) {
+            final int s1 = Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25);
+            final int ch = (e & f) ^ (~e & g);
+            final int t1 = h + s1 + ch + K[i] + w[i];
+            final int s0 = Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22);
+            final int maj = (a & b) ^ (a & c) ^ (b & c);
+            final int t2 = s0 + maj;
+
+            h = g;
+            g = f;
+            f = e;
+            e = d + t1;
+            d = c;
+            c = b;
+            b = a;
+            a = t1 + t2;
+        }
+
+        state[0] += a;
+        state[1] += b;
+        state[2] += c;
+        state[3] += d;
+        state[4] += e;
+        state[5] += f;
+        state[6] += g;
+        state[7] += h;
+    }
+
+    private final int[] state = {
+            0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+    };
+
+    private final byte[] block = new byte[64];
+
+    private final int[] w = new int[64];
+
+    /**
+     * The number of bytes added so far.
+     */
+    private long count;
+
+    private final static int[] K = {
+            0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+            0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+            0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+            0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+            0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+            0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+            0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+            0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+    };
+
+    @Override
+    public String toString() {
+        return "SHA-256 " + this.count;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import walkingkooka.text.printer.Printer;
+
+/**
+ * Escapes and quotes json strings. Characters that need escaping are looked up in a table, and runs of characters that
+ * do not are copied in bulk, with strings that need no escaping printed without any copying at all.
+ */
+final class JsonStringEscaper {
+
+    private final static String QUOTE = "\"";
+
+    /**
+     * Escape sequences for the first 128 characters, a null entry means the character is printed as is. All characters
+     * above are never escaped.
+     */
+    private final static String[] ESCAPES = escapes();
+
+    private static String[] escapes() {
+        final char[] hex = "0123456789abcdef".toCharArray();
+
+        final String[] escapes = new String[128];
+        for (int c = 0; c < 0x20; c++) {
+            escapes[c] = new String(
+                    new char[]{
+                            '\\', 'u', '0', '0', hex[c >> 4], hex[c & 0xf]
+                    }
+            );
+        }
+
+        escapes['"'] = "\\\"";
+        escapes['\\'] = "\\\\";
+        escapes['\b'] = "\\b";
+        escapes['\f'] = "\\f";
+        escapes['\n'] = "\\n";
+        escapes['\r'] = "\\r";
+        escapes['\t'] = "\\t";
+        return escapes;
+    }
+
+    /**
+     * Prints the quoted and escaped form of the given text.
+     */
+    static void print(final CharSequence text,
+                      final Printer printer) {
+        final int first = firstEscape(text);
+        if (-1 == first) {
+            printer.print(QUOTE);
+            printer.print(text);
+            printer.print(QUOTE);
+        } else {
+            printer.print(escape(text, first));
+        }
+    }
+
+    /**
+     * Returns the quoted and escaped form of the given text.
+     */
+    static String quote(final CharSequence text) {
+        final int first = firstEscape(text);
+        return -1 == first ?
+                QUOTE + text + QUOTE :
+                escape(text, first).toString();
+    }
+
+    /**
+     * Returns the index of the first character that needs escaping or -1 if none do.
+     */
+    private static int firstEscape(final CharSequence text) {
+        final String[] escapes = ESCAPES;
+        final int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < 128 && null != escapes[c]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Escapes the text, beginning at the given index of the first character that needs escaping.
+     */
+    private static StringBuilder escape(final CharSequence text,
+                                        final int first) {
+        final String[] escapes = ESCAPES;
+        final int length = text.length();
+
+        final StringBuilder escaped = new StringBuilder(length + 16);
+        escaped.append('"')
+                .append(text, 0, first);
+
+        int start = first;
+        for (int i = first; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < 128) {
+                final String escape = escapes[c];
+                if (null != escape) {
+                    escaped.append(text, start, i)
+                            .append(escape);
+                    start = i + 1;
+                }
+            }
+        }
+
+        return escaped.append(text, start, length)
+                .append('"');
+    }
+
+    /**
+     * Stop creation
+     */
+    private JsonStringEscaper() {
+        throw new UnsupportedOperationException();
+    }
+}
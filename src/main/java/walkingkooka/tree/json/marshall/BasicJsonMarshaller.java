@@ -48,6 +48,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
@@ -103,6 +104,11 @@ abstract class BasicJsonMarshaller<T> {
                 BasicJsonMarshallerDouble.instance(),
                 BasicJsonMarshallerNumber.instance(),
                 BasicJsonMarshallerString.instance(),
+                BasicJsonMarshallerTypedArrayBoolean.instance(),
+                BasicJsonMarshallerTypedArrayByte.instance(),
+                BasicJsonMarshallerTypedArrayDouble.instance(),
+                BasicJsonMarshallerTypedArrayInt.instance(),
+                BasicJsonMarshallerTypedArrayLong.instance(),
                 BasicJsonMarshallerTypedBigDecimal.instance(),
                 BasicJsonMarshallerTypedBigInteger.instance(),
                 BasicJsonMarshallerTypedCharacter.instance(),
@@ -175,6 +181,35 @@ abstract class BasicJsonMarshaller<T> {
                 .registerGeneric();
     }
 
+    /**
+     * Returns the {@link BasicJsonMarshaller} for the given type name or null if none is registered. Hits are also
+     * memoised in a hash map, so the type name of every typed json value is resolved straight to its marshaller,
+     * without walking the sorted map.
+     */
+    static BasicJsonMarshaller<?> marshallerOrNull(final String typeName) {
+        final BasicJsonMarshaller<?> marshaller = TYPENAME_TO_MARSHALLER_CACHE.get(typeName);
+        return null != marshaller ?
+                marshaller :
+                marshallerOrNullAndCache(typeName);
+    }
+
+    /**
+     * Reads the registrations and fills the cache holding the same lock as {@link BasicJsonMarshallerTypedGeneric#remove()},
+     * so a lookup can never write back a marshaller that was removed after it missed the cache.
+     */
+    private static synchronized BasicJsonMarshaller<?> marshallerOrNullAndCache(final String typeName) {
+        final BasicJsonMarshaller<?> marshaller = TYPENAME_TO_MARSHALLER.get(typeName);
+        if (null != marshaller) {
+            TYPENAME_TO_MARSHALLER_CACHE.put(typeName, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Only holds registered marshallers, and is cleared whenever a registration is removed.
+     */
+    final static Map<String, BasicJsonMarshaller<?>> TYPENAME_TO_MARSHALLER_CACHE = new ConcurrentHashMap<>();
+
     /**
      * Returns the {@link Class} for the given type name.
      */
@@ -221,6 +256,14 @@ abstract class BasicJsonMarshaller<T> {
 
     abstract String typeName();
 
+    /**
+     * Values of immutable types may be cached and shared, such as by {@link JsonNodeUnmarshallCache}, and their
+     * marshalled {@link JsonNode} memoised.
+     */
+    boolean isImmutable() {
+        return false;
+    }
+
     final void registerTypeNameAndType() {
         registerWithTypeName(this.typeName());
         registerWithTypeName(
@@ -272,7 +315,59 @@ abstract class BasicJsonMarshaller<T> {
                             final JsonNodeMarshallContext context) {
         return null == value ?
                 JsonNode.nullNode() :
-                this.marshallNonNull(value, context);
+                this.isMemoised() ?
+                        this.marshallMemoised(value, context) :
+                        this.marshallNonNull(value, context);
+    }
+
+    /**
+     * Immutable values have their marshalled {@link JsonNode} memoised, unless holding them would keep something
+     * such as a {@link ClassLoader} alive.
+     */
+    boolean isMemoised() {
+        return this.isImmutable();
+    }
+
+    /**
+     * Returns the memoised {@link JsonNode} for the value if one exists, otherwise marshalls and tries to memoise it.
+     * Only leaf nodes are memoised, because an object may include others that are not immutable, and a
+     * {@link JsonNodeMarshallContext} may post process objects.
+     */
+    private JsonNode marshallMemoised(final T value,
+                                      final JsonNodeMarshallContext context) {
+        JsonNode json = this.valueToJson.get(value);
+        if (null == json) {
+            json = this.marshallNonNull(value, context);
+            if (!(json.isObject() || json.isArray())) {
+                this.valueToJson.put(value, json);
+            }
+        }
+        return json;
+    }
+
+    /**
+     * The maximum number of values memoised by each marshaller, the least recently used is evicted when full.
+     */
+    final static int MEMO_MAX_SIZE = 1024;
+
+    /**
+     * Memoised {@link JsonNode} for previously marshalled values, only used when {@link #isMemoised()}.
+     */
+    final BasicJsonMarshallerMemo<JsonNode> valueToJson = BasicJsonMarshallerMemo.with(MEMO_MAX_SIZE);
+
+    /**
+     * Clears the memos of all registered marshallers.
+     */
+    static synchronized void clearMemos() {
+        TYPENAME_TO_MARSHALLER.values()
+                .forEach(BasicJsonMarshaller::clearMemo);
+    }
+
+    /**
+     * Clears any memoised json held by this marshaller.
+     */
+    void clearMemo() {
+        this.valueToJson.clear();
     }
 
     abstract JsonNode marshallNonNull(final T value,
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded least recently used memo of values to their marshalled form, used by {@link BasicJsonMarshaller} for
+ * immutable values. All access is synchronized, so the cap holds even when many threads marshall at once.
+ */
+final class BasicJsonMarshallerMemo<V> {
+
+    static <V> BasicJsonMarshallerMemo<V> with(final int maxSize) {
+        return new BasicJsonMarshallerMemo<>(maxSize);
+    }
+
+    private BasicJsonMarshallerMemo(final int maxSize) {
+        super();
+        this.maxSize = maxSize;
+        this.valueToMemo = new LinkedHashMap<Object, V>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, V> eldest) {
+                return this.size() > BasicJsonMarshallerMemo.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the memo for the given value or null.
+     */
+    synchronized V get(final Object value) {
+        return this.valueToMemo.get(value);
+    }
+
+    /**
+     * Adds or replaces the memo for the given value, evicting the least recently used if full.
+     */
+    synchronized void put(final Object value,
+                          final V memo) {
+        this.valueToMemo.put(value, memo);
+    }
+
+    synchronized void clear() {
+        this.valueToMemo.clear();
+    }
+
+    synchronized int size() {
+        return this.valueToMemo.size();
+    }
+
+    private final int maxSize;
+
+    /**
+     * Memos in least to most recently used order.
+     */
+    private final LinkedHashMap<Object, V> valueToMemo;
+
+    @Override
+    public synchronized String toString() {
+        return this.valueToMemo.toString();
+    }
+}
@@ -53,10 +53,47 @@ abstract class BasicJsonMarshallerTyped<T> extends BasicJsonMarshaller<T> {
                 .forEach(this::registerWithTypeName);
     }
 
+    /**
+     * Immutable values reuse the previous type and value {@link JsonObject} when the {@link JsonNodeMarshallContext}
+     * returns the same memoised {@link JsonNode} for the value.
+     */
     @Override final JsonNode marshallWithTypeNonNull(final T value,
                                                      final JsonNodeMarshallContext context) {
+        final JsonNode json = context.marshall(value);
+
+        final JsonObject withType;
+        if (this.isMemoised()) {
+            final BasicJsonMarshallerTypedWithTypeMemo memo = this.valueToWithType.get(value);
+            if (null != memo && memo.json == json) {
+                withType = memo.withType;
+            } else {
+                withType = this.objectWithType(json);
+                this.valueToWithType.put(
+                        value,
+                        BasicJsonMarshallerTypedWithTypeMemo.with(json, withType)
+                );
+            }
+        } else {
+            withType = this.objectWithType(json);
+        }
+
+        return withType;
+    }
+
+    private JsonObject objectWithType(final JsonNode json) {
         return this.objectWithType()
-                .set(BasicJsonNodeContext.VALUE, context.marshall(value));
+                .set(BasicJsonNodeContext.VALUE, json);
+    }
+
+    /**
+     * Memoised type and value objects for previously marshalled values, only used when {@link #isMemoised()}.
+     */
+    final BasicJsonMarshallerMemo<BasicJsonMarshallerTypedWithTypeMemo> valueToWithType = BasicJsonMarshallerMemo.with(MEMO_MAX_SIZE);
+
+    @Override
+    void clearMemo() {
+        super.clearMemo();
+        this.valueToWithType.clear();
     }
 
     /**
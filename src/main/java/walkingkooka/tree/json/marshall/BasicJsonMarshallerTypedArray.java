@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.NumericLossJsonNodeException;
+
+/**
+ * Base for a {@link BasicJsonMarshaller} that handles a primitive array. Each sub class loops over its own primitive
+ * type, so elements are never boxed or held in a {@link java.util.List} of wrappers, and unmarshalling creates the
+ * array with its final length before filling it.
+ */
+abstract class BasicJsonMarshallerTypedArray<T> extends BasicJsonMarshallerTyped<T> {
+
+    BasicJsonMarshallerTypedArray() {
+        super();
+    }
+
+    @Override
+    final void register() {
+        this.registerTypeNameAndType();
+    }
+
+    @Override
+    final String typeName() {
+        return JsonNodeContext.computeTypeName(this.type());
+    }
+
+    @Override
+    final T unmarshallNull(final JsonNodeUnmarshallContext context) {
+        return null;
+    }
+
+    /**
+     * Returns the number held by the element, failing if the number has a fraction or is outside the given range.
+     */
+    static double wholeNumber(final JsonNode element,
+                              final double min,
+                              final double max) {
+        return wholeNumber(
+                element.numberOrFail().doubleValue(),
+                min,
+                max
+        );
+    }
+
+    /**
+     * Returns the given value, failing if it has a fraction or is outside the given range.
+     */
+    static double wholeNumber(final double value,
+                              final double min,
+                              final double max) {
+        if (value != Math.rint(value) || value < min || value > max) {
+            throw new NumericLossJsonNodeException("Invalid element " + value);
+        }
+        return value;
+    }
+}
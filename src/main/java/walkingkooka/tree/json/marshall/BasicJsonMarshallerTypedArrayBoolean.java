@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link BasicJsonMarshaller} that handles a <code>boolean[]</code> as a json array of booleans.
+ */
+final class BasicJsonMarshallerTypedArrayBoolean extends BasicJsonMarshallerTypedArray<boolean[]> {
+
+    static BasicJsonMarshallerTypedArrayBoolean instance() {
+        return new BasicJsonMarshallerTypedArrayBoolean();
+    }
+
+    private BasicJsonMarshallerTypedArrayBoolean() {
+        super();
+    }
+
+    @Override
+    Class<boolean[]> type() {
+        return boolean[].class;
+    }
+
+    @Override
+    boolean[] unmarshallNonNull(final JsonNode node,
+                                final JsonNodeUnmarshallContext context) {
+        final List<JsonNode> elements = node.arrayOrFail().children();
+        final int length = elements.size();
+
+        final boolean[] array = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = elements.get(i).booleanOrFail();
+        }
+        return array;
+    }
+
+    @Override
+    JsonNode marshallNonNull(final boolean[] value,
+                             final JsonNodeMarshallContext context) {
+        final List<JsonNode> elements = new ArrayList<>(value.length);
+        for (final boolean element : value) {
+            elements.add(JsonNode.booleanNode(element));
+        }
+        return JsonNode.array()
+                .setChildren(elements);
+    }
+}
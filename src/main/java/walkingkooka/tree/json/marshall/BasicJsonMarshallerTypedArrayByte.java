@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A {@link BasicJsonMarshaller} that handles a <code>byte[]</code> as a base64 json string, using the standard
+ * alphabet with padding. The encoding is done here rather than with java.util.Base64, which is not available when
+ * transpiling to javascript.
+ */
+final class BasicJsonMarshallerTypedArrayByte extends BasicJsonMarshallerTypedArray<byte[]> {
+
+    static BasicJsonMarshallerTypedArrayByte instance() {
+        return new BasicJsonMarshallerTypedArrayByte();
+    }
+
+    private BasicJsonMarshallerTypedArrayByte() {
+        super();
+    }
+
+    @Override
+    Class<byte[]> type() {
+        return byte[].class;
+    }
+
+    @Override
+    byte[] unmarshallNonNull(final JsonNode node,
+                             final JsonNodeUnmarshallContext context) {
+        return decode(node.stringOrFail());
+    }
+
+    @Override
+    JsonNode marshallNonNull(final byte[] value,
+                             final JsonNodeMarshallContext context) {
+        return JsonNode.string(encode(value));
+    }
+
+    // base64...........................................................................................................
+
+    static String encode(final byte[] bytes) {
+        final int length = bytes.length;
+        final char[] chars = new char[(length + 2) / 3 * 4];
+
+        int i = 0;
+        int j = 0;
+        while (i + 3 <= length) {
+            final int bits = (bytes[i++] & 0xff) << 16 | (bytes[i++] & 0xff) << 8 | (bytes[i++] & 0xff);
+            chars[j++] = ALPHABET[bits >> 18];
+            chars[j++] = ALPHABET[(bits >> 12) & 0x3f];
+            chars[j++] = ALPHABET[(bits >> 6) & 0x3f];
+            chars[j++] = ALPHABET[bits & 0x3f];
+        }
+
+        final int remaining = length - i;
+        if (remaining > 0) {
+            final int bits = (bytes[i] & 0xff) << 16 | (2 == remaining ? (bytes[i + 1] & 0xff) << 8 : 0);
+            chars[j++] = ALPHABET[bits >> 18];
+            chars[j++] = ALPHABET[(bits >> 12) & 0x3f];
+            chars[j++] = 2 == remaining ? ALPHABET[(bits >> 6) & 0x3f] : PADDING;
+            chars[j] = PADDING;
+        }
+
+        return new String(chars);
+    }
+
+    static byte[] decode(final String text) {
+        final int length = text.length();
+        if (0 != length % 4) {
+            throw new java.lang.IllegalArgumentException("Invalid base64 length " + length + " not a multiple of 4");
+        }
+
+        final int padding = length > 0 && PADDING == text.charAt(length - 1) ?
+                length > 1 && PADDING == text.charAt(length - 2) ? 2 : 1 :
+                0;
+        final byte[] bytes = new byte[length / 4 * 3 - padding];
+
+        int j = 0;
+        for (int i = 0; i < length; i += 4) {
+            final int bits = digit(text, i) << 18 |
+                    digit(text, i + 1) << 12 |
+                    digit(text, i + 2) << 6 |
+                    digit(text, i + 3);
+
+            bytes[j++] = (byte) (bits >> 16);
+            if (j < bytes.length) {
+                bytes[j++] = (byte) (bits >> 8);
+            }
+            if (j < bytes.length) {
+                bytes[j++] = (byte) bits;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns the six bits for the character at the given index, with trailing padding treated as zero.
+     */
+    private static int digit(final String text,
+                             final int index) {
+        final char c = text.charAt(index);
+
+        final int digit;
+        if (c >= 'A' && c <= 'Z') {
+            digit = c - 'A';
+        } else if (c >= 'a' && c <= 'z') {
+            digit = c - 'a' + 26;
+        } else if (c >= '0' && c <= '9') {
+            digit = c - '0' + 52;
+        } else if ('+' == c) {
+            digit = 62;
+        } else if ('/' == c) {
+            digit = 63;
+        } else if (PADDING == c && index >= text.length() - 2 && (index == text.length() - 1 || PADDING == text.charAt(index + 1))) {
+            digit = 0;
+        } else {
+            throw new java.lang.IllegalArgumentException("Invalid base64 character " + CharSequences.quoteIfChars(c) + " at " + index);
+        }
+        return digit;
+    }
+
+    private final static char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    private final static char PADDING = '=';
+}
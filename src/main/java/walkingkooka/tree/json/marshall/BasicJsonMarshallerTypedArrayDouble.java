@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.List;
+
+/**
+ * A {@link BasicJsonMarshaller} that handles a <code>double[]</code> as a json array of numbers.
+ */
+final class BasicJsonMarshallerTypedArrayDouble extends BasicJsonMarshallerTypedArray<double[]> {
+
+    static BasicJsonMarshallerTypedArrayDouble instance() {
+        return new BasicJsonMarshallerTypedArrayDouble();
+    }
+
+    private BasicJsonMarshallerTypedArrayDouble() {
+        super();
+    }
+
+    @Override
+    Class<double[]> type() {
+        return double[].class;
+    }
+
+    @Override
+    double[] unmarshallNonNull(final JsonNode node,
+                               final JsonNodeUnmarshallContext context) {
+        final JsonArray jsonArray = node.arrayOrFail();
+
+        double[] array = jsonArray.numbersOrNull();
+        if (null == array) {
+            final List<JsonNode> elements = jsonArray.children();
+            final int length = elements.size();
+            array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = elements.get(i).numberOrFail().doubleValue();
+            }
+        }
+
+        return array;
+    }
+
+    @Override
+    JsonNode marshallNonNull(final double[] value,
+                             final JsonNodeMarshallContext context) {
+        return JsonNode.numbers(value);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.List;
+
+/**
+ * A {@link BasicJsonMarshaller} that handles a <code>int[]</code> as a json array of numbers.
+ */
+final class BasicJsonMarshallerTypedArrayInt extends BasicJsonMarshallerTypedArray<int[]> {
+
+    static BasicJsonMarshallerTypedArrayInt instance() {
+        return new BasicJsonMarshallerTypedArrayInt();
+    }
+
+    private BasicJsonMarshallerTypedArrayInt() {
+        super();
+    }
+
+    @Override
+    Class<int[]> type() {
+        return int[].class;
+    }
+
+    @Override
+    int[] unmarshallNonNull(final JsonNode node,
+                            final JsonNodeUnmarshallContext context) {
+        final JsonArray jsonArray = node.arrayOrFail();
+
+        final int[] array;
+
+        final double[] numbers = jsonArray.numbersOrNull();
+        if (null != numbers) {
+            final int length = numbers.length;
+            array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (int) wholeNumber(numbers[i], Integer.MIN_VALUE, Integer.MAX_VALUE);
+            }
+        } else {
+            final List<JsonNode> elements = jsonArray.children();
+            final int length = elements.size();
+            array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (int) wholeNumber(elements.get(i), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            }
+        }
+
+        return array;
+    }
+
+    @Override
+    JsonNode marshallNonNull(final int[] value,
+                             final JsonNodeMarshallContext context) {
+        final int length = value.length;
+        final double[] numbers = new double[length];
+        for (int i = 0; i < length; i++) {
+            numbers[i] = value[i];
+        }
+        return JsonNode.numbers(numbers);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.NumericLossJsonNodeException;
+
+import java.util.List;
+
+/**
+ * A {@link BasicJsonMarshaller} that handles a <code>long[]</code> as a json array of numbers, with values too large
+ * to be held exactly by a double written as strings.
+ */
+final class BasicJsonMarshallerTypedArrayLong extends BasicJsonMarshallerTypedArray<long[]> {
+
+    static BasicJsonMarshallerTypedArrayLong instance() {
+        return new BasicJsonMarshallerTypedArrayLong();
+    }
+
+    private BasicJsonMarshallerTypedArrayLong() {
+        super();
+    }
+
+    @Override
+    Class<long[]> type() {
+        return long[].class;
+    }
+
+    @Override
+    long[] unmarshallNonNull(final JsonNode node,
+                             final JsonNodeUnmarshallContext context) {
+        final JsonArray jsonArray = node.arrayOrFail();
+
+        final long[] array;
+
+        final double[] numbers = jsonArray.numbersOrNull();
+        if (null != numbers) {
+            final int length = numbers.length;
+            array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (long) wholeNumber(numbers[i], -MAX_EXACT, MAX_EXACT);
+            }
+        } else {
+            final List<JsonNode> elements = jsonArray.children();
+            final int length = elements.size();
+            array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = unmarshallElement(elements.get(i));
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Elements that were too large to be a number hold the value as a string. Number elements beyond +/- 2^53 are
+     * rejected because they may have been rounded and no longer hold the original long.
+     */
+    private static long unmarshallElement(final JsonNode element) {
+        final long value;
+
+        if (element.isString()) {
+            try {
+                value = Long.parseLong(element.stringOrFail());
+            } catch (final NumberFormatException cause) {
+                throw new NumericLossJsonNodeException("Invalid element " + element, cause);
+            }
+        } else {
+            value = (long) wholeNumber(element, -MAX_EXACT, MAX_EXACT);
+        }
+
+        return value;
+    }
+
+    /**
+     * Values are written as numbers, unless one is outside +/- 2^53 and would lose precision as a double. In that
+     * case the array is written with those values as strings.
+     */
+    @Override
+    JsonNode marshallNonNull(final long[] value,
+                             final JsonNodeMarshallContext context) {
+        final int length = value.length;
+        final double[] numbers = new double[length];
+        for (int i = 0; i < length; i++) {
+            final long element = value[i];
+            if (isNotExact(element)) {
+                return marshallWithStrings(value);
+            }
+            numbers[i] = element;
+        }
+        return JsonNode.numbers(numbers);
+    }
+
+    private static JsonNode marshallWithStrings(final long[] value) {
+        final List<JsonNode> elements = Lists.array();
+        for (final long element : value) {
+            elements.add(
+                    isNotExact(element) ?
+                            JsonNode.string(String.valueOf(element)) :
+                            JsonNode.number(element)
+            );
+        }
+        return JsonNode.array()
+                .setChildren(elements);
+    }
+
+    private static boolean isNotExact(final long value) {
+        return value > MAX_EXACT || value < -MAX_EXACT;
+    }
+
+    /**
+     * Longs within +/- this magnitude are held exactly by a double.
+     */
+    private final static long MAX_EXACT = 1L << 53;
+}
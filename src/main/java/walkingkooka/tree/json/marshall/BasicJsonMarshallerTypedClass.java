@@ -53,6 +53,19 @@ final class BasicJsonMarshallerTypedClass extends BasicJsonMarshallerTyped<Class
         return JsonNodeContext.computeTypeName(Class.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
+    /**
+     * Memoising would strongly hold {@link Class classes} and therefore their {@link ClassLoader}.
+     */
+    @Override
+    boolean isMemoised() {
+        return false;
+    }
+
     @Override
     Class<?> unmarshallNonNull(final JsonNode node,
                                final JsonNodeUnmarshallContext context) {
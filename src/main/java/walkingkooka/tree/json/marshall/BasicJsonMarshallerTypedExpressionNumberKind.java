@@ -48,6 +48,11 @@ final class BasicJsonMarshallerTypedExpressionNumberKind extends BasicJsonMarsha
         return JsonNodeContext.computeTypeName(ExpressionNumberKind.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
     @Override
     ExpressionNumberKind unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
@@ -80,15 +80,20 @@ final class BasicJsonMarshallerTypedGeneric<T> extends BasicJsonMarshallerTyped<
     }
 
     /**
-     * Eventually called by {@link BasicJsonMarshallerTypedGenericRunnable#run()}
+     * Eventually called by {@link BasicJsonMarshallerTypedGenericRunnable#run()}. The registrations are removed and
+     * the cache cleared holding the same lock that fills the cache.
      */
     void remove() {
-        TYPENAME_TO_MARSHALLER.remove(this.typeName());
-        TYPENAME_TO_MARSHALLER.remove(this.type().getName());
+        synchronized (BasicJsonMarshaller.class) {
+            TYPENAME_TO_MARSHALLER.remove(this.typeName());
+            TYPENAME_TO_MARSHALLER.remove(this.type().getName());
 
-        this.types.stream()
-                .map(Class::getName)
-                .forEach(TYPENAME_TO_MARSHALLER::remove);
+            this.types.stream()
+                    .map(Class::getName)
+                    .forEach(TYPENAME_TO_MARSHALLER::remove);
+
+            TYPENAME_TO_MARSHALLER_CACHE.clear();
+        }
     }
 
     private final List<Class<?>> types;
@@ -107,6 +112,14 @@ final class BasicJsonMarshallerTypedGeneric<T> extends BasicJsonMarshallerTyped<
 
     private final String typeName;
 
+    /**
+     * Registered {@link Enum enums} are immutable singletons.
+     */
+    @Override
+    boolean isImmutable() {
+        return this.type.isEnum();
+    }
+
     @Override
     T unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
@@ -46,6 +46,11 @@ final class BasicJsonMarshallerTypedLocalDate extends BasicJsonMarshallerTyped<L
         return JsonNodeContext.computeTypeName(LocalDate.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
     @Override
     LocalDate unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
@@ -46,6 +46,11 @@ final class BasicJsonMarshallerTypedLocalDateTime extends BasicJsonMarshallerTyp
         return JsonNodeContext.computeTypeName(LocalDateTime.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
     @Override
     LocalDateTime unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
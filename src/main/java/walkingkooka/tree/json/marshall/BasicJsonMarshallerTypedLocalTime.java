@@ -46,6 +46,11 @@ final class BasicJsonMarshallerTypedLocalTime extends BasicJsonMarshallerTyped<L
         return JsonNodeContext.computeTypeName(LocalTime.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
     @Override
     LocalTime unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
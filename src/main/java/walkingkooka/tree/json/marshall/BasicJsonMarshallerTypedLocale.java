@@ -49,6 +49,11 @@ final class BasicJsonMarshallerTypedLocale extends BasicJsonMarshallerTyped<Loca
         return JsonNodeContext.computeTypeName(Locale.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
     @Override
     Locale unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
@@ -52,6 +52,11 @@ final class BasicJsonMarshallerTypedMathContext extends BasicJsonMarshallerTyped
         return JsonNodeContext.computeTypeName(MathContext.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
     @Override
     MathContext unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
@@ -88,6 +88,11 @@ final class BasicJsonMarshallerTypedNodeSelector extends BasicJsonMarshallerType
         return JsonNodeContext.computeTypeName(NodeSelector.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
     @Override
     NodeSelector<?, ?, ?, ?> unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
@@ -49,6 +49,11 @@ final class BasicJsonMarshallerTypedRoundingMode extends BasicJsonMarshallerType
         return JsonNodeContext.computeTypeName(RoundingMode.class);
     }
 
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
     @Override
     RoundingMode unmarshallNull(final JsonNodeUnmarshallContext context) {
         return null;
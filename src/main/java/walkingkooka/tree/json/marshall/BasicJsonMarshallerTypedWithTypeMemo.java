@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+
+/**
+ * A memoised type and value {@link JsonObject}, along with the value {@link JsonNode} it was built from, which must
+ * be the same instance for the memo to be reused.
+ */
+final class BasicJsonMarshallerTypedWithTypeMemo {
+
+    static BasicJsonMarshallerTypedWithTypeMemo with(final JsonNode json,
+                                                    final JsonObject withType) {
+        return new BasicJsonMarshallerTypedWithTypeMemo(json, withType);
+    }
+
+    private BasicJsonMarshallerTypedWithTypeMemo(final JsonNode json,
+                                                final JsonObject withType) {
+        super();
+        this.json = json;
+        this.withType = withType;
+    }
+
+    final JsonNode json;
+
+    final JsonObject withType;
+
+    @Override
+    public String toString() {
+        return this.withType.toString();
+    }
+}
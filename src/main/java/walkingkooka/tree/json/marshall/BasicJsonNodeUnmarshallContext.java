@@ -32,6 +32,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -51,7 +52,8 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
         return new BasicJsonNodeUnmarshallContext(
                 kind,
                 mathContext,
-                JsonNodeUnmarshallContext.OBJECT_PRE_PROCESSOR
+                JsonNodeUnmarshallContext.OBJECT_PRE_PROCESSOR,
+                JsonNodeUnmarshallContext.NO_CACHE
         );
     }
 
@@ -60,11 +62,13 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
      */
     private BasicJsonNodeUnmarshallContext(final ExpressionNumberKind kind,
                                            final MathContext mathContext,
-                                           final BiFunction<JsonNode, Class<?>, JsonNode> processor) {
+                                           final BiFunction<JsonNode, Class<?>, JsonNode> processor,
+                                           final Optional<JsonNodeUnmarshallCache> cache) {
         super();
         this.kind = kind;
         this.mathContext = mathContext;
         this.processor = processor;
+        this.cache = cache;
     }
 
     @Override
@@ -90,10 +94,32 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
                 new BasicJsonNodeUnmarshallContext(
                         this.kind,
                         this.mathContext,
-                        processor
+                        processor,
+                        this.cache
                 );
     }
 
+    @Override
+    public Optional<JsonNodeUnmarshallCache> cache() {
+        return this.cache;
+    }
+
+    @Override
+    public JsonNodeUnmarshallContext setCache(final Optional<JsonNodeUnmarshallCache> cache) {
+        Objects.requireNonNull(cache, "cache");
+
+        return this.cache.equals(cache) ?
+                this :
+                new BasicJsonNodeUnmarshallContext(
+                        this.kind,
+                        this.mathContext,
+                        this.processor,
+                        cache
+                );
+    }
+
+    private final Optional<JsonNodeUnmarshallCache> cache;
+
     // from.............................................................................................................
 
     /**
@@ -102,7 +128,7 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
     @Override
     public <T> T unmarshall(final JsonNode node,
                             final Class<T> type) {
-        return Cast.to(BasicJsonMarshaller.marshaller(type).unmarshall(this.preProcess(node, type), this));
+        return Cast.to(this.unmarshall0(BasicJsonMarshaller.marshaller(type), node, type));
     }
 
     @Override
@@ -158,7 +184,7 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
         final BasicJsonMarshaller<T> marshaller = BasicJsonMarshaller.marshaller(elementType);
         return from.children()
                 .stream()
-                .map(c -> marshaller.unmarshall(this.preProcess(c, elementType), this))
+                .map(c -> this.unmarshall0(marshaller, c, elementType))
                 .collect(collector);
     }
 
@@ -185,13 +211,15 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
 
         for (final JsonNode entry : node.children()) {
             map.put(
-                    keyMapper.unmarshall(
-                            this.preProcess(entry.name().toJsonString(), keyType),
-                            this
+                    this.unmarshall0(
+                            keyMapper,
+                            entry.name().toJsonString(),
+                            keyType
                     ),
-                    valueMapper.unmarshall(
-                            this.preProcess(entry, valueType),
-                            this
+                    this.unmarshall0(
+                            valueMapper,
+                            entry,
+                            valueType
                     )
             );
         }
@@ -212,13 +240,15 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
             final JsonObject entryObject = entry.objectOrFail();
 
             map.put(
-                    keyMapper.unmarshall(
-                            this.preProcess(entryObject.getOrFail(BasicJsonMarshallerTypedMap.ENTRY_KEY), keyType),
-                            this
+                    this.unmarshall0(
+                            keyMapper,
+                            entryObject.getOrFail(BasicJsonMarshallerTypedMap.ENTRY_KEY),
+                            keyType
                     ),
-                    valueMapper.unmarshall(
-                            this.preProcess(entryObject.getOrFail(BasicJsonMarshallerTypedMap.ENTRY_VALUE), valueType),
-                            this
+                    this.unmarshall0(
+                            valueMapper,
+                            entryObject.getOrFail(BasicJsonMarshallerTypedMap.ENTRY_VALUE),
+                            valueType
                     )
             );
         }
@@ -232,7 +262,40 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
      */
     @Override
     public <T> T unmarshallWithType(final JsonNode node) {
-        return BasicJsonNodeUnmarshallContextJsonNodeVisitor.value(node, this);
+        Objects.requireNonNull(node, "node");
+
+        return node.isObject() ?
+                Cast.to(this.unmarshallWithTypeObject(node.objectOrFail())) :
+                BasicJsonNodeUnmarshallContextJsonNodeVisitor.value(node, this);
+    }
+
+    /**
+     * Handles the common typed object, resolving the type name straight to its {@link BasicJsonMarshaller}, rather
+     * than to a {@link Class} and then again to the {@link BasicJsonMarshaller}.
+     */
+    private Object unmarshallWithTypeObject(final JsonObject object) {
+        try {
+            final JsonNode type = object.getOrFail(BasicJsonNodeContext.TYPE);
+            if (!type.isString()) {
+                throw new JsonNodeUnmarshallException("Invalid type", object);
+            }
+
+            final String typeName = type.stringOrFail();
+            final BasicJsonMarshaller<?> marshaller = BasicJsonMarshaller.marshallerOrNull(typeName);
+            if (null == marshaller) {
+                throw new JsonNodeUnmarshallException("Unknown type: " + typeName, object);
+            }
+
+            return this.unmarshall0(
+                    marshaller,
+                    object.getOrFail(BasicJsonNodeContext.VALUE),
+                    marshaller.type()
+            );
+        } catch (final java.lang.NullPointerException | JsonNodeUnmarshallException cause) {
+            throw cause;
+        } catch (final RuntimeException cause) {
+            throw new JsonNodeUnmarshallException("Failed to unmarshall json object", object, cause);
+        }
     }
 
     /**
@@ -307,6 +370,21 @@ final class BasicJsonNodeUnmarshallContext extends BasicJsonNodeContext implemen
                 .collect(collector);
     }
 
+    /**
+     * Pre processes the {@link JsonNode} and then unmarshalls it, first trying the {@link JsonNodeUnmarshallCache} if
+     * one is present.
+     */
+    private <T> T unmarshall0(final BasicJsonMarshaller<T> marshaller,
+                              final JsonNode node,
+                              final Class<?> type) {
+        final JsonNode processed = this.preProcess(node, type);
+        final Optional<JsonNodeUnmarshallCache> cache = this.cache;
+
+        return cache.isPresent() ?
+                cache.get().unmarshall(marshaller, processed, type, this) :
+                marshaller.unmarshall(processed, this);
+    }
+
     /**
      * Pre process each {@link JsonNode} when requested to unmarshall.
      */
@@ -23,6 +23,7 @@ import walkingkooka.tree.json.JsonNode;
 import java.math.MathContext;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -47,6 +48,16 @@ public class FakeJsonNodeUnmarshallContext extends FakeJsonNodeContext implement
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Optional<JsonNodeUnmarshallCache> cache() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public JsonNodeUnmarshallContext setCache(final Optional<JsonNodeUnmarshallCache> cache) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public <T> T unmarshall(final JsonNode node,
                             final Class<T> type) {
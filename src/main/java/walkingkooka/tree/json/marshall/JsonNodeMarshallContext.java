@@ -36,6 +36,13 @@ public interface JsonNodeMarshallContext extends JsonNodeContext {
      */
     BiFunction<Object, JsonObject, JsonObject> OBJECT_PRE_PROCESSOR = (value, jsonObject) -> jsonObject;
 
+    /**
+     * Clears the json memoised for immutable values such as {@link java.util.Locale} by all registered marshallers.
+     */
+    static void clearMemos() {
+        BasicJsonMarshaller.clearMemos();
+    }
+
     /**
      * Sets or replaces the {@link BiFunction object post processor} creating a new instance as necessary.
      */
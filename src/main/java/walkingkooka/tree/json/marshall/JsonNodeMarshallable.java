@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a value class whose marshaller is generated at compile time by
+ * <code>walkingkooka.tree.json.marshall.processor.JsonNodeMarshallableProcessor</code>, without any runtime reflection.
+ * The processor is shipped separately as <code>walkingkooka-tree-json-processor</code>, and should be added to the
+ * annotation processor path of the compile, so it is never part of any runtime classpath.
+ * The properties are the parameters of the single static <code>with</code> factory, or if absent the single non
+ * private constructor, each of which must have a getter with the same name, or the same name prefixed with
+ * <code>get</code> or <code>is</code>.
+ * <br>
+ * For a class <code>Example</code> the generated class is <code>ExampleJsonNodeMarshaller</code> in the same package,
+ * and should be registered by the class itself, so it is always registered before any json is unmarshalled. J2CL has
+ * neither <code>ServiceLoader</code> nor <code>Class.forName</code>, so nothing else could discover and register it.
+ * <pre>
+ * &#64;JsonNodeMarshallable
+ * public final class Example {
+ *
+ *     static {
+ *         ExampleJsonNodeMarshaller.register();
+ *     }
+ *
+ *     public static Example with(final String name, final int count) {
+ * ...
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonNodeMarshallable {
+
+    /**
+     * The type name, if empty the name computed by {@link JsonNodeContext#computeTypeName(Class)} is used.
+     */
+    String typeName() default "";
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of unmarshalled values, keyed by the {@link JsonNode}, requested {@link Class} and the
+ * {@link walkingkooka.tree.expression.ExpressionNumberKind} and {@link java.math.MathContext} of the context, that may be
+ * added to a {@link JsonNodeUnmarshallContext} with {@link JsonNodeUnmarshallContext#setCache(java.util.Optional)}.
+ * Only values of types whose marshaller is immutable, such as {@link java.util.Locale} or
+ * {@link java.math.MathContext}, are cached, so repeated values skip parsing and are shared. The least recently used
+ * entry is evicted when the cache is full. Nodes are matched by {@link JsonNode#structuralHash()}, which is memoised,
+ * and {@link JsonNode#equalsStructure(JsonNode)}, ignoring the property name and parent of the node. Cached nodes are
+ * held without their parent, so the cache never keeps a source document alive.
+ * <br>
+ * A single cache may be shared by many contexts and threads, all access is synchronized.
+ */
+public final class JsonNodeUnmarshallCache {
+
+    /**
+     * Creates a new empty {@link JsonNodeUnmarshallCache} holding up to the given number of values.
+     */
+    public static JsonNodeUnmarshallCache with(final int maxSize) {
+        if (maxSize < 1) {
+            throw new java.lang.IllegalArgumentException("Invalid maxSize " + maxSize + " < 1");
+        }
+        return new JsonNodeUnmarshallCache(maxSize);
+    }
+
+    private JsonNodeUnmarshallCache(final int maxSize) {
+        super();
+        this.maxSize = maxSize;
+        this.keyToValue = new LinkedHashMap<JsonNodeUnmarshallCacheKey, Object>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<JsonNodeUnmarshallCacheKey, Object> eldest) {
+                final boolean remove = this.size() > JsonNodeUnmarshallCache.this.maxSize;
+                if (remove) {
+                    JsonNodeUnmarshallCache.this.evictions++;
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the node, or unmarshalls and caches it when the type is immutable.
+     */
+    <T> T unmarshall(final BasicJsonMarshaller<T> marshaller,
+                     final JsonNode node,
+                     final Class<?> type,
+                     final JsonNodeUnmarshallContext context) {
+        final T value;
+
+        if (node.isNull() || !marshaller.isImmutable()) {
+            value = marshaller.unmarshall(node, context);
+        } else {
+            final JsonNodeUnmarshallCacheKey key = JsonNodeUnmarshallCacheKey.with(node, type, context);
+
+            @SuppressWarnings("unchecked") final T cached = (T) this.get(key);
+            if (null != cached) {
+                value = cached;
+            } else {
+                // unmarshall outside the lock, a racing thread may also unmarshall the same node
+                value = marshaller.unmarshall(node, context);
+                this.put(key.detach(), value);
+            }
+        }
+
+        return value;
+    }
+
+    private synchronized Object get(final JsonNodeUnmarshallCacheKey key) {
+        final Object value = this.keyToValue.get(key);
+        if (null != value) {
+            this.hits++;
+        } else {
+            this.misses++;
+        }
+        return value;
+    }
+
+    private synchronized void put(final JsonNodeUnmarshallCacheKey key,
+                                  final Object value) {
+        if (null != value) {
+            this.keyToValue.put(key, value);
+        }
+    }
+
+    /**
+     * Removes all cached values, leaving the statistics untouched.
+     */
+    public synchronized void clear() {
+        this.keyToValue.clear();
+    }
+
+    /**
+     * The maximum number of values cached.
+     */
+    public int maxSize() {
+        return this.maxSize;
+    }
+
+    private final int maxSize;
+
+    /**
+     * The number of values currently cached.
+     */
+    public synchronized int size() {
+        return this.keyToValue.size();
+    }
+
+    /**
+     * The number of times a cached value was returned.
+     */
+    public synchronized long hits() {
+        return this.hits;
+    }
+
+    private long hits;
+
+    /**
+     * The number of times a value of an immutable type was not cached and was unmarshalled.
+     */
+    public synchronized long misses() {
+        return this.misses;
+    }
+
+    private long misses;
+
+    /**
+     * The number of least recently used values removed to make space.
+     */
+    public synchronized long evictions() {
+        return this.evictions;
+    }
+
+    private long evictions;
+
+    /**
+     * Cached values in least to most recently used order.
+     */
+    private final LinkedHashMap<JsonNodeUnmarshallCacheKey, Object> keyToValue;
+
+    // Object...........................................................................................................
+
+    @Override
+    public synchronized String toString() {
+        return "size=" + this.keyToValue.size() +
+                " maxSize=" + this.maxSize +
+                " hits=" + this.hits +
+                " misses=" + this.misses +
+                " evictions=" + this.evictions;
+    }
+}
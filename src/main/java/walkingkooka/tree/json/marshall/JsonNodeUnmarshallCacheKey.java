@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonNode;
+
+import java.math.MathContext;
+
+/**
+ * The key of a {@link JsonNodeUnmarshallCache}, a {@link JsonNode}, the {@link Class} it was unmarshalled to and the
+ * number settings of the {@link JsonNodeUnmarshallContext}, as some values such as a
+ * {@link walkingkooka.tree.select.NodeSelector} depend on them. Nodes are compared by
+ * {@link JsonNode#equalsStructure(JsonNode)}, so the same value under a different property name or within a different
+ * document is a hit.
+ */
+final class JsonNodeUnmarshallCacheKey {
+
+    /**
+     * Creates a key used to lookup a value, which may hold a node still attached to its document.
+     */
+    static JsonNodeUnmarshallCacheKey with(final JsonNode node,
+                                           final Class<?> type,
+                                           final JsonNodeUnmarshallContext context) {
+        return new JsonNodeUnmarshallCacheKey(
+                node,
+                type,
+                context.expressionNumberKind(),
+                context.mathContext()
+        );
+    }
+
+    private JsonNodeUnmarshallCacheKey(final JsonNode node,
+                                       final Class<?> type,
+                                       final ExpressionNumberKind kind,
+                                       final MathContext mathContext) {
+        super();
+        this.node = node;
+        this.type = type;
+        this.kind = kind;
+        this.mathContext = mathContext;
+    }
+
+    /**
+     * Returns a key holding the node without its parent, so a cached entry does not keep the source document alive.
+     */
+    JsonNodeUnmarshallCacheKey detach() {
+        final JsonNode node = this.node;
+        return node.parent().isPresent() ?
+                new JsonNodeUnmarshallCacheKey(
+                        node.removeParent(),
+                        this.type,
+                        this.kind,
+                        this.mathContext
+                ) :
+                this;
+    }
+
+    private final JsonNode node;
+
+    private final Class<?> type;
+
+    private final ExpressionNumberKind kind;
+
+    private final MathContext mathContext;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return (this.node.structuralHash() * 31 + this.type.hashCode()) * 31 + this.kind.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof JsonNodeUnmarshallCacheKey && this.equals0((JsonNodeUnmarshallCacheKey) other);
+    }
+
+    private boolean equals0(final JsonNodeUnmarshallCacheKey other) {
+        return this.type == other.type &&
+                this.kind == other.kind &&
+                this.mathContext.equals(other.mathContext) &&
+                this.node.equalsStructure(other.node);
+    }
+
+    @Override
+    public String toString() {
+        return this.type.getName() + " " + this.kind + " " + this.mathContext + " " + this.node;
+    }
+}
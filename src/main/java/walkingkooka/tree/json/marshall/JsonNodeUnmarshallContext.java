@@ -29,6 +29,8 @@ import walkingkooka.tree.json.UnknownPropertyJsonNodeException;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -44,6 +46,11 @@ public interface JsonNodeUnmarshallContext extends JsonNodeContext,
      */
     BiFunction<JsonNode, Class<?>, JsonNode> OBJECT_PRE_PROCESSOR = (node, type) -> node;
 
+    /**
+     * Constant holding no {@link JsonNodeUnmarshallCache}, which is the default.
+     */
+    Optional<JsonNodeUnmarshallCache> NO_CACHE = Optional.empty();
+
     /**
      * Shared namedFunction used to report a required property is missing within a static unmarshall.
      */
@@ -65,6 +72,24 @@ public interface JsonNodeUnmarshallContext extends JsonNodeContext,
      */
     JsonNodeUnmarshallContext setPreProcessor(final BiFunction<JsonNode, Class<?>, JsonNode> processor);
 
+    /**
+     * Returns the {@link JsonNodeUnmarshallCache} if one is present, by default there is none.
+     */
+    default Optional<JsonNodeUnmarshallCache> cache() {
+        return NO_CACHE;
+    }
+
+    /**
+     * Sets or replaces the {@link JsonNodeUnmarshallCache} creating a new instance as necessary. Contexts that do not
+     * support caching return themselves. A cache may be shared by contexts with different number settings and pre
+     * processors, as values are cached by the pre processed node and the number settings of the context.
+     */
+    default JsonNodeUnmarshallContext setCache(final Optional<JsonNodeUnmarshallCache> cache) {
+        Objects.requireNonNull(cache, "cache");
+
+        return this;
+    }
+
     // from.............................................................................................................
 
     /**
@@ -22,9 +22,11 @@ import walkingkooka.tree.json.JsonNode;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -56,6 +58,21 @@ public interface JsonNodeUnmarshallContextTesting<C extends JsonNodeUnmarshallCo
         assertSame(with, with.setPreProcessor(processor));
     }
 
+    // setCache.........................................................................................................
+
+    @Test
+    default void testSetCacheNullFails() {
+        assertThrows(java.lang.NullPointerException.class, () -> this.createContext().setCache(null));
+    }
+
+    @Test
+    default void testSetCache() {
+        assertNotNull(
+                this.createContext()
+                        .setCache(Optional.of(JsonNodeUnmarshallCache.with(1)))
+        );
+    }
+
     // unmarshall.....................................................................................................
 
     @Test
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.jvm;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+import walkingkooka.tree.json.marshall.JsonNodeContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A marshaller for a JVM only java record or simple bean, that avoids writing the unmarshall and marshall functions by
+ * hand. All accessors and constructors are bound once per {@link Class} using {@link LambdaMetafactory}, so after
+ * creation no reflection happens, and the same instance is returned for the same {@link Class}.
+ * <pre>
+ * JvmJsonNodeMarshaller.with(MethodHandles.lookup(), Person.class)
+ *     .register();
+ * </pre>
+ * The {@link MethodHandles.Lookup} must be able to privately access the marshalled class, which is normally achieved
+ * by passing {@link MethodHandles#lookup()} from the class itself or another class in the same package.
+ */
+public abstract class JvmJsonNodeMarshaller<T> {
+
+    /**
+     * Returns the {@link JvmJsonNodeMarshaller} for the given record or bean {@link Class}.
+     */
+    public static <T> JvmJsonNodeMarshaller<T> with(final MethodHandles.Lookup lookup,
+                                                     final Class<T> type) {
+        Objects.requireNonNull(lookup, "lookup");
+        Objects.requireNonNull(type, "type");
+
+        final AtomicReference<JvmJsonNodeMarshaller<?>> reference = TYPE_TO_MARSHALLER.get(type);
+
+        @SuppressWarnings("unchecked")
+        JvmJsonNodeMarshaller<T> marshaller = (JvmJsonNodeMarshaller<T>) reference.get();
+        if (null == marshaller) {
+            marshaller = create(lookup, type);
+
+            if (!reference.compareAndSet(null, marshaller)) {
+                @SuppressWarnings("unchecked") final JvmJsonNodeMarshaller<T> previous = (JvmJsonNodeMarshaller<T>) reference.get();
+                marshaller = previous;
+            }
+        }
+        return marshaller;
+    }
+
+    private static <T> JvmJsonNodeMarshaller<T> create(final MethodHandles.Lookup lookup,
+                                                      final Class<T> type) {
+        final MethodHandles.Lookup privateLookup;
+        try {
+            privateLookup = MethodHandles.privateLookupIn(type, lookup);
+        } catch (final IllegalAccessException cause) {
+            throw new IllegalArgumentException("Unable to access " + type.getName() + ": " + cause.getMessage(), cause);
+        }
+
+        return JvmJsonNodeMarshallerRecord.isRecord(type) ?
+                JvmJsonNodeMarshallerRecord.with(privateLookup, type) :
+                JvmJsonNodeMarshallerBean.with(privateLookup, type);
+    }
+
+    /**
+     * Metadata is computed once per {@link Class}. The marshaller is kept by the {@link Class} itself rather than a
+     * static map, so it does not stop the {@link Class} and its {@link ClassLoader} from being unloaded. The value is a
+     * reference that is filled on first use, because creating a marshaller needs the caller's lookup.
+     */
+    private final static ClassValue<AtomicReference<JvmJsonNodeMarshaller<?>>> TYPE_TO_MARSHALLER = new ClassValue<AtomicReference<JvmJsonNodeMarshaller<?>>>() {
+        @Override
+        protected AtomicReference<JvmJsonNodeMarshaller<?>> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * The presence of each property is tracked by a bit in a long.
+     */
+    private final static int MAX_PROPERTIES = 64;
+
+    /**
+     * Package private to limit sub classing.
+     */
+    JvmJsonNodeMarshaller(final Class<T> type,
+                          final List<JvmJsonNodeMarshallerProperty> properties) {
+        super();
+
+        if (properties.size() > MAX_PROPERTIES) {
+            throw new IllegalArgumentException("Too many properties " + properties.size() + " > " + MAX_PROPERTIES + " in " + type.getName());
+        }
+
+        this.type = type;
+        this.properties = properties.toArray(new JvmJsonNodeMarshallerProperty[0]);
+
+        final Map<String, Integer> nameToIndex = new HashMap<>();
+        int i = 0;
+        for (final JvmJsonNodeMarshallerProperty property : properties) {
+            nameToIndex.put(property.name.value(), i);
+            i++;
+        }
+        this.nameToIndex = nameToIndex;
+    }
+
+    // JsonNodeContext..................................................................................................
+
+    /**
+     * Registers this marshaller using the type name computed by {@link JsonNodeContext#computeTypeName(Class)}.
+     */
+    public final Runnable register() {
+        return this.register(JsonNodeContext.computeTypeName(this.type));
+    }
+
+    /**
+     * Registers this marshaller with the given type name, returning a {@link Runnable} that removes the registration.
+     */
+    public final Runnable register(final String typeName) {
+        return JsonNodeContext.register(
+                typeName,
+                this::unmarshall,
+                this::marshall,
+                this.type
+        );
+    }
+
+    /**
+     * Unmarshalls a json object into a new instance, unmarshalling each property to its declared type.
+     */
+    public final T unmarshall(final JsonNode node,
+                              final JsonNodeUnmarshallContext context) {
+        Objects.requireNonNull(node, "node");
+        Objects.requireNonNull(context, "context");
+
+        final JvmJsonNodeMarshallerProperty[] properties = this.properties;
+        final Object[] values = new Object[properties.length];
+        long present = 0;
+
+        for (final JsonNode child : node.objectOrFail().children()) {
+            final JsonPropertyName name = child.name();
+            final Integer index = this.nameToIndex.get(name.value());
+            if (null == index) {
+                JsonNodeUnmarshallContext.unknownPropertyPresent(name, node);
+            } else {
+                final int i = index;
+                final JvmJsonNodeMarshallerProperty property = properties[i];
+                values[i] = context.unmarshall(child, property.type);
+                present |= 1L << i;
+            }
+        }
+
+        return this.create(values, present, node);
+    }
+
+    /**
+     * Creates the instance from the unmarshalled property values. The present mask has a bit set for each property
+     * present in the json object.
+     */
+    abstract T create(final Object[] values,
+                      final long present,
+                      final JsonNode node);
+
+    /**
+     * Marshalls each property in order into a json object.
+     */
+    public final JsonNode marshall(final T value,
+                                   final JsonNodeMarshallContext context) {
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(context, "context");
+
+        final JvmJsonNodeMarshallerProperty[] properties = this.properties;
+        final JsonNode[] children = new JsonNode[properties.length];
+
+        for (int i = 0; i < properties.length; i++) {
+            final JvmJsonNodeMarshallerProperty property = properties[i];
+            children[i] = context.marshall(property.getter.apply(value))
+                    .setName(property.name);
+        }
+
+        return JsonNode.object()
+                .setChildren(Lists.of(children));
+    }
+
+    final Class<T> type;
+
+    final JvmJsonNodeMarshallerProperty[] properties;
+
+    private final Map<String, Integer> nameToIndex;
+
+    // LambdaMetafactory................................................................................................
+
+    /**
+     * Binds the given getter to a {@link Function} using {@link LambdaMetafactory}, boxing any primitive return value.
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(final MethodHandles.Lookup lookup,
+                                           final Method method) {
+        try {
+            final MethodHandle handle = lookup.unreflect(method);
+            final CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(boxed(method.getReturnType()), method.getDeclaringClass())
+            );
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (final Throwable cause) {
+            throw bindFailed(method, cause);
+        }
+    }
+
+    static IllegalArgumentException bindFailed(final Object member,
+                                               final Throwable cause) {
+        return new IllegalArgumentException("Unable to bind " + member + ": " + cause.getMessage(), cause);
+    }
+
+    static Class<?> boxed(final Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public final String toString() {
+        return this.type.getName() + " " + Arrays.toString(this.properties);
+    }
+}
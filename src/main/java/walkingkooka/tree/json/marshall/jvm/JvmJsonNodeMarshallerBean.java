@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.jvm;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A {@link JvmJsonNodeMarshaller} for a simple bean with a public no arguments constructor, with a property for each
+ * public setter that has a matching public getter. Properties are marshalled sorted by name, and any missing when
+ * unmarshalling are left with the value set by the constructor.
+ */
+final class JvmJsonNodeMarshallerBean<T> extends JvmJsonNodeMarshaller<T> {
+
+    static <T> JvmJsonNodeMarshallerBean<T> with(final MethodHandles.Lookup lookup,
+                                                 final Class<T> type) {
+        if (Modifier.isAbstract(type.getModifiers()) || type.isInterface()) {
+            throw new IllegalArgumentException("Type " + type.getName() + " is not a record or a concrete bean");
+        }
+
+        final Map<String, JvmJsonNodeMarshallerProperty> nameToProperty = new TreeMap<>();
+        for (final Method setter : type.getMethods()) {
+            final String setterName = setter.getName();
+            if (Modifier.isStatic(setter.getModifiers()) ||
+                    setter.getParameterCount() != 1 ||
+                    setterName.length() <= SET.length() ||
+                    !setterName.startsWith(SET)) {
+                continue;
+            }
+            final Class<?> propertyType = setter.getParameterTypes()[0];
+            final String capitalized = setterName.substring(SET.length());
+            final Method getter = getter(type, capitalized, propertyType);
+            if (null == getter) {
+                continue;
+            }
+
+            final String name = Character.toLowerCase(capitalized.charAt(0)) + capitalized.substring(1);
+            nameToProperty.put(
+                    name,
+                    JvmJsonNodeMarshallerProperty.with(
+                            name,
+                            propertyType,
+                            getter(lookup, getter),
+                            setter(lookup, setter)
+                    )
+            );
+        }
+
+        return new JvmJsonNodeMarshallerBean<>(
+                type,
+                new ArrayList<>(nameToProperty.values()),
+                constructor(lookup, type)
+        );
+    }
+
+    private final static String SET = "set";
+
+    /**
+     * Finds the public getX or isX method returning the same type as the setter parameter.
+     */
+    private static Method getter(final Class<?> type,
+                                 final String capitalized,
+                                 final Class<?> propertyType) {
+        Method getter = null;
+
+        for (final String prefix : GETTER_PREFIXES) {
+            try {
+                final Method method = type.getMethod(prefix + capitalized);
+                if (propertyType.equals(method.getReturnType()) && !Modifier.isStatic(method.getModifiers())) {
+                    getter = method;
+                    break;
+                }
+            } catch (final NoSuchMethodException ignore) {
+                // try the next prefix
+            }
+        }
+
+        return getter;
+    }
+
+    private final static String[] GETTER_PREFIXES = {"get", "is"};
+
+    /**
+     * Binds the setter to a {@link BiConsumer}, unboxing any primitive parameter.
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(final MethodHandles.Lookup lookup,
+                                                     final Method method) {
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    lookup.unreflect(method),
+                    MethodType.methodType(void.class, method.getDeclaringClass(), boxed(method.getParameterTypes()[0]))
+            );
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (final Throwable cause) {
+            throw bindFailed(method, cause);
+        }
+    }
+
+    /**
+     * Binds the public no arguments constructor to a {@link Supplier}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> constructor(final MethodHandles.Lookup lookup,
+                                               final Class<T> type) {
+        final Constructor<T> constructor;
+        try {
+            constructor = type.getConstructor();
+        } catch (final NoSuchMethodException cause) {
+            throw new IllegalArgumentException("Type " + type.getName() + " is not a record and missing public no arguments constructor", cause);
+        }
+
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    lookup.unreflectConstructor(constructor),
+                    MethodType.methodType(type)
+            );
+            return (Supplier<T>) site.getTarget().invokeExact();
+        } catch (final Throwable cause) {
+            throw bindFailed(constructor, cause);
+        }
+    }
+
+    private JvmJsonNodeMarshallerBean(final Class<T> type,
+                                      final List<JvmJsonNodeMarshallerProperty> properties,
+                                      final Supplier<T> constructor) {
+        super(type, properties);
+        this.constructor = constructor;
+    }
+
+    @Override
+    T create(final Object[] values,
+             final long present,
+             final JsonNode node) {
+        final T instance = this.constructor.get();
+
+        final JvmJsonNodeMarshallerProperty[] properties = this.properties;
+        for (int i = 0; i < properties.length; i++) {
+            if (0 != (present & (1L << i))) {
+                properties[i].setter.accept(instance, values[i]);
+            }
+        }
+
+        return instance;
+    }
+
+    private final Supplier<T> constructor;
+}
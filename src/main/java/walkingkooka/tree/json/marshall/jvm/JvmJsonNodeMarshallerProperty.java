@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.jvm;
+
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A single property of a record or bean, holding the bound getter and for beans the bound setter.
+ */
+final class JvmJsonNodeMarshallerProperty {
+
+    static JvmJsonNodeMarshallerProperty with(final String name,
+                                              final Class<?> type,
+                                              final Function<Object, Object> getter,
+                                              final BiConsumer<Object, Object> setter) {
+        return new JvmJsonNodeMarshallerProperty(
+                JsonPropertyName.with(name),
+                JvmJsonNodeMarshaller.boxed(type),
+                getter,
+                setter
+        );
+    }
+
+    private JvmJsonNodeMarshallerProperty(final JsonPropertyName name,
+                                          final Class<?> type,
+                                          final Function<Object, Object> getter,
+                                          final BiConsumer<Object, Object> setter) {
+        super();
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    final JsonPropertyName name;
+
+    /**
+     * The property type, with primitives replaced by their wrapper.
+     */
+    final Class<?> type;
+
+    final Function<Object, Object> getter;
+
+    /**
+     * Only beans have setters, records are immutable and created with all properties.
+     */
+    final BiConsumer<Object, Object> setter;
+
+    @Override
+    public String toString() {
+        return this.type.getName() + " " + this.name;
+    }
+}
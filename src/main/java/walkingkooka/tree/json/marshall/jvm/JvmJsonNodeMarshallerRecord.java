@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.jvm;
+
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link JvmJsonNodeMarshaller} for a java record, with a property for each record component, all of which are
+ * required when unmarshalling. Records are created by the canonical constructor, which takes more parameters than
+ * any functional interface, so it is spread over an array through a {@link MethodHandle} rather than bound with
+ * {@link java.lang.invoke.LambdaMetafactory}. Records were added after java 9, so their components are read through
+ * reflection, once per record.
+ */
+final class JvmJsonNodeMarshallerRecord<T> extends JvmJsonNodeMarshaller<T> {
+
+    /**
+     * Every record directly extends java.lang.Record.
+     */
+    static boolean isRecord(final Class<?> type) {
+        final Class<?> superClass = type.getSuperclass();
+        return null != superClass && RECORD.equals(superClass.getName());
+    }
+
+    private final static String RECORD = "java.lang.Record";
+
+    static <T> JvmJsonNodeMarshallerRecord<T> with(final MethodHandles.Lookup lookup,
+                                                   final Class<T> type) {
+        final List<JvmJsonNodeMarshallerProperty> properties = new ArrayList<>();
+        final List<Class<?>> parameterTypes = new ArrayList<>();
+
+        for (final Object component : components(type)) {
+            final Method accessor = (Method) invoke(GET_ACCESSOR, component);
+            final Class<?> componentType = (Class<?>) invoke(GET_TYPE, component);
+
+            properties.add(
+                    JvmJsonNodeMarshallerProperty.with(
+                            (String) invoke(GET_NAME, component),
+                            componentType,
+                            getter(lookup, accessor),
+                            null
+                    )
+            );
+            parameterTypes.add(componentType);
+        }
+
+        final MethodHandle constructor;
+        Constructor<T> canonical = null;
+        try {
+            canonical = type.getDeclaredConstructor(parameterTypes.toArray(new Class<?>[0]));
+            constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, parameterTypes.size())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (final NoSuchMethodException | IllegalAccessException cause) {
+            throw bindFailed(null != canonical ? canonical : type, cause);
+        }
+
+        return new JvmJsonNodeMarshallerRecord<>(type, properties, constructor);
+    }
+
+    private static Object[] components(final Class<?> type) {
+        return (Object[]) invoke(GET_RECORD_COMPONENTS, type);
+    }
+
+    private static Object invoke(final Method method,
+                                 final Object instance) {
+        try {
+            return method.invoke(instance);
+        } catch (final ReflectiveOperationException cause) {
+            throw new IllegalStateException("Unable to invoke " + method + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    private static Method method(final String className,
+                                 final String methodName) {
+        try {
+            return Class.forName(className).getMethod(methodName);
+        } catch (final ReflectiveOperationException cause) {
+            // running on a JVM before records
+            return null;
+        }
+    }
+
+    private final static Method GET_RECORD_COMPONENTS = method("java.lang.Class", "getRecordComponents");
+    private final static Method GET_ACCESSOR = method("java.lang.reflect.RecordComponent", "getAccessor");
+    private final static Method GET_NAME = method("java.lang.reflect.RecordComponent", "getName");
+    private final static Method GET_TYPE = method("java.lang.reflect.RecordComponent", "getType");
+
+    private JvmJsonNodeMarshallerRecord(final Class<T> type,
+                                        final List<JvmJsonNodeMarshallerProperty> properties,
+                                        final MethodHandle constructor) {
+        super(type, properties);
+        this.constructor = constructor;
+    }
+
+    @Override
+    T create(final Object[] values,
+             final long present,
+             final JsonNode node) {
+        final JvmJsonNodeMarshallerProperty[] properties = this.properties;
+        for (int i = 0; i < properties.length; i++) {
+            if (0 == (present & (1L << i))) {
+                JsonNodeUnmarshallContext.requiredPropertyMissing(properties[i].name, node);
+            }
+        }
+
+        final Object instance;
+        try {
+            instance = (Object) this.constructor.invokeExact(values);
+        } catch (final RuntimeException | Error cause) {
+            throw cause;
+        } catch (final Throwable cause) {
+            throw new IllegalArgumentException(cause.getMessage(), cause);
+        }
+        return this.type.cast(instance);
+    }
+
+    /**
+     * The canonical constructor taking an {@link Object} array with a value for each component.
+     */
+    private final MethodHandle constructor;
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parallel;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Folds every {@link JsonNode} in a tree into a single result, splitting the work over a {@link ForkJoinPool}. Each
+ * task folds its nodes sequentially starting with the identity, forking a new task with half of its queued nodes
+ * whenever more than the threshold are waiting to be accumulated, and for any run of siblings longer than the
+ * threshold, with the results of all tasks combined by the combiner. Like {@link java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)} the
+ * identity must be an identity for the combiner, the accumulator and combiner must be associative and stateless, and
+ * the order nodes are accumulated is unspecified.
+ * <pre>
+ * final long numbers = JsonNodeParallelFold.with(
+ *         0L,
+ *         (count, node) -&gt; node.isNumber() ? count + 1 : count,
+ *         Long::sum
+ * ).fold(json);
+ * </pre>
+ * Because nodes are immutable, a tree may be folded by many threads without any locking.
+ */
+public final class JsonNodeParallelFold<R> {
+
+    /**
+     * The default number of queued nodes or siblings, above which they are split into separate tasks.
+     */
+    public final static int DEFAULT_THRESHOLD = 1024;
+
+    /**
+     * Creates a new {@link JsonNodeParallelFold} using {@link #DEFAULT_THRESHOLD} and {@link ForkJoinPool#commonPool()}.
+     */
+    public static <R> JsonNodeParallelFold<R> with(final R identity,
+                                                   final BiFunction<R, JsonNode, R> accumulator,
+                                                   final BinaryOperator<R> combiner) {
+        Objects.requireNonNull(accumulator, "accumulator");
+        Objects.requireNonNull(combiner, "combiner");
+
+        return new JsonNodeParallelFold<>(identity,
+                accumulator,
+                combiner,
+                DEFAULT_THRESHOLD,
+                ForkJoinPool.commonPool());
+    }
+
+    private JsonNodeParallelFold(final R identity,
+                                 final BiFunction<R, JsonNode, R> accumulator,
+                                 final BinaryOperator<R> combiner,
+                                 final int threshold,
+                                 final ForkJoinPool pool) {
+        super();
+        this.identity = identity;
+        this.accumulator = accumulator;
+        this.combiner = combiner;
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * Would be setter that returns a {@link JsonNodeParallelFold} with the given threshold, which must be at least 1.
+     */
+    public JsonNodeParallelFold<R> setThreshold(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Invalid threshold " + threshold + " < 1");
+        }
+
+        return this.threshold == threshold ?
+                this :
+                new JsonNodeParallelFold<>(this.identity,
+                        this.accumulator,
+                        this.combiner,
+                        threshold,
+                        this.pool);
+    }
+
+    /**
+     * Would be setter that returns a {@link JsonNodeParallelFold} that runs its tasks on the given {@link ForkJoinPool}.
+     */
+    public JsonNodeParallelFold<R> setPool(final ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool");
+
+        return this.pool == pool ?
+                this :
+                new JsonNodeParallelFold<>(this.identity,
+                        this.accumulator,
+                        this.combiner,
+                        this.threshold,
+                        pool);
+    }
+
+    /**
+     * Folds the given node and all its descendants, returning the combined result.
+     */
+    public R fold(final JsonNode node) {
+        Objects.requireNonNull(node, "node");
+
+        return this.pool.invoke(new JsonNodeParallelFoldTask<>(this, Lists.of(node), 0, 1));
+    }
+
+    final R identity;
+
+    final BiFunction<R, JsonNode, R> accumulator;
+
+    final BinaryOperator<R> combiner;
+
+    final int threshold;
+
+    private final ForkJoinPool pool;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.accumulator + " " + this.combiner + " threshold=" + this.threshold;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parallel;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Folds a run of {@link JsonNode nodes} and their descendants, forking new tasks for long runs and whenever the nodes
+ * waiting to be accumulated grow past the threshold, so large subtrees are split no matter how their children are spread.
+ */
+final class JsonNodeParallelFoldTask<R> extends RecursiveTask<R> {
+
+    private static final long serialVersionUID = 1L;
+
+    JsonNodeParallelFoldTask(final JsonNodeParallelFold<R> fold,
+                             final List<JsonNode> nodes,
+                             final int from,
+                             final int to) {
+        super();
+        this.fold = fold;
+        this.nodes = nodes;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected R compute() {
+        final JsonNodeParallelFold<R> fold = this.fold;
+        final List<JsonNode> nodes = this.nodes;
+        final int from = this.from;
+        final int to = this.to;
+        final int threshold = fold.threshold;
+
+        final R folded;
+        if (to - from > threshold) {
+            final int middle = (from + to) >>> 1;
+
+            final JsonNodeParallelFoldTask<R> left = new JsonNodeParallelFoldTask<>(fold, nodes, from, middle);
+            left.fork();
+            final R right = new JsonNodeParallelFoldTask<>(fold, nodes, middle, to).compute();
+
+            folded = fold.combiner.apply(left.join(), right);
+        } else {
+            final List<JsonNodeParallelFoldTask<R>> forked = Lists.array();
+
+            // nodes still to be accumulated, last is next
+            final List<JsonNode> pending = Lists.array();
+            for (int i = to - 1; i >= from; i--) {
+                pending.add(nodes.get(i));
+            }
+
+            R result = fold.identity;
+            while (!pending.isEmpty()) {
+                final JsonNode node = pending.remove(pending.size() - 1);
+                result = fold.accumulator.apply(result, node);
+
+                final List<JsonNode> children = node.children();
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    pending.add(children.get(i));
+                }
+
+                // too much work queued, hand the half furthest from being accumulated to a new task
+                final int size = pending.size();
+                if (size > threshold) {
+                    final int half = size >>> 1;
+                    final List<JsonNode> bottom = pending.subList(0, half);
+                    final List<JsonNode> split = Lists.array();
+                    split.addAll(bottom);
+                    bottom.clear();
+
+                    final JsonNodeParallelFoldTask<R> task = new JsonNodeParallelFoldTask<>(fold, split, 0, half);
+                    task.fork();
+                    forked.add(task);
+                }
+            }
+
+            for (final JsonNodeParallelFoldTask<R> task : forked) {
+                result = fold.combiner.apply(result, task.join());
+            }
+
+            folded = result;
+        }
+
+        return folded;
+    }
+
+    private final JsonNodeParallelFold<R> fold;
+
+    private final List<JsonNode> nodes;
+
+    private final int from;
+
+    private final int to;
+}
@@ -37,8 +37,51 @@ public final class JsonNodeArrayParserToken extends JsonNodeParentParserToken<Js
         super(value, text);
     }
 
+    /**
+     * Arrays holding only numbers are created directly from their values, without a {@link JsonNode} for each element.
+     */
     @Override
     JsonNode toJsonNodeOrNull() {
+        final double[] numbers = this.numbersOrNull();
+        return null != numbers ?
+                JsonNode.numbers(numbers) :
+                this.toJsonArray();
+    }
+
+    /**
+     * Returns the value of every element if they are all numbers, otherwise null. The elements are counted first so
+     * the returned array has its final length and is not copied again before {@link JsonNode#numbers(double...)}.
+     */
+    private double[] numbersOrNull() {
+        final List<ParserToken> elements = this.value();
+        int count = 0;
+
+        for (ParserToken element : elements) {
+            if (element instanceof JsonNodeNumberParserToken) {
+                count++;
+            } else {
+                if (element instanceof JsonNodeParserToken && !(element instanceof JsonNodeSymbolParserToken)) {
+                    return null;
+                }
+            }
+        }
+
+        double[] numbers = null;
+        if (count > 0) {
+            numbers = new double[count];
+            int i = 0;
+            for (ParserToken element : elements) {
+                if (element instanceof JsonNodeNumberParserToken) {
+                    numbers[i] = element.cast(JsonNodeNumberParserToken.class).value();
+                    i++;
+                }
+            }
+        }
+
+        return numbers;
+    }
+
+    private JsonNode toJsonArray() {
         final List<JsonNode> children = Lists.array();
         this.addJsonNode(children);
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+/**
+ * The {@link JsonNodeParserException} thrown when json text exceeds one of the {@link JsonNodeParserLimits}.
+ */
+public class JsonNodeParserLimitException extends JsonNodeParserException {
+
+    private static final long serialVersionUID = 1L;
+
+    protected JsonNodeParserLimitException() {
+        super();
+        this.lineNumber = 0;
+        this.column = 0;
+    }
+
+    public JsonNodeParserLimitException(final String message,
+                                        final int lineNumber,
+                                        final int column) {
+        super(message + " at (" + lineNumber + "," + column + ")");
+        this.lineNumber = lineNumber;
+        this.column = column;
+    }
+
+    /**
+     * The line number of the offending character, starting at 1.
+     */
+    public int lineNumber() {
+        return this.lineNumber;
+    }
+
+    private final int lineNumber;
+
+    /**
+     * The column of the offending character, starting at 1.
+     */
+    public int column() {
+        return this.column;
+    }
+
+    private final int column;
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import java.util.Objects;
+
+/**
+ * Immutable caps enforced by {@link JsonNodeParsers#value(JsonNodeParserLimits)} while json text is parsed, guarding
+ * the recursive parser against documents that would otherwise exhaust the stack or heap. All limits are inclusive, and
+ * text that exceeds any limit is rejected with a {@link JsonNodeParserLimitException} identifying the line and column
+ * of the violation.
+ */
+public final class JsonNodeParserLimits {
+
+    /**
+     * No limits at all.
+     */
+    public final static JsonNodeParserLimits UNLIMITED = new JsonNodeParserLimits(
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE
+    );
+
+    /**
+     * The default nesting depth, deliberately shallow enough that the hand written recursive value parser will not
+     * overflow the stack.
+     */
+    public final static int DEFAULT_MAX_DEPTH = 512;
+
+    /**
+     * Limits that only cap the nesting depth, suitable for parsing untrusted text.
+     */
+    public final static JsonNodeParserLimits DEFAULT = UNLIMITED.setMaxDepth(DEFAULT_MAX_DEPTH);
+
+    private JsonNodeParserLimits(final int maxDepth,
+                                 final int maxStringLength,
+                                 final int maxNumberLength,
+                                 final int maxProperties,
+                                 final int maxArrayLength,
+                                 final int maxLength) {
+        super();
+        this.maxDepth = maxDepth;
+        this.maxStringLength = maxStringLength;
+        this.maxNumberLength = maxNumberLength;
+        this.maxProperties = maxProperties;
+        this.maxArrayLength = maxArrayLength;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * The maximum number of nested arrays and objects.
+     */
+    public int maxDepth() {
+        return this.maxDepth;
+    }
+
+    public JsonNodeParserLimits setMaxDepth(final int maxDepth) {
+        check(maxDepth, "max depth");
+        return this.maxDepth == maxDepth ?
+                this :
+                new JsonNodeParserLimits(maxDepth,
+                        this.maxStringLength,
+                        this.maxNumberLength,
+                        this.maxProperties,
+                        this.maxArrayLength,
+                        this.maxLength);
+    }
+
+    private final int maxDepth;
+
+    /**
+     * The maximum number of characters in a decoded string, including property names.
+     */
+    public int maxStringLength() {
+        return this.maxStringLength;
+    }
+
+    public JsonNodeParserLimits setMaxStringLength(final int maxStringLength) {
+        check(maxStringLength, "max string length");
+        return this.maxStringLength == maxStringLength ?
+                this :
+                new JsonNodeParserLimits(this.maxDepth,
+                        maxStringLength,
+                        this.maxNumberLength,
+                        this.maxProperties,
+                        this.maxArrayLength,
+                        this.maxLength);
+    }
+
+    private final int maxStringLength;
+
+    /**
+     * The maximum number of characters in a number literal, including any sign, fraction and exponent.
+     */
+    public int maxNumberLength() {
+        return this.maxNumberLength;
+    }
+
+    public JsonNodeParserLimits setMaxNumberLength(final int maxNumberLength) {
+        check(maxNumberLength, "max number length");
+        return this.maxNumberLength == maxNumberLength ?
+                this :
+                new JsonNodeParserLimits(this.maxDepth,
+                        this.maxStringLength,
+                        maxNumberLength,
+                        this.maxProperties,
+                        this.maxArrayLength,
+                        this.maxLength);
+    }
+
+    private final int maxNumberLength;
+
+    /**
+     * The maximum number of properties in a single object.
+     */
+    public int maxProperties() {
+        return this.maxProperties;
+    }
+
+    public JsonNodeParserLimits setMaxProperties(final int maxProperties) {
+        check(maxProperties, "max properties");
+        return this.maxProperties == maxProperties ?
+                this :
+                new JsonNodeParserLimits(this.maxDepth,
+                        this.maxStringLength,
+                        this.maxNumberLength,
+                        maxProperties,
+                        this.maxArrayLength,
+                        this.maxLength);
+    }
+
+    private final int maxProperties;
+
+    /**
+     * The maximum number of elements in a single array.
+     */
+    public int maxArrayLength() {
+        return this.maxArrayLength;
+    }
+
+    public JsonNodeParserLimits setMaxArrayLength(final int maxArrayLength) {
+        check(maxArrayLength, "max array length");
+        return this.maxArrayLength == maxArrayLength ?
+                this :
+                new JsonNodeParserLimits(this.maxDepth,
+                        this.maxStringLength,
+                        this.maxNumberLength,
+                        this.maxProperties,
+                        maxArrayLength,
+                        this.maxLength);
+    }
+
+    private final int maxArrayLength;
+
+    /**
+     * The maximum number of characters in the entire document.
+     */
+    public int maxLength() {
+        return this.maxLength;
+    }
+
+    public JsonNodeParserLimits setMaxLength(final int maxLength) {
+        check(maxLength, "max length");
+        return this.maxLength == maxLength ?
+                this :
+                new JsonNodeParserLimits(this.maxDepth,
+                        this.maxStringLength,
+                        this.maxNumberLength,
+                        this.maxProperties,
+                        this.maxArrayLength,
+                        maxLength);
+    }
+
+    private final int maxLength;
+
+    private static void check(final int value, final String label) {
+        if (value < 1) {
+            throw new IllegalArgumentException("Invalid " + label + " " + value + " < 1");
+        }
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.maxDepth,
+                this.maxStringLength,
+                this.maxNumberLength,
+                this.maxProperties,
+                this.maxArrayLength,
+                this.maxLength);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof JsonNodeParserLimits && this.equals0((JsonNodeParserLimits) other);
+    }
+
+    private boolean equals0(final JsonNodeParserLimits other) {
+        return this.maxDepth == other.maxDepth &&
+                this.maxStringLength == other.maxStringLength &&
+                this.maxNumberLength == other.maxNumberLength &&
+                this.maxProperties == other.maxProperties &&
+                this.maxArrayLength == other.maxArrayLength &&
+                this.maxLength == other.maxLength;
+    }
+
+    @Override
+    public String toString() {
+        return "maxDepth=" + this.maxDepth +
+                " maxStringLength=" + this.maxStringLength +
+                " maxNumberLength=" + this.maxNumberLength +
+                " maxProperties=" + this.maxProperties +
+                " maxArrayLength=" + this.maxArrayLength +
+                " maxLength=" + this.maxLength;
+    }
+}
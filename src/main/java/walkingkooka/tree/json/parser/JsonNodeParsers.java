@@ -25,7 +25,6 @@ import walkingkooka.text.CaseSensitivity;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursors;
 import walkingkooka.text.cursor.parser.CharacterParserToken;
-import walkingkooka.text.cursor.parser.DoubleParserToken;
 import walkingkooka.text.cursor.parser.Parser;
 import walkingkooka.text.cursor.parser.ParserContext;
 import walkingkooka.text.cursor.parser.ParserReporters;
@@ -46,12 +45,12 @@ import java.util.function.BiFunction;
  */
 public final class JsonNodeParsers implements PublicStaticHelper {
 
-    private static final Parser<ParserContext> ARRAY_BEGIN_SYMBOL = symbol('[', JsonNodeParserToken::arrayBeginSymbol, JsonNodeArrayBeginSymbolParserToken.class);
-    private static final Parser<ParserContext> ARRAY_END_SYMBOL = symbol(']', JsonNodeParserToken::arrayEndSymbol, JsonNodeArrayEndSymbolParserToken.class);
-    private static final Parser<ParserContext> OBJECT_ASSIGNMENT_SYMBOL = symbol(':', JsonNodeParserToken::objectAssignmentSymbol, JsonNodeObjectAssignmentSymbolParserToken.class);
-    private static final Parser<ParserContext> OBJECT_BEGIN_SYMBOL = symbol('{', JsonNodeParserToken::objectBeginSymbol, JsonNodeObjectBeginSymbolParserToken.class);
-    private static final Parser<ParserContext> OBJECT_END_SYMBOL = symbol('}', JsonNodeParserToken::objectEndSymbol, JsonNodeObjectEndSymbolParserToken.class);
-    private static final Parser<ParserContext> SEPARATOR_SYMBOL = symbol(',', JsonNodeParserToken::separatorSymbol, JsonNodeSeparatorSymbolParserToken.class);
+    static final Parser<ParserContext> ARRAY_BEGIN_SYMBOL = symbol('[', JsonNodeParserToken::arrayBeginSymbol, JsonNodeArrayBeginSymbolParserToken.class);
+    static final Parser<ParserContext> ARRAY_END_SYMBOL = symbol(']', JsonNodeParserToken::arrayEndSymbol, JsonNodeArrayEndSymbolParserToken.class);
+    static final Parser<ParserContext> OBJECT_ASSIGNMENT_SYMBOL = symbol(':', JsonNodeParserToken::objectAssignmentSymbol, JsonNodeObjectAssignmentSymbolParserToken.class);
+    static final Parser<ParserContext> OBJECT_BEGIN_SYMBOL = symbol('{', JsonNodeParserToken::objectBeginSymbol, JsonNodeObjectBeginSymbolParserToken.class);
+    static final Parser<ParserContext> OBJECT_END_SYMBOL = symbol('}', JsonNodeParserToken::objectEndSymbol, JsonNodeObjectEndSymbolParserToken.class);
+    static final Parser<ParserContext> SEPARATOR_SYMBOL = symbol(',', JsonNodeParserToken::separatorSymbol, JsonNodeSeparatorSymbolParserToken.class);
 
     static final EbnfIdentifierName ARRAY_IDENTIFIER = EbnfIdentifierName.with("ARRAY");
 
@@ -119,15 +118,7 @@ public final class JsonNodeParsers implements PublicStaticHelper {
      * NUMBER
      */
     public static Parser<ParserContext> number() {
-        return NUMBER;
-    }
-
-    private final static Parser<ParserContext> NUMBER = Parsers.doubleParser()
-            .transform(JsonNodeParsers::transformNumber)
-            .setToString(JsonNodeNumberParserToken.class.getSimpleName());
-
-    private static ParserToken transformNumber(final ParserToken token, final ParserContext context) {
-        return JsonNodeParserToken.number(token.cast(DoubleParserToken.class).value(), token.text());
+        return JsonNodeParsersNumberParser.INSTANCE;
     }
 
     /**
@@ -167,12 +158,32 @@ public final class JsonNodeParsers implements PublicStaticHelper {
      * Returns a {@link Parser} that returns any of the json values, such as array, boolean, null, number, object.
      */
     public static Parser<ParserContext> value() {
-        return VALUE;
+        return JsonNodeParsersValueParser.INSTANCE;
+    }
+
+    /**
+     * Returns a {@link Parser} that returns any of the json values, failing with a {@link JsonNodeParserLimitException}
+     * if the text exceeds any of the given {@link JsonNodeParserLimits}.
+     */
+    public static Parser<ParserContext> value(final JsonNodeParserLimits limits) {
+        return JsonNodeParsersValueParser.with(limits);
+    }
+
+    /**
+     * Returns the {@link Parser} built from the grammar file, which is created the first time it is needed, so the
+     * grammar is never read during class initialisation. {@link JsonNodeParsersValueParser} only uses it to report
+     * invalid arrays and objects.
+     */
+    static synchronized Parser<ParserContext> grammar() {
+        if (null == grammar) {
+            grammar = grammar0();
+        }
+        return grammar;
     }
 
-    private final static Parser<ParserContext> VALUE = value0();
+    private static Parser<ParserContext> grammar;
 
-    private static Parser<ParserContext> value0() {
+    private static Parser<ParserContext> grammar0() {
         try {
             final TextCursor grammarFile = TextCursors.charSequence(new JsonNodeParsersGrammarProvider().text());
 
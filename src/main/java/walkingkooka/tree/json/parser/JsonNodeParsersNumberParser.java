@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserToken;
+
+import java.util.Optional;
+
+/**
+ * A parser that consumes JSON numbers, accumulating up to 18 significant digits in a long, which are then converted
+ * by {@link JsonNodeParsersNumberParserEiselLemire}. A leading plus sign is also accepted. A fraction or exponent
+ * without any digits is not consumed.
+ * https://www.crockford.com/mckeeman.html
+ * <pre>
+ * number
+ *     integer fraction exponent
+ * </pre>
+ */
+final class JsonNodeParsersNumberParser implements Parser<ParserContext> {
+
+    /**
+     * Singleton
+     */
+    final static JsonNodeParsersNumberParser INSTANCE = new JsonNodeParsersNumberParser();
+
+    /**
+     * Stop sub classing
+     */
+    private JsonNodeParsersNumberParser() {
+        super();
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor, final ParserContext context) {
+        JsonNodeParserToken token = null;
+
+        if (!cursor.isEmpty()) {
+            final TextCursorSavePoint save = cursor.save();
+
+            boolean negative = false;
+            char c = cursor.at();
+            if (MINUS == c || PLUS == c) {
+                negative = MINUS == c;
+                cursor.next();
+            }
+
+            long significand = 0;
+            int digits = 0; // significant digits in the significand
+            int exponent = 0;
+            boolean truncated = false;
+            boolean integer = true;
+
+            // integer
+            int integerDigits = 0;
+            while (!cursor.isEmpty()) {
+                c = cursor.at();
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (digits < MAX_DIGITS) {
+                    significand = significand * 10 + (c - '0');
+                    if (significand > 0) {
+                        digits++;
+                    }
+                } else {
+                    exponent++;
+                    truncated |= '0' != c;
+                }
+                integerDigits++;
+                cursor.next();
+            }
+
+            if (0 == integerDigits) {
+                save.restore();
+            } else {
+                // fraction
+                if (!cursor.isEmpty() && DECIMAL_SEPARATOR == cursor.at()) {
+                    final TextCursorSavePoint beforeFraction = cursor.save();
+                    cursor.next();
+
+                    int fractionDigits = 0;
+                    while (!cursor.isEmpty()) {
+                        c = cursor.at();
+                        if (c < '0' || c > '9') {
+                            break;
+                        }
+                        if (digits < MAX_DIGITS) {
+                            significand = significand * 10 + (c - '0');
+                            if (significand > 0) {
+                                digits++;
+                            }
+                            exponent--;
+                        } else {
+                            truncated |= '0' != c;
+                        }
+                        fractionDigits++;
+                        cursor.next();
+                    }
+
+                    if (0 == fractionDigits) {
+                        beforeFraction.restore();
+                    } else {
+                        integer = false;
+                    }
+                }
+
+                // exponent
+                if (!cursor.isEmpty() && ('e' == cursor.at() || 'E' == cursor.at())) {
+                    final TextCursorSavePoint beforeExponent = cursor.save();
+                    cursor.next();
+
+                    boolean negativeExponent = false;
+                    if (!cursor.isEmpty()) {
+                        c = cursor.at();
+                        if (MINUS == c || PLUS == c) {
+                            negativeExponent = MINUS == c;
+                            cursor.next();
+                        }
+                    }
+
+                    int exponentValue = 0;
+                    int exponentDigits = 0;
+                    while (!cursor.isEmpty()) {
+                        c = cursor.at();
+                        if (c < '0' || c > '9') {
+                            break;
+                        }
+                        // values this large are zero or infinity, avoid overflowing
+                        if (exponentValue < MAX_EXPONENT) {
+                            exponentValue = exponentValue * 10 + (c - '0');
+                        }
+                        exponentDigits++;
+                        cursor.next();
+                    }
+
+                    if (0 == exponentDigits) {
+                        beforeExponent.restore();
+                    } else {
+                        exponent += negativeExponent ? -exponentValue : exponentValue;
+                        integer = false;
+                    }
+                }
+
+                // whole numbers without any dropped digits are exact longs and converted directly
+                final CharSequence text = save.textBetween();
+                token = JsonNodeParserToken.number(
+                        integer && 0 == exponent ?
+                                negative ? -(double) significand : significand :
+                                JsonNodeParsersNumberParserEiselLemire.toDouble(
+                                        negative,
+                                        significand,
+                                        exponent,
+                                        truncated,
+                                        text
+                                ),
+                        text.toString()
+                );
+            }
+        }
+
+        return Optional.ofNullable(token);
+    }
+
+    /**
+     * The maximum number of significant digits, so the significand and the significand plus one always fit in a long.
+     */
+    private final static int MAX_DIGITS = 18;
+
+    /**
+     * Exponents larger than this always overflow or underflow, this limit also stops the int from overflowing.
+     */
+    private final static int MAX_EXPONENT = 100000;
+
+    private final static char MINUS = '-';
+    private final static char PLUS = '+';
+    private final static char DECIMAL_SEPARATOR = '.';
+
+    @Override
+    public String toString() {
+        return JsonNodeNumberParserToken.class.getSimpleName();
+    }
+}
@@ -29,19 +29,30 @@ import java.util.Optional;
 /**
  * A parser that consumes JSON strings.
  * https://www.crockford.com/mckeeman.html
+ * <br>
+ * Most strings have no escapes, and their value is taken as a single slice of the text between the quotes, only
+ * decoding character by character into a {@link StringBuilder} once the first escape is found. The decoded length is
+ * counted while scanning, so a string longer than the maximum fails before the rest of it is read.
  */
 final class JsonNodeParsersStringParser implements Parser<ParserContext> {
 
     /**
-     * Singleton
+     * Singleton without a maximum length.
      */
-    final static JsonNodeParsersStringParser INSTANCE = new JsonNodeParsersStringParser();
+    final static JsonNodeParsersStringParser INSTANCE = new JsonNodeParsersStringParser(Integer.MAX_VALUE);
+
+    static JsonNodeParsersStringParser with(final int maxLength) {
+        return Integer.MAX_VALUE == maxLength ?
+                INSTANCE :
+                new JsonNodeParsersStringParser(maxLength);
+    }
 
     /**
      * Stop sub classing
      */
-    private JsonNodeParsersStringParser() {
+    private JsonNodeParsersStringParser(final int maxLength) {
         super();
+        this.maxLength = maxLength;
     }
 
     @Override
@@ -52,12 +63,14 @@ final class JsonNodeParsersStringParser implements Parser<ParserContext> {
             final char first = cursor.at();
             if (DOUBLE_QUOTE == first) {
                 final TextCursorSavePoint save = cursor.save();
-                final StringBuilder decoded = new StringBuilder();
+                StringBuilder decoded = null;
+                int length = 0;
                 int mode = 0;
                 int unicode = 0;
                 int unicodeLength = 0;
 
                 cursor.next();
+                final TextCursorSavePoint valueStart = cursor.save();
 
                 Exit:
                 for (; ; ) {
@@ -71,22 +84,35 @@ final class JsonNodeParsersStringParser implements Parser<ParserContext> {
                         case MODE_LITERAL:
                             switch (c) {
                                 case BACKSLASH:
+                                    if (null == decoded) {
+                                        decoded = new StringBuilder();
+                                        decoded.append(valueStart.textBetween());
+                                    }
                                     mode = MODE_BACKSLASH;
                                     break;
                                 case DOUBLE_QUOTE:
+                                    final String value = null == decoded ?
+                                            valueStart.textBetween().toString() :
+                                            decoded.toString();
                                     cursor.next();
                                     token = JsonNodeParserToken.string(
-                                            decoded.toString(),
+                                            value,
                                             save.textBetween().toString()
                                     );
                                     break Exit;
                                 default:
-                                    decoded.append(c);
+                                    if (null != decoded) {
+                                        decoded.append(c);
+                                    }
+                                    length = this.increment(length, save, cursor);
                                     break;
                             }
                             break;
                         case MODE_BACKSLASH:
                             mode = MODE_LITERAL; // all unescaping will change mode=MODE_LITERAL except unicode=MODE_UNICODE
+                            if ('u' != c) {
+                                length = this.increment(length, save, cursor);
+                            }
 
                             switch (c) {
                                 case 'b':
@@ -106,6 +132,7 @@ final class JsonNodeParsersStringParser implements Parser<ParserContext> {
                                     break;
                                 case 'u':
                                     unicode = 0;
+                                    unicodeLength = 0;
                                     mode = MODE_UNICODE;
                                     break;
                                 default:
@@ -125,6 +152,7 @@ final class JsonNodeParsersStringParser implements Parser<ParserContext> {
                             if (unicodeLength == 4) {
                                 mode = MODE_LITERAL;
                                 decoded.append((char)unicode);
+                                length = this.increment(length, save, cursor);
                             }
                             break;
                     } // switch
@@ -137,6 +165,23 @@ final class JsonNodeParsersStringParser implements Parser<ParserContext> {
         return Optional.ofNullable(token);
     }
 
+    /**
+     * Counts one more decoded character, failing at the start of the string if it is now too long.
+     */
+    private int increment(final int length,
+                          final TextCursorSavePoint start,
+                          final TextCursor cursor) {
+        final int incremented = length + 1;
+        final int maxLength = this.maxLength;
+        if (incremented > maxLength) {
+            start.restore();
+            throw JsonNodeParsersValueParser.limitExceeded("String length exceeds " + maxLength, cursor);
+        }
+        return incremented;
+    }
+
+    private final int maxLength;
+
     final static char DOUBLE_QUOTE = '"';
     final static char BACKSLASH = '\\';
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserToken;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A hand written {@link Parser} for any json value, which produces the same tokens as the parser built from
+ * <code>JsonNodeParsersGrammar.txt</code>, without reading and transforming the grammar when {@link JsonNodeParsers}
+ * is first used. Invalid arrays and objects are parsed again by the grammar parser, which is only then created, so
+ * failures are reported exactly as before.
+ * <br>
+ * Each parse is performed by a {@link JsonNodeParsersValueParserRequest}, which enforces any
+ * {@link JsonNodeParserLimits} while parsing, so limited text is not scanned a second time.
+ * <pre>
+ * VALUE=          NULL | BOOLEAN | STRING | NUMBER | ARRAY | OBJECT;
+ * ARRAY=          ARRAY_BEGIN, [ [ WHITESPACE ], VALUE, [{ [ WHITESPACE ], SEPARATOR, [ WHITESPACE ], VALUE }]], [ WHITESPACE ], ARRAY_END;
+ * OBJECT=         OBJECT_BEGIN, [ PROPERTY, [{ [ WHITESPACE ], SEPARATOR, PROPERTY }]], [ WHITESPACE ], OBJECT_END;
+ * PROPERTY=       [ WHITESPACE ], STRING, [ WHITESPACE ], OBJECT_ASSIGNMENT, [ WHITESPACE ], VALUE;
+ * </pre>
+ */
+final class JsonNodeParsersValueParser implements Parser<ParserContext> {
+
+    /**
+     * Singleton without any limits.
+     */
+    final static JsonNodeParsersValueParser INSTANCE = new JsonNodeParsersValueParser(JsonNodeParserLimits.UNLIMITED);
+
+    static JsonNodeParsersValueParser with(final JsonNodeParserLimits limits) {
+        Objects.requireNonNull(limits, "limits");
+
+        return JsonNodeParserLimits.UNLIMITED.equals(limits) ?
+                INSTANCE :
+                new JsonNodeParsersValueParser(limits);
+    }
+
+    private JsonNodeParsersValueParser(final JsonNodeParserLimits limits) {
+        super();
+        this.limits = limits;
+        this.string = JsonNodeParsersStringParser.with(limits.maxStringLength());
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor, final ParserContext context) {
+        ParserToken token = JsonNodeParsersValueParserRequest.with(
+                this.limits,
+                this.string,
+                cursor,
+                context
+        ).value();
+
+        // only an array or object can fail after consuming text, let the grammar report the failure.
+        if (null == token && !cursor.isEmpty()) {
+            final char c = cursor.at();
+            if (ARRAY_BEGIN == c || OBJECT_BEGIN == c) {
+                token = JsonNodeParsers.grammar()
+                        .parse(cursor, context)
+                        .orElse(null);
+            }
+        }
+
+        return Optional.ofNullable(token);
+    }
+
+    private final JsonNodeParserLimits limits;
+
+    /**
+     * The string parser, which stops at the maximum string length.
+     */
+    private final JsonNodeParsersStringParser string;
+
+    /**
+     * Creates the {@link JsonNodeParserLimitException} reporting the position of the cursor.
+     */
+    static JsonNodeParserLimitException limitExceeded(final String message,
+                                                      final TextCursor cursor) {
+        final TextCursorLineInfo info = cursor.lineInfo();
+        return new JsonNodeParserLimitException(message, info.lineNumber(), info.column());
+    }
+
+    final static char ARRAY_BEGIN = '[';
+    final static char ARRAY_END = ']';
+    final static char OBJECT_BEGIN = '{';
+    final static char OBJECT_END = '}';
+
+    @Override
+    public String toString() {
+        return "VALUE";
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserToken;
+
+import java.util.List;
+
+/**
+ * A single parse by {@link JsonNodeParsersValueParser}, holding the cursor, context and the number of characters
+ * consumed so far. The nesting depth, element and property counts and string lengths are checked before or while
+ * they are read, while the document length is counted as each token is consumed, and rewound whenever the cursor is
+ * restored. A limit that is exceeded is reported at the offending character.
+ */
+final class JsonNodeParsersValueParserRequest {
+
+    static JsonNodeParsersValueParserRequest with(final JsonNodeParserLimits limits,
+                                                  final Parser<ParserContext> string,
+                                                  final TextCursor cursor,
+                                                  final ParserContext context) {
+        return new JsonNodeParsersValueParserRequest(
+                limits,
+                string,
+                cursor,
+                context
+        );
+    }
+
+    private JsonNodeParsersValueParserRequest(final JsonNodeParserLimits limits,
+                                              final Parser<ParserContext> string,
+                                              final TextCursor cursor,
+                                              final ParserContext context) {
+        super();
+        this.maxDepth = limits.maxDepth();
+        this.maxNumberLength = limits.maxNumberLength();
+        this.maxProperties = limits.maxProperties();
+        this.maxArrayLength = limits.maxArrayLength();
+        this.maxLength = limits.maxLength();
+        this.string = string;
+        this.cursor = cursor;
+        this.context = context;
+    }
+
+    /**
+     * Parses a value, returning null if none was found.
+     */
+    ParserToken value() {
+        return this.value(0);
+    }
+
+    /**
+     * Dispatches on the first character to the only parser that could match, returning null if none does. A failed
+     * array or object restores the cursor to its start. The depth is the number of arrays and objects that enclose the
+     * value.
+     */
+    private ParserToken value(final int depth) {
+        final TextCursor cursor = this.cursor;
+        ParserToken token = null;
+
+        if (!cursor.isEmpty()) {
+            switch (cursor.at()) {
+                case 'n':
+                    token = this.parse(JsonNodeParsers.nullParser());
+                    break;
+                case 'f':
+                case 't':
+                    token = this.parse(JsonNodeParsers.booleanParser());
+                    break;
+                case JsonNodeParsersStringParser.DOUBLE_QUOTE:
+                    token = this.parse(this.string);
+                    break;
+                case JsonNodeParsersValueParser.ARRAY_BEGIN:
+                    token = this.array(this.nest(depth));
+                    break;
+                case JsonNodeParsersValueParser.OBJECT_BEGIN:
+                    token = this.object(this.nest(depth));
+                    break;
+                default:
+                    token = this.number();
+                    break;
+            }
+        }
+
+        return token;
+    }
+
+    /**
+     * Returns the depth of an array or object beginning at the cursor, failing if it is too deep.
+     */
+    private int nest(final int depth) {
+        final int nested = depth + 1;
+        final int maxDepth = this.maxDepth;
+        if (nested > maxDepth) {
+            throw JsonNodeParsersValueParser.limitExceeded("Nesting depth exceeds " + maxDepth, this.cursor);
+        }
+        return nested;
+    }
+
+    private ParserToken array(final int depth) {
+        final TextCursorSavePoint save = this.cursor.save();
+        final int consumed = this.consumed;
+        final List<ParserToken> tokens = Lists.array();
+
+        this.symbol(JsonNodeParsers.ARRAY_BEGIN_SYMBOL, tokens);
+
+        int count = 0;
+        if (this.element(tokens, depth, count)) {
+            count++;
+
+            for (; ; ) {
+                final TextCursorSavePoint beforeSeparator = this.cursor.save();
+                final int consumedBeforeSeparator = this.consumed;
+                final int tokenCount = tokens.size();
+
+                this.whitespace(tokens);
+                if (!this.symbol(JsonNodeParsers.SEPARATOR_SYMBOL, tokens)) {
+                    this.restore(beforeSeparator, consumedBeforeSeparator, tokens, tokenCount);
+                    break;
+                }
+                if (!this.element(tokens, depth, count)) {
+                    return this.failed(save, consumed);
+                }
+                count++;
+            }
+        }
+
+        this.whitespace(tokens);
+        return this.symbol(JsonNodeParsers.ARRAY_END_SYMBOL, tokens) ?
+                JsonNodeParserToken.array(tokens, save.textBetween().toString()) :
+                this.failed(save, consumed);
+    }
+
+    /**
+     * Parses an optional whitespace followed by a value, restoring the cursor and tokens if the value is missing.
+     * Fails if the array already holds the maximum number of elements.
+     */
+    private boolean element(final List<ParserToken> tokens,
+                            final int depth,
+                            final int count) {
+        final TextCursor cursor = this.cursor;
+        final TextCursorSavePoint save = cursor.save();
+        final int consumed = this.consumed;
+        final int tokenCount = tokens.size();
+
+        this.whitespace(tokens);
+
+        final int maxArrayLength = this.maxArrayLength;
+        if (count == maxArrayLength && !cursor.isEmpty() && JsonNodeParsersValueParser.ARRAY_END != cursor.at()) {
+            throw JsonNodeParsersValueParser.limitExceeded("Array length exceeds " + maxArrayLength, cursor);
+        }
+
+        final ParserToken value = this.value(depth);
+        final boolean parsed = null != value;
+        if (parsed) {
+            tokens.add(value);
+        } else {
+            this.restore(save, consumed, tokens, tokenCount);
+        }
+        return parsed;
+    }
+
+    private ParserToken object(final int depth) {
+        final TextCursorSavePoint save = this.cursor.save();
+        final int consumed = this.consumed;
+        final List<ParserToken> tokens = Lists.array();
+
+        this.symbol(JsonNodeParsers.OBJECT_BEGIN_SYMBOL, tokens);
+
+        int count = 0;
+        if (this.property(tokens, depth, count)) {
+            count++;
+
+            for (; ; ) {
+                final TextCursorSavePoint beforeSeparator = this.cursor.save();
+                final int consumedBeforeSeparator = this.consumed;
+                final int tokenCount = tokens.size();
+
+                this.whitespace(tokens);
+                if (!this.symbol(JsonNodeParsers.SEPARATOR_SYMBOL, tokens)) {
+                    this.restore(beforeSeparator, consumedBeforeSeparator, tokens, tokenCount);
+                    break;
+                }
+                if (!this.property(tokens, depth, count)) {
+                    return this.failed(save, consumed);
+                }
+                count++;
+            }
+        }
+
+        this.whitespace(tokens);
+        return this.symbol(JsonNodeParsers.OBJECT_END_SYMBOL, tokens) ?
+                JsonNodeParserToken.object(tokens, save.textBetween().toString()) :
+                this.failed(save, consumed);
+    }
+
+    /**
+     * Parses a property name, assignment symbol and value along with any whitespace, restoring the cursor and tokens
+     * if any part is missing. Fails if the object already holds the maximum number of properties.
+     */
+    private boolean property(final List<ParserToken> tokens,
+                             final int depth,
+                             final int count) {
+        final TextCursor cursor = this.cursor;
+        final TextCursorSavePoint save = cursor.save();
+        final int consumed = this.consumed;
+        final int tokenCount = tokens.size();
+
+        this.whitespace(tokens);
+
+        final int maxProperties = this.maxProperties;
+        if (count == maxProperties && !cursor.isEmpty() && JsonNodeParsersValueParser.OBJECT_END != cursor.at()) {
+            throw JsonNodeParsersValueParser.limitExceeded("Object properties exceed " + maxProperties, cursor);
+        }
+
+        boolean parsed = false;
+        final ParserToken name = this.parse(this.string);
+        if (null != name) {
+            tokens.add(name);
+            this.whitespace(tokens);
+
+            if (this.symbol(JsonNodeParsers.OBJECT_ASSIGNMENT_SYMBOL, tokens)) {
+                this.whitespace(tokens);
+
+                final ParserToken value = this.value(depth);
+                if (null != value) {
+                    tokens.add(value);
+                    parsed = true;
+                }
+            }
+        }
+
+        if (!parsed) {
+            this.restore(save, consumed, tokens, tokenCount);
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses a number, failing if its text is too long.
+     */
+    private ParserToken number() {
+        final int maxNumberLength = this.maxNumberLength;
+        final TextCursorSavePoint start = Integer.MAX_VALUE == maxNumberLength ?
+                null :
+                this.cursor.save();
+
+        final ParserToken token = this.parse(JsonNodeParsers.number());
+        if (null != start && null != token) {
+            final int length = token.text().length();
+            if (length > maxNumberLength) {
+                start.restore();
+                throw JsonNodeParsersValueParser.limitExceeded(
+                        "Number length " + length + " exceeds " + maxNumberLength,
+                        this.cursor
+                );
+            }
+        }
+        return token;
+    }
+
+    private void whitespace(final List<ParserToken> tokens) {
+        this.symbol(JsonNodeParsers.whitespace(), tokens);
+    }
+
+    /**
+     * Adds the token if the given parser matches, returning true if it did.
+     */
+    private boolean symbol(final Parser<ParserContext> parser,
+                           final List<ParserToken> tokens) {
+        final ParserToken token = this.parse(parser);
+        final boolean parsed = null != token;
+        if (parsed) {
+            tokens.add(token);
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses a single token, adding its text to the consumed count, which fails if the document is now too long.
+     */
+    private ParserToken parse(final Parser<ParserContext> parser) {
+        final TextCursor cursor = this.cursor;
+        final TextCursorSavePoint start = Integer.MAX_VALUE == this.maxLength ?
+                null :
+                cursor.save();
+
+        final ParserToken token = parser.parse(cursor, this.context)
+                .orElse(null);
+        if (null != start && null != token) {
+            final int consumed = this.consumed + token.text().length();
+            if (consumed > this.maxLength) {
+                throw this.lengthExceeded(start);
+            }
+            this.consumed = consumed;
+        }
+        return token;
+    }
+
+    /**
+     * Moves the cursor from the start of the token to the first character past the maximum length and reports it.
+     */
+    private JsonNodeParserLimitException lengthExceeded(final TextCursorSavePoint start) {
+        start.restore();
+
+        final TextCursor cursor = this.cursor;
+        final int maxLength = this.maxLength;
+        for (int i = maxLength - this.consumed; i > 0; i--) {
+            cursor.next();
+        }
+
+        return JsonNodeParsersValueParser.limitExceeded("Document length exceeds " + maxLength, cursor);
+    }
+
+    private void restore(final TextCursorSavePoint save,
+                         final int consumed,
+                         final List<ParserToken> tokens,
+                         final int count) {
+        save.restore();
+        this.consumed = consumed;
+        tokens.subList(count, tokens.size()).clear();
+    }
+
+    private ParserToken failed(final TextCursorSavePoint save,
+                               final int consumed) {
+        save.restore();
+        this.consumed = consumed;
+        return null;
+    }
+
+    private final int maxDepth;
+
+    private final int maxNumberLength;
+
+    private final int maxProperties;
+
+    private final int maxArrayLength;
+
+    private final int maxLength;
+
+    /**
+     * The string parser, which stops at the maximum string length.
+     */
+    private final Parser<ParserContext> string;
+
+    private final TextCursor cursor;
+
+    private final ParserContext context;
+
+    /**
+     * The number of characters consumed by the tokens parsed so far, only counted when there is a maximum length.
+     */
+    private int consumed;
+
+    @Override
+    public String toString() {
+        return this.cursor.toString();
+    }
+}
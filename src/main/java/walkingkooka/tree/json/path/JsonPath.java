@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A compiled JSONPath query, which may be parsed once and then used to select from any number of {@link JsonNode}.
+ * Matches are produced lazily, so {@link #first(JsonNode)}, {@link #select(JsonNode, int)} or a limited
+ * {@link #stream(JsonNode)} stop walking the graph as soon as enough have been found.
+ * <pre>
+ * $                    the root
+ * .name ['name']       a property
+ * .* [*]               all properties or elements
+ * [1] [-1]             an element, negative indices count from the end
+ * [start:end:step]     a slice of elements
+ * [0, 'name']          a union of selectors
+ * ..name ..*           a property or all values of this and all descendants
+ * [?(@.price &gt; 10)] elements or properties that match a filter
+ * </pre>
+ * Filters support comparisons using <code>== != &lt; &lt;= &gt; &gt;=</code>, <code>&amp;&amp; || !</code>,
+ * parentheses, and existence tests such as <code>?(@.id)</code>. Relative paths within filters begin with
+ * <code>@</code>, absolute paths within filters are not supported.
+ * <br>
+ * https://datatracker.ietf.org/doc/html/rfc9535
+ */
+public final class JsonPath {
+
+    /**
+     * Parses the given text into a {@link JsonPath}.
+     */
+    public static JsonPath parse(final String text) {
+        Objects.requireNonNull(text, "text");
+
+        return JsonPathParser.with(text)
+                .parse();
+    }
+
+    static JsonPath with(final String text,
+                         final JsonPathStep[] steps) {
+        return new JsonPath(text, steps);
+    }
+
+    private JsonPath(final String text,
+                     final JsonPathStep[] steps) {
+        super();
+        this.text = text;
+        this.steps = steps;
+    }
+
+    /**
+     * Returns an {@link Iterator} that lazily walks the given {@link JsonNode} returning each match.
+     */
+    public Iterator<JsonNode> iterator(final JsonNode node) {
+        Objects.requireNonNull(node, "node");
+
+        return new JsonPathIterator(this.steps, node);
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of matches.
+     */
+    public Stream<JsonNode> stream(final JsonNode node) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        this.iterator(node),
+                        Spliterator.ORDERED | Spliterator.NONNULL
+                ),
+                false
+        );
+    }
+
+    /**
+     * Returns the first match if any, without evaluating the remainder of the query.
+     */
+    public Optional<JsonNode> first(final JsonNode node) {
+        return Optional.ofNullable(
+                this.firstOrNull(
+                        Objects.requireNonNull(node, "node")
+                )
+        );
+    }
+
+    /**
+     * Returns all matches.
+     */
+    public List<JsonNode> select(final JsonNode node) {
+        return this.select(node, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns up to limit matches, with evaluation stopping once enough are found.
+     */
+    public List<JsonNode> select(final JsonNode node,
+                                 final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit " + limit + " < 0");
+        }
+
+        final List<JsonNode> matches = Lists.array();
+        final Iterator<JsonNode> iterator = this.iterator(node);
+
+        while (matches.size() < limit && iterator.hasNext()) {
+            matches.add(iterator.next());
+        }
+
+        return matches;
+    }
+
+    /**
+     * Used by filters to fetch the value of a relative path.
+     */
+    JsonNode firstOrNull(final JsonNode node) {
+        final Iterator<JsonNode> iterator = new JsonPathIterator(this.steps, node);
+        return iterator.hasNext() ?
+                iterator.next() :
+                null;
+    }
+
+    private final String text;
+
+    private final JsonPathStep[] steps;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.text.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof JsonPath &&
+                        this.text.equals(((JsonPath) other).text);
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+}
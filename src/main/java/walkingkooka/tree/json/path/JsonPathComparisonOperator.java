@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+/**
+ * The comparison operators available within filters. Numbers and strings are ordered, all other values may only be
+ * tested for equality, with <code>&lt;=</code> and <code>&gt;=</code> true when equal.
+ */
+enum JsonPathComparisonOperator {
+
+    EQ("==") {
+        @Override
+        boolean compareTo(final int compareTo) {
+            return 0 == compareTo;
+        }
+
+        @Override
+        boolean numbers(final double left,
+                        final double right) {
+            return left == right;
+        }
+
+        @Override
+        boolean equality(final boolean equal) {
+            return equal;
+        }
+
+        @Override
+        JsonPathComparisonOperator flip() {
+            return this;
+        }
+    },
+
+    NE("!=") {
+        @Override
+        boolean compareTo(final int compareTo) {
+            return 0 != compareTo;
+        }
+
+        @Override
+        boolean numbers(final double left,
+                        final double right) {
+            return left != right;
+        }
+
+        @Override
+        boolean equality(final boolean equal) {
+            return !equal;
+        }
+
+        @Override
+        JsonPathComparisonOperator flip() {
+            return this;
+        }
+    },
+
+    LT("<") {
+        @Override
+        boolean compareTo(final int compareTo) {
+            return compareTo < 0;
+        }
+
+        @Override
+        boolean numbers(final double left,
+                        final double right) {
+            return left < right;
+        }
+
+        @Override
+        boolean equality(final boolean equal) {
+            return false;
+        }
+
+        @Override
+        JsonPathComparisonOperator flip() {
+            return GT;
+        }
+    },
+
+    LE("<=") {
+        @Override
+        boolean compareTo(final int compareTo) {
+            return compareTo <= 0;
+        }
+
+        @Override
+        boolean numbers(final double left,
+                        final double right) {
+            return left <= right;
+        }
+
+        @Override
+        boolean equality(final boolean equal) {
+            return equal;
+        }
+
+        @Override
+        JsonPathComparisonOperator flip() {
+            return GE;
+        }
+    },
+
+    GT(">") {
+        @Override
+        boolean compareTo(final int compareTo) {
+            return compareTo > 0;
+        }
+
+        @Override
+        boolean numbers(final double left,
+                        final double right) {
+            return left > right;
+        }
+
+        @Override
+        boolean equality(final boolean equal) {
+            return false;
+        }
+
+        @Override
+        JsonPathComparisonOperator flip() {
+            return LT;
+        }
+    },
+
+    GE(">=") {
+        @Override
+        boolean compareTo(final int compareTo) {
+            return compareTo >= 0;
+        }
+
+        @Override
+        boolean numbers(final double left,
+                        final double right) {
+            return left >= right;
+        }
+
+        @Override
+        boolean equality(final boolean equal) {
+            return equal;
+        }
+
+        @Override
+        JsonPathComparisonOperator flip() {
+            return LE;
+        }
+    };
+
+    JsonPathComparisonOperator(final String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Tests the result of comparing two strings.
+     */
+    abstract boolean compareTo(final int compareTo);
+
+    /**
+     * Compares two numbers without boxing.
+     */
+    abstract boolean numbers(final double left,
+                             final double right);
+
+    /**
+     * Returns the result for values that can only be tested for equality, including values of different types.
+     */
+    abstract boolean equality(final boolean equal);
+
+    /**
+     * Returns the operator to use when the operands are swapped, so literals are always on the right.
+     */
+    abstract JsonPathComparisonOperator flip();
+
+    /**
+     * Returns the operator with the given symbol or null.
+     */
+    static JsonPathComparisonOperator symbol(final String symbol) {
+        JsonPathComparisonOperator operator = null;
+
+        for (final JsonPathComparisonOperator possible : values()) {
+            if (possible.symbol.equals(symbol)) {
+                operator = possible;
+                break;
+            }
+        }
+        return operator;
+    }
+
+    @Override
+    public String toString() {
+        return this.symbol;
+    }
+
+    private final String symbol;
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.function.Predicate;
+
+/**
+ * A compiled filter expression, which is tested against each candidate, which is the <code>@</code> within the
+ * expression.
+ */
+abstract class JsonPathFilter implements Predicate<JsonNode> {
+
+    /**
+     * Package private to limit sub classing.
+     */
+    JsonPathFilter() {
+        super();
+    }
+
+    @Override
+    public abstract String toString();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * Only tests the right filter if the left does not already decide the result.
+ */
+final class JsonPathFilterAnd extends JsonPathFilter {
+
+    static JsonPathFilterAnd with(final JsonPathFilter left,
+                                  final JsonPathFilter right) {
+        return new JsonPathFilterAnd(left, right);
+    }
+
+    private JsonPathFilterAnd(final JsonPathFilter left,
+                              final JsonPathFilter right) {
+        super();
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public boolean test(final JsonNode node) {
+        return this.left.test(node) && this.right.test(node);
+    }
+
+    private final JsonPathFilter left;
+    private final JsonPathFilter right;
+
+    @Override
+    public String toString() {
+        return "(" + this.left + " && " + this.right + ")";
+    }
+}
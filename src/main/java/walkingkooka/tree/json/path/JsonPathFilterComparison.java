@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * Compares any two operands, each either a relative path or literal, used when the faster number and string
+ * comparisons do not apply.
+ */
+final class JsonPathFilterComparison extends JsonPathFilter {
+
+    /**
+     * Either the path or literal of each operand must be null.
+     */
+    static JsonPathFilterComparison with(final JsonPath leftPath,
+                                         final JsonNode leftLiteral,
+                                         final JsonPathComparisonOperator operator,
+                                         final JsonPath rightPath,
+                                         final JsonNode rightLiteral) {
+        return new JsonPathFilterComparison(
+                leftPath,
+                leftLiteral,
+                operator,
+                rightPath,
+                rightLiteral
+        );
+    }
+
+    private JsonPathFilterComparison(final JsonPath leftPath,
+                                     final JsonNode leftLiteral,
+                                     final JsonPathComparisonOperator operator,
+                                     final JsonPath rightPath,
+                                     final JsonNode rightLiteral) {
+        super();
+        this.leftPath = leftPath;
+        this.leftLiteral = leftLiteral;
+        this.operator = operator;
+        this.rightPath = rightPath;
+        this.rightLiteral = rightLiteral;
+    }
+
+    @Override
+    public boolean test(final JsonNode node) {
+        return compare(
+                operand(this.leftPath, this.leftLiteral, node),
+                this.operator,
+                operand(this.rightPath, this.rightLiteral, node)
+        );
+    }
+
+    private static JsonNode operand(final JsonPath path,
+                                    final JsonNode literal,
+                                    final JsonNode node) {
+        return null != path ?
+                path.firstOrNull(node) :
+                literal;
+    }
+
+    private static boolean compare(final JsonNode left,
+                                   final JsonPathComparisonOperator operator,
+                                   final JsonNode right) {
+        final boolean result;
+
+        if (null == left || null == right) {
+            result = operator.equality(left == right);
+        } else if (left.isNumber() && right.isNumber()) {
+            result = operator.numbers(
+                    left.numberOrFail().doubleValue(),
+                    right.numberOrFail().doubleValue()
+            );
+        } else if (left.isString() && right.isString()) {
+            result = operator.compareTo(
+                    left.stringOrFail()
+                            .compareTo(right.stringOrFail())
+            );
+        } else if (left.getClass() != right.getClass()) {
+            result = operator.equality(false);
+        } else if (left.isBoolean()) {
+            result = operator.equality(left.booleanOrFail() == right.booleanOrFail());
+        } else if (left.isNull()) {
+            result = operator.equality(true);
+        } else {
+            // arrays and objects, ignoring their names and parents
+            result = operator.equality(
+                    left.removeParent()
+                            .equals(right.removeParent())
+            );
+        }
+
+        return result;
+    }
+
+    private final JsonPath leftPath;
+    private final JsonNode leftLiteral;
+    private final JsonPathComparisonOperator operator;
+    private final JsonPath rightPath;
+    private final JsonNode rightLiteral;
+
+    @Override
+    public String toString() {
+        return (null != this.leftPath ? this.leftPath : this.leftLiteral) +
+                " " +
+                this.operator +
+                " " +
+                (null != this.rightPath ? this.rightPath : this.rightLiteral);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * Compares the value of a relative path against a string literal.
+ */
+final class JsonPathFilterStringComparison extends JsonPathFilter {
+
+    static JsonPathFilterStringComparison with(final JsonPath path,
+                                               final JsonPathComparisonOperator operator,
+                                               final String value) {
+        return new JsonPathFilterStringComparison(path, operator, value);
+    }
+
+    private JsonPathFilterStringComparison(final JsonPath path,
+                                           final JsonPathComparisonOperator operator,
+                                           final String value) {
+        super();
+        this.path = path;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    @Override
+    public boolean test(final JsonNode node) {
+        final JsonNode left = this.path.firstOrNull(node);
+
+        return null != left && left.isString() ?
+                this.operator.compareTo(
+                        left.stringOrFail()
+                                .compareTo(this.value)
+                ) :
+                this.operator.equality(false);
+    }
+
+    private final JsonPath path;
+    private final JsonPathComparisonOperator operator;
+    private final String value;
+
+    @Override
+    public String toString() {
+        return this.path + " " + this.operator + " " + JsonNode.string(this.value);
+    }
+}
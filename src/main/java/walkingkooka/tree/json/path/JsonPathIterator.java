@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.Cast;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily evaluates a query, keeping an {@link Iterator} of candidates for each step, advancing the deepest step first
+ * so matches are returned in document order and nothing beyond the last requested match is visited.
+ */
+final class JsonPathIterator implements Iterator<JsonNode> {
+
+    JsonPathIterator(final JsonPathStep[] steps,
+                     final JsonNode node) {
+        super();
+        this.steps = steps;
+
+        if (0 == steps.length) {
+            this.next = node;
+            this.depth = -1;
+        } else {
+            this.iterators = Cast.to(new Iterator[steps.length]);
+            this.iterators[0] = steps[0].apply(node);
+            this.depth = 0;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (null == this.next) {
+            this.next = this.advance();
+        }
+        return null != this.next;
+    }
+
+    @Override
+    public JsonNode next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final JsonNode next = this.next;
+        this.next = null;
+        return next;
+    }
+
+    /**
+     * Returns the next match or null when there are no more.
+     */
+    private JsonNode advance() {
+        final JsonPathStep[] steps = this.steps;
+        final Iterator<JsonNode>[] iterators = this.iterators;
+        final int last = steps.length - 1;
+
+        JsonNode match = null;
+        int depth = this.depth;
+
+        while (depth >= 0) {
+            final Iterator<JsonNode> iterator = iterators[depth];
+            if (iterator.hasNext()) {
+                final JsonNode node = iterator.next();
+                if (last == depth) {
+                    match = node;
+                    break;
+                }
+                depth++;
+                iterators[depth] = steps[depth].apply(node);
+            } else {
+                iterators[depth] = null;
+                depth--;
+            }
+        }
+
+        this.depth = depth;
+        return match;
+    }
+
+    private final JsonPathStep[] steps;
+
+    /**
+     * The candidates for each step, only those up to depth are valid.
+     */
+    private Iterator<JsonNode>[] iterators;
+
+    private int depth;
+
+    private JsonNode next;
+
+    @Override
+    public String toString() {
+        return this.depth + " " + this.next;
+    }
+}
@@ -0,0 +1,598 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.List;
+
+/**
+ * A hand written recursive descent parser that compiles JSONPath text into a {@link JsonPath}, with filter
+ * comparisons against number and string literals compiled into their typed forms.
+ */
+final class JsonPathParser {
+
+    static JsonPathParser with(final String text) {
+        return new JsonPathParser(text);
+    }
+
+    private JsonPathParser(final String text) {
+        super();
+        this.text = text;
+    }
+
+    JsonPath parse() {
+        this.expect('$');
+
+        final List<JsonPathStep> steps = this.segments();
+        if (this.position < this.text.length()) {
+            throw this.invalidCharacter();
+        }
+
+        return this.path(0, steps);
+    }
+
+    // segments.........................................................................................................
+
+    /**
+     * Parses any number of dot and bracket segments.
+     */
+    private List<JsonPathStep> segments() {
+        final List<JsonPathStep> steps = Lists.array();
+
+        for (; ; ) {
+            if (this.isNext('.')) {
+                this.position++;
+
+                if (this.isNext('.')) {
+                    this.position++;
+                    steps.add(JsonPathStepDescendant.INSTANCE);
+
+                    steps.add(
+                            this.isNext('[') ?
+                                    this.bracket() :
+                                    this.dotSelector()
+                    );
+                } else {
+                    steps.add(this.dotSelector());
+                }
+            } else if (this.isNext('[')) {
+                steps.add(this.bracket());
+            } else {
+                break;
+            }
+        }
+
+        return steps;
+    }
+
+    /**
+     * Parses the wildcard or name that follows a dot.
+     */
+    private JsonPathStep dotSelector() {
+        final JsonPathStep step;
+
+        if (this.isNext('*')) {
+            this.position++;
+            step = JsonPathStepWildcard.INSTANCE;
+        } else {
+            final String text = this.text;
+            final int start = this.position;
+            int i = start;
+
+            while (i < text.length() && isNameCharacter(text.charAt(i))) {
+                i++;
+            }
+            if (start == i) {
+                throw this.invalidCharacter();
+            }
+
+            this.position = i;
+            step = JsonPathStepName.with(
+                    JsonPropertyName.with(
+                            text.substring(start, i)
+                    )
+            );
+        }
+
+        return step;
+    }
+
+    private static boolean isNameCharacter(final char c) {
+        return Character.isLetterOrDigit(c) || '_' == c || '-' == c || c >= 0x80;
+    }
+
+    /**
+     * Parses a bracketed list of one or more selectors.
+     */
+    private JsonPathStep bracket() {
+        this.expect('[');
+
+        final List<JsonPathStep> selectors = Lists.array();
+        for (; ; ) {
+            this.whitespace();
+            selectors.add(this.selector());
+            this.whitespace();
+
+            if (this.isNext(']')) {
+                this.position++;
+                break;
+            }
+            this.expect(',');
+        }
+
+        return 1 == selectors.size() ?
+                selectors.get(0) :
+                JsonPathStepUnion.with(selectors.toArray(new JsonPathStep[selectors.size()]));
+    }
+
+    private JsonPathStep selector() {
+        final JsonPathStep step;
+
+        final char c = this.current();
+        switch (c) {
+            case '\'':
+            case '"':
+                step = JsonPathStepName.with(
+                        JsonPropertyName.with(
+                                this.string()
+                        )
+                );
+                break;
+            case '*':
+                this.position++;
+                step = JsonPathStepWildcard.INSTANCE;
+                break;
+            case '?':
+                this.position++;
+                step = JsonPathStepFilter.with(this.or());
+                break;
+            default:
+                step = this.indexOrSlice();
+                break;
+        }
+
+        return step;
+    }
+
+    /**
+     * Parses an index, or a slice which is <code>start:end:step</code> where every part is optional.
+     */
+    private JsonPathStep indexOrSlice() {
+        final Integer start = this.integerOrNull();
+        this.whitespace();
+
+        final JsonPathStep step;
+        if (this.isNext(':')) {
+            this.position++;
+            this.whitespace();
+            final Integer end = this.integerOrNull();
+            this.whitespace();
+
+            int stepValue = 1;
+            if (this.isNext(':')) {
+                this.position++;
+                this.whitespace();
+
+                final Integer parsed = this.integerOrNull();
+                if (null != parsed) {
+                    stepValue = parsed;
+                }
+            }
+
+            step = JsonPathStepSlice.with(start, end, stepValue);
+        } else {
+            if (null == start) {
+                throw this.invalidCharacter();
+            }
+            step = JsonPathStepIndex.with(start);
+        }
+
+        return step;
+    }
+
+    private Integer integerOrNull() {
+        final String text = this.text;
+        final int start = this.position;
+        int i = start;
+
+        if (i < text.length() && '-' == text.charAt(i)) {
+            i++;
+        }
+        final int digits = i;
+        while (i < text.length() && isDigit(text.charAt(i))) {
+            i++;
+        }
+
+        Integer value = null;
+        if (digits != i) {
+            try {
+                value = Integer.parseInt(text.substring(start, i));
+            } catch (final NumberFormatException cause) {
+                throw new IllegalArgumentException("Invalid index " + text.substring(start, i) + " in " + CharSequences.quoteAndEscape(text));
+            }
+            this.position = i;
+        } else if (digits != start) {
+            this.position = i;
+            throw this.invalidCharacter();
+        }
+
+        return value;
+    }
+
+    // filters..........................................................................................................
+
+    private JsonPathFilter or() {
+        JsonPathFilter filter = this.and();
+
+        for (; ; ) {
+            this.whitespace();
+            if (!this.isNext("||")) {
+                break;
+            }
+            this.position += 2;
+            filter = JsonPathFilterOr.with(filter, this.and());
+        }
+
+        return filter;
+    }
+
+    private JsonPathFilter and() {
+        JsonPathFilter filter = this.unary();
+
+        for (; ; ) {
+            this.whitespace();
+            if (!this.isNext("&&")) {
+                break;
+            }
+            this.position += 2;
+            filter = JsonPathFilterAnd.with(filter, this.unary());
+        }
+
+        return filter;
+    }
+
+    private JsonPathFilter unary() {
+        this.whitespace();
+
+        final JsonPathFilter filter;
+        if (this.isNext('!') && !this.isNext("!=")) {
+            this.position++;
+            filter = JsonPathFilterNot.with(this.unary());
+        } else if (this.isNext('(')) {
+            this.position++;
+            filter = this.or();
+            this.whitespace();
+            this.expect(')');
+        } else {
+            filter = this.comparisonOrExists();
+        }
+
+        return filter;
+    }
+
+    /**
+     * Parses a comparison, or a relative path by itself which tests for existence.
+     */
+    private JsonPathFilter comparisonOrExists() {
+        final int start = this.position;
+        final Object left = this.comparable();
+        this.whitespace();
+
+        final JsonPathComparisonOperator operator = this.operatorOrNull();
+
+        final JsonPathFilter filter;
+        if (null == operator) {
+            if (!(left instanceof JsonPath)) {
+                throw new IllegalArgumentException("Missing comparison after " + this.text.substring(start, this.position) + " in " + CharSequences.quoteAndEscape(this.text));
+            }
+            filter = JsonPathFilterExists.with((JsonPath) left);
+        } else {
+            this.whitespace();
+            filter = comparison(left, operator, this.comparable());
+        }
+
+        return filter;
+    }
+
+    /**
+     * Picks the number or string comparison if a path is compared with a literal of those types, flipping the
+     * operator if the literal is on the left.
+     */
+    private static JsonPathFilter comparison(final Object left,
+                                             final JsonPathComparisonOperator operator,
+                                             final Object right) {
+        final JsonPathFilter filter;
+
+        if (left instanceof JsonPath && right instanceof JsonNode) {
+            filter = literalComparison((JsonPath) left, operator, (JsonNode) right);
+        } else if (right instanceof JsonPath && left instanceof JsonNode) {
+            filter = literalComparison((JsonPath) right, operator.flip(), (JsonNode) left);
+        } else {
+            filter = JsonPathFilterComparison.with(
+                    left instanceof JsonPath ? (JsonPath) left : null,
+                    left instanceof JsonNode ? (JsonNode) left : null,
+                    operator,
+                    right instanceof JsonPath ? (JsonPath) right : null,
+                    right instanceof JsonNode ? (JsonNode) right : null
+            );
+        }
+
+        return filter;
+    }
+
+    private static JsonPathFilter literalComparison(final JsonPath path,
+                                                    final JsonPathComparisonOperator operator,
+                                                    final JsonNode literal) {
+        final JsonPathFilter filter;
+
+        if (literal.isNumber()) {
+            filter = JsonPathFilterNumberComparison.with(
+                    path,
+                    operator,
+                    literal.numberOrFail().doubleValue()
+            );
+        } else if (literal.isString()) {
+            filter = JsonPathFilterStringComparison.with(
+                    path,
+                    operator,
+                    literal.stringOrFail()
+            );
+        } else {
+            filter = JsonPathFilterComparison.with(
+                    path,
+                    null,
+                    operator,
+                    null,
+                    literal
+            );
+        }
+
+        return filter;
+    }
+
+    private JsonPathComparisonOperator operatorOrNull() {
+        JsonPathComparisonOperator operator = null;
+
+        final String text = this.text;
+        final int position = this.position;
+        if (position + 1 < text.length()) {
+            operator = JsonPathComparisonOperator.symbol(text.substring(position, position + 2));
+            if (null != operator) {
+                this.position += 2;
+            }
+        }
+        if (null == operator && position < text.length()) {
+            operator = JsonPathComparisonOperator.symbol(text.substring(position, position + 1));
+            if (null != operator) {
+                this.position++;
+            }
+        }
+
+        return operator;
+    }
+
+    /**
+     * Returns either a relative {@link JsonPath} or a literal {@link JsonNode}.
+     */
+    private Object comparable() {
+        final Object comparable;
+
+        final char c = this.current();
+        switch (c) {
+            case '@':
+                final int start = this.position;
+                this.position++;
+                final List<JsonPathStep> steps = this.segments();
+                comparable = this.path(start, steps);
+                break;
+            case '\'':
+            case '"':
+                comparable = JsonNode.string(this.string());
+                break;
+            case 't':
+                this.keyword("true");
+                comparable = JsonNode.booleanNode(true);
+                break;
+            case 'f':
+                this.keyword("false");
+                comparable = JsonNode.booleanNode(false);
+                break;
+            case 'n':
+                this.keyword("null");
+                comparable = JsonNode.nullNode();
+                break;
+            default:
+                if ('-' == c || isDigit(c)) {
+                    comparable = JsonNode.number(this.number());
+                } else {
+                    throw this.invalidCharacter();
+                }
+                break;
+        }
+
+        return comparable;
+    }
+
+    private void keyword(final String keyword) {
+        if (!this.isNext(keyword)) {
+            throw this.invalidCharacter();
+        }
+        this.position += keyword.length();
+    }
+
+    private double number() {
+        final String text = this.text;
+        final int start = this.position;
+        int i = start;
+
+        if ('-' == text.charAt(i)) {
+            i++;
+        }
+        while (i < text.length()) {
+            final char c = text.charAt(i);
+            if (!(isDigit(c) || '.' == c || 'e' == c || 'E' == c || ('+' == c || '-' == c) && ('e' == text.charAt(i - 1) || 'E' == text.charAt(i - 1)))) {
+                break;
+            }
+            i++;
+        }
+
+        try {
+            final double value = Double.parseDouble(text.substring(start, i));
+            this.position = i;
+            return value;
+        } catch (final NumberFormatException cause) {
+            throw new IllegalArgumentException("Invalid number " + text.substring(start, i) + " in " + CharSequences.quoteAndEscape(text));
+        }
+    }
+
+    // helpers..........................................................................................................
+
+    private JsonPath path(final int start,
+                          final List<JsonPathStep> steps) {
+        return JsonPath.with(
+                this.text.substring(start, this.position),
+                steps.toArray(new JsonPathStep[steps.size()])
+        );
+    }
+
+    /**
+     * Parses a single or double quoted string, with the same escapes as json.
+     */
+    private String string() {
+        final String text = this.text;
+        final char quote = text.charAt(this.position);
+        final StringBuilder b = new StringBuilder();
+
+        int i = this.position + 1;
+        for (; ; ) {
+            if (i >= text.length()) {
+                throw new IllegalArgumentException("Unterminated string in " + CharSequences.quoteAndEscape(text));
+            }
+
+            char c = text.charAt(i);
+            if (quote == c) {
+                i++;
+                break;
+            }
+            if ('\\' == c) {
+                i++;
+                if (i >= text.length()) {
+                    continue;
+                }
+                c = text.charAt(i);
+                switch (c) {
+                    case 'b':
+                        c = '\b';
+                        break;
+                    case 'f':
+                        c = '\f';
+                        break;
+                    case 'n':
+                        c = '\n';
+                        break;
+                    case 'r':
+                        c = '\r';
+                        break;
+                    case 't':
+                        c = '\t';
+                        break;
+                    case 'u':
+                        if (i + 4 >= text.length()) {
+                            throw new IllegalArgumentException("Invalid unicode escape sequence in " + CharSequences.quoteAndEscape(text));
+                        }
+                        int unicode = 0;
+                        for (int j = 1; j <= 4; j++) {
+                            final int digit = Character.digit(text.charAt(i + j), 16);
+                            if (-1 == digit) {
+                                this.position = i + j;
+                                throw this.invalidCharacter();
+                            }
+                            unicode = unicode * 16 + digit;
+                        }
+                        i += 4;
+                        c = (char) unicode;
+                        break;
+                    default:
+                        // also handles both quotes, backslash and slash
+                        break;
+                }
+            }
+            b.append(c);
+            i++;
+        }
+
+        this.position = i;
+        return b.toString();
+    }
+
+    private void whitespace() {
+        final String text = this.text;
+        while (this.position < text.length() && Character.isWhitespace(text.charAt(this.position))) {
+            this.position++;
+        }
+    }
+
+    private void expect(final char c) {
+        if (!this.isNext(c)) {
+            throw this.invalidCharacter();
+        }
+        this.position++;
+    }
+
+    private boolean isNext(final char c) {
+        return this.position < this.text.length() && c == this.text.charAt(this.position);
+    }
+
+    private boolean isNext(final String next) {
+        return this.text.startsWith(next, this.position);
+    }
+
+    private char current() {
+        if (this.position >= this.text.length()) {
+            throw this.invalidCharacter();
+        }
+        return this.text.charAt(this.position);
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private IllegalArgumentException invalidCharacter() {
+        final String text = this.text;
+        final int position = this.position;
+
+        return position < text.length() ?
+                new InvalidCharacterException(text, position) :
+                new IllegalArgumentException("Invalid json path " + CharSequences.quoteAndEscape(text) + " unexpected end");
+    }
+
+    private final String text;
+
+    private int position;
+
+    @Override
+    public String toString() {
+        return this.text.substring(this.position);
+    }
+}
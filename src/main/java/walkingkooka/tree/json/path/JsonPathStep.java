@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A single step of a compiled {@link JsonPath}, which returns the candidates selected from a node.
+ */
+abstract class JsonPathStep {
+
+    /**
+     * Package private to limit sub classing.
+     */
+    JsonPathStep() {
+        super();
+    }
+
+    /**
+     * Returns an {@link Iterator} over the nodes this step selects from the given node, which should be lazy where
+     * possible.
+     */
+    abstract Iterator<JsonNode> apply(final JsonNode node);
+
+    /**
+     * Helper that returns an {@link Iterator} with the given node or an empty {@link Iterator} if the node is null.
+     */
+    static Iterator<JsonNode> one(final JsonNode node) {
+        return null == node ?
+                Collections.emptyIterator() :
+                Collections.singletonList(node).iterator();
+    }
+
+    /**
+     * Helper that returns the elements of an array or the values of an object, otherwise an empty {@link List}.
+     */
+    static List<JsonNode> children(final JsonNode node) {
+        return node.isArray() || node.isObject() ?
+                node.children() :
+                Collections.emptyList();
+    }
+
+    @Override
+    public abstract String toString();
+}
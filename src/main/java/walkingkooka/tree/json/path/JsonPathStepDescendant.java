@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Returns the node and all its descendants in document order, and is always followed by the step that selects
+ * from each of them, for example <code>..name</code>. Descendants are visited lazily using a stack of child iterators.
+ */
+final class JsonPathStepDescendant extends JsonPathStep {
+
+    /**
+     * Singleton
+     */
+    final static JsonPathStepDescendant INSTANCE = new JsonPathStepDescendant();
+
+    private JsonPathStepDescendant() {
+        super();
+    }
+
+    @Override
+    Iterator<JsonNode> apply(final JsonNode node) {
+        return new Iterator<JsonNode>() {
+
+            @Override
+            public boolean hasNext() {
+                if (null == this.next) {
+                    final List<Iterator<JsonNode>> stack = this.stack;
+
+                    while (!stack.isEmpty()) {
+                        final Iterator<JsonNode> top = stack.get(stack.size() - 1);
+                        if (top.hasNext()) {
+                            this.next = top.next();
+                            break;
+                        }
+                        stack.remove(stack.size() - 1);
+                    }
+                }
+                return null != this.next;
+            }
+
+            @Override
+            public JsonNode next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final JsonNode next = this.next;
+                this.next = null;
+
+                // children are visited before the following siblings
+                final List<JsonNode> children = children(next);
+                if (!children.isEmpty()) {
+                    this.stack.add(children.iterator());
+                }
+                return next;
+            }
+
+            private JsonNode next = node;
+
+            private final List<Iterator<JsonNode>> stack = Lists.array();
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "..";
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Selects the elements of an array or values of an object that match a filter, testing each only when requested.
+ */
+final class JsonPathStepFilter extends JsonPathStep {
+
+    static JsonPathStepFilter with(final JsonPathFilter filter) {
+        return new JsonPathStepFilter(filter);
+    }
+
+    private JsonPathStepFilter(final JsonPathFilter filter) {
+        super();
+        this.filter = filter;
+    }
+
+    @Override
+    Iterator<JsonNode> apply(final JsonNode node) {
+        final List<JsonNode> children = children(node);
+        final JsonPathFilter filter = this.filter;
+
+        return new Iterator<JsonNode>() {
+
+            @Override
+            public boolean hasNext() {
+                while (null == this.next && this.i < children.size()) {
+                    final JsonNode child = children.get(this.i++);
+                    if (filter.test(child)) {
+                        this.next = child;
+                    }
+                }
+                return null != this.next;
+            }
+
+            @Override
+            public JsonNode next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final JsonNode next = this.next;
+                this.next = null;
+                return next;
+            }
+
+            private int i;
+
+            private JsonNode next;
+        };
+    }
+
+    private final JsonPathFilter filter;
+
+    @Override
+    public String toString() {
+        return "[?" + this.filter + "]";
+    }
+}
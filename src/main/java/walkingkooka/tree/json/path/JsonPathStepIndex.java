@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Selects a single element of an array, where negative indices count back from the end.
+ */
+final class JsonPathStepIndex extends JsonPathStep {
+
+    static JsonPathStepIndex with(final int index) {
+        return new JsonPathStepIndex(index);
+    }
+
+    private JsonPathStepIndex(final int index) {
+        super();
+        this.index = index;
+    }
+
+    @Override
+    Iterator<JsonNode> apply(final JsonNode node) {
+        JsonNode element = null;
+
+        if (node.isArray()) {
+            final List<JsonNode> children = node.children();
+            final int size = children.size();
+
+            int index = this.index;
+            if (index < 0) {
+                index += size;
+            }
+            if (index >= 0 && index < size) {
+                element = children.get(index);
+            }
+        }
+
+        return one(element);
+    }
+
+    private final int index;
+
+    @Override
+    public String toString() {
+        return "[" + this.index + "]";
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Iterator;
+
+/**
+ * Selects a single property of an object.
+ */
+final class JsonPathStepName extends JsonPathStep {
+
+    static JsonPathStepName with(final JsonPropertyName name) {
+        return new JsonPathStepName(name);
+    }
+
+    private JsonPathStepName(final JsonPropertyName name) {
+        super();
+        this.name = name;
+    }
+
+    @Override
+    Iterator<JsonNode> apply(final JsonNode node) {
+        return one(
+                node.isObject() ?
+                        node.objectOrFail()
+                                .get(this.name)
+                                .orElse(null) :
+                        null
+        );
+    }
+
+    private final JsonPropertyName name;
+
+    @Override
+    public String toString() {
+        return "[" + CharSequences.quoteAndEscape(this.name.value()) + "]";
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Selects a range of elements of an array, with missing bounds defaulting to the start and end depending on the
+ * direction of the step.
+ */
+final class JsonPathStepSlice extends JsonPathStep {
+
+    /**
+     * A null start or end is treated as missing.
+     */
+    static JsonPathStepSlice with(final Integer start,
+                                  final Integer end,
+                                  final int step) {
+        return new JsonPathStepSlice(start, end, step);
+    }
+
+    private JsonPathStepSlice(final Integer start,
+                              final Integer end,
+                              final int step) {
+        super();
+        this.start = start;
+        this.end = end;
+        this.step = step;
+    }
+
+    @Override
+    Iterator<JsonNode> apply(final JsonNode node) {
+        final int step = this.step;
+        if (!node.isArray() || 0 == step) {
+            return Collections.emptyIterator();
+        }
+
+        final List<JsonNode> children = node.children();
+        final int size = children.size();
+
+        final int lower;
+        final int upper;
+        final int first;
+
+        if (step > 0) {
+            lower = null == this.start ? 0 : clamp(this.start, size, 0, size);
+            upper = null == this.end ? size : clamp(this.end, size, 0, size);
+            first = lower;
+        } else {
+            upper = null == this.start ? size - 1 : clamp(this.start, size, -1, size - 1);
+            lower = null == this.end ? -1 : clamp(this.end, size, -1, size - 1);
+            first = upper;
+        }
+
+        return new Iterator<JsonNode>() {
+            @Override
+            public boolean hasNext() {
+                return step > 0 ?
+                        this.i < upper :
+                        this.i > lower;
+            }
+
+            @Override
+            public JsonNode next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final JsonNode next = children.get(this.i);
+                this.i += step;
+                return next;
+            }
+
+            private int i = first;
+        };
+    }
+
+    /**
+     * Normalizes a bound, counting negative values from the end, and clamping to the given range.
+     */
+    private static int clamp(final int value,
+                             final int size,
+                             final int min,
+                             final int max) {
+        final int normalized = value < 0 ?
+                size + value :
+                value;
+        return Math.min(Math.max(normalized, min), max);
+    }
+
+    private final Integer start;
+    private final Integer end;
+    private final int step;
+
+    @Override
+    public String toString() {
+        return "[" +
+                (null == this.start ? "" : this.start) +
+                ":" +
+                (null == this.end ? "" : this.end) +
+                ":" +
+                this.step +
+                "]";
+    }
+}
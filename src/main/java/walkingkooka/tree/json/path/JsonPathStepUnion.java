@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Concatenates the nodes selected by two or more selectors, for example <code>[0, 'name']</code>.
+ */
+final class JsonPathStepUnion extends JsonPathStep {
+
+    static JsonPathStepUnion with(final JsonPathStep[] selectors) {
+        return new JsonPathStepUnion(selectors);
+    }
+
+    private JsonPathStepUnion(final JsonPathStep[] selectors) {
+        super();
+        this.selectors = selectors;
+    }
+
+    @Override
+    Iterator<JsonNode> apply(final JsonNode node) {
+        final JsonPathStep[] selectors = this.selectors;
+
+        return new Iterator<JsonNode>() {
+
+            @Override
+            public boolean hasNext() {
+                while (!this.current.hasNext() && this.i < selectors.length) {
+                    this.current = selectors[this.i++].apply(node);
+                }
+                return this.current.hasNext();
+            }
+
+            @Override
+            public JsonNode next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return this.current.next();
+            }
+
+            private int i;
+
+            private Iterator<JsonNode> current = Collections.emptyIterator();
+        };
+    }
+
+    private final JsonPathStep[] selectors;
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        String separator = "";
+
+        for (final JsonPathStep selector : this.selectors) {
+            final String text = selector.toString();
+            b.append(separator)
+                    .append(text, 1, text.length() - 1);
+            separator = ", ";
+        }
+
+        return "[" + b + "]";
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A JSON Schema (draft 2020-12) compiled once into a tree of validators, which then validates any number of
+ * {@link JsonNode} directly. Errors include the {@link walkingkooka.tree.json.JsonPointer} to the failing value and
+ * validation may either collect every error or stop early after a limit.
+ * <br>
+ * The core applicator and validation keywords are supported:
+ * <pre>
+ * type enum const
+ * multipleOf minimum exclusiveMinimum maximum exclusiveMaximum
+ * minLength maxLength
+ * items prefixItems contains minContains maxContains minItems maxItems uniqueItems
+ * properties additionalProperties propertyNames required dependentRequired dependentSchemas minProperties maxProperties
+ * allOf anyOf oneOf not if then else
+ * $ref to the same schema such as "#/$defs/name"
+ * </pre>
+ * Annotations such as <code>title</code> and <code>format</code> and unknown keywords are ignored. The regular
+ * expression keywords <code>pattern</code> and <code>patternProperties</code>, the <code>unevaluated*</code> keywords
+ * and dynamic references are not supported and fail when compiled.
+ * <br>
+ * https://json-schema.org/draft/2020-12/json-schema-validation
+ */
+public final class JsonSchema {
+
+    /**
+     * The size of the cache of recently compiled schemas.
+     */
+    final static int CACHE_SIZE = 64;
+
+    /**
+     * Compiles the given schema, returning the same {@link JsonSchema} if the same schema instance was recently
+     * compiled.
+     */
+    public static JsonSchema compile(final JsonNode schema) {
+        Objects.requireNonNull(schema, "schema");
+
+        final Identity key = new Identity(schema);
+
+        JsonSchema compiled;
+        synchronized (CACHE) {
+            compiled = CACHE.get(key);
+        }
+
+        if (null == compiled) {
+            compiled = new JsonSchema(
+                    schema,
+                    JsonSchemaCompiler.compile(schema)
+            );
+            synchronized (CACHE) {
+                CACHE.put(key, compiled);
+            }
+        }
+
+        return compiled;
+    }
+
+    /**
+     * A least recently used cache of compiled schemas, keyed by the identity of the schema node.
+     */
+    private final static Map<Identity, JsonSchema> CACHE = new LinkedHashMap<Identity, JsonSchema>(CACHE_SIZE, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Identity, JsonSchema> eldest) {
+            return this.size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * A cache key that compares the schema by identity.
+     */
+    private final static class Identity {
+
+        Identity(final JsonNode schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.schema);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Identity &&
+                    this.schema == ((Identity) other).schema;
+        }
+
+        private final JsonNode schema;
+    }
+
+    private JsonSchema(final JsonNode schema,
+                       final JsonSchemaValidator validator) {
+        super();
+        this.schema = schema;
+        this.validator = validator;
+    }
+
+    /**
+     * Returns the schema that was compiled.
+     */
+    public JsonNode schema() {
+        return this.schema;
+    }
+
+    private final JsonNode schema;
+
+    /**
+     * Returns true if the value is valid, stopping at the first error.
+     */
+    public boolean isValid(final JsonNode node) {
+        Objects.requireNonNull(node, "node");
+
+        return this.validator.validate(
+                node,
+                JsonSchemaContext.silent()
+        );
+    }
+
+    /**
+     * Validates the value returning all errors.
+     */
+    public List<JsonSchemaError> validate(final JsonNode node) {
+        return this.validate(node, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Validates the value returning up to limit errors, with validation stopping once enough are found.
+     */
+    public List<JsonSchemaError> validate(final JsonNode node,
+                                          final int limit) {
+        Objects.requireNonNull(node, "node");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Invalid limit " + limit + " <= 0");
+        }
+
+        final JsonSchemaContext context = JsonSchemaContext.with(limit);
+        this.validator.validate(node, context);
+        return context.errors();
+    }
+
+    private final JsonSchemaValidator validator;
+
+    @Override
+    public String toString() {
+        return this.schema.toString();
+    }
+}
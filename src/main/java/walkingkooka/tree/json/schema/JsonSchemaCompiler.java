@@ -0,0 +1,542 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPointer;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a schema document into a tree of {@link JsonSchemaValidator}. Unknown keywords and annotations such as
+ * <code>title</code> or <code>format</code> are ignored, while keywords that are not supported fail rather than
+ * silently accepting everything. <code>$ref</code> within the same document are compiled once each after the rest of
+ * the schema, which allows recursive schemas. A <code>$ref</code> that leads back to itself without first descending
+ * into a property or item would validate the same node forever, and fails when the schema is compiled.
+ */
+final class JsonSchemaCompiler {
+
+    static JsonSchemaValidator compile(final JsonNode schema) {
+        return new JsonSchemaCompiler(schema)
+                .compile();
+    }
+
+    private JsonSchemaCompiler(final JsonNode root) {
+        super();
+        this.root = root;
+    }
+
+    private JsonSchemaValidator compile() {
+        final JsonSchemaValidator validator = this.compile(this.root, "");
+
+        final List<JsonSchemaValidatorRef> references = this.references;
+        while (!references.isEmpty()) {
+            final JsonSchemaValidatorRef reference = references.remove(references.size() - 1);
+            reference.target = this.resolve(reference.reference);
+        }
+
+        final Map<String, Boolean> checked = Maps.hash();
+        for (final String reference : this.referenceToSameNode.keySet()) {
+            this.checkCycle(reference, checked);
+        }
+
+        return validator;
+    }
+
+    private final JsonNode root;
+
+    // $ref.............................................................................................................
+
+    private JsonSchemaValidator ref(final JsonNode value,
+                                    final String path) {
+        final String reference = string(value, path);
+        if (!reference.startsWith("#")) {
+            throw new IllegalArgumentException("Invalid schema " + CharSequences.quoteAndEscape(path) + " unsupported $ref " + CharSequences.quoteAndEscape(reference) + " only references within the same schema are supported");
+        }
+
+        final JsonSchemaValidatorRef validator = JsonSchemaValidatorRef.with(reference);
+        this.references.add(validator);
+
+        final List<String> sameNode = this.sameNode;
+        if (null != sameNode) {
+            sameNode.add(reference);
+        }
+        return validator;
+    }
+
+    /**
+     * Returns the compiled target of a reference, compiling it the first time.
+     */
+    private JsonSchemaValidator resolve(final String reference) {
+        JsonSchemaValidator validator = this.referenceToValidator.get(reference);
+
+        if (null == validator) {
+            final String path = reference.substring(1);
+            final JsonPointer pointer;
+            try {
+                pointer = JsonPointer.parse(path);
+            } catch (final IllegalArgumentException cause) {
+                throw new IllegalArgumentException("Invalid schema unsupported $ref " + CharSequences.quoteAndEscape(reference), cause);
+            }
+
+            final List<String> sameNode = Lists.array();
+            this.sameNode = sameNode;
+
+            validator = this.compile(
+                    pointer.get(this.root)
+                            .orElseThrow(() -> new IllegalArgumentException("Invalid schema unknown $ref " + CharSequences.quoteAndEscape(reference))),
+                    path
+            );
+            this.referenceToValidator.put(reference, validator);
+            this.referenceToSameNode.put(reference, sameNode);
+            this.sameNode = null;
+        }
+
+        return validator;
+    }
+
+    /**
+     * Walks the references each reference target applies to the same node, failing if one leads back to a reference
+     * that is still being walked. Entries in checked are true while being walked and false once known to be safe.
+     */
+    private void checkCycle(final String reference,
+                            final Map<String, Boolean> checked) {
+        final Boolean walking = checked.get(reference);
+        if (Boolean.TRUE.equals(walking)) {
+            throw new IllegalArgumentException("Invalid schema $ref " + CharSequences.quoteAndEscape(reference) + " refers to itself without descending into a property or item");
+        }
+        if (null == walking) {
+            checked.put(reference, Boolean.TRUE);
+            for (final String next : this.referenceToSameNode.get(reference)) {
+                this.checkCycle(next, checked);
+            }
+            checked.put(reference, Boolean.FALSE);
+        }
+    }
+
+    /**
+     * References waiting to be resolved.
+     */
+    private final List<JsonSchemaValidatorRef> references = Lists.array();
+
+    private final Map<String, JsonSchemaValidator> referenceToValidator = Maps.hash();
+
+    /**
+     * The references each resolved reference target applies to the same node, rather than a property or item.
+     */
+    private final Map<String, List<String>> referenceToSameNode = Maps.hash();
+
+    /**
+     * Collects references applied to the same node as the reference target being compiled, or null when compiling the
+     * root or a property or item schema.
+     */
+    private List<String> sameNode;
+
+    // schema...........................................................................................................
+
+    /**
+     * Compiles a boolean or object schema.
+     */
+    private JsonSchemaValidator compile(final JsonNode schema,
+                                        final String path) {
+        final JsonSchemaValidator validator;
+
+        if (schema.isBoolean()) {
+            validator = schema.booleanOrFail() ?
+                    JsonSchemaValidatorBoolean.TRUE :
+                    JsonSchemaValidatorBoolean.FALSE;
+        } else if (schema.isObject()) {
+            validator = this.keywords(schema, path);
+        } else {
+            throw invalid(path, "expected boolean or object got " + JsonSchemaValidator.text(schema));
+        }
+
+        return validator;
+    }
+
+    private JsonSchemaValidator keywords(final JsonNode schema,
+                                         final String path) {
+        final List<JsonSchemaValidator> validators = Lists.array();
+
+        Map<JsonPropertyName, JsonSchemaValidator> properties = null;
+        JsonSchemaValidator additionalProperties = null;
+        JsonSchemaValidator[] prefixItems = null;
+        JsonSchemaValidator items = null;
+        JsonSchemaValidator contains = null;
+        int minContains = 1;
+        int maxContains = Integer.MAX_VALUE;
+        JsonSchemaValidator condition = null;
+        JsonSchemaValidator then = JsonSchemaValidatorBoolean.TRUE;
+        JsonSchemaValidator otherwise = JsonSchemaValidatorBoolean.TRUE;
+
+        for (final JsonNode keyword : schema.children()) {
+            final String name = keyword.name().value();
+            final String keywordPath = path(path, name);
+
+            // references within these keywords apply to a property or item and cannot loop on this node
+            final List<String> sameNode = this.sameNode;
+            if (isPropertyOrItem(name)) {
+                this.sameNode = null;
+            }
+
+            switch (name) {
+                case "$ref":
+                    validators.add(this.ref(keyword, keywordPath));
+                    break;
+                case "type":
+                    validators.add(type(keyword, keywordPath));
+                    break;
+                case "enum":
+                    validators.add(
+                            JsonSchemaValidatorEnum.with(
+                                    name,
+                                    array(keyword, keywordPath)
+                                            .toArray(new JsonNode[0])
+                            )
+                    );
+                    break;
+                case "const":
+                    validators.add(
+                            JsonSchemaValidatorEnum.with(
+                                    name,
+                                    new JsonNode[]{keyword}
+                            )
+                    );
+                    break;
+                case "multipleOf":
+                    final double divisor = number(keyword, keywordPath);
+                    if (divisor <= 0) {
+                        throw invalid(keywordPath, "expected number greater than 0 got " + JsonSchemaValidator.text(keyword));
+                    }
+                    validators.add(JsonSchemaValidatorMultipleOf.with(divisor));
+                    break;
+                case "minimum":
+                    validators.add(JsonSchemaValidatorNumberBound.minimum(number(keyword, keywordPath)));
+                    break;
+                case "exclusiveMinimum":
+                    validators.add(JsonSchemaValidatorNumberBound.exclusiveMinimum(number(keyword, keywordPath)));
+                    break;
+                case "maximum":
+                    validators.add(JsonSchemaValidatorNumberBound.maximum(number(keyword, keywordPath)));
+                    break;
+                case "exclusiveMaximum":
+                    validators.add(JsonSchemaValidatorNumberBound.exclusiveMaximum(number(keyword, keywordPath)));
+                    break;
+                case "minLength":
+                    validators.add(JsonSchemaValidatorSize.minLength(count(keyword, keywordPath)));
+                    break;
+                case "maxLength":
+                    validators.add(JsonSchemaValidatorSize.maxLength(count(keyword, keywordPath)));
+                    break;
+                case "minItems":
+                    validators.add(JsonSchemaValidatorSize.minItems(count(keyword, keywordPath)));
+                    break;
+                case "maxItems":
+                    validators.add(JsonSchemaValidatorSize.maxItems(count(keyword, keywordPath)));
+                    break;
+                case "minProperties":
+                    validators.add(JsonSchemaValidatorSize.minProperties(count(keyword, keywordPath)));
+                    break;
+                case "maxProperties":
+                    validators.add(JsonSchemaValidatorSize.maxProperties(count(keyword, keywordPath)));
+                    break;
+                case "uniqueItems":
+                    if (booleanValue(keyword, keywordPath)) {
+                        validators.add(JsonSchemaValidatorUniqueItems.INSTANCE);
+                    }
+                    break;
+                case "required":
+                    validators.add(JsonSchemaValidatorRequired.with(names(keyword, keywordPath)));
+                    break;
+                case "dependentRequired":
+                    final Map<JsonPropertyName, JsonPropertyName[]> dependentRequired = Maps.ordered();
+                    for (final JsonNode dependency : object(keyword, keywordPath)) {
+                        dependentRequired.put(
+                                dependency.name(),
+                                names(dependency, path(keywordPath, dependency.name().value()))
+                        );
+                    }
+                    validators.add(JsonSchemaValidatorDependentRequired.with(dependentRequired));
+                    break;
+                case "dependentSchemas":
+                    validators.add(JsonSchemaValidatorDependentSchemas.with(this.schemas(keyword, keywordPath)));
+                    break;
+                case "properties":
+                    properties = this.schemas(keyword, keywordPath);
+                    break;
+                case "additionalProperties":
+                    additionalProperties = this.compile(keyword, keywordPath);
+                    break;
+                case "propertyNames":
+                    validators.add(JsonSchemaValidatorPropertyNames.with(this.compile(keyword, keywordPath)));
+                    break;
+                case "prefixItems":
+                    prefixItems = this.schemaArray(keyword, keywordPath);
+                    break;
+                case "items":
+                    items = this.compile(keyword, keywordPath);
+                    break;
+                case "contains":
+                    contains = this.compile(keyword, keywordPath);
+                    break;
+                case "minContains":
+                    minContains = count(keyword, keywordPath);
+                    break;
+                case "maxContains":
+                    maxContains = count(keyword, keywordPath);
+                    break;
+                case "allOf":
+                    validators.add(JsonSchemaValidatorKeywords.with(this.schemaArray(keyword, keywordPath)));
+                    break;
+                case "anyOf":
+                    validators.add(JsonSchemaValidatorAnyOf.with(this.schemaArray(keyword, keywordPath)));
+                    break;
+                case "oneOf":
+                    validators.add(JsonSchemaValidatorOneOf.with(this.schemaArray(keyword, keywordPath)));
+                    break;
+                case "not":
+                    validators.add(JsonSchemaValidatorNot.with(this.compile(keyword, keywordPath)));
+                    break;
+                case "if":
+                    condition = this.compile(keyword, keywordPath);
+                    break;
+                case "then":
+                    then = this.compile(keyword, keywordPath);
+                    break;
+                case "else":
+                    otherwise = this.compile(keyword, keywordPath);
+                    break;
+                case "pattern":
+                case "patternProperties":
+                case "unevaluatedItems":
+                case "unevaluatedProperties":
+                case "$dynamicRef":
+                case "$recursiveRef":
+                    throw invalid(keywordPath, "unsupported keyword");
+                default:
+                    // annotations, $defs and unknown keywords are ignored
+                    break;
+            }
+
+            this.sameNode = sameNode;
+        }
+
+        if (null != properties || null != additionalProperties) {
+            validators.add(
+                    JsonSchemaValidatorProperties.with(
+                            null != properties ? properties : Maps.empty(),
+                            additionalProperties
+                    )
+            );
+        }
+        if (null != prefixItems || null != items) {
+            validators.add(
+                    JsonSchemaValidatorItems.with(
+                            null != prefixItems ? prefixItems : new JsonSchemaValidator[0],
+                            items
+                    )
+            );
+        }
+        if (null != contains) {
+            validators.add(JsonSchemaValidatorContains.with(contains, minContains, maxContains));
+        }
+        if (null != condition) {
+            validators.add(JsonSchemaValidatorIf.with(condition, then, otherwise));
+        }
+
+        return JsonSchemaValidatorKeywords.with(
+                validators.toArray(new JsonSchemaValidator[validators.size()])
+        );
+    }
+
+    /**
+     * Keywords whose schemas validate a property, property name or item rather than the node itself.
+     */
+    private static boolean isPropertyOrItem(final String name) {
+        final boolean propertyOrItem;
+
+        switch (name) {
+            case "properties":
+            case "additionalProperties":
+            case "propertyNames":
+            case "prefixItems":
+            case "items":
+            case "contains":
+                propertyOrItem = true;
+                break;
+            default:
+                propertyOrItem = false;
+                break;
+        }
+
+        return propertyOrItem;
+    }
+
+    /**
+     * Compiles each property of an object into a schema.
+     */
+    private Map<JsonPropertyName, JsonSchemaValidator> schemas(final JsonNode keyword,
+                                                               final String path) {
+        final Map<JsonPropertyName, JsonSchemaValidator> schemas = Maps.ordered();
+
+        for (final JsonNode property : object(keyword, path)) {
+            final JsonPropertyName name = property.name();
+            schemas.put(
+                    name,
+                    this.compile(property, path(path, name.value()))
+            );
+        }
+
+        return schemas;
+    }
+
+    /**
+     * Compiles each element of a non empty array into a schema.
+     */
+    private JsonSchemaValidator[] schemaArray(final JsonNode keyword,
+                                              final String path) {
+        final List<JsonNode> elements = array(keyword, path);
+        if (elements.isEmpty()) {
+            throw invalid(path, "expected non empty array");
+        }
+
+        final JsonSchemaValidator[] schemas = new JsonSchemaValidator[elements.size()];
+        for (int i = 0; i < schemas.length; i++) {
+            schemas[i] = this.compile(elements.get(i), path + "/" + i);
+        }
+        return schemas;
+    }
+
+    // values...........................................................................................................
+
+    private static JsonSchemaValidatorType type(final JsonNode keyword,
+                                                final String path) {
+        int mask = 0;
+
+        if (keyword.isString()) {
+            mask = typeBit(keyword, path);
+        } else {
+            for (final JsonNode type : array(keyword, path)) {
+                mask |= typeBit(type, path);
+            }
+        }
+
+        return JsonSchemaValidatorType.with(mask);
+    }
+
+    private static int typeBit(final JsonNode type,
+                               final String path) {
+        final String name = string(type, path);
+
+        final int bit = JsonSchemaValidatorType.bit(name);
+        if (-1 == bit) {
+            throw invalid(path, "unknown type " + CharSequences.quoteAndEscape(name));
+        }
+        return bit;
+    }
+
+    private static JsonPropertyName[] names(final JsonNode keyword,
+                                            final String path) {
+        final List<JsonNode> elements = array(keyword, path);
+
+        final JsonPropertyName[] names = new JsonPropertyName[elements.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = JsonPropertyName.with(string(elements.get(i), path));
+        }
+        return names;
+    }
+
+    private static List<JsonNode> array(final JsonNode keyword,
+                                        final String path) {
+        if (!keyword.isArray()) {
+            throw invalid(path, "expected array got " + JsonSchemaValidator.text(keyword));
+        }
+        return keyword.children();
+    }
+
+    private static List<JsonNode> object(final JsonNode keyword,
+                                         final String path) {
+        if (!keyword.isObject()) {
+            throw invalid(path, "expected object got " + JsonSchemaValidator.text(keyword));
+        }
+        return keyword.children();
+    }
+
+    private static boolean booleanValue(final JsonNode keyword,
+                                        final String path) {
+        if (!keyword.isBoolean()) {
+            throw invalid(path, "expected boolean got " + JsonSchemaValidator.text(keyword));
+        }
+        return keyword.booleanOrFail();
+    }
+
+    private static double number(final JsonNode keyword,
+                                 final String path) {
+        if (!keyword.isNumber()) {
+            throw invalid(path, "expected number got " + JsonSchemaValidator.text(keyword));
+        }
+        return keyword.numberOrFail()
+                .doubleValue();
+    }
+
+    /**
+     * Returns a non negative integer, with very large values treated as {@link Integer#MAX_VALUE}.
+     */
+    private static int count(final JsonNode keyword,
+                             final String path) {
+        final double value = number(keyword, path);
+        if (value < 0 || !JsonSchemaValidatorType.isInteger(keyword)) {
+            throw invalid(path, "expected non negative integer got " + JsonSchemaValidator.text(keyword));
+        }
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    private static String string(final JsonNode keyword,
+                                 final String path) {
+        if (!keyword.isString()) {
+            throw invalid(path, "expected string got " + JsonSchemaValidator.text(keyword));
+        }
+        return keyword.stringOrFail();
+    }
+
+    /**
+     * Appends a property name to a path, used to report where an invalid keyword is.
+     */
+    private static String path(final String path,
+                               final String name) {
+        final StringBuilder b = new StringBuilder(path)
+                .append('/');
+        JsonSchemaContext.escape(name, b);
+        return b.toString();
+    }
+
+    private static IllegalArgumentException invalid(final String path,
+                                                    final String message) {
+        return new IllegalArgumentException("Invalid schema " + CharSequences.quoteAndEscape(path) + " " + message);
+    }
+
+    @Override
+    public String toString() {
+        return this.root.toString();
+    }
+}
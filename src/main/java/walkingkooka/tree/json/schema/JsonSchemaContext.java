@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonPointer;
+
+import java.util.List;
+
+/**
+ * Tracks the location of the value being validated and records errors, until the limit is reached after which
+ * validators stop as soon as possible. Silent contexts, used to test sub schemas for <code>anyOf</code>,
+ * <code>oneOf</code>, <code>not</code>, <code>if</code> and <code>contains</code>, only count the first failure.
+ */
+final class JsonSchemaContext {
+
+    static JsonSchemaContext with(final int limit) {
+        return new JsonSchemaContext(Lists.array(), limit);
+    }
+
+    static JsonSchemaContext silent() {
+        return new JsonSchemaContext(null, 1);
+    }
+
+    private JsonSchemaContext(final List<JsonSchemaError> errors,
+                              final int limit) {
+        super();
+        this.errors = errors;
+        this.limit = limit;
+    }
+
+    /**
+     * Records a failure at the current location and always returns false.
+     */
+    boolean fail(final String keyword,
+                 final String message) {
+        this.count++;
+
+        final List<JsonSchemaError> errors = this.errors;
+        if (null != errors) {
+            errors.add(
+                    JsonSchemaError.with(
+                            this.pointer(),
+                            keyword,
+                            message
+                    )
+            );
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns true once enough errors have been found and validation should stop.
+     */
+    boolean isComplete() {
+        return this.count >= this.limit;
+    }
+
+    private int count;
+
+    private final int limit;
+
+    List<JsonSchemaError> errors() {
+        return this.errors;
+    }
+
+    private final List<JsonSchemaError> errors;
+
+    // path.............................................................................................................
+
+    /**
+     * Enters a property of the current object.
+     */
+    void push(final String name) {
+        this.path.add(name);
+    }
+
+    /**
+     * Enters an element of the current array.
+     */
+    void push(final int index) {
+        this.path.add(index);
+    }
+
+    /**
+     * Leaves the last property or element entered.
+     */
+    void pop() {
+        this.path.remove(this.path.size() - 1);
+    }
+
+    /**
+     * Names and indices of the values from the root to the current value.
+     */
+    private final List<Object> path = Lists.array();
+
+    /**
+     * Creates the {@link JsonPointer} to the current value, only needed when an error is recorded.
+     */
+    private JsonPointer pointer() {
+        final StringBuilder b = new StringBuilder();
+
+        for (final Object step : this.path) {
+            b.append('/');
+            if (step instanceof String) {
+                escape((String) step, b);
+            } else {
+                b.append(step);
+            }
+        }
+
+        return JsonPointer.parse(b.toString());
+    }
+
+    /**
+     * Appends the name escaping <code>~</code> and <code>/</code> as required by a {@link JsonPointer}.
+     */
+    static void escape(final String name,
+                       final StringBuilder b) {
+        final int length = name.length();
+        for (int i = 0; i < length; i++) {
+            final char c = name.charAt(i);
+            switch (c) {
+                case '~':
+                    b.append("~0");
+                    break;
+                case '/':
+                    b.append("~1");
+                    break;
+                default:
+                    b.append(c);
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.path + " " + this.count + "/" + this.limit;
+    }
+}
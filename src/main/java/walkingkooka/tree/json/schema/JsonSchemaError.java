@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonPointer;
+
+import java.util.Objects;
+
+/**
+ * A single failure reported by {@link JsonSchema#validate(walkingkooka.tree.json.JsonNode)}, with the
+ * {@link JsonPointer} to the failing value within the validated document and the keyword that failed.
+ */
+public final class JsonSchemaError {
+
+    static JsonSchemaError with(final JsonPointer path,
+                                final String keyword,
+                                final String message) {
+        return new JsonSchemaError(path, keyword, message);
+    }
+
+    private JsonSchemaError(final JsonPointer path,
+                            final String keyword,
+                            final String message) {
+        super();
+        this.path = path;
+        this.keyword = keyword;
+        this.message = message;
+    }
+
+    /**
+     * The location of the failing value within the validated document.
+     */
+    public JsonPointer path() {
+        return this.path;
+    }
+
+    private final JsonPointer path;
+
+    /**
+     * The schema keyword that failed, such as <code>required</code>.
+     */
+    public String keyword() {
+        return this.keyword;
+    }
+
+    private final String keyword;
+
+    public String message() {
+        return this.message;
+    }
+
+    private final String message;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.path, this.keyword, this.message);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof JsonSchemaError &&
+                        this.equals0((JsonSchemaError) other);
+    }
+
+    private boolean equals0(final JsonSchemaError other) {
+        return this.path.equals(other.path) &&
+                this.keyword.equals(other.keyword) &&
+                this.message.equals(other.message);
+    }
+
+    @Override
+    public String toString() {
+        return CharSequences.quoteAndEscape(this.path.toString()) + " " + this.keyword + ": " + this.message;
+    }
+}
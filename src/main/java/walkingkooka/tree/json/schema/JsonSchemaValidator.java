@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * A node of a compiled {@link JsonSchema}, usually a single keyword.
+ */
+abstract class JsonSchemaValidator {
+
+    /**
+     * Package private to limit sub classing.
+     */
+    JsonSchemaValidator() {
+        super();
+    }
+
+    /**
+     * Validates the given value, reporting failures to the {@link JsonSchemaContext} and returning false if any were
+     * found.
+     */
+    abstract boolean validate(final JsonNode node,
+                              final JsonSchemaContext context);
+
+    /**
+     * Helper that tests the value against the validator without reporting any errors.
+     */
+    static boolean test(final JsonSchemaValidator validator,
+                        final JsonNode node) {
+        return validator.validate(
+                node,
+                JsonSchemaContext.silent()
+        );
+    }
+
+    /**
+     * Helper that returns the text of a value for an error message, containers are only described by their type.
+     */
+    static String text(final JsonNode node) {
+        return node.isArray() ?
+                "array" :
+                node.isObject() ?
+                        "object" :
+                        node.toString();
+    }
+
+    @Override
+    public abstract String toString();
+}
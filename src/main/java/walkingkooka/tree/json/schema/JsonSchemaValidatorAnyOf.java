@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+
+/**
+ * The <code>anyOf</code> keyword, which stops at the first matching schema.
+ */
+final class JsonSchemaValidatorAnyOf extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorAnyOf with(final JsonSchemaValidator[] validators) {
+        return new JsonSchemaValidatorAnyOf(validators);
+    }
+
+    private JsonSchemaValidatorAnyOf(final JsonSchemaValidator[] validators) {
+        super();
+        this.validators = validators;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        for (final JsonSchemaValidator validator : this.validators) {
+            if (test(validator, node)) {
+                return true;
+            }
+        }
+
+        return context.fail("anyOf", "Expected value to match at least one schema");
+    }
+
+    private final JsonSchemaValidator[] validators;
+
+    @Override
+    public String toString() {
+        return "anyOf " + Arrays.toString(this.validators);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * The <code>true</code> schema accepts every value and the <code>false</code> schema rejects every value.
+ */
+final class JsonSchemaValidatorBoolean extends JsonSchemaValidator {
+
+    final static JsonSchemaValidatorBoolean TRUE = new JsonSchemaValidatorBoolean(true);
+
+    final static JsonSchemaValidatorBoolean FALSE = new JsonSchemaValidatorBoolean(false);
+
+    private JsonSchemaValidatorBoolean(final boolean value) {
+        super();
+        this.value = value;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        return this.value ||
+                context.fail("false", "Not allowed");
+    }
+
+    private final boolean value;
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.value);
+    }
+}
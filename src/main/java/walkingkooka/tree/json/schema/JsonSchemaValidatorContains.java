@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * The <code>contains</code>, <code>minContains</code> and <code>maxContains</code> keywords. Counting stops as soon as
+ * the answer is known.
+ */
+final class JsonSchemaValidatorContains extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorContains with(final JsonSchemaValidator validator,
+                                            final int min,
+                                            final int max) {
+        return new JsonSchemaValidatorContains(validator, min, max);
+    }
+
+    private JsonSchemaValidatorContains(final JsonSchemaValidator validator,
+                                        final int min,
+                                        final int max) {
+        super();
+        this.validator = validator;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        boolean valid = true;
+
+        if (node.isArray()) {
+            final int min = this.min;
+            final int max = this.max;
+
+            int count = 0;
+            for (final JsonNode element : node.children()) {
+                if (test(this.validator, element)) {
+                    count++;
+                    if (count >= min && Integer.MAX_VALUE == max || count > max) {
+                        break;
+                    }
+                }
+            }
+
+            if (count < min) {
+                valid = context.fail(1 == min ? "contains" : "minContains", "Expected at least " + min + " matching elements got " + count);
+            } else if (count > max) {
+                valid = context.fail("maxContains", "Expected at most " + max + " matching elements");
+            }
+        }
+
+        return valid;
+    }
+
+    private final JsonSchemaValidator validator;
+
+    private final int min;
+
+    private final int max;
+
+    @Override
+    public String toString() {
+        return "contains " + this.validator + " " + this.min + ".." + this.max;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The <code>dependentRequired</code> keyword, where the presence of a property requires others.
+ */
+final class JsonSchemaValidatorDependentRequired extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorDependentRequired with(final Map<JsonPropertyName, JsonPropertyName[]> dependencies) {
+        return new JsonSchemaValidatorDependentRequired(dependencies);
+    }
+
+    private JsonSchemaValidatorDependentRequired(final Map<JsonPropertyName, JsonPropertyName[]> dependencies) {
+        super();
+        this.dependencies = dependencies;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        boolean valid = true;
+
+        if (node.isObject()) {
+            final JsonObject object = node.objectOrFail();
+
+            for (final Map.Entry<JsonPropertyName, JsonPropertyName[]> dependency : this.dependencies.entrySet()) {
+                final JsonPropertyName name = dependency.getKey();
+
+                if (object.contains(name) &&
+                        !JsonSchemaValidatorRequired.validate(
+                                object,
+                                dependency.getValue(),
+                                "dependentRequired",
+                                " required by " + CharSequences.quoteAndEscape(name.value()),
+                                context
+                        )) {
+                    valid = false;
+                    if (context.isComplete()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private final Map<JsonPropertyName, JsonPropertyName[]> dependencies;
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append("dependentRequired");
+
+        for (final Map.Entry<JsonPropertyName, JsonPropertyName[]> dependency : this.dependencies.entrySet()) {
+            b.append(' ')
+                    .append(dependency.getKey())
+                    .append('=')
+                    .append(Arrays.toString(dependency.getValue()));
+        }
+
+        return b.toString();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Map;
+
+/**
+ * The <code>dependentSchemas</code> keyword, where the presence of a property applies another schema to the whole
+ * object.
+ */
+final class JsonSchemaValidatorDependentSchemas extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorDependentSchemas with(final Map<JsonPropertyName, JsonSchemaValidator> dependencies) {
+        return new JsonSchemaValidatorDependentSchemas(dependencies);
+    }
+
+    private JsonSchemaValidatorDependentSchemas(final Map<JsonPropertyName, JsonSchemaValidator> dependencies) {
+        super();
+        this.dependencies = dependencies;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        boolean valid = true;
+
+        if (node.isObject()) {
+            for (final Map.Entry<JsonPropertyName, JsonSchemaValidator> dependency : this.dependencies.entrySet()) {
+                if (node.objectOrFail().contains(dependency.getKey()) &&
+                        !dependency.getValue().validate(node, context)) {
+                    valid = false;
+                    if (context.isComplete()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private final Map<JsonPropertyName, JsonSchemaValidator> dependencies;
+
+    @Override
+    public String toString() {
+        return "dependentSchemas " + this.dependencies;
+    }
+}
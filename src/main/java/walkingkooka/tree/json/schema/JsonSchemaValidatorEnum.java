@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+
+/**
+ * The <code>enum</code> and <code>const</code> keywords, values are compared using
+ * {@link JsonNode#equalsStructure(JsonNode)} which ignores names, property order and the difference between
+ * <code>1</code> and <code>1.0</code>.
+ */
+final class JsonSchemaValidatorEnum extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorEnum with(final String keyword,
+                                        final JsonNode[] values) {
+        return new JsonSchemaValidatorEnum(keyword, values);
+    }
+
+    private JsonSchemaValidatorEnum(final String keyword,
+                                    final JsonNode[] values) {
+        super();
+        this.keyword = keyword;
+        this.values = values;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        for (final JsonNode value : this.values) {
+            if (value.equalsStructure(node)) {
+                return true;
+            }
+        }
+
+        return context.fail(this.keyword, this.message(node));
+    }
+
+    /**
+     * Lists the expected values when they are all leaves, containers are not printed as they may be large.
+     */
+    private String message(final JsonNode node) {
+        for (final JsonNode value : this.values) {
+            if (value.isArray() || value.isObject()) {
+                return "Expected value to match " + this.keyword;
+            }
+        }
+        return "Expected " + this.valuesText() + " got " + text(node);
+    }
+
+    private final String keyword;
+
+    private final JsonNode[] values;
+
+    private String valuesText() {
+        final JsonNode[] values = this.values;
+        final StringBuilder b = new StringBuilder();
+
+        String separator = "";
+        for (final JsonNode value : values) {
+            b.append(separator)
+                    .append(text(value));
+            separator = ", ";
+        }
+
+        return 1 == values.length ?
+                b.toString() :
+                "one of " + b;
+    }
+
+    @Override
+    public String toString() {
+        return this.keyword + " " + Arrays.toString(this.values);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * The <code>if</code>, <code>then</code> and <code>else</code> keywords, a missing <code>then</code> or
+ * <code>else</code> is the <code>true</code> schema.
+ */
+final class JsonSchemaValidatorIf extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorIf with(final JsonSchemaValidator condition,
+                                      final JsonSchemaValidator then,
+                                      final JsonSchemaValidator otherwise) {
+        return new JsonSchemaValidatorIf(condition, then, otherwise);
+    }
+
+    private JsonSchemaValidatorIf(final JsonSchemaValidator condition,
+                                  final JsonSchemaValidator then,
+                                  final JsonSchemaValidator otherwise) {
+        super();
+        this.condition = condition;
+        this.then = then;
+        this.otherwise = otherwise;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        return (test(this.condition, node) ? this.then : this.otherwise)
+                .validate(node, context);
+    }
+
+    private final JsonSchemaValidator condition;
+
+    private final JsonSchemaValidator then;
+
+    private final JsonSchemaValidator otherwise;
+
+    @Override
+    public String toString() {
+        return "if " + this.condition + " then " + this.then + " else " + this.otherwise;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The <code>prefixItems</code> and <code>items</code> keywords, which are validated together as the latter only
+ * applies to elements after those matched by the former. A null items validator allows any other element.
+ */
+final class JsonSchemaValidatorItems extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorItems with(final JsonSchemaValidator[] prefix,
+                                         final JsonSchemaValidator items) {
+        return new JsonSchemaValidatorItems(prefix, items);
+    }
+
+    private JsonSchemaValidatorItems(final JsonSchemaValidator[] prefix,
+                                     final JsonSchemaValidator items) {
+        super();
+        this.prefix = prefix;
+        this.items = items;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        boolean valid = true;
+
+        if (node.isArray()) {
+            final JsonSchemaValidator[] prefix = this.prefix;
+            final JsonSchemaValidator items = this.items;
+            final List<JsonNode> elements = node.children();
+            final int count = null != items ?
+                    elements.size() :
+                    Math.min(prefix.length, elements.size());
+
+            for (int i = 0; i < count; i++) {
+                final JsonSchemaValidator validator = i < prefix.length ?
+                        prefix[i] :
+                        items;
+
+                context.push(i);
+                final boolean elementValid = validator.validate(elements.get(i), context);
+                context.pop();
+
+                if (!elementValid) {
+                    valid = false;
+                    if (context.isComplete()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private final JsonSchemaValidator[] prefix;
+
+    private final JsonSchemaValidator items;
+
+    @Override
+    public String toString() {
+        return (0 != this.prefix.length ? "prefixItems " + Arrays.toString(this.prefix) + " " : "") +
+                "items " + this.items;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+
+/**
+ * A schema object or <code>allOf</code>, which validates each of its keywords or schemas in turn, stopping early once
+ * the {@link JsonSchemaContext} is complete.
+ */
+final class JsonSchemaValidatorKeywords extends JsonSchemaValidator {
+
+    static JsonSchemaValidator with(final JsonSchemaValidator[] validators) {
+        return 0 == validators.length ?
+                JsonSchemaValidatorBoolean.TRUE :
+                1 == validators.length ?
+                        validators[0] :
+                        new JsonSchemaValidatorKeywords(validators);
+    }
+
+    private JsonSchemaValidatorKeywords(final JsonSchemaValidator[] validators) {
+        super();
+        this.validators = validators;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        boolean valid = true;
+
+        for (final JsonSchemaValidator validator : this.validators) {
+            if (!validator.validate(node, context)) {
+                valid = false;
+                if (context.isComplete()) {
+                    break;
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private final JsonSchemaValidator[] validators;
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.validators);
+    }
+}
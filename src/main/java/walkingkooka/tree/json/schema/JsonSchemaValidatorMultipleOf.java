@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.math.BigDecimal;
+
+/**
+ * The <code>multipleOf</code> keyword. The value and divisor are converted to their shortest decimal forms, so
+ * <code>0.3</code> is a multiple of <code>0.1</code> even though that is not true of the doubles.
+ */
+final class JsonSchemaValidatorMultipleOf extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorMultipleOf with(final double divisor) {
+        return new JsonSchemaValidatorMultipleOf(divisor);
+    }
+
+    private JsonSchemaValidatorMultipleOf(final double divisor) {
+        super();
+        this.divisor = BigDecimal.valueOf(divisor);
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        return !node.isNumber() ||
+                this.test(node.numberOrFail().doubleValue()) ||
+                context.fail("multipleOf", "Expected multiple of " + this.divisorText() + " got " + text(node));
+    }
+
+    private boolean test(final double value) {
+        return !Double.isNaN(value) &&
+                !Double.isInfinite(value) &&
+                0 == BigDecimal.valueOf(value)
+                        .remainder(this.divisor)
+                        .signum();
+    }
+
+    private final BigDecimal divisor;
+
+    private String divisorText() {
+        return text(JsonNode.number(this.divisor.doubleValue()));
+    }
+
+    @Override
+    public String toString() {
+        return "multipleOf " + this.divisorText();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * The <code>not</code> keyword.
+ */
+final class JsonSchemaValidatorNot extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorNot with(final JsonSchemaValidator validator) {
+        return new JsonSchemaValidatorNot(validator);
+    }
+
+    private JsonSchemaValidatorNot(final JsonSchemaValidator validator) {
+        super();
+        this.validator = validator;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        return !test(this.validator, node) ||
+                context.fail("not", "Expected value to not match schema");
+    }
+
+    private final JsonSchemaValidator validator;
+
+    @Override
+    public String toString() {
+        return "not " + this.validator;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * The <code>minimum</code>, <code>exclusiveMinimum</code>, <code>maximum</code> and <code>exclusiveMaximum</code>
+ * keywords, which ignore values that are not numbers.
+ */
+final class JsonSchemaValidatorNumberBound extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorNumberBound minimum(final double bound) {
+        return new JsonSchemaValidatorNumberBound("minimum", bound, false, false);
+    }
+
+    static JsonSchemaValidatorNumberBound exclusiveMinimum(final double bound) {
+        return new JsonSchemaValidatorNumberBound("exclusiveMinimum", bound, false, true);
+    }
+
+    static JsonSchemaValidatorNumberBound maximum(final double bound) {
+        return new JsonSchemaValidatorNumberBound("maximum", bound, true, false);
+    }
+
+    static JsonSchemaValidatorNumberBound exclusiveMaximum(final double bound) {
+        return new JsonSchemaValidatorNumberBound("exclusiveMaximum", bound, true, true);
+    }
+
+    private JsonSchemaValidatorNumberBound(final String keyword,
+                                           final double bound,
+                                           final boolean maximum,
+                                           final boolean exclusive) {
+        super();
+        this.keyword = keyword;
+        this.bound = bound;
+        this.maximum = maximum;
+        this.exclusive = exclusive;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        return !node.isNumber() ||
+                this.test(node.numberOrFail().doubleValue()) ||
+                context.fail(this.keyword, "Expected " + this.symbol() + " " + text(JsonNode.number(this.bound)) + " got " + text(node));
+    }
+
+    private boolean test(final double value) {
+        final double bound = this.bound;
+
+        return this.maximum ?
+                this.exclusive ? value < bound : value <= bound :
+                this.exclusive ? value > bound : value >= bound;
+    }
+
+    private String symbol() {
+        return this.maximum ?
+                this.exclusive ? "<" : "<=" :
+                this.exclusive ? ">" : ">=";
+    }
+
+    private final String keyword;
+
+    private final double bound;
+
+    private final boolean maximum;
+
+    private final boolean exclusive;
+
+    @Override
+    public String toString() {
+        return this.keyword + " " + this.bound;
+    }
+}
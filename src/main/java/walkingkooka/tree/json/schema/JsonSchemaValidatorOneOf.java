@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+
+/**
+ * The <code>oneOf</code> keyword, which stops at the second matching schema.
+ */
+final class JsonSchemaValidatorOneOf extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorOneOf with(final JsonSchemaValidator[] validators) {
+        return new JsonSchemaValidatorOneOf(validators);
+    }
+
+    private JsonSchemaValidatorOneOf(final JsonSchemaValidator[] validators) {
+        super();
+        this.validators = validators;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        int matched = -1;
+
+        final JsonSchemaValidator[] validators = this.validators;
+        for (int i = 0; i < validators.length; i++) {
+            if (test(validators[i], node)) {
+                if (-1 != matched) {
+                    return context.fail("oneOf", "Expected value to match exactly one schema but matched " + matched + " and " + i);
+                }
+                matched = i;
+            }
+        }
+
+        return -1 != matched ||
+                context.fail("oneOf", "Expected value to match exactly one schema but matched none");
+    }
+
+    private final JsonSchemaValidator[] validators;
+
+    @Override
+    public String toString() {
+        return "oneOf " + Arrays.toString(this.validators);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Map;
+
+/**
+ * The <code>properties</code> and <code>additionalProperties</code> keywords, which are validated together as the
+ * latter only applies to properties not named by the former. A null additional validator allows any other property.
+ */
+final class JsonSchemaValidatorProperties extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorProperties with(final Map<JsonPropertyName, JsonSchemaValidator> properties,
+                                              final JsonSchemaValidator additional) {
+        return new JsonSchemaValidatorProperties(properties, additional);
+    }
+
+    private JsonSchemaValidatorProperties(final Map<JsonPropertyName, JsonSchemaValidator> properties,
+                                          final JsonSchemaValidator additional) {
+        super();
+        this.properties = properties;
+        this.additional = additional;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        boolean valid = true;
+
+        if (node.isObject()) {
+            final Map<JsonPropertyName, JsonSchemaValidator> properties = this.properties;
+            final JsonSchemaValidator additional = this.additional;
+
+            for (final JsonNode property : node.children()) {
+                final JsonPropertyName name = property.name();
+
+                JsonSchemaValidator validator = properties.get(name);
+                if (null == validator) {
+                    validator = additional;
+                    if (null == validator) {
+                        continue;
+                    }
+                }
+
+                context.push(name.value());
+                final boolean propertyValid = validator.validate(property, context);
+                context.pop();
+
+                if (!propertyValid) {
+                    valid = false;
+                    if (context.isComplete()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private final Map<JsonPropertyName, JsonSchemaValidator> properties;
+
+    private final JsonSchemaValidator additional;
+
+    @Override
+    public String toString() {
+        return "properties " + this.properties +
+                (null != this.additional ? " additionalProperties " + this.additional : "");
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * The <code>propertyNames</code> keyword, which validates each property name as a string.
+ */
+final class JsonSchemaValidatorPropertyNames extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorPropertyNames with(final JsonSchemaValidator validator) {
+        return new JsonSchemaValidatorPropertyNames(validator);
+    }
+
+    private JsonSchemaValidatorPropertyNames(final JsonSchemaValidator validator) {
+        super();
+        this.validator = validator;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        boolean valid = true;
+
+        if (node.isObject()) {
+            for (final JsonNode property : node.children()) {
+                final String name = property.name().value();
+
+                if (!test(this.validator, JsonNode.string(name))) {
+                    valid = context.fail("propertyNames", "Invalid property name " + CharSequences.quoteAndEscape(name));
+                    if (context.isComplete()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private final JsonSchemaValidator validator;
+
+    @Override
+    public String toString() {
+        return "propertyNames " + this.validator;
+    }
+}
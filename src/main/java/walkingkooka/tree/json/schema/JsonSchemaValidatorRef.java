@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * The <code>$ref</code> keyword, which refers to a schema within the same document. The target is set once it has
+ * been compiled, which allows schemas to refer to themselves.
+ */
+final class JsonSchemaValidatorRef extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorRef with(final String reference) {
+        return new JsonSchemaValidatorRef(reference);
+    }
+
+    private JsonSchemaValidatorRef(final String reference) {
+        super();
+        this.reference = reference;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        return this.target.validate(node, context);
+    }
+
+    final String reference;
+
+    /**
+     * Set by {@link JsonSchemaCompiler} after the referenced schema is compiled.
+     */
+    JsonSchemaValidator target;
+
+    @Override
+    public String toString() {
+        return "$ref " + this.reference;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.text.CharSequences;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Arrays;
+
+/**
+ * The <code>required</code> keyword, which reports each missing property.
+ */
+final class JsonSchemaValidatorRequired extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorRequired with(final JsonPropertyName[] names) {
+        return new JsonSchemaValidatorRequired(names);
+    }
+
+    private JsonSchemaValidatorRequired(final JsonPropertyName[] names) {
+        super();
+        this.names = names;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        return !node.isObject() ||
+                validate(node, this.names, "required", "", context);
+    }
+
+    /**
+     * Shared with {@link JsonSchemaValidatorDependentRequired}.
+     */
+    static boolean validate(final JsonNode object,
+                            final JsonPropertyName[] names,
+                            final String keyword,
+                            final String reason,
+                            final JsonSchemaContext context) {
+        boolean valid = true;
+
+        for (final JsonPropertyName name : names) {
+            if (!object.objectOrFail().contains(name)) {
+                valid = context.fail(keyword, "Missing property " + CharSequences.quoteAndEscape(name.value()) + reason);
+                if (context.isComplete()) {
+                    break;
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private final JsonPropertyName[] names;
+
+    @Override
+    public String toString() {
+        return "required " + Arrays.toString(this.names);
+    }
+}
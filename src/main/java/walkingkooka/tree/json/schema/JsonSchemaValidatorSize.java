@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+/**
+ * The <code>minLength</code>, <code>maxLength</code>, <code>minItems</code>, <code>maxItems</code>,
+ * <code>minProperties</code> and <code>maxProperties</code> keywords. String lengths count code points rather than
+ * chars.
+ */
+final class JsonSchemaValidatorSize extends JsonSchemaValidator {
+
+    static JsonSchemaValidatorSize minLength(final int limit) {
+        return new JsonSchemaValidatorSize("minLength", STRING, limit, false);
+    }
+
+    static JsonSchemaValidatorSize maxLength(final int limit) {
+        return new JsonSchemaValidatorSize("maxLength", STRING, limit, true);
+    }
+
+    static JsonSchemaValidatorSize minItems(final int limit) {
+        return new JsonSchemaValidatorSize("minItems", ARRAY, limit, false);
+    }
+
+    static JsonSchemaValidatorSize maxItems(final int limit) {
+        return new JsonSchemaValidatorSize("maxItems", ARRAY, limit, true);
+    }
+
+    static JsonSchemaValidatorSize minProperties(final int limit) {
+        return new JsonSchemaValidatorSize("minProperties", OBJECT, limit, false);
+    }
+
+    static JsonSchemaValidatorSize maxProperties(final int limit) {
+        return new JsonSchemaValidatorSize("maxProperties", OBJECT, limit, true);
+    }
+
+    private final static int STRING = 0;
+    private final static int ARRAY = 1;
+    private final static int OBJECT = 2;
+
+    private JsonSchemaValidatorSize(final String keyword,
+                                    final int type,
+                                    final int limit,
+                                    final boolean maximum) {
+        super();
+        this.keyword = keyword;
+        this.type = type;
+        this.limit = limit;
+        this.maximum = maximum;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        final int size = this.size(node);
+
+        return -1 == size ||
+                (this.maximum ? size <= this.limit : size >= this.limit) ||
+                context.fail(this.keyword, "Expected " + (this.maximum ? "at most " : "at least ") + this.limit + " got " + size);
+    }
+
+    /**
+     * Returns the size of the node or -1 if it is not the type for this keyword.
+     */
+    private int size(final JsonNode node) {
+        final int size;
+
+        switch (this.type) {
+            case STRING:
+                if (node.isString()) {
+                    final String string = node.stringOrFail();
+                    size = string.codePointCount(0, string.length());
+                } else {
+                    size = -1;
+                }
+                break;
+            case ARRAY:
+                size = node.isArray() ?
+                        node.children().size() :
+                        -1;
+                break;
+            default:
+                size = node.isObject() ?
+                        node.children().size() :
+                        -1;
+                break;
+        }
+
+        return size;
+    }
+
+    private final String keyword;
+
+    private final int type;
+
+    private final int limit;
+
+    private final boolean maximum;
+
+    @Override
+    public String toString() {
+        return this.keyword + " " + this.limit;
+    }
+}
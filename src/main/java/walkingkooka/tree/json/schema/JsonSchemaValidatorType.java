@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+
+/**
+ * The <code>type</code> keyword, with the bits of each allowed type combined into a mask.
+ */
+final class JsonSchemaValidatorType extends JsonSchemaValidator {
+
+    final static String[] TYPES = {
+            "null",
+            "boolean",
+            "number",
+            "integer",
+            "string",
+            "array",
+            "object"
+    };
+
+    /**
+     * Returns the bit for the type name or -1 if it is unknown.
+     */
+    static int bit(final String type) {
+        final int index = Arrays.asList(TYPES).indexOf(type);
+        return -1 == index ?
+                -1 :
+                1 << index;
+    }
+
+    static JsonSchemaValidatorType with(final int mask) {
+        return new JsonSchemaValidatorType(mask);
+    }
+
+    private JsonSchemaValidatorType(final int mask) {
+        super();
+        this.mask = mask;
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        final int mask = this.mask;
+
+        return 0 != (mask & type(node)) ||
+                // integers are also numbers
+                0 != (mask & INTEGER) && node.isNumber() && isInteger(node) ||
+                context.fail("type", "Expected " + this + " got " + TYPES[Integer.numberOfTrailingZeros(type(node))]);
+    }
+
+    private final static int INTEGER = 1 << 3;
+
+    /**
+     * Returns the bit for the type of the node, numbers are always number.
+     */
+    private static int type(final JsonNode node) {
+        final int index;
+
+        if (node.isNull()) {
+            index = 0;
+        } else if (node.isBoolean()) {
+            index = 1;
+        } else if (node.isNumber()) {
+            index = 2;
+        } else if (node.isString()) {
+            index = 4;
+        } else if (node.isArray()) {
+            index = 5;
+        } else {
+            index = 6;
+        }
+
+        return 1 << index;
+    }
+
+    /**
+     * Numbers without a fraction, such as <code>1.0</code>, are integers.
+     */
+    static boolean isInteger(final JsonNode node) {
+        final double value = node.numberOrFail().doubleValue();
+        return Math.floor(value) == value && !Double.isInfinite(value);
+    }
+
+    private final int mask;
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+
+        String separator = "";
+        for (int i = 0; i < TYPES.length; i++) {
+            if (0 != (this.mask & 1 << i)) {
+                b.append(separator)
+                        .append(TYPES[i]);
+                separator = "|";
+            }
+        }
+
+        return b.toString();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.List;
+
+/**
+ * The <code>uniqueItems</code> keyword when <code>true</code>. Elements are compared using
+ * {@link JsonNode#equalsStructure(JsonNode)}, which compares memoised hashes before walking any descendants.
+ */
+final class JsonSchemaValidatorUniqueItems extends JsonSchemaValidator {
+
+    final static JsonSchemaValidatorUniqueItems INSTANCE = new JsonSchemaValidatorUniqueItems();
+
+    private JsonSchemaValidatorUniqueItems() {
+        super();
+    }
+
+    @Override
+    boolean validate(final JsonNode node,
+                     final JsonSchemaContext context) {
+        if (node.isArray()) {
+            final List<JsonNode> elements = node.children();
+            final int count = elements.size();
+
+            for (int i = 1; i < count; i++) {
+                final JsonNode element = elements.get(i);
+
+                for (int j = 0; j < i; j++) {
+                    if (element.equalsStructure(elements.get(j))) {
+                        return context.fail("uniqueItems", "Element " + i + " duplicates element " + j);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "uniqueItems";
+    }
+}
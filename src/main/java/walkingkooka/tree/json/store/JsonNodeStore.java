@@ -0,0 +1,281 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.store;
+
+import walkingkooka.tree.json.JsonNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read only store of many {@link JsonNode json documents} held in a single file, which is memory mapped so documents
+ * are paged in by the operating system when first accessed rather than being read and parsed up front. The file is
+ * mapped once when opened, as one or more regions each no larger than 2GB.
+ * <pre>
+ * file     := int MAGIC, int count, (long offset, int length)*, document*
+ * </pre>
+ * Each document is encoded by {@link JsonNodeStoreWriter} and is limited to 2GB, the file itself may be larger.
+ */
+public final class JsonNodeStore implements AutoCloseable {
+
+    /**
+     * Identifies a store file, the ascii characters <code>JSN1</code>.
+     */
+    final static int MAGIC = 0x4A534E31;
+
+    /**
+     * The size of the magic and count that begin the file.
+     */
+    final static int HEADER_SIZE = 8;
+
+    /**
+     * The size of a single index entry, a long offset followed by an int length.
+     */
+    final static int INDEX_ENTRY_SIZE = 12;
+
+    /**
+     * Encodes and writes all the given documents to a new file at the given {@link Path}, replacing any existing file.
+     */
+    public static void write(final Path path,
+                             final List<JsonNode> documents) throws IOException {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(documents, "documents");
+
+        final int count = documents.size();
+        final ByteBuffer index = ByteBuffer.allocate(HEADER_SIZE + count * INDEX_ENTRY_SIZE);
+        index.putInt(MAGIC);
+        index.putInt(count);
+
+        try (final FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            long offset = index.capacity();
+            channel.position(offset);
+
+            for (final JsonNode document : documents) {
+                final ByteBuffer encoded = JsonNodeStoreWriter.write(
+                        Objects.requireNonNull(document, "document")
+                );
+                final int length = encoded.remaining();
+
+                index.putLong(offset);
+                index.putInt(length);
+
+                writeFully(channel, encoded);
+                offset += length;
+            }
+
+            index.flip();
+            channel.position(0);
+            writeFully(channel, index);
+        }
+    }
+
+    private static void writeFully(final FileChannel channel,
+                                   final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Opens an existing store file, reading only its index.
+     */
+    public static JsonNodeStore open(final Path path) throws IOException {
+        return open(path, MAX_REGION_SIZE);
+    }
+
+    /**
+     * The largest region of the file that is mapped by a single buffer.
+     */
+    final static long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * Opens the store mapping the file once as a few regions each no larger than the given size. Documents never
+     * straddle regions, so a region ends before the first document that would not fit within it.
+     */
+    static JsonNodeStore open(final Path path,
+                              final long maxRegionSize) throws IOException {
+        Objects.requireNonNull(path, "path");
+
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final long fileSize = channel.size();
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            int read;
+            do {
+                read = channel.read(header, header.position());
+            } while (read > 0 && header.hasRemaining());
+
+            if (header.hasRemaining() || MAGIC != header.getInt(0)) {
+                throw new IOException("Invalid store file " + path);
+            }
+
+            final int count = header.getInt(4);
+            final long indexSize = (long) count * INDEX_ENTRY_SIZE;
+            if (count < 0 || HEADER_SIZE + indexSize > fileSize) {
+                throw new IOException("Invalid store file " + path + " index truncated");
+            }
+
+            final ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, indexSize);
+
+            // group consecutive documents into regions
+            final long[] regionStarts = new long[count];
+            final long[] regionEnds = new long[count];
+            int regionCount = 0;
+            long previousEnd = HEADER_SIZE + indexSize;
+
+            for (int i = 0; i < count; i++) {
+                final int entry = i * INDEX_ENTRY_SIZE;
+                final long offset = index.getLong(entry);
+                final int length = index.getInt(entry + 8);
+                final long end = offset + length;
+
+                if (offset < previousEnd || length < 0 || end > fileSize) {
+                    throw new IOException("Invalid store file " + path + " document " + i + " out of bounds");
+                }
+                previousEnd = end;
+
+                if (0 == regionCount || end - regionStarts[regionCount - 1] > maxRegionSize) {
+                    regionStarts[regionCount] = offset;
+                    regionCount++;
+                }
+                regionEnds[regionCount - 1] = end;
+            }
+
+            final ByteBuffer[] regions = new ByteBuffer[regionCount];
+            for (int i = 0; i < regionCount; i++) {
+                regions[i] = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        regionStarts[i],
+                        regionEnds[i] - regionStarts[i]
+                );
+            }
+
+            return new JsonNodeStore(
+                    path,
+                    channel,
+                    index,
+                    count,
+                    Arrays.copyOf(regionStarts, regionCount),
+                    regions
+            );
+        } catch (final IOException | RuntimeException cause) {
+            channel.close();
+            throw cause;
+        }
+    }
+
+    private JsonNodeStore(final Path path,
+                          final FileChannel channel,
+                          final ByteBuffer index,
+                          final int size,
+                          final long[] regionStarts,
+                          final ByteBuffer[] regions) {
+        super();
+        this.path = path;
+        this.channel = channel;
+        this.index = index;
+        this.size = size;
+        this.regionStarts = regionStarts;
+        this.regions = regions;
+    }
+
+    /**
+     * The number of documents in this store.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a view of the root of the document at the given index, sliced from the region that holds it.
+     */
+    public JsonNodeStoreNode get(final int index) {
+        final int size = this.size;
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " size " + size);
+        }
+        if (!this.channel.isOpen()) {
+            throw new IllegalStateException("Store closed " + this.path);
+        }
+
+        final int entry = index * INDEX_ENTRY_SIZE;
+        final long offset = this.index.getLong(entry);
+        final int length = this.index.getInt(entry + 8);
+
+        final long[] regionStarts = this.regionStarts;
+        int region = Arrays.binarySearch(regionStarts, offset);
+        if (region < 0) {
+            region = -region - 2; // the region starting before the offset
+        }
+
+        final ByteBuffer document = this.regions[region].duplicate();
+        final int start = (int) (offset - regionStarts[region]);
+        document.limit(start + length);
+        document.position(start);
+
+        return JsonNodeStoreNode.root(document.slice());
+    }
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    /**
+     * A view over the (long offset, int length) entries for each document.
+     */
+    private final ByteBuffer index;
+
+    private final int size;
+
+    /**
+     * The file offset of each mapped region, in ascending order.
+     */
+    private final long[] regionStarts;
+
+    /**
+     * The mapped regions, each holding one or more whole documents.
+     */
+    private final ByteBuffer[] regions;
+
+    // AutoCloseable....................................................................................................
+
+    /**
+     * Closes the underlying file, mapped regions remain valid until they are garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.path + " " + this.size();
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.store;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A read only view of a single json value held within a {@link JsonNodeStore}. Values are decoded from the backing
+ * {@link ByteBuffer} only when requested, and a real {@link JsonNode} graph is only created by {@link #toJsonNode()}.
+ */
+public final class JsonNodeStoreNode {
+
+    final static byte NULL = 0;
+    final static byte FALSE = 1;
+    final static byte TRUE = 2;
+    final static byte NUMBER = 3;
+    final static byte STRING = 4;
+    final static byte ARRAY = 5;
+    final static byte OBJECT = 6;
+
+    /**
+     * The size in bytes of the child count that follows an {@link #ARRAY} or {@link #OBJECT} tag.
+     */
+    final static int COUNT_SIZE = 4;
+
+    /**
+     * The size in bytes of a single array element entry, which is the offset of the element.
+     */
+    final static int ARRAY_ENTRY_SIZE = 4;
+
+    /**
+     * The size in bytes of a single object property entry, which is the offset of the key string followed by the
+     * offset of the value.
+     */
+    final static int OBJECT_ENTRY_SIZE = 8;
+
+    /**
+     * Factory that returns the root of the document, which always begins after the string table offset.
+     */
+    static JsonNodeStoreNode root(final ByteBuffer document) {
+        return new JsonNodeStoreNode(document, document.getInt(0), JsonNodeStoreWriter.ROOT_OFFSET);
+    }
+
+    private JsonNodeStoreNode(final ByteBuffer document,
+                              final int strings,
+                              final int offset) {
+        super();
+        this.document = document;
+        this.strings = strings;
+        this.offset = offset;
+    }
+
+    // isXXX............................................................................................................
+
+    public boolean isArray() {
+        return ARRAY == this.tag();
+    }
+
+    public boolean isBoolean() {
+        final byte tag = this.tag();
+        return FALSE == tag || TRUE == tag;
+    }
+
+    public boolean isNull() {
+        return NULL == this.tag();
+    }
+
+    public boolean isNumber() {
+        return NUMBER == this.tag();
+    }
+
+    public boolean isObject() {
+        return OBJECT == this.tag();
+    }
+
+    public boolean isString() {
+        return STRING == this.tag();
+    }
+
+    private byte tag() {
+        return this.document.get(this.offset);
+    }
+
+    // values...........................................................................................................
+
+    /**
+     * If a boolean returns the value or fails.
+     */
+    public boolean booleanOrFail() {
+        if (!this.isBoolean()) {
+            this.reportInvalidNode("Boolean");
+        }
+        return TRUE == this.tag();
+    }
+
+    /**
+     * If a number returns the value or fails.
+     */
+    public double numberOrFail() {
+        if (!this.isNumber()) {
+            this.reportInvalidNode("Number");
+        }
+        return this.document.getDouble(this.offset + 1);
+    }
+
+    /**
+     * If a string decodes and returns the value or fails.
+     */
+    public String stringOrFail() {
+        if (!this.isString()) {
+            this.reportInvalidNode("String");
+        }
+        return this.string(this.document.getInt(this.offset + 1));
+    }
+
+    // children.........................................................................................................
+
+    /**
+     * Returns the number of elements or properties, leaf values always return 0.
+     */
+    public int size() {
+        return this.isArray() || this.isObject() ?
+                this.document.getInt(this.offset + 1) :
+                0;
+    }
+
+    /**
+     * Returns the element of an array or the value of the property at the given index of an object.
+     */
+    public JsonNodeStoreNode get(final int index) {
+        final byte tag = this.tag();
+        if (ARRAY != tag && OBJECT != tag) {
+            this.reportInvalidNode("Array or Object");
+        }
+        this.checkIndex(index);
+
+        return this.child(
+                ARRAY == tag ?
+                        this.entry(index, ARRAY_ENTRY_SIZE) :
+                        this.entry(index, OBJECT_ENTRY_SIZE) + 4
+        );
+    }
+
+    /**
+     * Returns the name of the property at the given index of an object.
+     */
+    public JsonPropertyName name(final int index) {
+        this.objectOrFail();
+        this.checkIndex(index);
+
+        return JsonPropertyName.with(
+                this.string(
+                        this.document.getInt(this.entry(index, OBJECT_ENTRY_SIZE))
+                )
+        );
+    }
+
+    /**
+     * Retrieves the property with the given name, comparing the characters of the name against the encoded keys
+     * without decoding any of them into a {@link String}.
+     */
+    public Optional<JsonNodeStoreNode> get(final JsonPropertyName name) {
+        Objects.requireNonNull(name, "name");
+        this.objectOrFail();
+
+        final String text = name.value();
+        final ByteBuffer document = this.document;
+        final int count = this.size();
+
+        JsonNodeStoreNode value = null;
+        for (int i = 0; i < count; i++) {
+            final int entry = this.entry(i, OBJECT_ENTRY_SIZE);
+            if (this.stringEquals(document.getInt(entry), text)) {
+                value = this.child(entry + 4);
+                break;
+            }
+        }
+
+        return Optional.ofNullable(value);
+    }
+
+    private void objectOrFail() {
+        if (!this.isObject()) {
+            this.reportInvalidNode("Object");
+        }
+    }
+
+    private void checkIndex(final int index) {
+        final int size = this.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " size " + size);
+        }
+    }
+
+    /**
+     * Returns the offset of the entry at the given index, which immediately follows the tag and count.
+     */
+    private int entry(final int index, final int entrySize) {
+        return this.offset + 1 + COUNT_SIZE + index * entrySize;
+    }
+
+    /**
+     * Reads the child offset at the given position and returns a view of it.
+     */
+    private JsonNodeStoreNode child(final int position) {
+        return new JsonNodeStoreNode(
+                this.document,
+                this.strings,
+                this.document.getInt(position)
+        );
+    }
+
+    // strings..........................................................................................................
+
+    private String string(final int stringOffset) {
+        final ByteBuffer document = this.document.duplicate();
+        final int start = this.strings + stringOffset;
+        final byte[] bytes = new byte[document.getInt(start)];
+
+        document.position(start + 4);
+        document.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares the UTF-8 encoded string against the given text one character at a time.
+     */
+    private boolean stringEquals(final int stringOffset,
+                                 final String text) {
+        final ByteBuffer document = this.document;
+        final int start = this.strings + stringOffset;
+        final int byteLength = document.getInt(start);
+        final int length = text.length();
+
+        // each char takes between one and three bytes, a surrogate pair takes four.
+        boolean equals = byteLength >= length && byteLength <= length * 3;
+        if (equals) {
+            final int bytes = start + 4;
+            final int end = bytes + byteLength;
+            int i = bytes;
+            int c = 0;
+
+            while (i < end) {
+                final int first = document.get(i) & 0xff;
+                final int codePoint;
+
+                if (first < 0x80) {
+                    codePoint = first;
+                    i++;
+                } else if (first < 0xE0) {
+                    codePoint = (first & 0x1F) << 6 |
+                            (document.get(i + 1) & 0x3F);
+                    i += 2;
+                } else if (first < 0xF0) {
+                    codePoint = (first & 0x0F) << 12 |
+                            (document.get(i + 1) & 0x3F) << 6 |
+                            (document.get(i + 2) & 0x3F);
+                    i += 3;
+                } else {
+                    codePoint = (first & 0x07) << 18 |
+                            (document.get(i + 1) & 0x3F) << 12 |
+                            (document.get(i + 2) & 0x3F) << 6 |
+                            (document.get(i + 3) & 0x3F);
+                    i += 4;
+                }
+
+                if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    if (c >= length || codePoint != text.charAt(c)) {
+                        equals = false;
+                        break;
+                    }
+                    c++;
+                } else {
+                    if (c + 1 >= length ||
+                            Character.highSurrogate(codePoint) != text.charAt(c) ||
+                            Character.lowSurrogate(codePoint) != text.charAt(c + 1)) {
+                        equals = false;
+                        break;
+                    }
+                    c += 2;
+                }
+            }
+
+            equals = equals && c == length;
+        }
+
+        return equals;
+    }
+
+    // JsonNode.........................................................................................................
+
+    /**
+     * Decodes this value and all its descendants into a {@link JsonNode}.
+     */
+    public JsonNode toJsonNode() {
+        final JsonNode node;
+
+        switch (this.tag()) {
+            case NULL:
+                node = JsonNode.nullNode();
+                break;
+            case FALSE:
+                node = JsonNode.booleanNode(false);
+                break;
+            case TRUE:
+                node = JsonNode.booleanNode(true);
+                break;
+            case NUMBER:
+                node = JsonNode.number(this.numberOrFail());
+                break;
+            case STRING:
+                node = JsonNode.string(this.stringOrFail());
+                break;
+            case ARRAY:
+                node = this.toJsonArray();
+                break;
+            case OBJECT:
+                node = this.toJsonObject();
+                break;
+            default:
+                throw new IllegalStateException("Unknown tag " + this.tag() + " at " + this.offset);
+        }
+
+        return node;
+    }
+
+    private JsonNode toJsonArray() {
+        final int count = this.size();
+        final List<JsonNode> children = Lists.array();
+
+        for (int i = 0; i < count; i++) {
+            children.add(this.get(i).toJsonNode());
+        }
+
+        return JsonNode.array()
+                .setChildren(children);
+    }
+
+    private JsonNode toJsonObject() {
+        final int count = this.size();
+        final List<JsonNode> children = Lists.array();
+
+        for (int i = 0; i < count; i++) {
+            children.add(
+                    this.get(i)
+                            .toJsonNode()
+                            .setName(this.name(i))
+            );
+        }
+
+        return JsonNode.object()
+                .setChildren(children);
+    }
+
+    /**
+     * Reports a failed attempt to extract a value of the given type.
+     */
+    private void reportInvalidNode(final String type) {
+        throw new ClassCastException("Expected " + type + " got " + this);
+    }
+
+    // the document and the offset of the string table within it.
+    private final ByteBuffer document;
+    private final int strings;
+
+    // the offset of the tag of this value.
+    private final int offset;
+
+    // Object...........................................................................................................
+
+    /**
+     * Returns a short summary of this value, long strings are truncated and arrays and objects only report their size,
+     * so printing never decodes the whole subtree.
+     */
+    @Override
+    public String toString() {
+        final String toString;
+
+        switch (this.tag()) {
+            case NULL:
+                toString = "null";
+                break;
+            case FALSE:
+                toString = "false";
+                break;
+            case TRUE:
+                toString = "true";
+                break;
+            case NUMBER:
+                toString = String.valueOf(this.numberOrFail());
+                break;
+            case STRING:
+                toString = this.stringSummary();
+                break;
+            case ARRAY:
+                toString = "[" + this.size() + " elements]";
+                break;
+            case OBJECT:
+                toString = "{" + this.size() + " properties}";
+                break;
+            default:
+                toString = "Unknown tag " + this.tag() + " at " + this.offset;
+                break;
+        }
+
+        return toString;
+    }
+
+    /**
+     * Decodes at most {@link #TO_STRING_MAX_BYTES} of the string, stopping before any partial character.
+     */
+    private String stringSummary() {
+        final ByteBuffer document = this.document.duplicate();
+        final int start = this.strings + document.getInt(this.offset + 1);
+        final int byteLength = document.getInt(start);
+
+        int length = Math.min(byteLength, TO_STRING_MAX_BYTES);
+        if (length < byteLength) {
+            // back up over continuation bytes so the last character is not split
+            while (length > 0 && (document.get(start + 4 + length) & 0xC0) == 0x80) {
+                length--;
+            }
+        }
+
+        final byte[] bytes = new byte[length];
+        document.position(start + 4);
+        document.get(bytes);
+
+        return '"' + new String(bytes, StandardCharsets.UTF_8) + (length < byteLength ? "..." : "") + '"';
+    }
+
+    final static int TO_STRING_MAX_BYTES = 64;
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.store;
+
+import walkingkooka.collect.map.Maps;
+import walkingkooka.tree.json.JsonNode;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes a single {@link JsonNode} into the binary document format read by {@link JsonNodeStoreNode}.
+ * <pre>
+ * document := int stringsStart, value*, string*
+ * value    := NULL | FALSE | TRUE | NUMBER double | STRING int | ARRAY int (int)* | OBJECT int (int int)*
+ * string   := int byteLength, utf8 bytes
+ * </pre>
+ * All offsets are relative to the start of the document, except string offsets which are relative to the start of
+ * the string table. Strings are written once and shared by all values and keys that contain the same text.
+ */
+final class JsonNodeStoreWriter {
+
+    /**
+     * The offset of the root value, which immediately follows the string table offset.
+     */
+    final static int ROOT_OFFSET = 4;
+
+    /**
+     * Encodes the given {@link JsonNode} returning a buffer positioned at zero with its limit at the document end.
+     */
+    static ByteBuffer write(final JsonNode node) {
+        final JsonNodeStoreWriter writer = new JsonNodeStoreWriter();
+        writer.writeInt(0); // patched once the string table offset is known
+        writer.value(node);
+        return writer.finish();
+    }
+
+    private JsonNodeStoreWriter() {
+        super();
+    }
+
+    private void value(final JsonNode node) {
+        if (node.isNull()) {
+            this.writeByte(JsonNodeStoreNode.NULL);
+        } else if (node.isBoolean()) {
+            this.writeByte(node.booleanOrFail() ? JsonNodeStoreNode.TRUE : JsonNodeStoreNode.FALSE);
+        } else if (node.isNumber()) {
+            this.writeByte(JsonNodeStoreNode.NUMBER);
+            this.ensure(8);
+            this.buffer.putDouble(node.numberOrFail().doubleValue());
+        } else if (node.isString()) {
+            this.writeByte(JsonNodeStoreNode.STRING);
+            this.writeInt(this.string(node.stringOrFail()));
+        } else if (node.isArray()) {
+            this.array(node.children());
+        } else {
+            this.object(node.children());
+        }
+    }
+
+    private void array(final List<JsonNode> children) {
+        final int count = children.size();
+        this.writeByte(JsonNodeStoreNode.ARRAY);
+        this.writeInt(count);
+
+        final int entries = this.reserve(count * JsonNodeStoreNode.ARRAY_ENTRY_SIZE);
+        for (int i = 0; i < count; i++) {
+            this.buffer.putInt(entries + i * JsonNodeStoreNode.ARRAY_ENTRY_SIZE, this.buffer.position());
+            this.value(children.get(i));
+        }
+    }
+
+    private void object(final List<JsonNode> children) {
+        final int count = children.size();
+        this.writeByte(JsonNodeStoreNode.OBJECT);
+        this.writeInt(count);
+
+        final int entries = this.reserve(count * JsonNodeStoreNode.OBJECT_ENTRY_SIZE);
+        for (int i = 0; i < count; i++) {
+            final JsonNode child = children.get(i);
+            final int entry = entries + i * JsonNodeStoreNode.OBJECT_ENTRY_SIZE;
+
+            this.buffer.putInt(entry, this.string(child.name().value()));
+            this.buffer.putInt(entry + 4, this.buffer.position());
+            this.value(child);
+        }
+    }
+
+    /**
+     * Returns the string table offset for the given text, adding it to the table if necessary.
+     */
+    private int string(final String text) {
+        Integer offset = this.stringToOffset.get(text);
+        if (null == offset) {
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            offset = this.strings.position();
+
+            this.strings = ensure(this.strings, 4 + bytes.length);
+            this.strings.putInt(bytes.length);
+            this.strings.put(bytes);
+
+            this.stringToOffset.put(text, offset);
+        }
+        return offset;
+    }
+
+    /**
+     * Appends the string table after the values and patches its offset into the document header.
+     */
+    private ByteBuffer finish() {
+        final ByteBuffer strings = this.strings;
+        strings.flip();
+
+        final int stringsStart = this.buffer.position();
+        this.ensure(strings.remaining());
+        this.buffer.put(strings);
+        this.buffer.putInt(0, stringsStart);
+
+        this.buffer.flip();
+        return this.buffer;
+    }
+
+    private void writeByte(final byte value) {
+        this.ensure(1);
+        this.buffer.put(value);
+    }
+
+    private void writeInt(final int value) {
+        this.ensure(4);
+        this.buffer.putInt(value);
+    }
+
+    /**
+     * Reserves the given number of bytes returning their offset, these are filled later.
+     */
+    private int reserve(final int length) {
+        this.ensure(length);
+
+        final ByteBuffer buffer = this.buffer;
+        final int offset = buffer.position();
+        buffer.position(offset + length);
+        return offset;
+    }
+
+    private void ensure(final int length) {
+        this.buffer = ensure(this.buffer, length);
+    }
+
+    /**
+     * Returns a buffer with at least the given number of bytes remaining, copying into a larger buffer if necessary.
+     */
+    private static ByteBuffer ensure(final ByteBuffer buffer,
+                                     final int length) {
+        ByteBuffer ensured = buffer;
+
+        if (buffer.remaining() < length) {
+            final int position = buffer.position();
+            final long capacity = Math.max(
+                    (long) buffer.capacity() * 2,
+                    (long) position + length
+            );
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Document too large, exceeds " + Integer.MAX_VALUE + " bytes");
+            }
+            buffer.flip();
+            ensured = ByteBuffer.allocate((int) capacity)
+                    .put(buffer);
+        }
+
+        return ensured;
+    }
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    private ByteBuffer strings = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    private final Map<String, Integer> stringToOffset = Maps.hash();
+
+    private final static int INITIAL_CAPACITY = 256;
+
+    @Override
+    public String toString() {
+        return this.buffer.toString();
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonArrayIndexTest implements ClassTesting2<JsonArrayIndex>,
+        ToStringTesting<JsonArrayIndex> {
+
+    private final static String JSON = "[" +
+            "{\"id\": 3, \"name\": \"c\", \"address\": {\"city\": \"Sydney\"}}," +
+            "{\"id\": 1, \"name\": \"a\", \"address\": {\"city\": \"Melbourne\"}}," +
+            "{\"id\": 2, \"name\": \"b\", \"address\": {\"city\": \"Sydney\"}}," +
+            "{\"name\": \"missing\"}," +
+            "{\"id\": \"x\", \"name\": \"string\"}," +
+            "{\"id\": true, \"name\": \"boolean\"}," +
+            "{\"id\": null, \"name\": \"null\"}," +
+            "{\"id\": [1, 2], \"name\": \"array\"}," +
+            "{\"id\": -0.0, \"name\": \"zero\"}," +
+            "{\"id\": 1.0, \"name\": \"a2\"}," +
+            "7" +
+            "]";
+
+    private final static JsonPropertyName ID = JsonPropertyName.with("id");
+
+    // get..............................................................................................................
+
+    @Test
+    public void testGetNullFails() {
+        assertThrows(NullPointerException.class, () -> this.createIndex().get(null));
+    }
+
+    @Test
+    public void testGetNumber() {
+        this.getAndCheck(JsonNode.number(2), "b");
+    }
+
+    @Test
+    public void testGetNumberDuplicates() {
+        this.getAndCheck(JsonNode.number(1), "a", "a2");
+    }
+
+    @Test
+    public void testGetNegativeZero() {
+        this.getAndCheck(JsonNode.number(0), "zero");
+    }
+
+    @Test
+    public void testGetString() {
+        this.getAndCheck(JsonNode.string("x"), "string");
+    }
+
+    @Test
+    public void testGetStringNotNumber() {
+        this.getAndCheck(JsonNode.string("1"));
+    }
+
+    @Test
+    public void testGetBoolean() {
+        this.getAndCheck(JsonNode.booleanNode(true), "boolean");
+    }
+
+    @Test
+    public void testGetNull() {
+        this.getAndCheck(JsonNode.nullNode(), "null");
+    }
+
+    @Test
+    public void testGetArray() {
+        this.getAndCheck(JsonNode.parse("[1, 2]"), "array");
+    }
+
+    @Test
+    public void testGetKeyWithParent() {
+        this.getAndCheck(
+                JsonNode.parse("{\"key\": 3}")
+                        .objectOrFail()
+                        .getOrFail(JsonPropertyName.with("key")),
+                "c"
+        );
+    }
+
+    @Test
+    public void testGetMissing() {
+        this.getAndCheck(JsonNode.number(99));
+    }
+
+    @Test
+    public void testGetPointer() {
+        this.checkEquals(
+                Lists.of("c", "b"),
+                names(
+                        JsonNode.parse(JSON)
+                                .arrayOrFail()
+                                .index(JsonPointer.parse("/address/city"))
+                                .get(JsonNode.string("Sydney"))
+                )
+        );
+    }
+
+    @Test
+    public void testGetElementsHaveParent() {
+        final JsonArray array = JsonNode.parse(JSON)
+                .arrayOrFail();
+        this.checkEquals(
+                Lists.of(array.get(2)),
+                array.index(ID)
+                        .get(JsonNode.number(2))
+        );
+    }
+
+    @Test
+    public void testGetUnmodifiable() {
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> this.createIndex()
+                        .get(JsonNode.number(1))
+                        .clear()
+        );
+    }
+
+    private void getAndCheck(final JsonNode key,
+                             final String... names) {
+        this.checkEquals(
+                Lists.of(names),
+                names(this.createIndex().get(key)),
+                () -> "get " + key
+        );
+    }
+
+    // first............................................................................................................
+
+    @Test
+    public void testFirst() {
+        this.checkEquals(
+                Optional.of("a"),
+                this.createIndex()
+                        .first(JsonNode.number(1))
+                        .map(n -> n.objectOrFail().getOrFail(JsonPropertyName.with("name")).stringOrFail())
+        );
+    }
+
+    @Test
+    public void testFirstMissing() {
+        this.checkEquals(
+                Optional.empty(),
+                this.createIndex()
+                        .first(JsonNode.number(99))
+        );
+    }
+
+    // contains.........................................................................................................
+
+    @Test
+    public void testContains() {
+        this.checkEquals(true, this.createIndex().contains(JsonNode.number(3)));
+    }
+
+    @Test
+    public void testContainsMissing() {
+        this.checkEquals(false, this.createIndex().contains(JsonNode.number(4)));
+    }
+
+    // range............................................................................................................
+
+    @Test
+    public void testRangeNullFromFails() {
+        assertThrows(NullPointerException.class, () -> this.createIndex().range(null, JsonNode.number(1)));
+    }
+
+    @Test
+    public void testRangeNullToFails() {
+        assertThrows(NullPointerException.class, () -> this.createIndex().range(JsonNode.number(1), null));
+    }
+
+    @Test
+    public void testRangeNullNodeFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.createIndex().range(JsonNode.nullNode(), JsonNode.number(1)));
+    }
+
+    @Test
+    public void testRangeArrayFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.createIndex().range(JsonNode.number(1), JsonNode.array()));
+    }
+
+    @Test
+    public void testRangeNumbers() {
+        this.rangeAndCheck(JsonNode.number(1), JsonNode.number(3), "a", "a2", "b");
+    }
+
+    @Test
+    public void testRangeNumbersFractions() {
+        this.rangeAndCheck(JsonNode.number(0.5), JsonNode.number(2.5), "a", "a2", "b");
+    }
+
+    @Test
+    public void testRangeFromIncludedToExcluded() {
+        this.rangeAndCheck(JsonNode.number(2), JsonNode.number(3), "b");
+    }
+
+    @Test
+    public void testRangeEmpty() {
+        this.rangeAndCheck(JsonNode.number(3), JsonNode.number(1));
+    }
+
+    @Test
+    public void testRangeAcrossTypes() {
+        this.rangeAndCheck(JsonNode.booleanNode(false), JsonNode.string("z"), "boolean", "zero", "a", "a2", "b", "c", "string");
+    }
+
+    @Test
+    public void testRangeStrings() {
+        this.checkEquals(
+                Lists.of("a", "a2", "array", "b", "boolean"),
+                names(
+                        JsonNode.parse(JSON)
+                                .arrayOrFail()
+                                .index(JsonPropertyName.with("name"))
+                                .range(JsonNode.string("a"), JsonNode.string("c"))
+                )
+        );
+    }
+
+    private void rangeAndCheck(final JsonNode from,
+                               final JsonNode to,
+                               final String... names) {
+        this.checkEquals(
+                Lists.of(names),
+                names(this.createIndex().range(from, to)),
+                () -> "range " + from + " " + to
+        );
+    }
+
+    private JsonArrayIndex createIndex() {
+        return JsonNode.parse(JSON)
+                .arrayOrFail()
+                .index(ID);
+    }
+
+    private static List<String> names(final List<JsonNode> elements) {
+        return elements.stream()
+                .map(e -> e.objectOrFail().getOrFail(JsonPropertyName.with("name")).stringOrFail())
+                .collect(Collectors.toList());
+    }
+
+    // key..............................................................................................................
+
+    @Test
+    public void testKey() {
+        this.checkEquals(
+                JsonPointer.parse("/id"),
+                this.createIndex().key()
+        );
+    }
+
+    @Test
+    public void testKeyEscaped() {
+        this.checkEquals(
+                JsonPointer.parse("/a~1b~0c"),
+                JsonNode.array()
+                        .index(JsonPropertyName.with("a/b~c"))
+                        .key()
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createIndex(), "/id 11");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonArrayIndex> type() {
+        return JsonArrayIndex.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
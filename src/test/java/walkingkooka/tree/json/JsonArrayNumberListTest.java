@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.ListTesting2;
+import walkingkooka.collect.list.Lists;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class JsonArrayNumberListTest implements ListTesting2<JsonArrayNumberList, JsonNode>,
+        ToStringTesting<JsonArrayNumberList> {
+
+    @Test
+    public void testGet() {
+        final JsonNode child = this.createList().get(1);
+        this.checkEquals(true, JsonNode.number(2.5).equalsStructure(child), () -> child.toString());
+    }
+
+    @Test
+    public void testSize() {
+        this.sizeAndCheck(this.createList(), 3);
+    }
+
+    @Test
+    public void testGetParent() {
+        final JsonArray array = JsonNode.numbers(1, 2.5, -3);
+        final JsonNode child = array.get(2);
+
+        this.checkEquals(JsonNode.number(-3), child.removeParent(), "value");
+        this.checkEquals(array, child.parentOrFail(), "parent");
+        this.checkEquals(JsonPropertyName.index(2), child.name(), "name");
+        this.checkEquals(2, child.index(), "index");
+    }
+
+    @Test
+    public void testTryWithNumbers() {
+        this.checkEquals(
+                this.createList(),
+                JsonArrayNumberList.tryWith(Lists.of(JsonNode.number(1), JsonNode.number(2.5), JsonNode.number(-3)))
+        );
+    }
+
+    @Test
+    public void testTryWithSame() {
+        final JsonArrayNumberList list = this.createList();
+        assertSame(list, JsonArrayNumberList.tryWith(list));
+    }
+
+    @Test
+    public void testTryWithEmpty() {
+        assertNull(JsonArrayNumberList.tryWith(Lists.empty()));
+    }
+
+    @Test
+    public void testTryWithFirstNotNumber() {
+        assertNull(JsonArrayNumberList.tryWith(Lists.of(JsonNode.string("1"), JsonNode.number(2))));
+    }
+
+    @Test
+    public void testTryWithNotNumber() {
+        assertNull(JsonArrayNumberList.tryWith(Lists.of(JsonNode.number(1), JsonNode.string("2"))));
+    }
+
+    @Test
+    public void testValue() {
+        this.checkEquals(2.5, this.createList().value(1));
+    }
+
+    @Test
+    public void testStructuralHash() {
+        int hash = 1;
+        for (final double value : new double[]{1, 2.5, -3}) {
+            hash = 31 * hash + JsonNode.number(value).structuralHash();
+        }
+
+        this.checkEquals(hash, this.createList().structuralHash());
+    }
+
+    @Test
+    public void testStructuralHashZero() {
+        final JsonArrayNumberList list = JsonArrayNumberList.with(new double[]{0, 1});
+
+        this.checkEquals(
+                31 * (31 + JsonNode.number(0).structuralHash()) + JsonNode.number(1).structuralHash(),
+                list.structuralHash()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createList(), "[1, 2.5, -3]");
+    }
+
+    @Override
+    public JsonArrayNumberList createList() {
+        return JsonArrayNumberList.with(new double[]{1, 2.5, -3});
+    }
+
+    @Override
+    public Class<JsonArrayNumberList> type() {
+        return JsonArrayNumberList.class;
+    }
+}
@@ -22,9 +22,11 @@ import walkingkooka.collect.list.Lists;
 import walkingkooka.tree.search.SearchNode;
 import walkingkooka.visit.Visiting;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -394,6 +396,55 @@ public final class JsonArrayTest extends JsonParentNodeTestCase<JsonArray, List<
                 () -> "setLength " + length + " on " + array);
     }
 
+    // index............................................................................................................
+
+    @Test
+    public void testIndexNullPropertyFails() {
+        assertThrows(NullPointerException.class, () -> this.createJsonNode().index((JsonPropertyName) null));
+    }
+
+    @Test
+    public void testIndexNullPointerFails() {
+        assertThrows(NullPointerException.class, () -> this.createJsonNode().index((JsonPointer) null));
+    }
+
+    @Test
+    public void testIndexMemoised() {
+        final JsonArray array = JsonNode.parse("[{\"id\": 1}, {\"id\": 2}]")
+                .arrayOrFail();
+        assertSame(
+                array.index(JsonPropertyName.with("id")),
+                array.index(JsonPointer.parse("/id"))
+        );
+    }
+
+    @Test
+    public void testIndexDifferentKeys() {
+        final JsonArray array = JsonNode.parse("[{\"id\": 1, \"name\": \"a\"}]")
+                .arrayOrFail();
+        assertNotSame(
+                array.index(JsonPropertyName.with("id")),
+                array.index(JsonPropertyName.with("name"))
+        );
+    }
+
+    @Test
+    public void testIndexAfterSetNotShared() {
+        final JsonArray array = JsonNode.parse("[{\"id\": 1}]")
+                .arrayOrFail();
+        final JsonPropertyName id = JsonPropertyName.with("id");
+        final JsonArrayIndex index = array.index(id);
+
+        final JsonArray different = array.appendChild(JsonNode.object().set(id, JsonNode.number(2)));
+        assertNotSame(index, different.index(id));
+        this.checkEquals(
+                1,
+                different.index(id)
+                        .get(JsonNode.number(2))
+                        .size()
+        );
+    }
+
     // replace .......................................................................................................
 
     @Test
@@ -524,6 +575,83 @@ public final class JsonArrayTest extends JsonParentNodeTestCase<JsonArray, List<
                 "visited");
     }
 
+    @Test
+    public void testAcceptNestedSkip() {
+        final StringBuilder b = new StringBuilder();
+
+        final JsonArray array = JsonNode.array()
+                .appendChild(JsonNode.array().appendChild(JsonNode.string("a")))
+                .appendChild(JsonNode.object().set(JsonPropertyName.with("b"), JsonNode.string("c")))
+                .appendChild(JsonNode.booleanNode(true));
+
+        new FakeJsonNodeVisitor() {
+            @Override
+            protected Visiting startVisit(final JsonNode n) {
+                b.append("(");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final JsonNode n) {
+                b.append(")");
+            }
+
+            @Override
+            protected Visiting startVisit(final JsonArray t) {
+                b.append("[");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final JsonArray t) {
+                b.append("]");
+            }
+
+            @Override
+            protected Visiting startVisit(final JsonObject t) {
+                b.append("{");
+                return Visiting.SKIP;
+            }
+
+            @Override
+            protected void endVisit(final JsonObject t) {
+                b.append("}");
+            }
+
+            @Override
+            protected void visit(final JsonBoolean t) {
+                b.append("B");
+            }
+
+            @Override
+            protected void visit(final JsonString t) {
+                b.append("S");
+            }
+        }.accept(array);
+        this.checkEquals("([([(S)])({})(B)])", b.toString());
+    }
+
+    @Test
+    public void testAcceptDeeplyNested() {
+        final int[] counts = new int[2];
+
+        new JsonNodeVisitor() {
+            @Override
+            protected Visiting startVisit(final JsonArray t) {
+                counts[0]++;
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final JsonArray t) {
+                counts[1]++;
+            }
+        }.accept(deeplyNested(DEPTH));
+
+        this.checkEquals(DEPTH, counts[0], "startVisit");
+        this.checkEquals(DEPTH, counts[1], "endVisit");
+    }
+
     @Test
     public void testTextWithoutChildren() {
         this.checkEquals("", JsonNode.array().text());
@@ -625,6 +753,157 @@ public final class JsonArrayTest extends JsonParentNodeTestCase<JsonArray, List<
                 JsonNode.array().appendChild(JsonNode.object().set(JsonPropertyName.with("element-prop"), JsonNode.string("element-value"))));
     }
 
+    @Test
+    public void testEqualsDeeplyNested() {
+        this.checkEquals(deeplyNested(DEPTH), deeplyNested(DEPTH));
+    }
+
+    @Test
+    public void testEqualsDeeplyNestedDifferentLeaf() {
+        this.checkNotEquals(deeplyNested(DEPTH), deeplyNested(DEPTH, JsonNode.number(2)));
+    }
+
+    @Test
+    public void testHashCodeDeeplyNested() {
+        this.checkEquals(deeplyNested(DEPTH).hashCode(), deeplyNested(DEPTH).hashCode());
+    }
+
+    // numbers.......................................................................................................
+
+    @Test
+    public void testNumbersNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonNode.numbers(null));
+    }
+
+    @Test
+    public void testNumbersEmpty() {
+        assertSame(JsonNode.array(), JsonNode.numbers());
+    }
+
+    @Test
+    public void testNumbers() {
+        final JsonArray array = JsonNode.numbers(1, 2.5);
+
+        this.checkEquals(JsonArrayNumberList.class, array.children().getClass(), "children");
+        this.checkEquals(
+                JsonNode.array()
+                        .appendChild(JsonNode.number(1))
+                        .appendChild(JsonNode.number(2.5)),
+                array
+        );
+    }
+
+    @Test
+    public void testNumbersCopied() {
+        final double[] values = new double[]{1, 2};
+        final JsonArray array = JsonNode.numbers(values);
+        values[0] = 99;
+
+        this.checkEquals(JsonNode.number(1), array.get(0).removeParent());
+    }
+
+    @Test
+    public void testNumbersGet() {
+        final JsonArray array = JsonNode.numbers(1, 2.5);
+        final JsonNode child = array.get(1);
+
+        this.checkEquals(array, child.parentOrFail(), "parent");
+        this.checkEquals(1, child.index(), "index");
+        this.checkEquals(2.5, child.numberOrFail().doubleValue(), "value");
+    }
+
+    @Test
+    public void testNumbersOrNull() {
+        final double[] numbers = JsonNode.numbers(1, 2.5)
+                .numbersOrNull();
+        this.checkEquals("[1.0, 2.5]", Arrays.toString(numbers));
+    }
+
+    @Test
+    public void testNumbersOrNullCopied() {
+        final JsonArray array = JsonNode.numbers(1, 2.5);
+        array.numbersOrNull()[0] = 99;
+
+        this.checkEquals(JsonNode.numbers(1, 2.5), array);
+    }
+
+    @Test
+    public void testNumbersOrNullNotAllNumbers() {
+        assertNull(
+                JsonNode.numbers(1)
+                        .appendChild(JsonNode.string("2"))
+                        .numbersOrNull()
+        );
+    }
+
+    @Test
+    public void testNumbersOrNullEmpty() {
+        assertNull(JsonNode.array().numbersOrNull());
+    }
+
+    @Test
+    public void testNumbersAppendNumber() {
+        final JsonArray array = JsonNode.numbers(1)
+                .appendChild(JsonNode.number(2));
+
+        this.checkEquals(JsonArrayNumberList.class, array.children().getClass(), "children");
+        this.checkEquals(JsonNode.numbers(1, 2), array);
+    }
+
+    @Test
+    public void testNumbersAppendString() {
+        final JsonArray array = JsonNode.numbers(1)
+                .appendChild(JsonNode.string("2"));
+
+        this.checkEquals(false, array.children() instanceof JsonArrayNumberList, "children");
+        this.checkEquals("2", array.get(1).stringOrFail(), "string");
+        this.checkEquals(1.0, array.get(0).numberOrFail().doubleValue(), "number");
+    }
+
+    @Test
+    public void testNumbersSetChildNested() {
+        final JsonArray array = JsonNode.array()
+                .appendChild(JsonNode.numbers(1, 2));
+        final JsonNode replaced = array.get(0)
+                .children()
+                .get(1)
+                .replace(JsonNode.number(3));
+
+        this.checkEquals(
+                JsonNode.array()
+                        .appendChild(JsonNode.numbers(1, 3)),
+                replaced.root()
+        );
+    }
+
+    @Test
+    public void testNumbersParse() {
+        final JsonArray array = JsonNode.parse("[1, 2.5, -3]")
+                .arrayOrFail();
+
+        this.checkEquals(JsonArrayNumberList.class, array.children().getClass(), "children");
+        this.checkEquals(JsonNode.numbers(1, 2.5, -3), array);
+    }
+
+    @Test
+    public void testNumbersHashCode() {
+        this.checkEquals(
+                JsonNode.parse("[1, 2.5, -3]").hashCode(),
+                JsonNode.numbers(1, 2.5, -3).hashCode()
+        );
+    }
+
+    @Test
+    public void testNumbersToString() {
+        this.toStringAndCheck(
+                JsonNode.numbers(1, 2.5),
+                "[\n" +
+                        "  1,\n" +
+                        "  2.5\n" +
+                        "]"
+        );
+    }
+
     // toString .......................................................................................
 
     @Test
@@ -645,6 +924,18 @@ public final class JsonArrayTest extends JsonParentNodeTestCase<JsonArray, List<
         );
     }
 
+    @Test
+    public void testToStringNumbers() {
+        this.toStringAndCheck(
+                JsonNode.numbers(1, 2.5, 1.0E23),
+                "[\n" +
+                        "  1,\n" +
+                        "  2.5,\n" +
+                        "  1.0E23\n" +
+                        "]"
+        );
+    }
+
     @Test
     public void testToStringWithOneChildObject() {
         final JsonArray array = JsonNode.array()
@@ -696,6 +987,49 @@ public final class JsonArrayTest extends JsonParentNodeTestCase<JsonArray, List<
         );
     }
 
+    @Test
+    public void testToStringDeeplyNested() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < DEPTH; i++) {
+            indent(b, i).append("[\n");
+        }
+        indent(b, DEPTH).append("1\n");
+        for (int i = DEPTH - 1; i >= 0; i--) {
+            indent(b, i).append("]");
+            if (i > 0) {
+                b.append("\n");
+            }
+        }
+
+        this.toStringAndCheck(deeplyNested(DEPTH), b.toString());
+    }
+
+    private static StringBuilder indent(final StringBuilder b, final int level) {
+        for (int i = 0; i < level; i++) {
+            b.append("  ");
+        }
+        return b;
+    }
+
+    private final static int DEPTH = 1000;
+
+    /**
+     * Returns arrays nested to the given depth, with the innermost holding the number 1.
+     */
+    private static JsonArray deeplyNested(final int depth) {
+        return deeplyNested(depth, JsonNode.number(1));
+    }
+
+    private static JsonArray deeplyNested(final int depth, final JsonNode leaf) {
+        JsonArray array = JsonNode.array()
+                .appendChild(leaf);
+        for (int i = 1; i < depth; i++) {
+            array = JsonNode.array()
+                    .appendChild(array);
+        }
+        return array;
+    }
+
     @Override
     JsonArray createJsonNode() {
         return JsonArray.array();
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonMergePatchTest implements ClassTesting2<JsonMergePatch>,
+        ToStringTesting<JsonMergePatch> {
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonMergePatch.with(null));
+    }
+
+    @Test
+    public void testApplyNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonMergePatch.with(JsonNode.object()).apply(null));
+    }
+
+    // RFC 7396 Appendix A..............................................................................................
+
+    @Test
+    public void testReplaceMember() {
+        this.applyAndCheck("{\"a\": \"b\"}", "{\"a\": \"c\"}", "{\"a\": \"c\"}");
+    }
+
+    @Test
+    public void testAddMember() {
+        this.applyAndCheck("{\"a\": \"b\"}", "{\"b\": \"c\"}", "{\"a\": \"b\", \"b\": \"c\"}");
+    }
+
+    @Test
+    public void testRemoveMember() {
+        this.applyAndCheck("{\"a\": \"b\"}", "{\"a\": null}", "{}");
+    }
+
+    @Test
+    public void testRemoveMember2() {
+        this.applyAndCheck("{\"a\": \"b\", \"b\": \"c\"}", "{\"a\": null}", "{\"b\": \"c\"}");
+    }
+
+    @Test
+    public void testReplaceArrayWithString() {
+        this.applyAndCheck("{\"a\": [\"b\"]}", "{\"a\": \"c\"}", "{\"a\": \"c\"}");
+    }
+
+    @Test
+    public void testReplaceStringWithArray() {
+        this.applyAndCheck("{\"a\": \"c\"}", "{\"a\": [\"b\"]}", "{\"a\": [\"b\"]}");
+    }
+
+    @Test
+    public void testNested() {
+        this.applyAndCheck("{\"a\": {\"b\": \"c\"}}", "{\"a\": {\"b\": \"d\", \"c\": null}}", "{\"a\": {\"b\": \"d\"}}");
+    }
+
+    @Test
+    public void testArraysReplaced() {
+        this.applyAndCheck("{\"a\": [{\"b\": \"c\"}]}", "{\"a\": [1]}", "{\"a\": [1]}");
+    }
+
+    @Test
+    public void testRootArrays() {
+        this.applyAndCheck("[\"a\", \"b\"]", "[\"c\", \"d\"]", "[\"c\", \"d\"]");
+    }
+
+    @Test
+    public void testObjectReplacedByArray() {
+        this.applyAndCheck("{\"a\": \"b\"}", "[\"c\"]", "[\"c\"]");
+    }
+
+    @Test
+    public void testReplacedByNull() {
+        this.applyAndCheck("{\"a\": \"foo\"}", "null", "null");
+    }
+
+    @Test
+    public void testReplacedByString() {
+        this.applyAndCheck("{\"a\": \"foo\"}", "\"bar\"", "\"bar\"");
+    }
+
+    @Test
+    public void testNullMemberKept() {
+        this.applyAndCheck("{\"e\": null}", "{\"a\": 1}", "{\"e\": null, \"a\": 1}");
+    }
+
+    @Test
+    public void testArrayReplacedByObject() {
+        this.applyAndCheck("[1, 2]", "{\"a\": \"b\", \"c\": null}", "{\"a\": \"b\"}");
+    }
+
+    @Test
+    public void testNestedNullsRemoved() {
+        this.applyAndCheck("{}", "{\"a\": {\"bb\": {\"ccc\": null}}}", "{\"a\": {\"bb\": {}}}");
+    }
+
+    // more.............................................................................................................
+
+    @Test
+    public void testUnchanged() {
+        final JsonNode node = JsonNode.parse("{\"a\": {\"b\": [1, 2]}, \"c\": 3}");
+        assertSame(
+                node,
+                JsonMergePatch.with(JsonNode.parse("{\"a\": {\"b\": [1, 2], \"missing\": null}, \"c\": 3}"))
+                        .apply(node)
+        );
+    }
+
+    @Test
+    public void testUnchangedSiblingKept() {
+        final JsonObject node = JsonNode.parse("{\"a\": {\"b\": 1}, \"c\": {\"d\": 2}}")
+                .objectOrFail();
+        final JsonPropertyName c = JsonPropertyName.with("c");
+
+        final JsonNode patched = JsonMergePatch.with(JsonNode.parse("{\"a\": {\"b\": 2}}"))
+                .apply(node);
+        this.checkEquals(
+                true,
+                node.getOrFail(c)
+                        .equalsStructure(patched.objectOrFail().getOrFail(c))
+        );
+    }
+
+    @Test
+    public void testApplyKeepsParent() {
+        final JsonObject root = JsonNode.parse("{\"a\": {\"b\": 1}, \"c\": 2}")
+                .objectOrFail();
+
+        final JsonNode patched = JsonMergePatch.with(JsonNode.parse("{\"b\": null, \"d\": 4}"))
+                .apply(root.getOrFail(JsonPropertyName.with("a")));
+        this.checkEquals(
+                JsonNode.parse("{\"a\": {\"d\": 4}, \"c\": 2}"),
+                patched.parent()
+                        .get()
+        );
+    }
+
+    private void applyAndCheck(final String target,
+                               final String patch,
+                               final String expected) {
+        this.checkEquals(
+                JsonNode.parse(expected),
+                JsonMergePatch.with(JsonNode.parse(patch))
+                        .apply(JsonNode.parse(target)),
+                () -> target + " merge " + patch
+        );
+    }
+
+    // patch............................................................................................................
+
+    @Test
+    public void testPatch() {
+        final JsonNode patch = JsonNode.parse("{\"a\": 1}");
+        assertSame(patch, JsonMergePatch.with(patch).patch());
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testEquals() {
+        this.checkEquals(
+                JsonMergePatch.with(JsonNode.parse("{\"a\": 1}")),
+                JsonMergePatch.with(JsonNode.parse("{\"a\": 1}"))
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final JsonNode patch = JsonNode.parse("{\"a\": 1}");
+        this.toStringAndCheck(JsonMergePatch.with(patch), patch.toString());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonMergePatch> type() {
+        return JsonMergePatch.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeCanonicalTest implements ClassTesting2<JsonNodeCanonical> {
+
+    @Test
+    public void testNull() {
+        this.printAndCheck(JsonNode.nullNode(), "null");
+    }
+
+    @Test
+    public void testBoolean() {
+        this.printAndCheck(JsonNode.booleanNode(true), "true");
+    }
+
+    @Test
+    public void testNumber() {
+        this.printAndCheck(JsonNode.number(1e30), "1e+30");
+    }
+
+    @Test
+    public void testNumberNaNFails() {
+        assertThrows(
+                JsonNodeException.class,
+                () -> JsonNodeCanonical.print(JsonNode.number(Double.NaN), (t) -> {
+                })
+        );
+    }
+
+    @Test
+    public void testNumberInfinityFails() {
+        assertThrows(
+                JsonNodeException.class,
+                () -> JsonNodeCanonical.print(JsonNode.number(Double.POSITIVE_INFINITY), (t) -> {
+                })
+        );
+    }
+
+    @Test
+    public void testString() {
+        this.printAndCheck(JsonNode.string("a\tb"), "\"a\\tb\"");
+    }
+
+    @Test
+    public void testArray() {
+        this.printAndCheck(JsonNode.parse("[1, [ true, \"a\" ], {}]"), "[1,[true,\"a\"],{}]");
+    }
+
+    @Test
+    public void testObjectSorted() {
+        this.printAndCheck(JsonNode.parse("{\"b\": 1, \"a\": {\"d\": 2, \"c\": 3}}"), "{\"a\":{\"c\":3,\"d\":2},\"b\":1}");
+    }
+
+    /**
+     * The example from RFC 8785 section 3.2.2.
+     */
+    @Test
+    public void testRfc8785Example() {
+        this.printAndCheck(
+                JsonNode.object()
+                        .set(JsonPropertyName.with("numbers"), JsonNode.parse("[333333333.33333329, 1E30, 4.50, 2e-3, 0.000000000000000000000000001]"))
+                        .set(JsonPropertyName.with("string"), JsonNode.string("\u20ac$\u000f\nA'B\"\\\\\"/"))
+                        .set(JsonPropertyName.with("literals"), JsonNode.parse("[null, true, false]")),
+                "{\"literals\":[null,true,false],\"numbers\":[333333333.3333333,1e+30,4.5,0.002,1e-27],\"string\":\"\u20ac$\\u000f\\nA'B\\\"\\\\\\\\\\\"/\"}"
+        );
+    }
+
+    /**
+     * The property sorting example from RFC 8785 section 3.2.3, names are sorted by their UTF-16 code units.
+     */
+    @Test
+    public void testRfc8785Sorting() {
+        JsonObject object = JsonNode.object();
+        for (final String name : Lists.of("\u20ac", "\r", "\ufb33", "1", "\ud83d\ude00", "\u0080", "\u00f6")) {
+            object = object.set(JsonPropertyName.with(name), JsonNode.string("v"));
+        }
+
+        this.printAndCheck(
+                object,
+                "{\"\\r\":\"v\",\"1\":\"v\",\"\u0080\":\"v\",\"\u00f6\":\"v\",\"\u20ac\":\"v\",\"\ud83d\ude00\":\"v\",\"\ufb33\":\"v\"}"
+        );
+    }
+
+    private void printAndCheck(final JsonNode node,
+                               final String expected) {
+        final StringBuilder b = new StringBuilder();
+        JsonNodeCanonical.print(node, b::append);
+        this.checkEquals(expected, b.toString(), node::toString);
+    }
+
+    // digest...........................................................................................................
+
+    @Test
+    public void testDigest() throws NoSuchAlgorithmException {
+        final JsonNode node = JsonNode.parse("{\"b\": [1, 2.5, \"\\u20ac\"], \"a\": null}");
+        assertArrayEquals(
+                MessageDigest.getInstance("SHA-256")
+                        .digest("{\"a\":null,\"b\":[1,2.5,\"\u20ac\"]}".getBytes(StandardCharsets.UTF_8)),
+                JsonNodeCanonical.digest(node)
+        );
+    }
+
+    @Test
+    public void testTreeDigestObjectOrderUnimportant() {
+        assertArrayEquals(
+                JsonNodeCanonical.treeDigest(JsonNode.parse("{\"a\": 1, \"b\": [true]}")),
+                JsonNodeCanonical.treeDigest(JsonNode.parse("{\"b\": [true], \"a\": 1}"))
+        );
+    }
+
+    @Test
+    public void testTreeDigestDifferentValues() {
+        this.treeDigestDifferent("{\"a\": 1}", "{\"a\": 2}");
+    }
+
+    @Test
+    public void testTreeDigestDifferentNames() {
+        this.treeDigestDifferent("{\"a\": 1}", "{\"b\": 1}");
+    }
+
+    @Test
+    public void testTreeDigestDifferentArrayOrder() {
+        this.treeDigestDifferent("[1, 2]", "[2, 1]");
+    }
+
+    @Test
+    public void testTreeDigestArrayAndLeaf() {
+        this.treeDigestDifferent("[\"a\"]", "\"a\"");
+    }
+
+    @Test
+    public void testTreeDigestArrayAndObject() {
+        this.treeDigestDifferent("[]", "{}");
+    }
+
+    private void treeDigestDifferent(final String json,
+                                     final String json2) {
+        this.checkEquals(
+                false,
+                Arrays.equals(
+                        JsonNodeCanonical.treeDigest(JsonNode.parse(json)),
+                        JsonNodeCanonical.treeDigest(JsonNode.parse(json2))
+                ),
+                () -> json + " " + json2
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeCanonical> type() {
+        return JsonNodeCanonical.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
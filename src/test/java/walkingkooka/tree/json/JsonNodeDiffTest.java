@@ -0,0 +1,352 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeDiffTest implements ClassTesting2<JsonNodeDiff>,
+        ToStringTesting<JsonNodeDiff> {
+
+    @Test
+    public void testKeyedNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonNodeDiff.keyed(null));
+    }
+
+    @Test
+    public void testLcsSingleton() {
+        assertSame(JsonNodeDiff.lcs(), JsonNodeDiff.lcs());
+    }
+
+    @Test
+    public void testDiffNullFromFails() {
+        assertThrows(NullPointerException.class, () -> JsonNodeDiff.lcs().diff(null, JsonNode.nullNode()));
+    }
+
+    @Test
+    public void testDiffNullToFails() {
+        assertThrows(NullPointerException.class, () -> JsonNodeDiff.lcs().diff(JsonNode.nullNode(), null));
+    }
+
+    @Test
+    public void testDiffSame() {
+        final JsonNode node = JsonNode.parse("{\"a\": [1, 2]}");
+        this.diffAndCheck(node, node, "[]");
+    }
+
+    @Test
+    public void testDiffEqual() {
+        this.diffAndCheck(
+                "{\"a\": [1, 2], \"b\": {\"c\": null}}",
+                "{\"b\": {\"c\": null}, \"a\": [1, 2]}",
+                "[]"
+        );
+    }
+
+    @Test
+    public void testDiffRootLeaf() {
+        this.diffAndCheck(
+                "1",
+                "2",
+                "[{\"op\": \"replace\", \"path\": \"\", \"value\": 2}]"
+        );
+    }
+
+    @Test
+    public void testDiffRootDifferentTypes() {
+        this.diffAndCheck(
+                "{\"a\": 1}",
+                "[1]",
+                "[{\"op\": \"replace\", \"path\": \"\", \"value\": [1]}]"
+        );
+    }
+
+    // object...........................................................................................................
+
+    @Test
+    public void testDiffObjectReplace() {
+        this.diffAndCheck(
+                "{\"a\": 1, \"b\": 2}",
+                "{\"a\": 1, \"b\": 3}",
+                "[{\"op\": \"replace\", \"path\": \"/b\", \"value\": 3}]"
+        );
+    }
+
+    @Test
+    public void testDiffObjectReplaceDifferentType() {
+        this.diffAndCheck(
+                "{\"a\": {\"b\": 1}}",
+                "{\"a\": \"b\"}",
+                "[{\"op\": \"replace\", \"path\": \"/a\", \"value\": \"b\"}]"
+        );
+    }
+
+    @Test
+    public void testDiffObjectRemoveAndAdd() {
+        this.diffAndCheck(
+                "{\"a\": 1}",
+                "{\"b\": 2}",
+                "[{\"op\": \"remove\", \"path\": \"/a\"}, {\"op\": \"add\", \"path\": \"/b\", \"value\": 2}]"
+        );
+    }
+
+    @Test
+    public void testDiffObjectMove() {
+        this.diffAndCheck(
+                "{\"a\": {\"x\": 1}, \"c\": true}",
+                "{\"b\": {\"x\": 1}, \"c\": true}",
+                "[{\"op\": \"move\", \"from\": \"/a\", \"path\": \"/b\"}]"
+        );
+    }
+
+    @Test
+    public void testDiffObjectNested() {
+        this.diffAndCheck(
+                "{\"a\": {\"b\": {\"c\": 1, \"d\": 2}}}",
+                "{\"a\": {\"b\": {\"c\": 1, \"d\": 3}}}",
+                "[{\"op\": \"replace\", \"path\": \"/a/b/d\", \"value\": 3}]"
+        );
+    }
+
+    @Test
+    public void testDiffObjectEscapedPath() {
+        this.diffAndCheck(
+                "{\"a/b\": {\"c~d\": 1}}",
+                "{\"a/b\": {\"c~d\": 2}}",
+                "[{\"op\": \"replace\", \"path\": \"/a~1b/c~0d\", \"value\": 2}]"
+        );
+    }
+
+    @Test
+    public void testDiffObjectAfterSet() {
+        final JsonObject from = JsonNode.parse("{\"a\": {\"b\": [1, 2, 3]}, \"c\": {\"d\": \"e\"}}")
+                .objectOrFail();
+        final JsonNode to = from.set(JsonPropertyName.with("f"), JsonNode.booleanNode(true));
+
+        this.diffAndCheck(
+                from,
+                to,
+                "[{\"op\": \"add\", \"path\": \"/f\", \"value\": true}]"
+        );
+    }
+
+    // array............................................................................................................
+
+    @Test
+    public void testDiffArrayAppend() {
+        this.diffAndCheck(
+                "[1, 2]",
+                "[1, 2, 3]",
+                "[{\"op\": \"add\", \"path\": \"/2\", \"value\": 3}]"
+        );
+    }
+
+    @Test
+    public void testDiffArrayInsert() {
+        this.diffAndCheck(
+                "[1, 3]",
+                "[1, 2, 3]",
+                "[{\"op\": \"add\", \"path\": \"/1\", \"value\": 2}]"
+        );
+    }
+
+    @Test
+    public void testDiffArrayRemove() {
+        this.diffAndCheck(
+                "[1, 2, 3]",
+                "[1, 3]",
+                "[{\"op\": \"remove\", \"path\": \"/1\"}]"
+        );
+    }
+
+    @Test
+    public void testDiffArrayRemoveSeveral() {
+        this.diffAndCheck(
+                "[1, 2, 3, 4]",
+                "[4]",
+                "[{\"op\": \"remove\", \"path\": \"/0\"}, {\"op\": \"remove\", \"path\": \"/0\"}, {\"op\": \"remove\", \"path\": \"/0\"}]"
+        );
+    }
+
+    @Test
+    public void testDiffArrayReplace() {
+        this.diffAndCheck(
+                "[1, 2, 3]",
+                "[1, 9, 3]",
+                "[{\"op\": \"replace\", \"path\": \"/1\", \"value\": 9}]"
+        );
+    }
+
+    @Test
+    public void testDiffArrayNested() {
+        this.diffAndCheck(
+                "[{\"a\": 1}, {\"a\": 2}]",
+                "[{\"a\": 1}, {\"a\": 3}]",
+                "[{\"op\": \"replace\", \"path\": \"/1/a\", \"value\": 3}]"
+        );
+    }
+
+    @Test
+    public void testDiffArrayLcs() {
+        this.diffAndCheck(
+                "[1, 2, 3, 4]",
+                "[2, 3, 4, 5]",
+                "[{\"op\": \"remove\", \"path\": \"/0\"}, {\"op\": \"add\", \"path\": \"/3\", \"value\": 5}]"
+        );
+    }
+
+    @Test
+    public void testDiffArrayLcsInterleaved() {
+        this.diffAndCheck(
+                "[\"a\", \"b\", \"c\", \"d\"]",
+                "[\"a\", \"x\", \"c\", \"y\", \"d\"]",
+                "[{\"op\": \"replace\", \"path\": \"/1\", \"value\": \"x\"}, {\"op\": \"add\", \"path\": \"/3\", \"value\": \"y\"}]"
+        );
+    }
+
+    // keyed............................................................................................................
+
+    @Test
+    public void testDiffKeyed() {
+        this.diffAndCheck(
+                JsonNodeDiff.keyed(JsonPointer.parse("/id")),
+                "[{\"id\": 1, \"v\": \"a\"}, {\"id\": 2, \"v\": \"b\"}, {\"id\": 3, \"v\": \"c\"}]",
+                "[{\"id\": 3, \"v\": \"c\"}, {\"id\": 1, \"v\": \"A\"}, {\"id\": 4, \"v\": \"d\"}]",
+                "[" +
+                        "{\"op\": \"remove\", \"path\": \"/1\"}, " +
+                        "{\"op\": \"move\", \"from\": \"/1\", \"path\": \"/0\"}, " +
+                        "{\"op\": \"replace\", \"path\": \"/1/v\", \"value\": \"A\"}, " +
+                        "{\"op\": \"add\", \"path\": \"/2\", \"value\": {\"id\": 4, \"v\": \"d\"}}" +
+                        "]"
+        );
+    }
+
+    @Test
+    public void testDiffKeyedRemovesLastFirst() {
+        this.diffAndCheck(
+                JsonNodeDiff.keyed(JsonPointer.parse("/id")),
+                "[{\"id\": 1}, {\"id\": 2}, {\"id\": 3}]",
+                "[{\"id\": 2}]",
+                "[{\"op\": \"remove\", \"path\": \"/2\"}, {\"op\": \"remove\", \"path\": \"/0\"}]"
+        );
+    }
+
+    @Test
+    public void testDiffKeyedNested() {
+        this.diffAndCheck(
+                JsonNodeDiff.keyed(JsonPointer.parse("/id")),
+                "{\"items\": [{\"id\": \"x\", \"n\": 1}, {\"id\": \"y\", \"n\": 2}]}",
+                "{\"items\": [{\"id\": \"y\", \"n\": 2}, {\"id\": \"x\", \"n\": 1}]}",
+                "[{\"op\": \"move\", \"from\": \"/items/1\", \"path\": \"/items/0\"}]"
+        );
+    }
+
+    @Test
+    public void testDiffKeyedDuplicateKeysUsesLcs() {
+        this.diffAndCheck(
+                JsonNodeDiff.keyed(JsonPointer.parse("/id")),
+                "[{\"id\": 1, \"v\": 1}, {\"id\": 1, \"v\": 2}]",
+                "[{\"id\": 1, \"v\": 2}]",
+                "[{\"op\": \"remove\", \"path\": \"/0\"}]"
+        );
+    }
+
+    @Test
+    public void testDiffKeyedNotObjectsUsesLcs() {
+        this.diffAndCheck(
+                JsonNodeDiff.keyed(JsonPointer.parse("/id")),
+                "[1, 2]",
+                "[1, 3]",
+                "[{\"op\": \"replace\", \"path\": \"/1\", \"value\": 3}]"
+        );
+    }
+
+    private void diffAndCheck(final String from,
+                              final String to,
+                              final String expected) {
+        this.diffAndCheck(
+                JsonNodeDiff.lcs(),
+                from,
+                to,
+                expected
+        );
+    }
+
+    private void diffAndCheck(final JsonNodeDiff diff,
+                              final String from,
+                              final String to,
+                              final String expected) {
+        this.diffAndCheck(
+                diff,
+                JsonNode.parse(from),
+                JsonNode.parse(to),
+                expected
+        );
+    }
+
+    private void diffAndCheck(final JsonNode from,
+                              final JsonNode to,
+                              final String expected) {
+        this.diffAndCheck(
+                JsonNodeDiff.lcs(),
+                from,
+                to,
+                expected
+        );
+    }
+
+    private void diffAndCheck(final JsonNodeDiff diff,
+                              final JsonNode from,
+                              final JsonNode to,
+                              final String expected) {
+        this.checkEquals(
+                JsonNode.parse(expected),
+                diff.diff(from, to),
+                () -> diff + " " + from + " " + to
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToStringLcs() {
+        this.toStringAndCheck(JsonNodeDiff.lcs(), "lcs");
+    }
+
+    @Test
+    public void testToStringKeyed() {
+        this.toStringAndCheck(JsonNodeDiff.keyed(JsonPointer.parse("/id")), "keyed /id");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeDiff> type() {
+        return JsonNodeDiff.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -21,7 +21,20 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.test.ParseStringTesting;
+import walkingkooka.text.LineEnding;
+import walkingkooka.text.printer.Printers;
 import walkingkooka.tree.HasTextOffsetTesting;
+import walkingkooka.tree.json.parser.JsonNodeParserLimitException;
+import walkingkooka.tree.json.parser.JsonNodeParserLimits;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class JsonNodeTest implements ClassTesting2<JsonNode>,
         HasTextOffsetTesting,
@@ -117,6 +130,62 @@ public final class JsonNodeTest implements ClassTesting2<JsonNode>,
                         .set(JsonPropertyName.with("prop1"), JsonNode.string("value1")));
     }
 
+    @Test
+    public void testParseNullLimitsFails() {
+        assertThrows(NullPointerException.class, () -> JsonNode.parse("1", null));
+    }
+
+    @Test
+    public void testParseWithLimits() {
+        this.checkEquals(JsonNode.array()
+                        .appendChild(JsonNode.number(1))
+                        .appendChild(JsonNode.string("ab")),
+                JsonNode.parse("[1, \"ab\"]", JsonNodeParserLimits.UNLIMITED.setMaxDepth(1).setMaxStringLength(2)));
+    }
+
+    @Test
+    public void testParseDepthLimitFails() {
+        final JsonNodeParserLimitException thrown = assertThrows(JsonNodeParserLimitException.class,
+                () -> JsonNode.parse("[[[1]]]", JsonNodeParserLimits.UNLIMITED.setMaxDepth(2)));
+        this.checkEquals(1, thrown.lineNumber(), "lineNumber");
+        this.checkEquals(3, thrown.column(), "column");
+    }
+
+    @Test
+    public void testParseDefaultDepthLimitFails() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            b.append('[');
+        }
+
+        assertThrows(JsonNodeParserLimitException.class, () -> JsonNode.parse(b.toString(), JsonNodeParserLimits.DEFAULT));
+    }
+
+    @Test
+    public void testParseWithoutLimitsDeeperThanDefault() {
+        final int depth = JsonNodeParserLimits.DEFAULT_MAX_DEPTH + 1;
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            b.append('[');
+        }
+        for (int i = 0; i < depth; i++) {
+            b.append(']');
+        }
+
+        JsonNode node = JsonNode.parse(b.toString());
+        for (int i = 1; i < depth; i++) {
+            node = node.children().get(0);
+        }
+        this.checkEquals(JsonNode.array(), node.removeParent());
+    }
+
+    @Test
+    public void testParseMaxLengthFails() {
+        final JsonNodeParserLimitException thrown = assertThrows(JsonNodeParserLimitException.class,
+                () -> JsonNode.parse("[12]", JsonNodeParserLimits.UNLIMITED.setMaxLength(3)));
+        this.checkEquals("Document length 4 exceeds 3 at (1,1)", thrown.getMessage());
+    }
+
     // HasTextOffset.................................................................................................
 
     @Test
@@ -151,6 +220,159 @@ public final class JsonNodeTest implements ClassTesting2<JsonNode>,
                 "a1b2c3");
     }
 
+    // structure........................................................................................................
+
+    @Test
+    public void testEqualsStructureNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonNode.object().equalsStructure(null));
+    }
+
+    @Test
+    public void testEqualsStructureIgnoresNameAndParent() {
+        final JsonNode child = JsonNode.parse("{\"a\": [1, {\"b\": true}]}")
+                .objectOrFail()
+                .getOrFail(JsonPropertyName.with("a"));
+        this.checkEquals(
+                true,
+                child.equalsStructure(JsonNode.parse("[1, {\"b\": true}]"))
+        );
+    }
+
+    @Test
+    public void testEqualsStructureDifferent() {
+        this.checkEquals(
+                false,
+                JsonNode.parse("[1, {\"b\": true}]")
+                        .equalsStructure(JsonNode.parse("[1, {\"b\": false}]"))
+        );
+    }
+
+    @Test
+    public void testEqualsStructureDifferentTypes() {
+        this.checkEquals(
+                false,
+                JsonNode.parse("[]")
+                        .equalsStructure(JsonNode.parse("{}"))
+        );
+    }
+
+    @Test
+    public void testEqualsStructureObjectOrderUnimportant() {
+        this.checkEquals(
+                true,
+                JsonNode.parse("{\"a\": 1, \"b\": 2}")
+                        .equalsStructure(JsonNode.parse("{\"b\": 2, \"a\": 1}"))
+        );
+    }
+
+    @Test
+    public void testStructuralHashIgnoresName() {
+        final JsonNode node = JsonNode.parse("{\"a\": [1, 2]}");
+        this.checkEquals(
+                node.structuralHash(),
+                node.setName(JsonPropertyName.with("different")).structuralHash()
+        );
+    }
+
+    @Test
+    public void testStructuralHashKeptByCopies() {
+        final JsonObject object = JsonNode.parse("{\"a\": [1, 2], \"b\": 3}")
+                .objectOrFail();
+        final JsonPropertyName a = JsonPropertyName.with("a");
+        final int hash = object.getOrFail(a).structuralHash();
+
+        final JsonNode copy = object.set(JsonPropertyName.with("b"), JsonNode.number(4))
+                .objectOrFail()
+                .getOrFail(a);
+        this.checkEquals(hash, copy.structuralHash());
+        this.checkEquals(true, copy.equalsStructure(object.getOrFail(a)));
+    }
+
+    // canonical........................................................................................................
+
+    @Test
+    public void testToCanonicalJson() {
+        this.checkEquals(
+                "{\"a\":[1,true],\"b\":{\"c\":\"d\"}}",
+                JsonNode.parse("{\"b\": {\"c\": \"d\"}, \"a\": [1, true]}").toCanonicalJson()
+        );
+    }
+
+    @Test
+    public void testToCanonicalJsonIgnoresName() {
+        this.checkEquals(
+                "[1]",
+                JsonNode.parse("[1]")
+                        .setName(JsonPropertyName.with("name"))
+                        .toCanonicalJson()
+        );
+    }
+
+    @Test
+    public void testPrintCanonicalJsonNullPrinterFails() {
+        assertThrows(NullPointerException.class, () -> JsonNode.object().printCanonicalJson(null));
+    }
+
+    @Test
+    public void testPrintCanonicalJson() {
+        final StringBuilder b = new StringBuilder();
+        JsonNode.parse("{\"b\": 1.50, \"a\": null}")
+                .printCanonicalJson(Printers.stringBuilder(b, LineEnding.NL));
+        this.checkEquals("{\"a\":null,\"b\":1.5}", b.toString());
+    }
+
+    @Test
+    public void testCanonicalDigest() throws NoSuchAlgorithmException {
+        final JsonNode node = JsonNode.parse("{\"b\": [1, 2], \"a\": \"\\u00e9\"}");
+        assertArrayEquals(
+                MessageDigest.getInstance("SHA-256")
+                        .digest(node.toCanonicalJson().getBytes(StandardCharsets.UTF_8)),
+                node.canonicalDigest()
+        );
+    }
+
+    @Test
+    public void testCanonicalDigestDefensiveCopy() {
+        final JsonNode node = JsonNode.parse("[1]");
+        final byte[] digest = node.canonicalDigest();
+        digest[0]++;
+
+        this.checkEquals(
+                false,
+                Arrays.equals(digest, node.canonicalDigest())
+        );
+    }
+
+    @Test
+    public void testTreeDigestIgnoresNameAndOrder() {
+        assertArrayEquals(
+                JsonNode.parse("{\"a\": 1, \"b\": 2}").treeDigest(),
+                JsonNode.parse("{\"b\": 2, \"a\": 1}")
+                        .setName(JsonPropertyName.with("different"))
+                        .treeDigest()
+        );
+    }
+
+    @Test
+    public void testTreeDigestAfterSet() {
+        final JsonObject object = JsonNode.parse("{\"a\": {\"b\": [1, 2, 3]}, \"c\": 3}")
+                .objectOrFail();
+        final JsonPropertyName a = JsonPropertyName.with("a");
+        final byte[] unchanged = object.getOrFail(a).treeDigest0();
+
+        final JsonObject set = object.set(JsonPropertyName.with("c"), JsonNode.number(4));
+
+        // the unchanged sibling copy keeps the digest and is not hashed again
+        assertSame(
+                unchanged,
+                set.getOrFail(a).treeDigest0()
+        );
+        assertArrayEquals(
+                JsonNode.parse("{\"a\": {\"b\": [1, 2, 3]}, \"c\": 4}").treeDigest(),
+                set.treeDigest()
+        );
+    }
+
     // ClassTesting.............................................................................................
 
     @Override
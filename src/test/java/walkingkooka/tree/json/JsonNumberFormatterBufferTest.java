@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNumberFormatterBufferTest implements ClassTesting2<JsonNumberFormatterBuffer> {
+
+    @Test
+    public void testFormat() {
+        this.checkEquals("1.0E23", JsonNumberFormatterBuffer.empty().format(1.0E23).toString());
+    }
+
+    @Test
+    public void testFormatWholeNumber() {
+        this.checkEquals("123", JsonNumberFormatterBuffer.empty().format(123).toString());
+    }
+
+    @Test
+    public void testFormatNaN() {
+        this.checkEquals("NaN", JsonNumberFormatterBuffer.empty().format(Double.NaN).toString());
+    }
+
+    @Test
+    public void testFormatEcmaScript() {
+        this.checkEquals("1e+23", JsonNumberFormatterBuffer.empty().formatEcmaScript(1.0E23).toString());
+    }
+
+    @Test
+    public void testFormatEcmaScriptNaNFails() {
+        final JsonNodeException thrown = assertThrows(
+                JsonNodeException.class,
+                () -> JsonNumberFormatterBuffer.empty().formatEcmaScript(Double.NaN)
+        );
+        this.checkEquals("Canonical json cannot contain NaN", thrown.getMessage());
+    }
+
+    @Test
+    public void testFormatEcmaScriptInfinityFails() {
+        assertThrows(
+                JsonNodeException.class,
+                () -> JsonNumberFormatterBuffer.empty().formatEcmaScript(Double.NEGATIVE_INFINITY)
+        );
+    }
+
+    @Test
+    public void testFormatReusesBuffer() {
+        final JsonNumberFormatterBuffer buffer = JsonNumberFormatterBuffer.empty();
+        final CharSequence first = buffer.format(1.5);
+        this.checkEquals("1.5", first.toString());
+
+        assertSame(first, buffer.format(-2.25));
+        this.checkEquals("-2.25", first.toString());
+    }
+
+    @Test
+    public void testToString() {
+        final JsonNumberFormatterBuffer buffer = JsonNumberFormatterBuffer.empty();
+        buffer.format(12.5);
+
+        this.checkEquals("12.5", buffer.toString());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNumberFormatterBuffer> type() {
+        return JsonNumberFormatterBuffer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
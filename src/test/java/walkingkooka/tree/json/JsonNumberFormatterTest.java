@@ -0,0 +1,352 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public final class JsonNumberFormatterTest implements ClassTesting2<JsonNumberFormatter> {
+
+    @Test
+    public void testZero() {
+        this.formatAndCheck(0, "0");
+    }
+
+    @Test
+    public void testNegativeZero() {
+        this.formatAndCheck(-0.0, "0");
+    }
+
+    @Test
+    public void testWholeNumber() {
+        this.formatAndCheck(123, "123");
+    }
+
+    @Test
+    public void testNegativeWholeNumber() {
+        this.formatAndCheck(-123, "-123");
+    }
+
+    @Test
+    public void testWholeNumberLarge() {
+        this.formatAndCheck(1.0E15, "1000000000000000");
+    }
+
+    @Test
+    public void testLongMinValue() {
+        this.formatAndCheck(Long.MIN_VALUE, "-9223372036854775808");
+    }
+
+    @Test
+    public void testWholeNumberTwoPower60() {
+        this.formatAndCheck(0x1p60, "1152921504606846976");
+    }
+
+    @Test
+    public void testWholeNumberTwoPower63() {
+        this.formatAndCheck(0x1p63, "9.223372036854776E18");
+    }
+
+    @Test
+    public void testWholeNumberLargerThanLong() {
+        this.formatAndCheck(1.0E20, "1.0E20");
+    }
+
+    @Test
+    public void testDecimal() {
+        this.formatAndCheck(123.5, "123.5");
+    }
+
+    @Test
+    public void testNegativeDecimal() {
+        this.formatAndCheck(-123.5, "-123.5");
+    }
+
+    @Test
+    public void testDecimalShortest() {
+        this.formatAndCheck(0.1, "0.1");
+    }
+
+    @Test
+    public void testDecimalShortest2() {
+        this.formatAndCheck(0.1 + 0.2, "0.30000000000000004");
+    }
+
+    @Test
+    public void testDecimalLessThanOne() {
+        this.formatAndCheck(0.5, "0.5");
+    }
+
+    @Test
+    public void testDecimalThousandth() {
+        this.formatAndCheck(0.001, "0.001");
+    }
+
+    @Test
+    public void testDecimalLessThanThousandth() {
+        this.formatAndCheck(0.000999, "9.99E-4");
+    }
+
+    @Test
+    public void testDecimalBeforeTenMillion() {
+        this.formatAndCheck(9999999.5, "9999999.5");
+    }
+
+    @Test
+    public void testDecimalTenMillion() {
+        this.formatAndCheck(10000000.5, "1.00000005E7");
+    }
+
+    @Test
+    public void testExponentSingleDigit() {
+        this.formatAndCheck(1.0E23, "1.0E23");
+    }
+
+    @Test
+    public void testExponentThreeDigits() {
+        this.formatAndCheck(-1.0E-300, "-1.0E-300");
+    }
+
+    @Test
+    public void testMaxValue() {
+        this.formatAndCheck(Double.MAX_VALUE, "1.7976931348623157E308");
+    }
+
+    @Test
+    public void testMinValue() {
+        this.formatAndCheck(Double.MIN_VALUE, "4.9E-324");
+    }
+
+    @Test
+    public void testSubnormal() {
+        this.formatAndCheck(3 * Double.MIN_VALUE, "1.5E-323");
+    }
+
+    @Test
+    public void testMinNormal() {
+        this.formatAndCheck(Double.MIN_NORMAL, "2.2250738585072014E-308");
+    }
+
+    @Test
+    public void testNaN() {
+        this.formatAndCheck(Double.NaN, "NaN");
+    }
+
+    @Test
+    public void testPositiveInfinity() {
+        this.formatAndCheck(Double.POSITIVE_INFINITY, "Infinity");
+    }
+
+    @Test
+    public void testNegativeInfinity() {
+        this.formatAndCheck(Double.NEGATIVE_INFINITY, "-Infinity");
+    }
+
+    private void formatAndCheck(final double value,
+                                final String expected) {
+        this.checkEquals(
+                expected,
+                JsonNumberFormatter.format(value),
+                () -> "format " + value
+        );
+    }
+
+    @Test
+    public void testRoundtripRandom() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 100000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            final String text = JsonNumberFormatter.format(value);
+
+            this.checkEquals(
+                    value,
+                    Double.parseDouble(text),
+                    () -> "roundtrip " + text
+            );
+        }
+    }
+
+    // formatEcmaScript.................................................................................................
+
+    @Test
+    public void testEcmaScriptZero() {
+        this.formatEcmaScriptAndCheck(0, "0");
+    }
+
+    @Test
+    public void testEcmaScriptNegativeZero() {
+        this.formatEcmaScriptAndCheck(-0.0, "0");
+    }
+
+    @Test
+    public void testEcmaScriptWholeNumber() {
+        this.formatEcmaScriptAndCheck(100, "100");
+    }
+
+    @Test
+    public void testEcmaScriptWholeNumberBelowTwoPower53() {
+        this.formatEcmaScriptAndCheck(0x1p53 - 1, "9007199254740991");
+    }
+
+    @Test
+    public void testEcmaScriptWholeNumberTwoPower60() {
+        this.formatEcmaScriptAndCheck(0x1p60, "1152921504606847000");
+    }
+
+    @Test
+    public void testEcmaScriptWholeNumberNegativeTwoPower60() {
+        this.formatEcmaScriptAndCheck(-0x1p60, "-1152921504606847000");
+    }
+
+    @Test
+    public void testEcmaScriptWholeNumberTwoPower63() {
+        this.formatEcmaScriptAndCheck(0x1p63, "9223372036854776000");
+    }
+
+    @Test
+    public void testEcmaScriptWholeNumberLargerThanLong() {
+        this.formatEcmaScriptAndCheck(295147905179352830000d, "295147905179352830000");
+    }
+
+    @Test
+    public void testEcmaScriptWholeNumberLargerThanLong2() {
+        this.formatEcmaScriptAndCheck(999999999999999900001d, "999999999999999900000");
+    }
+
+    @Test
+    public void testEcmaScriptExponent() {
+        this.formatEcmaScriptAndCheck(1e21, "1e+21");
+    }
+
+    @Test
+    public void testEcmaScriptExponent2() {
+        this.formatEcmaScriptAndCheck(9.999999999999997e22, "9.999999999999997e+22");
+    }
+
+    @Test
+    public void testEcmaScriptMaxValue() {
+        this.formatEcmaScriptAndCheck(Double.MAX_VALUE, "1.7976931348623157e+308");
+    }
+
+    @Test
+    public void testEcmaScriptMinValue() {
+        this.formatEcmaScriptAndCheck(Double.MIN_VALUE, "5e-324");
+    }
+
+    @Test
+    public void testEcmaScriptNegativeMinValue() {
+        this.formatEcmaScriptAndCheck(-Double.MIN_VALUE, "-5e-324");
+    }
+
+    @Test
+    public void testEcmaScriptDecimal() {
+        this.formatEcmaScriptAndCheck(333333333.33333325, "333333333.33333325");
+    }
+
+    @Test
+    public void testEcmaScriptDecimal2() {
+        this.formatEcmaScriptAndCheck(1424953923781206.2, "1424953923781206.2");
+    }
+
+    @Test
+    public void testEcmaScriptSmall() {
+        this.formatEcmaScriptAndCheck(0.000001, "0.000001");
+    }
+
+    @Test
+    public void testEcmaScriptSmall2() {
+        this.formatEcmaScriptAndCheck(-0.0000033333333333333333, "-0.0000033333333333333333");
+    }
+
+    @Test
+    public void testEcmaScriptSmallExponent() {
+        this.formatEcmaScriptAndCheck(9.999999999999997e-7, "9.999999999999997e-7");
+    }
+
+    @Test
+    public void testEcmaScriptSmallExponent2() {
+        this.formatEcmaScriptAndCheck(1e-7, "1e-7");
+    }
+
+    private void formatEcmaScriptAndCheck(final double value,
+                                          final String expected) {
+        this.checkEquals(
+                expected,
+                JsonNumberFormatter.formatEcmaScript(value),
+                () -> "formatEcmaScript " + value
+        );
+    }
+
+    @Test
+    public void testEcmaScriptRoundtripRandom() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 100000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            final String text = JsonNumberFormatter.formatEcmaScript(value);
+
+            this.checkEquals(
+                    value,
+                    Double.parseDouble(text),
+                    () -> "roundtrip " + text
+            );
+        }
+    }
+
+    @Test
+    public void testMultiplyHigh() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 10000; i++) {
+            final long x = random.nextLong();
+            final long y = random.nextLong();
+
+            this.checkEquals(
+                    BigInteger.valueOf(x)
+                            .multiply(BigInteger.valueOf(y))
+                            .shiftRight(64)
+                            .longValue(),
+                    JsonNumberFormatter.multiplyHigh(x, y),
+                    () -> "multiplyHigh " + x + " " + y
+            );
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNumberFormatter> type() {
+        return JsonNumberFormatter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
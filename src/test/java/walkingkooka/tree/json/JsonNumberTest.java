@@ -49,6 +49,26 @@ public final class JsonNumberTest extends JsonLeafNonNullNodeTestCase<JsonNumber
         this.checkEquals("123.5", JsonNumber.with(123.5).text());
     }
 
+    @Test
+    public void testTextNegativeWholeNumber() {
+        this.checkEquals("-123", JsonNumber.with(-123).text());
+    }
+
+    @Test
+    public void testTextLargeWholeNumber() {
+        this.checkEquals("12345678901", JsonNumber.with(12345678901.0).text());
+    }
+
+    @Test
+    public void testTextShortest() {
+        this.checkEquals("1.0E23", JsonNumber.with(1.0E23).text());
+    }
+
+    @Test
+    public void testTextSmall() {
+        this.checkEquals("1.5E-5", JsonNumber.with(0.000015).text());
+    }
+
     @Test
     public void testAccept() {
         final StringBuilder b = new StringBuilder();
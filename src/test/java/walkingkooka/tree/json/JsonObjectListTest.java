@@ -22,9 +22,77 @@ import walkingkooka.ToStringTesting;
 import walkingkooka.collect.list.ListTesting2;
 import walkingkooka.collect.map.Maps;
 
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class JsonObjectListTest implements ListTesting2<JsonObjectList, JsonNode>,
         ToStringTesting<JsonObjectList> {
 
+    @Test
+    public void testWithEmpty() {
+        assertSame(JsonObjectList.EMPTY, JsonObjectList.with(Maps.empty()));
+    }
+
+    @Test
+    public void testGetOrNull() {
+        this.checkEquals(JsonNode.booleanNode(false), this.createList().getOrNull(JsonPropertyName.with("second")));
+    }
+
+    @Test
+    public void testGetOrNullAbsent() {
+        assertNull(this.createList().getOrNull(JsonPropertyName.with("absent")));
+    }
+
+    @Test
+    public void testPropertyIndex() {
+        this.checkEquals(1, this.createList().propertyIndex(JsonPropertyName.with("second")));
+    }
+
+    @Test
+    public void testPropertyIndexAbsent() {
+        this.checkEquals(-1, this.createList().propertyIndex(JsonPropertyName.with("absent")));
+    }
+
+    @Test
+    public void testPropertyIndexMany() {
+        final JsonObjectList list = this.createMany();
+
+        for (int i = 0; i < MANY; i++) {
+            this.checkEquals(i, list.propertyIndex(JsonPropertyName.with("p" + i)), () -> "p" + i);
+        }
+    }
+
+    @Test
+    public void testPropertyIndexManyAbsent() {
+        this.checkEquals(-1, this.createMany().propertyIndex(JsonPropertyName.with("absent")));
+    }
+
+    @Test
+    public void testGetOrNullMany() {
+        this.checkEquals(JsonNode.number(MANY - 1), this.createMany().getOrNull(JsonPropertyName.with("p" + (MANY - 1))));
+    }
+
+    @Test
+    public void testToMap() {
+        this.checkEquals(
+                Maps.of(JsonPropertyName.with("first"), JsonNode.booleanNode(true),
+                        JsonPropertyName.with("second"), JsonNode.booleanNode(false)),
+                this.createList().toMap()
+        );
+    }
+
+    private final static int MANY = JsonObjectList.SCAN_MAX * 4 + 1;
+
+    private JsonObjectList createMany() {
+        final Map<JsonPropertyName, JsonNode> nameToValues = Maps.ordered();
+        for (int i = 0; i < MANY; i++) {
+            nameToValues.put(JsonPropertyName.with("p" + i), JsonNode.number(i));
+        }
+        return JsonObjectList.with(nameToValues);
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createList(), "[first=true, second=false]");
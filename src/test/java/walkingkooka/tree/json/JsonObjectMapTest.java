@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.MapTesting;
+import walkingkooka.collect.map.Maps;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonObjectMapTest implements MapTesting<JsonObjectMap, JsonPropertyName, JsonNode> {
+
+    private final static JsonPropertyName FIRST = JsonPropertyName.with("first");
+    private final static JsonPropertyName SECOND = JsonPropertyName.with("second");
+
+    @Test
+    public void testGet() {
+        this.checkEquals(JsonNode.booleanNode(false), this.createMap().get(SECOND));
+    }
+
+    @Test
+    public void testGetAbsent() {
+        assertNull(this.createMap().get(JsonPropertyName.with("absent")));
+    }
+
+    @Test
+    public void testGetNotPropertyName() {
+        assertNull(this.createMap().get("first"));
+    }
+
+    @Test
+    public void testContainsKey() {
+        this.containsKeyAndCheck(this.createMap(), FIRST);
+    }
+
+    @Test
+    public void testContainsKeyAbsent() {
+        this.containsKeyAndCheckAbsent(this.createMap(), JsonPropertyName.with("absent"));
+    }
+
+    @Test
+    public void testSize() {
+        this.checkEquals(2, this.createMap().size());
+    }
+
+    @Test
+    public void testEqualsMap() {
+        this.checkEquals(
+                Maps.of(FIRST, JsonNode.booleanNode(true), SECOND, JsonNode.booleanNode(false)),
+                this.createMap()
+        );
+    }
+
+    @Test
+    public void testKeysInOrder() {
+        final Map<JsonPropertyName, JsonNode> properties = Maps.ordered();
+        final List<JsonPropertyName> names = Lists.array();
+        for (int i = JsonObjectList.SCAN_MAX * 2; i >= 0; i--) {
+            final JsonPropertyName name = JsonPropertyName.with("p" + i);
+            properties.put(name, JsonNode.number(i));
+            names.add(name);
+        }
+
+        final JsonObjectMap map = JsonObjectMap.with(JsonObjectList.with(properties));
+        final List<JsonPropertyName> keys = Lists.array();
+        keys.addAll(map.keySet());
+
+        this.checkEquals(names, keys);
+        this.checkEquals(JsonNode.number(3), map.get(JsonPropertyName.with("p3")));
+    }
+
+    @Test
+    public void testPutFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createMap().put(FIRST, JsonNode.nullNode()));
+    }
+
+    @Test
+    public void testIteratorRemoveFails() {
+        final Iterator<Entry<JsonPropertyName, JsonNode>> iterator = this.createMap().entrySet().iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void testEntrySetValueFails() {
+        final Entry<JsonPropertyName, JsonNode> entry = this.createMap().entrySet().iterator().next();
+        assertThrows(UnsupportedOperationException.class, () -> entry.setValue(JsonNode.nullNode()));
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals("{first=true, second=false}", this.createMap().toString());
+    }
+
+    @Override
+    public JsonObjectMap createMap() {
+        final Map<JsonPropertyName, JsonNode> properties = Maps.ordered();
+        properties.put(FIRST, JsonNode.booleanNode(true));
+        properties.put(SECOND, JsonNode.booleanNode(false));
+
+        return JsonObjectMap.with(JsonObjectList.with(properties));
+    }
+}
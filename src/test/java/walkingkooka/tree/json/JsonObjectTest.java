@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -168,6 +169,110 @@ public final class JsonObjectTest extends JsonParentNodeTestCase<JsonObject, Jso
         this.checkEquals(Optional.empty(), object.get(key2()));
     }
 
+    // getOrNull and typed getters.
+
+    @Test
+    public void testGetOrNullNullNameFails() {
+        assertThrows(NullPointerException.class, () -> this.createJsonNode().getOrNull(null));
+    }
+
+    @Test
+    public void testGetOrNullAbsent() {
+        assertNull(this.typed().getOrNull("absent"));
+    }
+
+    @Test
+    public void testGetOrNull() {
+        final JsonObject object = this.typed();
+        this.checkEquals(object.getOrFail(JsonPropertyName.with("string")), object.getOrNull(new StringBuilder("string")));
+    }
+
+    @Test
+    public void testGetOrNullMany() {
+        final JsonObject object = this.many();
+        this.checkEquals(object.getOrFail(JsonPropertyName.with("p" + (MANY - 1))), object.getOrNull("p" + (MANY - 1)));
+    }
+
+    @Test
+    public void testGetString() {
+        this.checkEquals("abc", this.typed().getString("string"));
+    }
+
+    @Test
+    public void testGetStringAbsent() {
+        assertNull(this.typed().getString("absent"));
+    }
+
+    @Test
+    public void testGetStringNull() {
+        assertNull(this.typed().getString("null"));
+    }
+
+    @Test
+    public void testGetStringNotStringFails() {
+        assertThrows(ClassCastException.class, () -> this.typed().getString("boolean"));
+    }
+
+    @Test
+    public void testGetLong() {
+        this.checkEquals(123L, this.typed().getLong("long"));
+    }
+
+    @Test
+    public void testGetLongAbsentFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.typed().getLong("absent"));
+    }
+
+    @Test
+    public void testGetLongFractionFails() {
+        assertThrows(NumericLossJsonNodeException.class, () -> this.typed().getLong("double"));
+    }
+
+    @Test
+    public void testGetDouble() {
+        this.checkEquals(1.5, this.typed().getDouble("double"));
+    }
+
+    @Test
+    public void testGetDoubleAbsentFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.typed().getDouble("absent"));
+    }
+
+    @Test
+    public void testGetBoolean() {
+        this.checkEquals(true, this.typed().getBoolean("boolean"));
+    }
+
+    @Test
+    public void testGetBooleanAbsentFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.typed().getBoolean("absent"));
+    }
+
+    @Test
+    public void testGetObject() {
+        this.checkEquals(0, this.typed().getObject("object").children().size());
+    }
+
+    @Test
+    public void testGetObjectAbsent() {
+        assertNull(this.typed().getObject("absent"));
+    }
+
+    @Test
+    public void testGetArray() {
+        this.checkEquals(1, this.typed().getArray("array").children().size());
+    }
+
+    @Test
+    public void testGetArrayNull() {
+        assertNull(this.typed().getArray("null"));
+    }
+
+    private JsonObject typed() {
+        return JsonNode.parse("{\"string\": \"abc\", \"long\": 123, \"double\": 1.5, \"boolean\": true, \"object\": {}, \"array\": [1], \"null\": null}")
+                .objectOrFail();
+    }
+
     @Test
     public void testSetNullNameFails() {
         assertThrows(NullPointerException.class, () -> JsonNode.object().set(
@@ -399,6 +504,59 @@ public final class JsonObjectTest extends JsonParentNodeTestCase<JsonObject, Jso
         this.childCountCheck(empty, 0);
     }
 
+    // many properties use a hash table to find each property.
+
+    @Test
+    public void testSetAndGetMany() {
+        final JsonObject object = this.many();
+        this.childrenCheck(object);
+        this.childCountCheck(object, MANY);
+
+        for (int i = 0; i < MANY; i++) {
+            this.getNumberAndCheck(object, "p" + i, i);
+        }
+    }
+
+    @Test
+    public void testSetReplacesMany() {
+        final JsonPropertyName key = JsonPropertyName.with("p5");
+        final JsonObject object = this.many()
+                .set(key, JsonNode.string("replaced"));
+        this.childrenCheck(object);
+        this.childCountCheck(object, MANY);
+
+        this.getAndCheck(object, key, "replaced");
+        this.checkEquals(5, object.getOrFail(key).index(), "index");
+    }
+
+    @Test
+    public void testRemoveMany() {
+        final JsonPropertyName key = JsonPropertyName.with("p0");
+        final JsonObject object = this.many()
+                .remove(key);
+        this.childrenCheck(object);
+        this.childCountCheck(object, MANY - 1);
+
+        this.checkEquals(false, object.contains(key), "contains");
+        this.getNumberAndCheck(object, "p" + (MANY - 1), MANY - 1);
+    }
+
+    private void getNumberAndCheck(final JsonObject object, final String key, final int value) {
+        this.checkEquals(value,
+                object.getOrFail(JsonPropertyName.with(key)).numberOrFail().intValue(),
+                () -> "incorrect number value for get key=" + key);
+    }
+
+    private final static int MANY = JsonObjectList.SCAN_MAX + 1;
+
+    private JsonObject many() {
+        JsonObject object = JsonNode.object();
+        for (int i = 0; i < MANY; i++) {
+            object = object.set(JsonPropertyName.with("p" + i), JsonNode.number(i));
+        }
+        return object;
+    }
+
     @Test
     public void testChildReplaced() {
         final JsonPropertyName key1 = this.key1();
@@ -632,6 +790,22 @@ public final class JsonObjectTest extends JsonParentNodeTestCase<JsonObject, Jso
                 object.set(property, JsonNode.array()));
     }
 
+    @Test
+    public void testEqualsAndHashCodePropertyOrderUnimportant() {
+        final JsonPropertyName a = JsonPropertyName.with("a");
+        final JsonPropertyName b = JsonPropertyName.with("b");
+
+        final JsonObject object = JsonNode.object()
+                .set(a, JsonNode.number(1))
+                .set(b, JsonNode.array().appendChild(JsonNode.string("c")));
+        final JsonObject reordered = JsonNode.object()
+                .set(b, JsonNode.array().appendChild(JsonNode.string("c")))
+                .set(a, JsonNode.number(1));
+
+        this.checkEquals(object, reordered);
+        this.checkEquals(object.hashCode(), reordered.hashCode(), "hashCode");
+    }
+
     private JsonPropertyName property() {
         return JsonPropertyName.with("property");
     }
@@ -843,6 +1017,17 @@ public final class JsonObjectTest extends JsonParentNodeTestCase<JsonObject, Jso
         );
     }
 
+    @Test
+    public void testToStringKeyEscaped() {
+        final JsonObject object = JsonNode.object()
+                .set(JsonPropertyName.with("a\"b\tc"), JsonNode.booleanNode(true));
+
+        this.toStringAndCheck(
+                object,
+                "{\n  \"a\\\"b\\tc\": true\n}"
+        );
+    }
+
     @Test
     public void testToStringNestedObject() {
         final JsonObject nested = JsonNode.object()
@@ -151,7 +151,7 @@ public abstract class JsonParentNodeTestCase<N extends JsonParentNode<C>, C exte
         final Optional<JsonNode> nodeAsParent = Optional.of(node);
 
         int i = 0;
-        for (Entry<JsonPropertyName, JsonNode> keyAndValue : node.children.nameToValues.entrySet()) {
+        for (Entry<JsonPropertyName, JsonNode> keyAndValue : node.asMap().entrySet()) {
             final Node<?, ?, ?, ?> child = keyAndValue.getValue();
 
             this.checkEquals(i, child.index(), () -> "Incorrect index of " + child);
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class JsonPatchDocumentTest implements ClassTesting2<JsonPatchDocument> {
+
+    @Test
+    public void testGet() {
+        final JsonPatchDocument document = JsonPatchDocument.with(JsonNode.parse("{\"a\": [1, {\"b\": true}]}"));
+        this.checkEquals(
+                JsonNode.booleanNode(true),
+                document.get(JsonPointer.parse("/a/1/b"))
+                        .removeParent()
+        );
+    }
+
+    @Test
+    public void testGetMissing() {
+        final JsonPatchDocument document = JsonPatchDocument.with(JsonNode.parse("{\"a\": [1]}"));
+        this.checkEquals(
+                null,
+                document.get(JsonPointer.parse("/a/1"))
+        );
+    }
+
+    @Test
+    public void testGetAfterAdd() {
+        final JsonPatchDocument document = JsonPatchDocument.with(JsonNode.parse("{\"a\": [1]}"));
+        document.add(JsonPointer.parse("/a/-"), JsonNode.number(2));
+
+        this.checkEquals(
+                JsonNode.parse("[1, 2]"),
+                document.get(JsonPointer.parse("/a"))
+        );
+    }
+
+    @Test
+    public void testBuildUnchanged() {
+        final JsonNode node = JsonNode.parse("{\"a\": [1]}");
+        assertSame(
+                node,
+                JsonPatchDocument.with(node)
+                        .build(node.name())
+        );
+    }
+
+    @Test
+    public void testBuildOnlyModifiedCopied() {
+        final JsonObject node = JsonNode.parse("{\"a\": {\"b\": 1}, \"c\": {\"d\": 2}}")
+                .objectOrFail();
+        final JsonPatchDocument document = JsonPatchDocument.with(node);
+        document.replace(JsonPointer.parse("/a/b"), JsonNode.number(3));
+        document.remove(JsonPointer.parse("/c/d"));
+        document.add(JsonPointer.parse("/c/e"), JsonNode.string("f"));
+
+        this.checkEquals(
+                JsonNode.parse("{\"a\": {\"b\": 3}, \"c\": {\"e\": \"f\"}}"),
+                document.build(node.name())
+        );
+    }
+
+    @Test
+    public void testBuildName() {
+        final JsonPropertyName name = JsonPropertyName.with("name");
+        final JsonPatchDocument document = JsonPatchDocument.with(JsonNode.parse("[]"));
+        document.add(JsonPointer.parse("/0"), JsonNode.nullNode());
+
+        this.checkEquals(
+                name,
+                document.build(name).name()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonPatchDocument> type() {
+        return JsonPatchDocument.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
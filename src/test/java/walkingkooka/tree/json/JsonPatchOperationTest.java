@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonPatchOperationTest implements ClassTesting2<JsonPatchOperation>,
+        ToStringTesting<JsonPatchOperation> {
+
+    @Test
+    public void testParseNotObjectFails() {
+        this.parseFails("[]");
+    }
+
+    @Test
+    public void testParseMissingOpFails() {
+        this.parseFails("{\"path\": \"/a\"}");
+    }
+
+    @Test
+    public void testParseOpNotStringFails() {
+        this.parseFails("{\"op\": 1, \"path\": \"/a\"}");
+    }
+
+    @Test
+    public void testParseUnknownOpFails() {
+        this.parseFails("{\"op\": \"unknown\", \"path\": \"/a\"}");
+    }
+
+    @Test
+    public void testParseMissingPathFails() {
+        this.parseFails("{\"op\": \"remove\"}");
+    }
+
+    @Test
+    public void testParseInvalidPathFails() {
+        this.parseFails("{\"op\": \"remove\", \"path\": \"a\"}");
+    }
+
+    @Test
+    public void testParseAddMissingValueFails() {
+        this.parseFails("{\"op\": \"add\", \"path\": \"/a\"}");
+    }
+
+    @Test
+    public void testParseReplaceMissingValueFails() {
+        this.parseFails("{\"op\": \"replace\", \"path\": \"/a\"}");
+    }
+
+    @Test
+    public void testParseTestMissingValueFails() {
+        this.parseFails("{\"op\": \"test\", \"path\": \"/a\"}");
+    }
+
+    @Test
+    public void testParseMoveMissingFromFails() {
+        this.parseFails("{\"op\": \"move\", \"path\": \"/a\"}");
+    }
+
+    @Test
+    public void testParseCopyMissingFromFails() {
+        this.parseFails("{\"op\": \"copy\", \"path\": \"/a\"}");
+    }
+
+    @Test
+    public void testParseNullValue() {
+        this.toStringAndCheck(
+                this.parse("{\"op\": \"add\", \"path\": \"/a\", \"value\": null}"),
+                "add \"/a\" null"
+        );
+    }
+
+    @Test
+    public void testParseIgnoresUnknownMembers() {
+        this.toStringAndCheck(
+                this.parse("{\"op\": \"remove\", \"path\": \"/a\", \"extra\": true}"),
+                "remove \"/a\""
+        );
+    }
+
+    private void parseFails(final String json) {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> this.parse(json)
+        );
+    }
+
+    private JsonPatchOperation parse(final String json) {
+        return JsonPatchOperation.parse(JsonNode.parse(json), 0);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToStringMove() {
+        this.toStringAndCheck(
+                this.parse("{\"op\": \"move\", \"from\": \"/a\", \"path\": \"/b\"}"),
+                "move \"/a\" \"/b\""
+        );
+    }
+
+    @Test
+    public void testToStringReplace() {
+        this.toStringAndCheck(
+                this.parse("{\"op\": \"replace\", \"path\": \"/b\", \"value\": 1}"),
+                "replace \"/b\" 1"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonPatchOperation> type() {
+        return JsonPatchOperation.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
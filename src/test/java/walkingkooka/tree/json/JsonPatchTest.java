@@ -0,0 +1,485 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonPatchTest implements ClassTesting2<JsonPatch>,
+        ToStringTesting<JsonPatch> {
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonPatch.with(null));
+    }
+
+    @Test
+    public void testWithInvalidOperationFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.patch("[{\"op\": \"unknown\", \"path\": \"/a\"}]"));
+    }
+
+    @Test
+    public void testApplyNullFails() {
+        assertThrows(NullPointerException.class, () -> this.patch("[]").apply(null));
+    }
+
+    @Test
+    public void testApplyEmpty() {
+        final JsonNode node = JsonNode.parse("{\"a\": 1}");
+        assertSame(node, this.patch("[]").apply(node));
+    }
+
+    // RFC 6902 Appendix A..............................................................................................
+
+    @Test
+    public void testAddObjectMember() {
+        this.applyAndCheck(
+                "{\"foo\": \"bar\"}",
+                "[{\"op\": \"add\", \"path\": \"/baz\", \"value\": \"qux\"}]",
+                "{\"baz\": \"qux\", \"foo\": \"bar\"}"
+        );
+    }
+
+    @Test
+    public void testAddArrayElement() {
+        this.applyAndCheck(
+                "{\"foo\": [\"bar\", \"baz\"]}",
+                "[{\"op\": \"add\", \"path\": \"/foo/1\", \"value\": \"qux\"}]",
+                "{\"foo\": [\"bar\", \"qux\", \"baz\"]}"
+        );
+    }
+
+    @Test
+    public void testRemoveObjectMember() {
+        this.applyAndCheck(
+                "{\"baz\": \"qux\", \"foo\": \"bar\"}",
+                "[{\"op\": \"remove\", \"path\": \"/baz\"}]",
+                "{\"foo\": \"bar\"}"
+        );
+    }
+
+    @Test
+    public void testRemoveArrayElement() {
+        this.applyAndCheck(
+                "{\"foo\": [\"bar\", \"qux\", \"baz\"]}",
+                "[{\"op\": \"remove\", \"path\": \"/foo/1\"}]",
+                "{\"foo\": [\"bar\", \"baz\"]}"
+        );
+    }
+
+    @Test
+    public void testReplaceValue() {
+        this.applyAndCheck(
+                "{\"baz\": \"qux\", \"foo\": \"bar\"}",
+                "[{\"op\": \"replace\", \"path\": \"/baz\", \"value\": \"boo\"}]",
+                "{\"baz\": \"boo\", \"foo\": \"bar\"}"
+        );
+    }
+
+    @Test
+    public void testMoveValue() {
+        this.applyAndCheck(
+                "{\"foo\": {\"bar\": \"baz\", \"waldo\": \"fred\"}, \"qux\": {\"corge\": \"grault\"}}",
+                "[{\"op\": \"move\", \"from\": \"/foo/waldo\", \"path\": \"/qux/thud\"}]",
+                "{\"foo\": {\"bar\": \"baz\"}, \"qux\": {\"corge\": \"grault\", \"thud\": \"fred\"}}"
+        );
+    }
+
+    @Test
+    public void testMoveArrayElement() {
+        this.applyAndCheck(
+                "{\"foo\": [\"all\", \"grass\", \"cows\", \"eat\"]}",
+                "[{\"op\": \"move\", \"from\": \"/foo/1\", \"path\": \"/foo/3\"}]",
+                "{\"foo\": [\"all\", \"cows\", \"eat\", \"grass\"]}"
+        );
+    }
+
+    @Test
+    public void testTestSuccess() {
+        final JsonNode node = JsonNode.parse("{\"baz\": \"qux\", \"foo\": [\"a\", 2, \"c\"]}");
+        assertSame(
+                node,
+                this.patch("[{\"op\": \"test\", \"path\": \"/baz\", \"value\": \"qux\"}, {\"op\": \"test\", \"path\": \"/foo/1\", \"value\": 2}]")
+                        .apply(node)
+        );
+    }
+
+    @Test
+    public void testTestFails() {
+        this.applyFails(
+                "{\"baz\": \"qux\"}",
+                "[{\"op\": \"test\", \"path\": \"/baz\", \"value\": \"bar\"}]"
+        );
+    }
+
+    @Test
+    public void testAddNestedMember() {
+        this.applyAndCheck(
+                "{\"foo\": \"bar\"}",
+                "[{\"op\": \"add\", \"path\": \"/child\", \"value\": {\"grandchild\": {}}}]",
+                "{\"foo\": \"bar\", \"child\": {\"grandchild\": {}}}"
+        );
+    }
+
+    @Test
+    public void testAddMissingParentFails() {
+        this.applyFails(
+                "{\"foo\": \"bar\"}",
+                "[{\"op\": \"add\", \"path\": \"/baz/bat\", \"value\": \"qux\"}]"
+        );
+    }
+
+    @Test
+    public void testTestEscapedPath() {
+        final JsonNode node = JsonNode.parse("{\"/\": 9, \"~1\": 10}");
+        assertSame(
+                node,
+                this.patch("[{\"op\": \"test\", \"path\": \"/~01\", \"value\": 10}]")
+                        .apply(node)
+        );
+    }
+
+    @Test
+    public void testTestStringNotNumberFails() {
+        this.applyFails(
+                "{\"/\": 9, \"~1\": 10}",
+                "[{\"op\": \"test\", \"path\": \"/~01\", \"value\": \"10\"}]"
+        );
+    }
+
+    @Test
+    public void testAddArrayValue() {
+        this.applyAndCheck(
+                "{\"foo\": [\"bar\"]}",
+                "[{\"op\": \"add\", \"path\": \"/foo/-\", \"value\": [\"abc\", \"def\"]}]",
+                "{\"foo\": [\"bar\", [\"abc\", \"def\"]]}"
+        );
+    }
+
+    // more.............................................................................................................
+
+    @Test
+    public void testAddReplacesExistingMember() {
+        this.applyAndCheck(
+                "{\"a\": 1}",
+                "[{\"op\": \"add\", \"path\": \"/a\", \"value\": 2}]",
+                "{\"a\": 2}"
+        );
+    }
+
+    @Test
+    public void testAddRoot() {
+        this.applyAndCheck(
+                "{\"a\": 1}",
+                "[{\"op\": \"add\", \"path\": \"\", \"value\": [1]}]",
+                "[1]"
+        );
+    }
+
+    @Test
+    public void testAddArrayIndexAfterLast() {
+        this.applyAndCheck(
+                "[1, 2]",
+                "[{\"op\": \"add\", \"path\": \"/2\", \"value\": 3}]",
+                "[1, 2, 3]"
+        );
+    }
+
+    @Test
+    public void testAddArrayIndexOutOfRangeFails() {
+        this.applyFails(
+                "[1, 2]",
+                "[{\"op\": \"add\", \"path\": \"/3\", \"value\": 3}]"
+        );
+    }
+
+    @Test
+    public void testAddArrayInvalidIndexFails() {
+        this.applyFails(
+                "[1, 2]",
+                "[{\"op\": \"add\", \"path\": \"/a\", \"value\": 3}]"
+        );
+    }
+
+    @Test
+    public void testAddLeafParentFails() {
+        this.applyFails(
+                "{\"a\": 1}",
+                "[{\"op\": \"add\", \"path\": \"/a/b\", \"value\": 3}]"
+        );
+    }
+
+    @Test
+    public void testRemoveMissingFails() {
+        this.applyFails(
+                "{\"a\": 1}",
+                "[{\"op\": \"remove\", \"path\": \"/b\"}]"
+        );
+    }
+
+    @Test
+    public void testRemoveArrayDashFails() {
+        this.applyFails(
+                "[1]",
+                "[{\"op\": \"remove\", \"path\": \"/-\"}]"
+        );
+    }
+
+    @Test
+    public void testRemoveRootFails() {
+        this.applyFails(
+                "{\"a\": 1}",
+                "[{\"op\": \"remove\", \"path\": \"\"}]"
+        );
+    }
+
+    @Test
+    public void testReplaceMissingFails() {
+        this.applyFails(
+                "{\"a\": 1}",
+                "[{\"op\": \"replace\", \"path\": \"/b\", \"value\": 2}]"
+        );
+    }
+
+    @Test
+    public void testReplaceRoot() {
+        this.applyAndCheck(
+                "{\"a\": 1}",
+                "[{\"op\": \"replace\", \"path\": \"\", \"value\": \"b\"}]",
+                "\"b\""
+        );
+    }
+
+    @Test
+    public void testMoveSamePath() {
+        this.applyAndCheck(
+                "{\"a\": 1}",
+                "[{\"op\": \"move\", \"from\": \"/a\", \"path\": \"/a\"}]",
+                "{\"a\": 1}"
+        );
+    }
+
+    @Test
+    public void testMoveIntoDescendantFails() {
+        this.applyFails(
+                "{\"a\": {\"b\": 1}}",
+                "[{\"op\": \"move\", \"from\": \"/a\", \"path\": \"/a/b/c\"}]"
+        );
+    }
+
+    @Test
+    public void testMoveMissingFails() {
+        this.applyFails(
+                "{\"a\": 1}",
+                "[{\"op\": \"move\", \"from\": \"/b\", \"path\": \"/c\"}]"
+        );
+    }
+
+    @Test
+    public void testCopy() {
+        this.applyAndCheck(
+                "{\"a\": {\"b\": 1}}",
+                "[{\"op\": \"copy\", \"from\": \"/a\", \"path\": \"/c\"}]",
+                "{\"a\": {\"b\": 1}, \"c\": {\"b\": 1}}"
+        );
+    }
+
+    @Test
+    public void testCopyThenModifyOriginal() {
+        this.applyAndCheck(
+                "{\"a\": {\"b\": 1}}",
+                "[" +
+                        "{\"op\": \"add\", \"path\": \"/a/c\", \"value\": 2}, " +
+                        "{\"op\": \"copy\", \"from\": \"/a\", \"path\": \"/d\"}, " +
+                        "{\"op\": \"remove\", \"path\": \"/a/b\"}" +
+                        "]",
+                "{\"a\": {\"c\": 2}, \"d\": {\"b\": 1, \"c\": 2}}"
+        );
+    }
+
+    @Test
+    public void testCopyMissingFails() {
+        this.applyFails(
+                "{\"a\": 1}",
+                "[{\"op\": \"copy\", \"from\": \"/b\", \"path\": \"/c\"}]"
+        );
+    }
+
+    @Test
+    public void testSeveralOperationsSameParent() {
+        this.applyAndCheck(
+                "{\"a\": {\"b\": [1, 2, 3], \"c\": true}, \"d\": null}",
+                "[" +
+                        "{\"op\": \"remove\", \"path\": \"/a/b/0\"}, " +
+                        "{\"op\": \"add\", \"path\": \"/a/b/-\", \"value\": 4}, " +
+                        "{\"op\": \"replace\", \"path\": \"/a/c\", \"value\": false}, " +
+                        "{\"op\": \"test\", \"path\": \"/a/b\", \"value\": [2, 3, 4]}, " +
+                        "{\"op\": \"move\", \"from\": \"/a/b/0\", \"path\": \"/d\"}" +
+                        "]",
+                "{\"a\": {\"b\": [3, 4], \"c\": false}, \"d\": 2}"
+        );
+    }
+
+    @Test
+    public void testFailureLeavesNodeUnchanged() {
+        final String json = "{\"a\": {\"b\": 1}}";
+        final JsonNode node = JsonNode.parse(json);
+
+        assertThrows(
+                JsonNodeException.class,
+                () -> this.patch("[{\"op\": \"add\", \"path\": \"/a/c\", \"value\": 2}, {\"op\": \"remove\", \"path\": \"/missing\"}]")
+                        .apply(node)
+        );
+        this.checkEquals(JsonNode.parse(json), node);
+    }
+
+    @Test
+    public void testApplyKeepsParent() {
+        final JsonObject root = JsonNode.parse("{\"a\": {\"b\": 1}, \"c\": 2}")
+                .objectOrFail();
+        final JsonNode a = root.getOrFail(JsonPropertyName.with("a"));
+
+        final JsonNode patched = this.patch("[{\"op\": \"replace\", \"path\": \"/b\", \"value\": 3}]")
+                .apply(a);
+        this.checkEquals(JsonPropertyName.with("a"), patched.name(), "name");
+        this.checkEquals(
+                JsonNode.parse("{\"a\": {\"b\": 3}, \"c\": 2}"),
+                patched.parent()
+                        .get()
+        );
+    }
+
+    @Test
+    public void testApplyKeepsUnchangedSiblings() {
+        final JsonObject root = JsonNode.parse("{\"a\": {\"b\": 1}, \"c\": [1, 2]}")
+                .objectOrFail();
+        final JsonPropertyName c = JsonPropertyName.with("c");
+
+        final JsonNode patched = this.patch("[{\"op\": \"replace\", \"path\": \"/a/b\", \"value\": 2}]")
+                .apply(root);
+        this.checkEquals(
+                true,
+                root.getOrFail(c)
+                        .equalsStructure(patched.objectOrFail().getOrFail(c))
+        );
+    }
+
+    // diff.............................................................................................................
+
+    @Test
+    public void testDiffRoundtrip() {
+        this.diffAndApplyCheck(
+                JsonNodeDiff.lcs(),
+                "{\"a\": [1, 2, 3, 4, 5], \"b\": {\"c\": \"d\", \"e\": [true, false]}, \"f\": {\"g\": 1}}",
+                "{\"a\": [0, 2, 4, 5, 6], \"b\": {\"c\": \"D\", \"e\": [false]}, \"h\": {\"g\": 1}, \"i\": null}"
+        );
+    }
+
+    @Test
+    public void testDiffRoundtripKeyed() {
+        this.diffAndApplyCheck(
+                JsonNodeDiff.keyed(JsonPointer.parse("/id")),
+                "[{\"id\": 1, \"v\": 1}, {\"id\": 2, \"v\": 2}, {\"id\": 3, \"v\": 3}, {\"id\": 4, \"v\": 4}]",
+                "[{\"id\": 4, \"v\": 4}, {\"id\": 5, \"v\": 5}, {\"id\": 2, \"v\": 20}, {\"id\": 1, \"v\": 1}]"
+        );
+    }
+
+    private void diffAndApplyCheck(final JsonNodeDiff diff,
+                                   final String from,
+                                   final String to) {
+        final JsonNode fromNode = JsonNode.parse(from);
+        final JsonNode toNode = JsonNode.parse(to);
+
+        this.checkEquals(
+                toNode,
+                JsonPatch.with(diff.diff(fromNode, toNode))
+                        .apply(fromNode),
+                () -> diff + " " + from + " " + to
+        );
+    }
+
+    private void applyAndCheck(final String json,
+                               final String patch,
+                               final String expected) {
+        this.checkEquals(
+                JsonNode.parse(expected),
+                this.patch(patch)
+                        .apply(JsonNode.parse(json)),
+                () -> json + " patch " + patch
+        );
+    }
+
+    private void applyFails(final String json,
+                            final String patch) {
+        assertThrows(
+                JsonNodeException.class,
+                () -> this.patch(patch)
+                        .apply(JsonNode.parse(json))
+        );
+    }
+
+    private JsonPatch patch(final String json) {
+        return JsonPatch.with(
+                JsonNode.parse(json)
+                        .arrayOrFail()
+        );
+    }
+
+    // operations.......................................................................................................
+
+    @Test
+    public void testOperations() {
+        final JsonArray operations = JsonNode.parse("[{\"op\": \"remove\", \"path\": \"/a\"}]")
+                .arrayOrFail();
+        assertSame(operations, JsonPatch.with(operations).operations());
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testEquals() {
+        this.checkEquals(
+                this.patch("[{\"op\": \"remove\", \"path\": \"/a\"}]"),
+                this.patch("[{\"op\": \"remove\", \"path\": \"/a\"}]")
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final JsonArray operations = JsonNode.parse("[{\"op\": \"remove\", \"path\": \"/a\"}]")
+                .arrayOrFail();
+        this.toStringAndCheck(JsonPatch.with(operations), operations.toString());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonPatch> type() {
+        return JsonPatch.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonPointerTest implements ClassTesting2<JsonPointer>,
+        ToStringTesting<JsonPointer> {
+
+    private final static String JSON = "{\"a\": {\"b\": [1, 2, {\"c\": true}]}, \"d/e\": \"slash\", \"f~g\": \"tilde\", \"0\": \"zero\"}";
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonPointer.parse(null));
+    }
+
+    @Test
+    public void testParseMissingLeadingSlashFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPointer.parse("a/b"));
+    }
+
+    @Test
+    public void testParseInvalidEscapeFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPointer.parse("/a~2"));
+    }
+
+    @Test
+    public void testParseTrailingTildeFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPointer.parse("/a~"));
+    }
+
+    @Test
+    public void testParseEmptyReferenceTokenFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPointer.parse("/a//b"));
+    }
+
+    @Test
+    public void testParseRoot() {
+        this.checkEquals(0, JsonPointer.parse("").depth());
+    }
+
+    @Test
+    public void testParseDepth() {
+        this.checkEquals(3, JsonPointer.parse("/a/b/0").depth());
+    }
+
+    @Test
+    public void testParseCached() {
+        final String text = "/cached/" + this.getClass().getSimpleName();
+        assertSame(JsonPointer.parse(text), JsonPointer.parse(text));
+    }
+
+    @Test
+    public void testParseCacheBounded() {
+        final String text = "/evicted";
+        final JsonPointer pointer = JsonPointer.parse(text);
+
+        for (int i = 0; i < JsonPointer.CACHE_SIZE; i++) {
+            JsonPointer.parse("/evicting/" + i);
+        }
+
+        final JsonPointer parsed = JsonPointer.parse(text);
+        assertNotSame(pointer, parsed);
+        this.checkEquals(pointer, parsed);
+    }
+
+    // property.........................................................................................................
+
+    @Test
+    public void testProperty() {
+        this.checkEquals(
+                JsonPointer.parse("/a~1b~0c"),
+                JsonPointer.property(JsonPropertyName.with("a/b~c"))
+        );
+    }
+
+    @Test
+    public void testPropertyIndex() {
+        this.checkEquals(
+                Optional.of(JsonNode.number(2)),
+                JsonPointer.property(JsonPropertyName.with("1"))
+                        .get(JsonNode.parse("[1, 2]"))
+                        .map(JsonNode::removeParent)
+        );
+    }
+
+    // get..............................................................................................................
+
+    @Test
+    public void testGetNullNodeFails() {
+        assertThrows(NullPointerException.class, () -> JsonPointer.parse("/a").get(null));
+    }
+
+    @Test
+    public void testGetRoot() {
+        final JsonNode node = JsonNode.parse(JSON);
+        this.getAndCheck(node, "", node);
+    }
+
+    @Test
+    public void testGetProperty() {
+        this.getAndCheck("/d~1e", JsonNode.string("slash"));
+    }
+
+    @Test
+    public void testGetPropertyEscapedTilde() {
+        this.getAndCheck("/f~0g", JsonNode.string("tilde"));
+    }
+
+    @Test
+    public void testGetPropertyDigits() {
+        this.getAndCheck("/0", JsonNode.string("zero"));
+    }
+
+    @Test
+    public void testGetArrayElement() {
+        this.getAndCheck("/a/b/1", JsonNode.number(2));
+    }
+
+    @Test
+    public void testGetNested() {
+        this.getAndCheck("/a/b/2/c", JsonNode.booleanNode(true));
+    }
+
+    @Test
+    public void testGetMissingProperty() {
+        this.getAndCheck("/missing");
+    }
+
+    @Test
+    public void testGetArrayIndexOutOfRange() {
+        this.getAndCheck("/a/b/3");
+    }
+
+    @Test
+    public void testGetArrayAppend() {
+        this.getAndCheck("/a/b/-");
+    }
+
+    @Test
+    public void testGetArrayLeadingZero() {
+        this.getAndCheck("/a/b/01");
+    }
+
+    @Test
+    public void testGetArrayNotIndex() {
+        this.getAndCheck("/a/b/c");
+    }
+
+    @Test
+    public void testGetLeafChild() {
+        this.getAndCheck("/d~1e/0");
+    }
+
+    private void getAndCheck(final String pointer) {
+        this.checkEquals(
+                Optional.empty(),
+                JsonPointer.parse(pointer).get(JsonNode.parse(JSON)),
+                pointer
+        );
+        this.checkEquals(
+                null,
+                JsonPointer.parse(pointer).getOrNull(JsonNode.parse(JSON)),
+                () -> "getOrNull " + pointer
+        );
+    }
+
+    private void getAndCheck(final String pointer,
+                             final JsonNode expected) {
+        this.getAndCheck(JsonNode.parse(JSON), pointer, expected);
+    }
+
+    private void getAndCheck(final JsonNode node,
+                             final String pointer,
+                             final JsonNode expected) {
+        this.checkEquals(
+                expected.removeParent(),
+                JsonPointer.parse(pointer)
+                        .get(node)
+                        .map(JsonNode::removeParent)
+                        .orElse(null),
+                pointer
+        );
+    }
+
+    // set..............................................................................................................
+
+    @Test
+    public void testSetNullNodeFails() {
+        assertThrows(NullPointerException.class, () -> JsonPointer.parse("/a").set(null, JsonNode.nullNode()));
+    }
+
+    @Test
+    public void testSetNullValueFails() {
+        assertThrows(NullPointerException.class, () -> JsonPointer.parse("/a").set(JsonNode.object(), null));
+    }
+
+    @Test
+    public void testSetRoot() {
+        this.setAndCheck(
+                "{}",
+                "",
+                JsonNode.number(1),
+                "1"
+        );
+    }
+
+    @Test
+    public void testSetAddProperty() {
+        this.setAndCheck(
+                "{\"a\": 1}",
+                "/b",
+                JsonNode.number(2),
+                "{\"a\": 1, \"b\": 2}"
+        );
+    }
+
+    @Test
+    public void testSetReplaceProperty() {
+        this.setAndCheck(
+                "{\"a\": 1, \"b\": 2}",
+                "/a",
+                JsonNode.number(3),
+                "{\"a\": 3, \"b\": 2}"
+        );
+    }
+
+    @Test
+    public void testSetNested() {
+        this.setAndCheck(
+                "{\"a\": {\"b\": [1, {\"c\": 2}]}, \"d\": 4}",
+                "/a/b/1/c",
+                JsonNode.string("three"),
+                "{\"a\": {\"b\": [1, {\"c\": \"three\"}]}, \"d\": 4}"
+        );
+    }
+
+    @Test
+    public void testSetArrayReplace() {
+        this.setAndCheck(
+                "{\"a\": [1, 2, 3]}",
+                "/a/1",
+                JsonNode.booleanNode(true),
+                "{\"a\": [1, true, 3]}"
+        );
+    }
+
+    @Test
+    public void testSetArrayAppendIndex() {
+        this.setAndCheck(
+                "{\"a\": [1, 2]}",
+                "/a/2",
+                JsonNode.number(3),
+                "{\"a\": [1, 2, 3]}"
+        );
+    }
+
+    @Test
+    public void testSetArrayAppendDash() {
+        this.setAndCheck(
+                "[[1, 2]]",
+                "/0/-",
+                JsonNode.number(3),
+                "[[1, 2, 3]]"
+        );
+    }
+
+    @Test
+    public void testSetArrayIndexTooLargeFails() {
+        assertThrows(
+                JsonNodeException.class,
+                () -> JsonPointer.parse("/a/3").set(JsonNode.parse("{\"a\": [1, 2]}"), JsonNode.nullNode())
+        );
+    }
+
+    @Test
+    public void testSetArrayNotIndexFails() {
+        assertThrows(
+                JsonNodeException.class,
+                () -> JsonPointer.parse("/a/b").set(JsonNode.parse("{\"a\": [1, 2]}"), JsonNode.nullNode())
+        );
+    }
+
+    @Test
+    public void testSetMissingParentFails() {
+        assertThrows(
+                JsonNodeException.class,
+                () -> JsonPointer.parse("/a/b/c").set(JsonNode.parse("{\"a\": {}}"), JsonNode.nullNode())
+        );
+    }
+
+    @Test
+    public void testSetLeafParentFails() {
+        assertThrows(
+                JsonNodeException.class,
+                () -> JsonPointer.parse("/a/b").set(JsonNode.parse("{\"a\": 1}"), JsonNode.nullNode())
+        );
+    }
+
+    @Test
+    public void testSetUnchanged() {
+        final JsonNode node = JsonNode.parse("{\"a\": {\"b\": 1}}");
+        assertSame(
+                node,
+                JsonPointer.parse("/a/b").set(node, JsonNode.number(1))
+        );
+    }
+
+    @Test
+    public void testSetNonRootNode() {
+        final JsonNode root = JsonNode.parse("{\"a\": {\"b\": 1}, \"c\": 2}");
+        final JsonNode a = root.objectOrFail().getOrFail(JsonPropertyName.with("a"));
+
+        final JsonNode updated = JsonPointer.parse("/b").set(a, JsonNode.number(3));
+        this.checkEquals(JsonPropertyName.with("a"), updated.name(), "name");
+        this.checkEquals(
+                JsonNode.parse("{\"a\": {\"b\": 3}, \"c\": 2}"),
+                updated.parent().get()
+        );
+    }
+
+    private void setAndCheck(final String json,
+                             final String pointer,
+                             final JsonNode value,
+                             final String expected) {
+        this.checkEquals(
+                JsonNode.parse(expected),
+                JsonPointer.parse(pointer).set(JsonNode.parse(json), value),
+                () -> pointer + " set " + value + " in " + json
+        );
+    }
+
+    // remove...........................................................................................................
+
+    @Test
+    public void testRemoveNullNodeFails() {
+        assertThrows(NullPointerException.class, () -> JsonPointer.parse("/a").remove(null));
+    }
+
+    @Test
+    public void testRemoveRootFails() {
+        assertThrows(JsonNodeException.class, () -> JsonPointer.parse("").remove(JsonNode.object()));
+    }
+
+    @Test
+    public void testRemoveProperty() {
+        this.removeAndCheck(
+                "{\"a\": 1, \"b\": 2}",
+                "/a",
+                "{\"b\": 2}"
+        );
+    }
+
+    @Test
+    public void testRemoveNestedProperty() {
+        this.removeAndCheck(
+                "{\"a\": {\"b\": 1, \"c\": 2}, \"d\": 3}",
+                "/a/b",
+                "{\"a\": {\"c\": 2}, \"d\": 3}"
+        );
+    }
+
+    @Test
+    public void testRemoveArrayElement() {
+        this.removeAndCheck(
+                "{\"a\": [1, 2, 3]}",
+                "/a/1",
+                "{\"a\": [1, 3]}"
+        );
+    }
+
+    @Test
+    public void testRemoveNestedArrayElement() {
+        this.removeAndCheck(
+                "{\"a\": {\"b\": [1, 2, 3]}}",
+                "/a/b/0",
+                "{\"a\": {\"b\": [2, 3]}}"
+        );
+    }
+
+    @Test
+    public void testRemoveRootArrayElement() {
+        this.removeAndCheck(
+                "[1, 2, 3]",
+                "/2",
+                "[1, 2]"
+        );
+    }
+
+    @Test
+    public void testRemoveMissing() {
+        final JsonNode node = JsonNode.parse("{\"a\": 1}");
+        assertSame(node, JsonPointer.parse("/b").remove(node));
+    }
+
+    @Test
+    public void testRemoveArrayDash() {
+        final JsonNode node = JsonNode.parse("[1]");
+        assertSame(node, JsonPointer.parse("/-").remove(node));
+    }
+
+    @Test
+    public void testRemoveMissingParentFails() {
+        assertThrows(
+                JsonNodeException.class,
+                () -> JsonPointer.parse("/a/b").remove(JsonNode.parse("{}"))
+        );
+    }
+
+    private void removeAndCheck(final String json,
+                                final String pointer,
+                                final String expected) {
+        this.checkEquals(
+                JsonNode.parse(expected),
+                JsonPointer.parse(pointer).remove(JsonNode.parse(json)),
+                () -> pointer + " remove from " + json
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testEquals() {
+        this.checkEquals(JsonPointer.parse("/a/b"), JsonPointer.parse("/a/b"));
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        assertNotEquals(JsonPointer.parse("/a/b"), JsonPointer.parse("/a/c"));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonPointer.parse("/a~1b/c~0d/0"), "/a~1b/c~0d/0");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonPointer> type() {
+        return JsonPointer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
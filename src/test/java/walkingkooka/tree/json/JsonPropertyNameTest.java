@@ -23,6 +23,7 @@ import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.text.CaseSensitivity;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class JsonPropertyNameTest implements ClassTesting2<JsonPropertyName>,
@@ -33,6 +34,21 @@ public final class JsonPropertyNameTest implements ClassTesting2<JsonPropertyNam
         assertThrows(IllegalArgumentException.class, () -> JsonPropertyName.index(-1));
     }
 
+    @Test
+    public void testEqualsText() {
+        this.checkEquals(true, JsonPropertyName.with("abc").equalsText(new StringBuilder("abc")));
+    }
+
+    @Test
+    public void testEqualsTextDifferent() {
+        this.checkEquals(false, JsonPropertyName.with("abc").equalsText("ABC"));
+    }
+
+    @Test
+    public void testHash() {
+        this.checkEquals(JsonPropertyName.with("abc").hashCode(), JsonPropertyName.hash(new StringBuilder("abc")));
+    }
+
     @Test
     public void testUnmarshallClassArray() {
         this.fromClassAndCheck(JsonArray.class, "Array");
@@ -73,6 +89,17 @@ public final class JsonPropertyNameTest implements ClassTesting2<JsonPropertyNam
         this.checkEquals("123", JsonPropertyName.index(123).value());
     }
 
+    @Test
+    public void testQuoted() {
+        this.checkEquals("\"a\\\"b\"", JsonPropertyName.with("a\"b").quoted());
+    }
+
+    @Test
+    public void testQuotedCached() {
+        final JsonPropertyName name = JsonPropertyName.with("abc");
+        assertSame(name.quoted(), name.quoted());
+    }
+
     @Test
     public void testMarshallString() {
         final String value = "property123";
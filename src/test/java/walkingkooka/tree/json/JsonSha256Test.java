@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public final class JsonSha256Test implements ClassTesting2<JsonSha256> {
+
+    @Test
+    public void testEmpty() {
+        this.digestAndCheck(
+                "",
+                "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"
+        );
+    }
+
+    @Test
+    public void testAbc() {
+        this.digestAndCheck(
+                "abc",
+                "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"
+        );
+    }
+
+    @Test
+    public void testTwoBlocks() {
+        this.digestAndCheck(
+                "abcdbcdecdefdefgefghfghighijhijkijkljklmklmnlmnomnopnopq",
+                "248d6a61d20638b8e5c026930c3e6039a33ce45964ff2167f6ecedd419db06c1"
+        );
+    }
+
+    private void digestAndCheck(final String text,
+                                final String expected) {
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : JsonSha256.empty().update(text).digest()) {
+            hex.append(Character.forDigit(b >> 4 & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+
+        this.checkEquals(
+                expected,
+                hex.toString(),
+                () -> "digest " + text
+        );
+    }
+
+    @Test
+    public void testUpdateBytes() {
+        assertArrayEquals(
+                JsonSha256.empty().update("\u00e9\u20ac").digest(),
+                JsonSha256.empty()
+                        .update("\u00e9\u20ac".getBytes(StandardCharsets.UTF_8))
+                        .digest()
+        );
+    }
+
+    @Test
+    public void testMessageDigestRandom() throws NoSuchAlgorithmException {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 1000; i++) {
+            final StringBuilder b = new StringBuilder();
+            final int length = random.nextInt(300);
+            for (int j = 0; j < length; j++) {
+                b.append((char) (random.nextInt(4) == 0 ? random.nextInt(0x10000) : 32 + random.nextInt(95)));
+            }
+            final String text = b.toString();
+
+            assertArrayEquals(
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(text.getBytes(StandardCharsets.UTF_8)),
+                    JsonSha256.empty()
+                            .update(text)
+                            .digest(),
+                    () -> "digest " + text
+            );
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonSha256> type() {
+        return JsonSha256.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
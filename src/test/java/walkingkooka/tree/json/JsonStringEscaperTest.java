@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.LineEnding;
+import walkingkooka.text.printer.Printers;
+
+public final class JsonStringEscaperTest implements ClassTesting2<JsonStringEscaper> {
+
+    @Test
+    public void testQuoteEmpty() {
+        this.quoteAndCheck("", "\"\"");
+    }
+
+    @Test
+    public void testQuoteWithoutEscaping() {
+        this.quoteAndCheck("abc 123 \u00e9", "\"abc 123 \u00e9\"");
+    }
+
+    @Test
+    public void testQuoteEscapeFirst() {
+        this.quoteAndCheck("\"abc", "\"\\\"abc\"");
+    }
+
+    @Test
+    public void testQuoteEscapeLast() {
+        this.quoteAndCheck("abc\\", "\"abc\\\\\"");
+    }
+
+    @Test
+    public void testQuoteEscapeSeveral() {
+        this.quoteAndCheck("a\tb\nc\rd\be\ff", "\"a\\tb\\nc\\rd\\be\\ff\"");
+    }
+
+    @Test
+    public void testQuoteEscapeConsecutive() {
+        this.quoteAndCheck("\"\"\\\\", "\"\\\"\\\"\\\\\\\\\"");
+    }
+
+    @Test
+    public void testQuoteControlCharacters() {
+        this.quoteAndCheck(
+                "" + (char) 0 + (char) 0x1f + (char) 0x7f,
+                "\"\\u0000\\u001f" + (char) 0x7f + "\""
+        );
+    }
+
+    @Test
+    public void testQuoteStringBuilder() {
+        this.quoteAndCheck(new StringBuilder("a\"b"), "\"a\\\"b\"");
+    }
+
+    private void quoteAndCheck(final CharSequence text,
+                               final String expected) {
+        this.checkEquals(
+                expected,
+                JsonStringEscaper.quote(text),
+                () -> "quote " + text
+        );
+
+        final StringBuilder printed = new StringBuilder();
+        JsonStringEscaper.print(
+                text,
+                Printers.stringBuilder(printed, LineEnding.NONE)
+        );
+        this.checkEquals(
+                expected,
+                printed.toString(),
+                () -> "print " + text
+        );
+    }
+
+    @Test
+    public void testQuoteAllCharacters() {
+        for (int i = Character.MIN_VALUE; i < Character.MAX_VALUE; i++) {
+            final String text = Character.toString((char) i);
+
+            this.checkEquals(
+                    JsonNode.string(text).toString(),
+                    JsonStringEscaper.quote(text),
+                    () -> "quote " + text
+            );
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonStringEscaper> type() {
+        return JsonStringEscaper.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
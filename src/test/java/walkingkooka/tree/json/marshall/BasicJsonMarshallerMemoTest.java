@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public final class BasicJsonMarshallerMemoTest implements ClassTesting2<BasicJsonMarshallerMemo<?>>,
+        ToStringTesting<BasicJsonMarshallerMemo<?>> {
+
+    @Test
+    public void testPutGet() {
+        final BasicJsonMarshallerMemo<String> memo = BasicJsonMarshallerMemo.with(2);
+        memo.put(1, "one");
+        this.checkEquals("one", memo.get(1));
+        assertNull(memo.get(2));
+        this.checkEquals(1, memo.size(), "size");
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        final BasicJsonMarshallerMemo<String> memo = BasicJsonMarshallerMemo.with(2);
+        memo.put(1, "one");
+        memo.put(2, "two");
+        memo.get(1); // 2 is now least recently used
+        memo.put(3, "three");
+
+        this.checkEquals(2, memo.size(), "size");
+        this.checkEquals("one", memo.get(1));
+        assertNull(memo.get(2));
+        this.checkEquals("three", memo.get(3));
+    }
+
+    @Test
+    public void testClear() {
+        final BasicJsonMarshallerMemo<String> memo = BasicJsonMarshallerMemo.with(2);
+        memo.put(1, "one");
+        memo.clear();
+
+        this.checkEquals(0, memo.size(), "size");
+        assertNull(memo.get(1));
+    }
+
+    @Test
+    public void testToString() {
+        final BasicJsonMarshallerMemo<String> memo = BasicJsonMarshallerMemo.with(2);
+        memo.put(1, "one");
+
+        this.toStringAndCheck(memo, "{1=one}");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<BasicJsonMarshallerMemo<?>> type() {
+        return Cast.to(BasicJsonMarshallerMemo.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
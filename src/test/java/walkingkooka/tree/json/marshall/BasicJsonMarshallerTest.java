@@ -33,10 +33,13 @@ import java.math.MathContext;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class BasicJsonMarshallerTest extends BasicJsonMarshallerTestCase<BasicJsonMarshaller<Void>> {
@@ -124,6 +127,45 @@ public final class BasicJsonMarshallerTest extends BasicJsonMarshallerTestCase<B
         this.checkEquals(Optional.empty(), BasicJsonMarshaller.registeredType(JsonNode.string("???")));
     }
 
+    // marshallerOrNull..................................................................................................
+
+    @Test
+    public void testMarshallerOrNullTypeName() {
+        assertSame(BasicJsonMarshaller.marshaller(BigDecimal.class), BasicJsonMarshaller.marshallerOrNull("big-decimal"));
+    }
+
+    @Test
+    public void testMarshallerOrNullClassName() {
+        assertSame(BasicJsonMarshaller.marshaller(BigDecimal.class), BasicJsonMarshaller.marshallerOrNull(BigDecimal.class.getName()));
+    }
+
+    @Test
+    public void testMarshallerOrNullUnknown() {
+        assertNull(BasicJsonMarshaller.marshallerOrNull("???"));
+    }
+
+    @Test
+    public void testMarshallerOrNullAfterUnregister() {
+        TestJsonNodeValue.register();
+        this.checkNotEquals(null, BasicJsonMarshaller.marshallerOrNull(TestJsonNodeValue.TYPE_NAME));
+
+        TestJsonNodeValue.unregister();
+        assertNull(BasicJsonMarshaller.marshallerOrNull(TestJsonNodeValue.TYPE_NAME));
+    }
+
+    // clearMemos........................................................................................................
+
+    @Test
+    public void testClearMemos() {
+        final BasicJsonMarshaller<Locale> marshaller = BasicJsonMarshaller.marshaller(Locale.class);
+        JsonNodeMarshallContexts.basic()
+                .marshall(Locale.ENGLISH);
+        this.checkNotEquals(0, marshaller.valueToJson.size(), "valueToJson");
+
+        JsonNodeMarshallContext.clearMemos();
+        this.checkEquals(0, marshaller.valueToJson.size(), "valueToJson");
+    }
+
     // typeName..........................................................................................................
 
     @Test
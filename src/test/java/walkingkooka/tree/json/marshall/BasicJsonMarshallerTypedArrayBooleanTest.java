@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BasicJsonMarshallerTypedArrayBooleanTest extends BasicJsonMarshallerTypedArrayTestCase<BasicJsonMarshallerTypedArrayBoolean, boolean[]> {
+
+    @Test
+    public void testUnmarshallNumberFails() {
+        assertThrows(
+                JsonNodeUnmarshallException.class,
+                () -> this.marshaller().unmarshall(JsonNode.array().appendChild(JsonNode.number(1)), this.unmarshallContext())
+        );
+    }
+
+    @Override
+    BasicJsonMarshallerTypedArrayBoolean marshaller() {
+        return BasicJsonMarshallerTypedArrayBoolean.instance();
+    }
+
+    @Override
+    Class<boolean[]> marshallerType() {
+        return boolean[].class;
+    }
+
+    @Override
+    boolean[] value() {
+        return new boolean[]{true, false, true};
+    }
+
+    @Override
+    JsonNode node() {
+        return JsonNode.array()
+                .appendChild(JsonNode.booleanNode(true))
+                .appendChild(JsonNode.booleanNode(false))
+                .appendChild(JsonNode.booleanNode(true));
+    }
+
+    @Override
+    boolean[] empty() {
+        return new boolean[]{};
+    }
+
+    @Override
+    JsonNode emptyNode() {
+        return JsonNode.array();
+    }
+
+    @Override
+    String typeName() {
+        return "boolean[]";
+    }
+
+    @Override
+    public Class<BasicJsonMarshallerTypedArrayBoolean> type() {
+        return BasicJsonMarshallerTypedArrayBoolean.class;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonNode;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BasicJsonMarshallerTypedArrayByteTest extends BasicJsonMarshallerTypedArrayTestCase<BasicJsonMarshallerTypedArrayByte, byte[]> {
+
+    @Test
+    public void testUnmarshallArrayFails() {
+        this.unmarshallFails(JsonNode.array());
+    }
+
+    @Test
+    public void testUnmarshallInvalidLengthFails() {
+        this.unmarshallFails(JsonNode.string("AAE"));
+    }
+
+    @Test
+    public void testUnmarshallInvalidCharacterFails() {
+        this.unmarshallFails(JsonNode.string("AA!C"));
+    }
+
+    @Test
+    public void testUnmarshallMisplacedPaddingFails() {
+        this.unmarshallFails(JsonNode.string("A=EC"));
+    }
+
+    @Test
+    public void testUnmarshallWithoutPadding() {
+        this.unmarshallAndCheck("AAEC", 0, 1, 2);
+    }
+
+    @Test
+    public void testUnmarshallOnePadding() {
+        this.unmarshallAndCheck("AAE=", 0, 1);
+    }
+
+    @Test
+    public void testUnmarshallTwoPadding() {
+        this.unmarshallAndCheck("AA==", 0);
+    }
+
+    @Test
+    public void testMarshallEncode() {
+        // https://tools.ietf.org/html/rfc4648#section-10
+        this.checkEquals(
+                JsonNode.string("Zm9vYmFy"),
+                this.marshaller().marshall("foobar".getBytes(StandardCharsets.US_ASCII), this.marshallContext())
+        );
+        this.checkEquals(
+                JsonNode.string("Zm9vYg=="),
+                this.marshaller().marshall("foob".getBytes(StandardCharsets.US_ASCII), this.marshallContext())
+        );
+    }
+
+    private void unmarshallFails(final JsonNode node) {
+        assertThrows(
+                JsonNodeUnmarshallException.class,
+                () -> this.marshaller().unmarshall(node, this.unmarshallContext())
+        );
+    }
+
+    private void unmarshallAndCheck(final String base64,
+                                    final int... bytes) {
+        final byte[] expected = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            expected[i] = (byte) bytes[i];
+        }
+        this.checkArray(
+                expected,
+                this.marshaller().unmarshall(JsonNode.string(base64), this.unmarshallContext())
+        );
+    }
+
+    @Override
+    BasicJsonMarshallerTypedArrayByte marshaller() {
+        return BasicJsonMarshallerTypedArrayByte.instance();
+    }
+
+    @Override
+    Class<byte[]> marshallerType() {
+        return byte[].class;
+    }
+
+    @Override
+    byte[] value() {
+        return new byte[]{0, 1, 2, (byte) 0xff};
+    }
+
+    @Override
+    JsonNode node() {
+        return JsonNode.string("AAEC/w==");
+    }
+
+    @Override
+    byte[] empty() {
+        return new byte[]{};
+    }
+
+    @Override
+    JsonNode emptyNode() {
+        return JsonNode.string("");
+    }
+
+    @Override
+    String typeName() {
+        return "byte[]";
+    }
+
+    @Override
+    public Class<BasicJsonMarshallerTypedArrayByte> type() {
+        return BasicJsonMarshallerTypedArrayByte.class;
+    }
+}
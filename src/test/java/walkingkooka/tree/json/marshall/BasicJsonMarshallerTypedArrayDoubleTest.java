@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BasicJsonMarshallerTypedArrayDoubleTest extends BasicJsonMarshallerTypedArrayTestCase<BasicJsonMarshallerTypedArrayDouble, double[]> {
+
+    @Test
+    public void testUnmarshallBooleanFails() {
+        assertThrows(
+                JsonNodeUnmarshallException.class,
+                () -> this.marshaller().unmarshall(JsonNode.array().appendChild(JsonNode.booleanNode(true)), this.unmarshallContext())
+        );
+    }
+
+    @Override
+    BasicJsonMarshallerTypedArrayDouble marshaller() {
+        return BasicJsonMarshallerTypedArrayDouble.instance();
+    }
+
+    @Override
+    Class<double[]> marshallerType() {
+        return double[].class;
+    }
+
+    @Override
+    double[] value() {
+        return new double[]{1.5, -2, 0};
+    }
+
+    @Override
+    JsonNode node() {
+        return JsonNode.array()
+                .appendChild(JsonNode.number(1.5))
+                .appendChild(JsonNode.number(-2))
+                .appendChild(JsonNode.number(0));
+    }
+
+    @Override
+    double[] empty() {
+        return new double[]{};
+    }
+
+    @Override
+    JsonNode emptyNode() {
+        return JsonNode.array();
+    }
+
+    @Override
+    String typeName() {
+        return "double[]";
+    }
+
+    @Override
+    public Class<BasicJsonMarshallerTypedArrayDouble> type() {
+        return BasicJsonMarshallerTypedArrayDouble.class;
+    }
+}
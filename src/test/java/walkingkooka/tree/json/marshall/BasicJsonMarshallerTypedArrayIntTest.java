@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BasicJsonMarshallerTypedArrayIntTest extends BasicJsonMarshallerTypedArrayTestCase<BasicJsonMarshallerTypedArrayInt, int[]> {
+
+    @Test
+    public void testUnmarshallFractionFails() {
+        this.unmarshallFails(JsonNode.number(1.5));
+    }
+
+    @Test
+    public void testUnmarshallTooLargeFails() {
+        this.unmarshallFails(JsonNode.number(Integer.MAX_VALUE + 1.0));
+    }
+
+    @Test
+    public void testUnmarshallStringFails() {
+        this.unmarshallFails(JsonNode.string("1"));
+    }
+
+    private void unmarshallFails(final JsonNode element) {
+        assertThrows(
+                JsonNodeUnmarshallException.class,
+                () -> this.marshaller().unmarshall(JsonNode.array().appendChild(element), this.unmarshallContext())
+        );
+    }
+
+    @Override
+    BasicJsonMarshallerTypedArrayInt marshaller() {
+        return BasicJsonMarshallerTypedArrayInt.instance();
+    }
+
+    @Override
+    Class<int[]> marshallerType() {
+        return int[].class;
+    }
+
+    @Override
+    int[] value() {
+        return new int[]{1, -2, Integer.MAX_VALUE};
+    }
+
+    @Override
+    JsonNode node() {
+        return JsonNode.array()
+                .appendChild(JsonNode.number(1))
+                .appendChild(JsonNode.number(-2))
+                .appendChild(JsonNode.number(Integer.MAX_VALUE));
+    }
+
+    @Override
+    int[] empty() {
+        return new int[]{};
+    }
+
+    @Override
+    JsonNode emptyNode() {
+        return JsonNode.array();
+    }
+
+    @Override
+    String typeName() {
+        return "int[]";
+    }
+
+    @Override
+    public Class<BasicJsonMarshallerTypedArrayInt> type() {
+        return BasicJsonMarshallerTypedArrayInt.class;
+    }
+}
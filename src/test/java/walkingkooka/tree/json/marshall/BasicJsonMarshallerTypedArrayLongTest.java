@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BasicJsonMarshallerTypedArrayLongTest extends BasicJsonMarshallerTypedArrayTestCase<BasicJsonMarshallerTypedArrayLong, long[]> {
+
+    @Test
+    public void testUnmarshallFractionFails() {
+        this.unmarshallFails(JsonNode.number(1.5));
+    }
+
+    @Test
+    public void testUnmarshallTooLargeFails() {
+        this.unmarshallFails(JsonNode.number(0x1p63));
+    }
+
+    @Test
+    public void testUnmarshallBeyondDoublePrecisionFails() {
+        this.unmarshallFails(JsonNode.number(0x1p53 + 2));
+    }
+
+    @Test
+    public void testUnmarshallBeyondDoublePrecisionNegativeFails() {
+        this.unmarshallFails(JsonNode.number(-0x1p53 - 2));
+    }
+
+    @Test
+    public void testUnmarshallBeyondDoublePrecisionWithStringFails() {
+        assertThrows(
+                JsonNodeUnmarshallException.class,
+                () -> this.marshaller().unmarshall(
+                        JsonNode.array()
+                                .appendChild(JsonNode.string("9007199254740993"))
+                                .appendChild(JsonNode.number(0x1.fffffffffffffp62)),
+                        this.unmarshallContext()
+                )
+        );
+    }
+
+    @Test
+    public void testUnmarshallLargest() {
+        this.checkArray(
+                new long[]{1L << 53, -(1L << 53)},
+                this.marshaller().unmarshall(
+                        JsonNode.array()
+                                .appendChild(JsonNode.number(0x1p53))
+                                .appendChild(JsonNode.number(-0x1p53)),
+                        this.unmarshallContext()
+                )
+        );
+    }
+
+    @Test
+    public void testUnmarshallInvalidStringFails() {
+        this.unmarshallFails(JsonNode.string("1.5"));
+    }
+
+    @Test
+    public void testMarshallBeyondDoublePrecision() {
+        this.checkEquals(
+                JsonNode.array()
+                        .appendChild(JsonNode.number(1))
+                        .appendChild(JsonNode.string("9007199254740993"))
+                        .appendChild(JsonNode.string("9223372036854775807"))
+                        .appendChild(JsonNode.string("-9223372036854775808")),
+                this.marshaller().marshall(
+                        new long[]{1, (1L << 53) + 1, Long.MAX_VALUE, Long.MIN_VALUE},
+                        this.marshallContext()
+                )
+        );
+    }
+
+    @Test
+    public void testRoundtripBeyondDoublePrecision() {
+        final long[] value = new long[]{1, (1L << 53) + 1, -(1L << 53) - 1, Long.MAX_VALUE, Long.MIN_VALUE};
+
+        this.checkArray(
+                value,
+                this.unmarshallContext()
+                        .unmarshallWithType(
+                                this.marshallContext()
+                                        .marshallWithType(value)
+                        )
+        );
+    }
+
+    private void unmarshallFails(final JsonNode element) {
+        assertThrows(
+                JsonNodeUnmarshallException.class,
+                () -> this.marshaller().unmarshall(JsonNode.array().appendChild(element), this.unmarshallContext())
+        );
+    }
+
+    @Override
+    BasicJsonMarshallerTypedArrayLong marshaller() {
+        return BasicJsonMarshallerTypedArrayLong.instance();
+    }
+
+    @Override
+    Class<long[]> marshallerType() {
+        return long[].class;
+    }
+
+    @Override
+    long[] value() {
+        return new long[]{1, -2, 1L << 53};
+    }
+
+    @Override
+    JsonNode node() {
+        return JsonNode.array()
+                .appendChild(JsonNode.number(1))
+                .appendChild(JsonNode.number(-2))
+                .appendChild(JsonNode.number(1L << 53));
+    }
+
+    @Override
+    long[] empty() {
+        return new long[]{};
+    }
+
+    @Override
+    JsonNode emptyNode() {
+        return JsonNode.array();
+    }
+
+    @Override
+    String typeName() {
+        return "long[]";
+    }
+
+    @Override
+    public Class<BasicJsonMarshallerTypedArrayLong> type() {
+        return BasicJsonMarshallerTypedArrayLong.class;
+    }
+}
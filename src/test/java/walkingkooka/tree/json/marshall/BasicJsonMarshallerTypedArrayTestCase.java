@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.tree.json.JsonNode;
+
+import java.math.MathContext;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Arrays do not override equals, so unlike {@link BasicJsonMarshallerTestCase2} values are compared by their contents.
+ */
+public abstract class BasicJsonMarshallerTypedArrayTestCase<M extends BasicJsonMarshallerTypedArray<T>, T> extends BasicJsonMarshallerTestCase<M>
+        implements ToStringTesting<M> {
+
+    BasicJsonMarshallerTypedArrayTestCase() {
+        super();
+    }
+
+    @Test
+    public final void testType() {
+        this.checkEquals(this.marshallerType(), this.marshaller().type());
+    }
+
+    @Test
+    public final void testUnmarshallJsonNullNode() {
+        this.checkEquals(null, this.marshaller().unmarshall(JsonNode.nullNode(), this.unmarshallContext()));
+    }
+
+    @Test
+    public final void testUnmarshall() {
+        this.checkArray(this.value(), this.marshaller().unmarshall(this.node(), this.unmarshallContext()));
+    }
+
+    @Test
+    public final void testUnmarshallEmpty() {
+        this.checkArray(this.empty(), this.marshaller().unmarshall(this.emptyNode(), this.unmarshallContext()));
+    }
+
+    @Test
+    public final void testUnmarshallObjectFails() {
+        assertThrows(JsonNodeUnmarshallException.class, () -> this.marshaller().unmarshall(JsonNode.object(), this.unmarshallContext()));
+    }
+
+    @Test
+    public final void testMarshallNull() {
+        this.checkEquals(JsonNode.nullNode(), this.marshaller().marshall(null, this.marshallContext()));
+    }
+
+    @Test
+    public final void testMarshall() {
+        this.checkEquals(this.node(), this.marshaller().marshall(this.value(), this.marshallContext()));
+    }
+
+    @Test
+    public final void testMarshallEmpty() {
+        this.checkEquals(this.emptyNode(), this.marshaller().marshall(this.empty(), this.marshallContext()));
+    }
+
+    @Test
+    public final void testMarshallContextMarshall() {
+        this.checkEquals(this.node(), this.marshallContext().marshall(this.value()));
+    }
+
+    @Test
+    public final void testMarshallWithType() {
+        this.checkEquals(
+                this.typeAndValue(this.typeName(), this.node()),
+                this.marshaller().marshallWithType(this.value(), this.marshallContext())
+        );
+    }
+
+    @Test
+    public final void testRoundtripMarshallWithTypeUnmarshallWithType() {
+        final JsonNode json = this.marshallContext().marshallWithType(this.value());
+        final T value = this.unmarshallContext().unmarshallWithType(json);
+        this.checkArray(this.value(), value);
+    }
+
+    @Test
+    public final void testRoundtripUnmarshallMarshall() {
+        final T value = this.unmarshallContext()
+                .unmarshall(this.node(), this.marshallerType());
+        this.checkArray(this.value(), value);
+    }
+
+    @Test
+    public final void testToString() {
+        this.toStringAndCheck(this.marshaller(), this.typeName());
+    }
+
+    abstract M marshaller();
+
+    abstract Class<T> marshallerType();
+
+    abstract T value();
+
+    abstract JsonNode node();
+
+    abstract T empty();
+
+    abstract JsonNode emptyNode();
+
+    abstract String typeName();
+
+    final void checkArray(final T expected,
+                          final T actual) {
+        this.checkEquals(
+                Arrays.deepToString(new Object[]{expected}),
+                Arrays.deepToString(new Object[]{actual})
+        );
+    }
+
+    final JsonNodeUnmarshallContext unmarshallContext() {
+        return BasicJsonNodeUnmarshallContext.with(
+                EXPRESSION_NUMBER_KIND,
+                MathContext.DECIMAL32
+        );
+    }
+
+    final JsonNodeMarshallContext marshallContext() {
+        return BasicJsonNodeMarshallContext.INSTANCE;
+    }
+}
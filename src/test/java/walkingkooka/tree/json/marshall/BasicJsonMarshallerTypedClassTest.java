@@ -63,6 +63,16 @@ public final class BasicJsonMarshallerTypedClassTest extends BasicJsonMarshaller
         );
     }
 
+    @Test
+    public void testMarshallNotMemoised() {
+        final BasicJsonMarshallerTypedClass marshaller = this.marshaller();
+        marshaller.marshall(DivideExpression.class, this.marshallContext());
+        marshaller.marshallWithType(DivideExpression.class, this.marshallContext());
+
+        this.checkEquals(0, marshaller.valueToJson.size(), "valueToJson");
+        this.checkEquals(0, marshaller.valueToWithType.size(), "valueToWithType");
+    }
+
     @Test
     public void testRoundtripObject() {
         this.roundtripAndCheck(Object.class);
@@ -22,6 +22,8 @@ import walkingkooka.tree.json.JsonNode;
 
 import java.util.Locale;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class BasicJsonMarshallerTypedLocaleTest extends BasicJsonMarshallerTypedTestCase<BasicJsonMarshallerTypedLocale, Locale> {
 
     @Test
@@ -44,6 +46,41 @@ public final class BasicJsonMarshallerTypedLocaleTest extends BasicJsonMarshalle
         this.unmarshallFailed(JsonNode.array(), ClassCastException.class);
     }
 
+    @Test
+    public void testMarshallMemoised() {
+        final BasicJsonMarshallerTypedLocale marshaller = this.marshaller();
+        final JsonNode json = marshaller.marshall(this.value(), this.marshallContext());
+
+        assertSame(json, marshaller.marshall(Locale.forLanguageTag("en"), this.marshallContext()));
+    }
+
+    @Test
+    public void testMarshallWithTypeMemoised() {
+        final BasicJsonMarshallerTypedLocale marshaller = this.marshaller();
+        final JsonNode json = marshaller.marshallWithType(this.value(), this.marshallContext());
+
+        assertSame(json, marshaller.marshallWithType(this.value(), this.marshallContext()));
+    }
+
+    @Test
+    public void testClearMemos() {
+        final BasicJsonMarshallerTypedLocale marshaller = this.marshaller();
+        marshaller.marshall(this.value(), this.marshallContext());
+        marshaller.marshallWithType(this.value(), this.marshallContext());
+
+        marshaller.clearMemo();
+        this.checkEquals(0, marshaller.valueToJson.size(), "valueToJson");
+        this.checkEquals(0, marshaller.valueToWithType.size(), "valueToWithType");
+    }
+
+    @Test
+    public void testMarshallWithTypeDifferentValueNotMemoised() {
+        final BasicJsonMarshallerTypedLocale marshaller = this.marshaller();
+        final JsonNode json = marshaller.marshallWithType(this.value(), this.marshallContext());
+
+        this.checkNotEquals(json, marshaller.marshallWithType(Locale.FRENCH, this.marshallContext()));
+    }
+
     @Override
     BasicJsonMarshallerTypedLocale marshaller() {
         return BasicJsonMarshallerTypedLocale.instance();
@@ -30,8 +30,19 @@ import walkingkooka.tree.json.JsonObject;
 import walkingkooka.tree.select.NodeSelector;
 import walkingkooka.tree.select.parser.NodeSelectorAttributeName;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
 public final class BasicJsonMarshallerTypedNodeSelectorTest extends BasicJsonMarshallerTypedTestCase2<BasicJsonMarshallerTypedNodeSelector, NodeSelector<?, ?, ?, ?>> {
 
+    @Test
+    public void testMarshallObjectNotMemoised() {
+        final BasicJsonMarshallerTypedNodeSelector marshaller = this.marshaller();
+        final JsonNode json = marshaller.marshall(this.value(), this.marshallContext());
+
+        assertNotSame(json, marshaller.marshall(this.value(), this.marshallContext()));
+        this.checkEquals(json, marshaller.marshall(this.value(), this.marshallContext()));
+    }
+
     @Test
     public void testAbsoluteFromJson() {
         this.unmarshallAndCheck(this.jsonNode(JsonNode.string("absolute"), JsonNode.string("self")),
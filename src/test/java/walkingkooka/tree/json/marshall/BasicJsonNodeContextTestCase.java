@@ -47,11 +47,15 @@ public abstract class BasicJsonNodeContextTestCase<C extends JsonNodeContext> ex
                 "big-decimal",
                 "big-integer",
                 "boolean",
+                "boolean[]",
                 "byte",
+                "byte[]",
                 "character",
                 "double",
+                "double[]",
                 "float",
                 "int",
+                "int[]",
                 "java.lang.Boolean",
                 "java.lang.Byte",
                 "java.lang.Character",
@@ -82,6 +86,7 @@ public abstract class BasicJsonNodeContextTestCase<C extends JsonNodeContext> ex
                 "local-time",
                 "locale",
                 "long",
+                "long[]",
                 "map",
                 "math-context",
                 "number",
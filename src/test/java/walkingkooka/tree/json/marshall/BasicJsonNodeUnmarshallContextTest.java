@@ -31,7 +31,10 @@ import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class BasicJsonNodeUnmarshallContextTest extends BasicJsonNodeContextTestCase<BasicJsonNodeUnmarshallContext>
@@ -53,6 +56,27 @@ public final class BasicJsonNodeUnmarshallContextTest extends BasicJsonNodeConte
         );
     }
 
+    // setCache.........................................................................................................
+
+    @Test
+    public void testSetCacheDifferent() {
+        final BasicJsonNodeUnmarshallContext context = this.createContext();
+        final Optional<JsonNodeUnmarshallCache> cache = Optional.of(JsonNodeUnmarshallCache.with(1));
+
+        final JsonNodeUnmarshallContext with = context.setCache(cache);
+        assertNotSame(context, with);
+        assertSame(cache.get(), with.cache().get());
+    }
+
+    @Test
+    public void testSetCacheSame() {
+        final BasicJsonNodeUnmarshallContext context = this.createContext();
+        final Optional<JsonNodeUnmarshallCache> cache = Optional.of(JsonNodeUnmarshallCache.with(1));
+
+        final JsonNodeUnmarshallContext with = context.setCache(cache);
+        assertSame(with, with.setCache(cache));
+    }
+
     // unmarshall.....................................................................................................
 
     @Test
@@ -523,6 +547,28 @@ public final class BasicJsonNodeUnmarshallContextTest extends BasicJsonNodeConte
                 this.value());
     }
 
+    @Test
+    public void testUnmarshallWithTypeObjectClassName() {
+        final Locale value = Locale.ENGLISH;
+        this.unmarshallWithTypeAndCheck(this.typeAndValue(Locale.class.getName(), JsonNode.string(value.toLanguageTag())),
+                value);
+    }
+
+    @Test
+    public void testUnmarshallWithTypeObjectUnknownTypeFails() {
+        final JsonNodeUnmarshallException thrown = assertThrows(JsonNodeUnmarshallException.class,
+                () -> this.createContext().unmarshallWithType(this.typeAndValue("???", JsonNode.string("value"))));
+        this.checkEquals("Unknown type: ???", thrown.getMessage(), "message");
+    }
+
+    @Test
+    public void testUnmarshallWithTypeObjectInvalidTypeFails() {
+        assertThrows(JsonNodeUnmarshallException.class,
+                () -> this.createContext().unmarshallWithType(JsonNode.object()
+                        .set(BasicJsonNodeContext.TYPE, JsonNode.number(1))
+                        .set(BasicJsonNodeContext.VALUE, JsonNode.string("value"))));
+    }
+
     // unmarshallWithTypeList.........................................................................................
 
     @Test
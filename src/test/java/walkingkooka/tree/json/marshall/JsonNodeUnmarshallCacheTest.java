@@ -0,0 +1,249 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.math.MathContext;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeUnmarshallCacheTest implements ClassTesting2<JsonNodeUnmarshallCache>,
+        ToStringTesting<JsonNodeUnmarshallCache> {
+
+    private final static JsonNode EN_AU = JsonNode.string("en-AU");
+
+    @Test
+    public void testWithZeroMaxSizeFails() {
+        assertThrows(java.lang.IllegalArgumentException.class, () -> JsonNodeUnmarshallCache.with(0));
+    }
+
+    @Test
+    public void testWith() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+        this.checkEquals(10, cache.maxSize(), "maxSize");
+        this.check(cache, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void testUnmarshallMissThenHit() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+        final JsonNodeUnmarshallContext context = this.context(cache);
+
+        final Locale locale = context.unmarshall(EN_AU, Locale.class);
+        this.checkEquals(Locale.forLanguageTag("en-AU"), locale);
+        this.check(cache, 1, 0, 1, 0);
+
+        assertSame(locale, context.unmarshall(JsonNode.string("en-AU"), Locale.class));
+        this.check(cache, 1, 1, 1, 0);
+    }
+
+    @Test
+    public void testUnmarshallHitIgnoresPropertyName() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+        final JsonNodeUnmarshallContext context = this.context(cache);
+
+        final Locale locale = context.unmarshall(EN_AU, Locale.class);
+        assertSame(
+                locale,
+                context.unmarshall(
+                        JsonNode.object()
+                                .set(JsonPropertyName.with("locale"), EN_AU)
+                                .getOrFail(JsonPropertyName.with("locale")),
+                        Locale.class
+                )
+        );
+        this.check(cache, 1, 1, 1, 0);
+    }
+
+    @Test
+    public void testUnmarshallWithTypeHit() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+        final JsonNodeUnmarshallContext context = this.context(cache);
+        final JsonNode json = JsonNodeMarshallContexts.basic()
+                .marshallWithType(MathContext.DECIMAL32);
+
+        final MathContext mathContext = context.unmarshallWithType(json);
+        this.checkEquals(MathContext.DECIMAL32, mathContext);
+        assertSame(mathContext, context.unmarshallWithType(json));
+        this.check(cache, 1, 1, 1, 0);
+    }
+
+    @Test
+    public void testUnmarshallListElementsHit() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+        final List<Locale> locales = this.context(cache)
+                .unmarshallList(
+                        JsonNode.array()
+                                .appendChild(EN_AU)
+                                .appendChild(EN_AU)
+                                .appendChild(EN_AU),
+                        Locale.class
+                );
+        assertSame(locales.get(0), locales.get(2));
+        this.check(cache, 1, 2, 1, 0);
+    }
+
+    @Test
+    public void testUnmarshallDifferentExpressionNumberKindMiss() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+
+        this.context(cache, ExpressionNumberKind.BIG_DECIMAL, MathContext.DECIMAL32)
+                .unmarshall(EN_AU, Locale.class);
+        this.context(cache, ExpressionNumberKind.DOUBLE, MathContext.DECIMAL32)
+                .unmarshall(EN_AU, Locale.class);
+        this.check(cache, 2, 0, 2, 0);
+    }
+
+    @Test
+    public void testUnmarshallDifferentMathContextMiss() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+
+        this.context(cache, ExpressionNumberKind.DEFAULT, MathContext.DECIMAL32)
+                .unmarshall(EN_AU, Locale.class);
+        this.context(cache, ExpressionNumberKind.DEFAULT, MathContext.DECIMAL64)
+                .unmarshall(EN_AU, Locale.class);
+        this.check(cache, 2, 0, 2, 0);
+    }
+
+    @Test
+    public void testUnmarshallSameSettingsDifferentContextsHit() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+
+        final Locale locale = this.context(cache).unmarshall(EN_AU, Locale.class);
+        assertSame(locale, this.context(cache).unmarshall(EN_AU, Locale.class));
+        this.check(cache, 1, 1, 1, 0);
+    }
+
+    @Test
+    public void testUnmarshallMutableTypeNotCached() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+        final JsonNodeUnmarshallContext context = this.context(cache);
+
+        context.unmarshall(JsonNode.string("abc"), String.class);
+        context.unmarshall(JsonNode.string("abc"), String.class);
+        this.check(cache, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void testUnmarshallNullNotCached() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+
+        this.checkEquals(null, this.context(cache).unmarshall(JsonNode.nullNode(), Locale.class));
+        this.check(cache, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void testUnmarshallLeastRecentlyUsedEvicted() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(2);
+        final JsonNodeUnmarshallContext context = this.context(cache);
+
+        final Locale enAu = context.unmarshall(EN_AU, Locale.class);
+        context.unmarshall(JsonNode.string("en-NZ"), Locale.class);
+        assertSame(enAu, context.unmarshall(EN_AU, Locale.class)); // en-NZ is now least recently used
+        context.unmarshall(JsonNode.string("fr-FR"), Locale.class);
+        this.check(cache, 2, 1, 3, 1);
+
+        assertSame(enAu, context.unmarshall(EN_AU, Locale.class));
+        context.unmarshall(JsonNode.string("en-NZ"), Locale.class);
+        this.check(cache, 2, 2, 4, 2);
+    }
+
+    @Test
+    public void testClear() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+        final JsonNodeUnmarshallContext context = this.context(cache);
+
+        final Locale locale = context.unmarshall(EN_AU, Locale.class);
+        cache.clear();
+        this.check(cache, 0, 0, 1, 0);
+
+        final Locale locale2 = context.unmarshall(EN_AU, Locale.class);
+        this.checkEquals(locale, locale2);
+        this.check(cache, 1, 0, 2, 0);
+    }
+
+    @Test
+    public void testSetCacheNone() {
+        final JsonNodeUnmarshallContext context = this.context(JsonNodeUnmarshallCache.with(10));
+        final JsonNodeUnmarshallContext without = context.setCache(JsonNodeUnmarshallContext.NO_CACHE);
+        assertNotSame(context, without);
+        this.checkEquals(JsonNodeUnmarshallContext.NO_CACHE, without.cache());
+    }
+
+    @Test
+    public void testToString() {
+        final JsonNodeUnmarshallCache cache = JsonNodeUnmarshallCache.with(10);
+        final JsonNodeUnmarshallContext context = this.context(cache);
+        context.unmarshall(EN_AU, Locale.class);
+        context.unmarshall(EN_AU, Locale.class);
+
+        this.toStringAndCheck(cache, "size=1 maxSize=10 hits=1 misses=1 evictions=0");
+    }
+
+    private JsonNodeUnmarshallContext context(final JsonNodeUnmarshallCache cache) {
+        return this.context(
+                cache,
+                ExpressionNumberKind.DEFAULT,
+                MathContext.DECIMAL32
+        );
+    }
+
+    private JsonNodeUnmarshallContext context(final JsonNodeUnmarshallCache cache,
+                                              final ExpressionNumberKind kind,
+                                              final MathContext mathContext) {
+        return JsonNodeUnmarshallContexts.basic(
+                kind,
+                mathContext
+        ).setCache(Optional.of(cache));
+    }
+
+    private void check(final JsonNodeUnmarshallCache cache,
+                       final int size,
+                       final long hits,
+                       final long misses,
+                       final long evictions) {
+        this.checkEquals(size, cache.size(), () -> "size " + cache);
+        this.checkEquals(hits, cache.hits(), () -> "hits " + cache);
+        this.checkEquals(misses, cache.misses(), () -> "misses " + cache);
+        this.checkEquals(evictions, cache.evictions(), () -> "evictions " + cache);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeUnmarshallCache> type() {
+        return JsonNodeUnmarshallCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.marshall.jvm;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.expression.ExpressionNumberKind;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+import walkingkooka.tree.json.UnknownPropertyJsonNodeException;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContexts;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContexts;
+
+import java.lang.invoke.MethodHandles;
+import java.math.MathContext;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JvmJsonNodeMarshallerTest implements ClassTesting2<JvmJsonNodeMarshaller<?>> {
+
+    private final static String TYPE_NAME = "test-JvmJsonNodeMarshallerBean";
+
+    @Test
+    public void testWithNullLookupFails() {
+        assertThrows(NullPointerException.class, () -> JvmJsonNodeMarshaller.with(null, TestBean.class));
+    }
+
+    @Test
+    public void testWithNullTypeFails() {
+        assertThrows(NullPointerException.class, () -> JvmJsonNodeMarshaller.with(MethodHandles.lookup(), null));
+    }
+
+    @Test
+    public void testWithAbstractFails() {
+        assertThrows(IllegalArgumentException.class, () -> JvmJsonNodeMarshaller.with(MethodHandles.lookup(), TestAbstract.class));
+    }
+
+    @Test
+    public void testWithMissingNoArgumentsConstructorFails() {
+        assertThrows(IllegalArgumentException.class, () -> JvmJsonNodeMarshaller.with(MethodHandles.lookup(), TestWithoutConstructor.class));
+    }
+
+    @Test
+    public void testWithSameType() {
+        assertSame(this.marshaller(), this.marshaller());
+    }
+
+    @Test
+    public void testMarshall() {
+        this.checkEquals(
+                this.json(),
+                this.marshaller().marshall(this.bean(), this.marshallContext())
+        );
+    }
+
+    @Test
+    public void testUnmarshall() {
+        this.checkEquals(
+                this.bean(),
+                this.marshaller().unmarshall(this.json(), this.unmarshallContext())
+        );
+    }
+
+    @Test
+    public void testUnmarshallMissingPropertyLeftDefault() {
+        final TestBean bean = new TestBean();
+        bean.setName("name1");
+
+        this.checkEquals(
+                bean,
+                this.marshaller().unmarshall(
+                        JsonNode.object()
+                                .set(JsonPropertyName.with("name"), JsonNode.string("name1")),
+                        this.unmarshallContext()
+                )
+        );
+    }
+
+    @Test
+    public void testUnmarshallUnknownPropertyFails() {
+        assertThrows(
+                UnknownPropertyJsonNodeException.class,
+                () -> this.marshaller().unmarshall(
+                        this.json().set(JsonPropertyName.with("unknown"), JsonNode.string("!")),
+                        this.unmarshallContext()
+                )
+        );
+    }
+
+    @Test
+    public void testRegisterMarshallWithTypeUnmarshallWithTypeRoundtrip() {
+        final Runnable remover = this.marshaller().register(TYPE_NAME);
+        try {
+            final JsonNode json = this.marshallContext().marshallWithType(this.bean());
+            this.checkEquals(
+                    TYPE_NAME,
+                    json.objectOrFail().getOrFail(JsonPropertyName.with("type")).stringOrFail()
+            );
+            this.checkEquals(
+                    this.bean(),
+                    this.unmarshallContext().unmarshallWithType(json)
+            );
+        } finally {
+            remover.run();
+        }
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals(
+                TestBean.class.getName() + " [java.lang.Integer count, java.lang.Boolean enabled, java.lang.String name]",
+                this.marshaller().toString()
+        );
+    }
+
+    private JvmJsonNodeMarshaller<TestBean> marshaller() {
+        return JvmJsonNodeMarshaller.with(MethodHandles.lookup(), TestBean.class);
+    }
+
+    private TestBean bean() {
+        final TestBean bean = new TestBean();
+        bean.setName("name1");
+        bean.setCount(123);
+        bean.setEnabled(true);
+        return bean;
+    }
+
+    private JsonNode json() {
+        return JsonNode.object()
+                .set(JsonPropertyName.with("count"), JsonNode.number(123))
+                .set(JsonPropertyName.with("enabled"), JsonNode.booleanNode(true))
+                .set(JsonPropertyName.with("name"), JsonNode.string("name1"));
+    }
+
+    private JsonNodeMarshallContext marshallContext() {
+        return JsonNodeMarshallContexts.basic();
+    }
+
+    private JsonNodeUnmarshallContext unmarshallContext() {
+        return JsonNodeUnmarshallContexts.basic(
+                ExpressionNumberKind.DEFAULT,
+                MathContext.DECIMAL32
+        );
+    }
+
+    public static final class TestBean {
+
+        public TestBean() {
+            super();
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        private String name;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public void setCount(final int count) {
+            this.count = count;
+        }
+
+        private int count;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        private boolean enabled;
+
+        // setter without a getter is ignored
+        public void setIgnored(final String ignored) {
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.count, this.enabled);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other || other instanceof TestBean && this.equals0((TestBean) other);
+        }
+
+        private boolean equals0(final TestBean other) {
+            return Objects.equals(this.name, other.name) &&
+                    this.count == other.count &&
+                    this.enabled == other.enabled;
+        }
+
+        @Override
+        public String toString() {
+            return this.name + " " + this.count + " " + this.enabled;
+        }
+    }
+
+    public static abstract class TestAbstract {
+    }
+
+    public static final class TestWithoutConstructor {
+
+        public TestWithoutConstructor(final String value) {
+            super();
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JvmJsonNodeMarshaller<?>> type() {
+        return Cast.to(JvmJsonNodeMarshaller.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
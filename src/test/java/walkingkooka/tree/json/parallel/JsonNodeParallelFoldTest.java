@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parallel;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonArray;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeParallelFoldTest implements ClassTesting2<JsonNodeParallelFold<?>> {
+
+    @Test
+    public void testWithNullAccumulatorFails() {
+        assertThrows(NullPointerException.class, () -> JsonNodeParallelFold.with(0, null, Integer::sum));
+    }
+
+    @Test
+    public void testWithNullCombinerFails() {
+        assertThrows(NullPointerException.class, () -> JsonNodeParallelFold.with(0, (c, n) -> c, null));
+    }
+
+    @Test
+    public void testSetThresholdZeroFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.count().setThreshold(0));
+    }
+
+    @Test
+    public void testSetThresholdSame() {
+        final JsonNodeParallelFold<Integer> fold = this.count();
+        assertSame(fold, fold.setThreshold(JsonNodeParallelFold.DEFAULT_THRESHOLD));
+    }
+
+    @Test
+    public void testSetPoolNullFails() {
+        assertThrows(NullPointerException.class, () -> this.count().setPool(null));
+    }
+
+    @Test
+    public void testSetPoolSame() {
+        final JsonNodeParallelFold<Integer> fold = this.count();
+        assertSame(fold, fold.setPool(ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void testFoldNullFails() {
+        assertThrows(NullPointerException.class, () -> this.count().fold(null));
+    }
+
+    @Test
+    public void testFoldLeaf() {
+        this.checkEquals(1, this.count().fold(JsonNode.string("leaf")));
+    }
+
+    @Test
+    public void testFoldEmptyArray() {
+        this.checkEquals(1, this.count().fold(JsonNode.array()));
+    }
+
+    @Test
+    public void testFoldCountsAllNodes() {
+        this.checkEquals(1 + 20 + 20 * 3, this.count().fold(this.tree(20)));
+    }
+
+    @Test
+    public void testFoldCountsAllNodesSplit() {
+        this.checkEquals(1 + 20 + 20 * 3, this.count().setThreshold(2).fold(this.tree(20)));
+    }
+
+    @Test
+    public void testFoldSplitPool() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            this.checkEquals(1 + 500 + 500 * 3,
+                    this.count()
+                            .setThreshold(1)
+                            .setPool(pool)
+                            .fold(this.tree(500)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFoldDeepNarrowSplit() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            this.checkEquals(1 + 200 * 4,
+                    this.count()
+                            .setThreshold(2)
+                            .setPool(pool)
+                            .fold(this.deep(200)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFoldSumsNumbers() {
+        final JsonNodeParallelFold<Double> sum = JsonNodeParallelFold.with(0.0,
+                (total, node) -> node.isNumber() ? total + node.numberOrFail().doubleValue() : total,
+                Double::sum);
+
+        this.checkEquals(20 * 19 / 2.0, sum.setThreshold(3).fold(this.tree(20)));
+    }
+
+    @Test
+    public void testFoldCollectsMatchingNodes() {
+        final JsonNodeParallelFold<List<JsonNode>> strings = JsonNodeParallelFold.with(Lists.empty(),
+                (list, node) -> {
+                    final List<JsonNode> copy = Lists.array();
+                    copy.addAll(list);
+                    if (node.isString()) {
+                        copy.add(node);
+                    }
+                    return copy;
+                },
+                (left, right) -> {
+                    final List<JsonNode> copy = Lists.array();
+                    copy.addAll(left);
+                    copy.addAll(right);
+                    return copy;
+                });
+
+        this.checkEquals(10, strings.setThreshold(2).fold(this.tree(10)).size());
+    }
+
+    /**
+     * Counts all nodes.
+     */
+    private JsonNodeParallelFold<Integer> count() {
+        return JsonNodeParallelFold.with(0, (count, node) -> count + 1, Integer::sum);
+    }
+
+    /**
+     * An array of objects each with a number, string and boolean property.
+     */
+    private JsonArray tree(final int count) {
+        final List<JsonNode> children = Lists.array();
+        for (int i = 0; i < count; i++) {
+            final JsonObject object = JsonNode.object()
+                    .set(JsonPropertyName.with("number"), JsonNode.number(i))
+                    .set(JsonPropertyName.with("string"), JsonNode.string("s" + i))
+                    .set(JsonPropertyName.with("boolean"), JsonNode.booleanNode(i % 2 == 0));
+            children.add(object);
+        }
+        return JsonNode.array()
+                .setChildren(children);
+    }
+
+    /**
+     * Nested arrays, each holding three numbers and the next array, with no parent having more than 4 children.
+     */
+    private JsonArray deep(final int depth) {
+        JsonArray array = JsonNode.array();
+        for (int i = 1; i < depth; i++) {
+            array = JsonNode.array()
+                    .appendChild(JsonNode.number(i))
+                    .appendChild(JsonNode.number(i + 1))
+                    .appendChild(JsonNode.number(i + 2))
+                    .appendChild(array);
+        }
+        return JsonNode.array()
+                .appendChild(JsonNode.number(0))
+                .appendChild(JsonNode.number(1))
+                .appendChild(JsonNode.number(2))
+                .appendChild(array);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeParallelFold<?>> type() {
+        return Cast.to(JsonNodeParallelFold.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class JsonNodeParserLimitExceptionTest implements ClassTesting2<JsonNodeParserLimitException> {
+
+    @Test
+    public void testWith() {
+        final JsonNodeParserLimitException exception = new JsonNodeParserLimitException("Nesting depth exceeds 1", 2, 3);
+        this.checkEquals("Nesting depth exceeds 1 at (2,3)", exception.getMessage(), "message");
+        this.checkEquals(2, exception.lineNumber(), "lineNumber");
+        this.checkEquals(3, exception.column(), "column");
+    }
+
+    @Override
+    public Class<JsonNodeParserLimitException> type() {
+        return JsonNodeParserLimitException.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeParserLimitsTest implements ClassTesting2<JsonNodeParserLimits>,
+        ToStringTesting<JsonNodeParserLimits> {
+
+    // set..............................................................................................................
+
+    @Test
+    public void testSetMaxDepthZeroFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeParserLimits.UNLIMITED.setMaxDepth(0));
+    }
+
+    @Test
+    public void testSetMaxStringLengthZeroFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeParserLimits.UNLIMITED.setMaxStringLength(0));
+    }
+
+    @Test
+    public void testSetMaxNumberLengthZeroFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeParserLimits.UNLIMITED.setMaxNumberLength(0));
+    }
+
+    @Test
+    public void testSetMaxPropertiesZeroFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeParserLimits.UNLIMITED.setMaxProperties(0));
+    }
+
+    @Test
+    public void testSetMaxArrayLengthZeroFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeParserLimits.UNLIMITED.setMaxArrayLength(0));
+    }
+
+    @Test
+    public void testSetMaxLengthZeroFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonNodeParserLimits.UNLIMITED.setMaxLength(0));
+    }
+
+    @Test
+    public void testSetSame() {
+        final JsonNodeParserLimits limits = JsonNodeParserLimits.UNLIMITED;
+        assertSame(limits, limits.setMaxDepth(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testSetDifferent() {
+        final JsonNodeParserLimits limits = JsonNodeParserLimits.UNLIMITED
+                .setMaxDepth(1)
+                .setMaxStringLength(2)
+                .setMaxNumberLength(3)
+                .setMaxProperties(4)
+                .setMaxArrayLength(5)
+                .setMaxLength(6);
+        this.checkEquals(1, limits.maxDepth(), "maxDepth");
+        this.checkEquals(2, limits.maxStringLength(), "maxStringLength");
+        this.checkEquals(3, limits.maxNumberLength(), "maxNumberLength");
+        this.checkEquals(4, limits.maxProperties(), "maxProperties");
+        this.checkEquals(5, limits.maxArrayLength(), "maxArrayLength");
+        this.checkEquals(6, limits.maxLength(), "maxLength");
+    }
+
+    @Test
+    public void testDefault() {
+        this.checkEquals(JsonNodeParserLimits.UNLIMITED.setMaxDepth(JsonNodeParserLimits.DEFAULT_MAX_DEPTH),
+                JsonNodeParserLimits.DEFAULT);
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(JsonNodeParserLimits.UNLIMITED,
+                JsonNodeParserLimits.UNLIMITED.setMaxProperties(1));
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonNodeParserLimits.UNLIMITED.setMaxDepth(1).setMaxLength(2),
+                "maxDepth=1 maxStringLength=2147483647 maxNumberLength=2147483647 maxProperties=2147483647 maxArrayLength=2147483647 maxLength=2");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeParserLimits> type() {
+        return JsonNodeParserLimits.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public final class JsonNodeParsersNumberParserEiselLemireTest implements ClassTesting2<JsonNodeParsersNumberParserEiselLemire> {
+
+    @Test
+    public void testZero() {
+        this.toDoubleAndCheck("0", false, 0, 0, false, 0);
+    }
+
+    @Test
+    public void testNegativeZero() {
+        this.toDoubleAndCheck("-0", true, 0, 0, false, -0.0);
+    }
+
+    @Test
+    public void testExact() {
+        this.toDoubleAndCheck("1.5", false, 15, -1, false, 1.5);
+    }
+
+    @Test
+    public void testExactNegative() {
+        this.toDoubleAndCheck("-1.5", true, 15, -1, false, -1.5);
+    }
+
+    @Test
+    public void testLargeExponent() {
+        this.toDoubleAndCheck("1e300", false, 1, 300, false, 1e300);
+    }
+
+    @Test
+    public void testSmallExponent() {
+        this.toDoubleAndCheck("1e-300", false, 1, -300, false, 1e-300);
+    }
+
+    @Test
+    public void testOverflow() {
+        this.toDoubleAndCheck("1e400", false, 1, 400, false, Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testUnderflow() {
+        this.toDoubleAndCheck("1e-400", false, 1, -400, false, 0);
+    }
+
+    @Test
+    public void testSubnormal() {
+        this.toDoubleAndCheck("4.9e-324", false, 49, -325, false, Double.MIN_VALUE);
+    }
+
+    @Test
+    public void testTruncated() {
+        this.toDoubleAndCheck(
+                "3.14159265358979323846",
+                false,
+                314159265358979323L,
+                -17,
+                true,
+                Math.PI
+        );
+    }
+
+    private void toDoubleAndCheck(final String text,
+                                  final boolean negative,
+                                  final long significand,
+                                  final int exponent,
+                                  final boolean truncated,
+                                  final double expected) {
+        this.checkEquals(
+                expected,
+                JsonNodeParsersNumberParserEiselLemire.toDouble(
+                        negative,
+                        significand,
+                        exponent,
+                        truncated,
+                        text
+                ),
+                () -> text
+        );
+    }
+
+    @Test
+    public void testEiselLemireSubnormalUndecided() {
+        this.checkEquals(
+                Double.NaN,
+                JsonNodeParsersNumberParserEiselLemire.eiselLemire(49, -325)
+        );
+    }
+
+    @Test
+    public void testEiselLemireRandom() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 100000; i++) {
+            final long significand = random.nextLong() >>> (1 + random.nextInt(63));
+            if (0 == significand) {
+                continue;
+            }
+            final int exponent = random.nextInt(600) - 300;
+            final double value = JsonNodeParsersNumberParserEiselLemire.eiselLemire(significand, exponent);
+
+            if (!Double.isNaN(value)) {
+                final String text = significand + "e" + exponent;
+                this.checkEquals(
+                        Double.parseDouble(text),
+                        value,
+                        () -> text
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testUnsignedMultiplyHigh() {
+        final Random random = new Random(1);
+        final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+        for (int i = 0; i < 10000; i++) {
+            final long x = random.nextLong();
+            final long y = random.nextLong();
+
+            this.checkEquals(
+                    new BigInteger(Long.toUnsignedString(x))
+                            .multiply(new BigInteger(Long.toUnsignedString(y)))
+                            .shiftRight(64)
+                            .and(mask)
+                            .longValue(),
+                    JsonNodeParsersNumberParserEiselLemire.unsignedMultiplyHigh(x, y),
+                    () -> "unsignedMultiplyHigh " + x + " " + y
+            );
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeParsersNumberParserEiselLemire> type() {
+        return JsonNodeParsersNumberParserEiselLemire.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.TypeNameTesting;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserContexts;
+import walkingkooka.text.cursor.parser.ParserTesting2;
+
+public final class JsonNodeParsersNumberParserTest implements ParserTesting2<JsonNodeParsersNumberParser, ParserContext>, ToStringTesting<JsonNodeParsersNumberParser>,
+        TypeNameTesting<JsonNodeParsersNumberParser> {
+
+    @Test
+    public void testEmptyFails() {
+        this.parseFailAndCheck("");
+    }
+
+    @Test
+    public void testLetterFails() {
+        this.parseFailAndCheck("a");
+    }
+
+    @Test
+    public void testMinusFails() {
+        this.parseFailAndCheck("-");
+    }
+
+    @Test
+    public void testMinusLetterFails() {
+        this.parseFailAndCheck("-a");
+    }
+
+    @Test
+    public void testDecimalSeparatorFails() {
+        this.parseFailAndCheck(".5");
+    }
+
+    @Test
+    public void testZero() {
+        this.parseAndCheck2("0", 0);
+    }
+
+    @Test
+    public void testMinusZero() {
+        this.parseAndCheck2("-0", -0.0);
+    }
+
+    @Test
+    public void testInteger() {
+        this.parseAndCheck2("123", 123);
+    }
+
+    @Test
+    public void testNegativeInteger() {
+        this.parseAndCheck2("-123", -123);
+    }
+
+    @Test
+    public void testPlusInteger() {
+        this.parseAndCheck2("+123", 123);
+    }
+
+    @Test
+    public void testIntegerLeadingZeros() {
+        this.parseAndCheck2("00123", 123);
+    }
+
+    @Test
+    public void testIntegerEighteenDigits() {
+        this.parseAndCheck2("123456789012345678", 123456789012345678.0);
+    }
+
+    @Test
+    public void testIntegerMoreThanEighteenDigits() {
+        this.parseAndCheck2("12345678901234567890", 12345678901234567890.0);
+    }
+
+    @Test
+    public void testIntegerMoreThanEighteenDigitsTrailingZeros() {
+        this.parseAndCheck2("4115716841660006400", 4115716841660006400.0);
+    }
+
+    @Test
+    public void testDecimal() {
+        this.parseAndCheck2("1.5", 1.5);
+    }
+
+    @Test
+    public void testNegativeDecimal() {
+        this.parseAndCheck2("-1.25", -1.25);
+    }
+
+    @Test
+    public void testDecimalLeadingZeros() {
+        this.parseAndCheck2("0.000123", 0.000123);
+    }
+
+    @Test
+    public void testDecimalShortest() {
+        this.parseAndCheck2("0.30000000000000004", 0.30000000000000004);
+    }
+
+    @Test
+    public void testDecimalManyDigits() {
+        this.parseAndCheck2("3.14159265358979323846264338327950288", Math.PI);
+    }
+
+    @Test
+    public void testExponent() {
+        this.parseAndCheck2("1e23", 1e23);
+    }
+
+    @Test
+    public void testExponentCapitalE() {
+        this.parseAndCheck2("1E23", 1e23);
+    }
+
+    @Test
+    public void testExponentPlus() {
+        this.parseAndCheck2("1.5e+2", 150);
+    }
+
+    @Test
+    public void testExponentMinus() {
+        this.parseAndCheck2("1.5e-2", 0.015);
+    }
+
+    @Test
+    public void testExponentLarge() {
+        this.parseAndCheck2("1.7976931348623157e308", Double.MAX_VALUE);
+    }
+
+    @Test
+    public void testExponentOverflow() {
+        this.parseAndCheck2("1e400", Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testExponentOverflowInt() {
+        this.parseAndCheck2("1e99999999999", Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testExponentUnderflow() {
+        this.parseAndCheck2("1e-400", 0);
+    }
+
+    @Test
+    public void testSubnormal() {
+        this.parseAndCheck2("4.9e-324", Double.MIN_VALUE);
+    }
+
+    @Test
+    public void testSubnormalHalfway() {
+        this.parseAndCheck2("2.4703282292062328e-324", Double.MIN_VALUE);
+    }
+
+    @Test
+    public void testMinNormal() {
+        this.parseAndCheck2("2.2250738585072014e-308", Double.MIN_NORMAL);
+    }
+
+    @Test
+    public void testDecimalSeparatorWithoutFraction() {
+        final String text = "1";
+        this.parseAndCheck(
+                text + ".",
+                JsonNodeParserToken.number(1, text),
+                text,
+                "."
+        );
+    }
+
+    @Test
+    public void testExponentWithoutDigits() {
+        final String text = "1.5";
+        this.parseAndCheck(
+                text + "e+",
+                JsonNodeParserToken.number(1.5, text),
+                text,
+                "e+"
+        );
+    }
+
+    @Test
+    public void testFollowedBySeparator() {
+        final String text = "-12.5e1";
+        this.parseAndCheck(
+                text + ",",
+                JsonNodeParserToken.number(-125, text),
+                text,
+                ","
+        );
+    }
+
+    private void parseAndCheck2(final String text,
+                                final double value) {
+        this.parseAndCheck(
+                text,
+                JsonNodeParserToken.number(value, text),
+                text
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createParser(), JsonNodeNumberParserToken.class.getSimpleName());
+    }
+
+    @Override
+    public JsonNodeParsersNumberParser createParser() {
+        return JsonNodeParsersNumberParser.INSTANCE;
+    }
+
+    @Override
+    public ParserContext createContext() {
+        return ParserContexts.fake();
+    }
+
+    @Override
+    public Class<JsonNodeParsersNumberParser> type() {
+        return JsonNodeParsersNumberParser.class;
+    }
+
+    // TypeNaming.......................................................................................................
+
+    @Override
+    public String typeNamePrefix() {
+        return JsonNodeParsers.class.getSimpleName();
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "Number" + Parser.class.getSimpleName();
+    }
+}
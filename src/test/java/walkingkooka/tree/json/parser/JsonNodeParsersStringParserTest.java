@@ -26,6 +26,7 @@ import walkingkooka.text.cursor.parser.ParserContext;
 import walkingkooka.text.cursor.parser.ParserContexts;
 import walkingkooka.text.cursor.parser.ParserTesting2;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class JsonNodeParsersStringParserTest implements ParserTesting2<JsonNodeParsersStringParser, ParserContext>, ToStringTesting<JsonNodeParsersStringParser>,
@@ -132,6 +133,26 @@ public final class JsonNodeParsersStringParserTest implements ParserTesting2<Jso
         this.parseAndCheck2("\\uDef0", "\uDef0");
     }
 
+    @Test
+    public void testUnicodeTwice() {
+        this.parseAndCheck2("\\u0041\\u0042", "AB");
+    }
+
+    @Test
+    public void testLettersThenEscape() {
+        this.parseAndCheck2("abc\\tdef", "abc\tdef");
+    }
+
+    @Test
+    public void testEscapeThenLetters() {
+        this.parseAndCheck2("\\\"abc", "\"abc");
+    }
+
+    @Test
+    public void testEmpty() {
+        this.parseAndCheck2("");
+    }
+
     private void parseAndCheck2(final String content) {
         this.parseAndCheck2(content, content);
     }
@@ -177,6 +198,61 @@ public final class JsonNodeParsersStringParserTest implements ParserTesting2<Jso
         );
     }
 
+    // maxLength........................................................................................................
+
+    @Test
+    public void testWithUnlimited() {
+        assertSame(JsonNodeParsersStringParser.INSTANCE, JsonNodeParsersStringParser.with(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testMaxLength() {
+        this.checkEquals(
+                "ab",
+                JsonNodeParsersStringParser.with(2)
+                        .parse(TextCursors.charSequence("\"ab\""), this.createContext())
+                        .get()
+                        .cast(JsonNodeStringParserToken.class)
+                        .value()
+        );
+    }
+
+    @Test
+    public void testMaxLengthEscapes() {
+        this.checkEquals(
+                "A\n",
+                JsonNodeParsersStringParser.with(2)
+                        .parse(TextCursors.charSequence("\"\\u0041\\n\""), this.createContext())
+                        .get()
+                        .cast(JsonNodeStringParserToken.class)
+                        .value()
+        );
+    }
+
+    @Test
+    public void testMaxLengthExceededFails() {
+        this.maxLengthFails("\"abc\"");
+    }
+
+    @Test
+    public void testMaxLengthExceededEscapesFails() {
+        this.maxLengthFails("\"\\u0041\\n\\t\"");
+    }
+
+    @Test
+    public void testMaxLengthExceededUnterminatedFails() {
+        this.maxLengthFails("\"abc");
+    }
+
+    private void maxLengthFails(final String text) {
+        final JsonNodeParserLimitException thrown = assertThrows(
+                JsonNodeParserLimitException.class,
+                () -> JsonNodeParsersStringParser.with(2)
+                        .parse(TextCursors.charSequence(text), this.createContext())
+        );
+        this.checkEquals("String length exceeds 2 at (1,1)", thrown.getMessage());
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createParser(), "STRING");
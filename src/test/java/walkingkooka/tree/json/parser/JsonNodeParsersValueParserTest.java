@@ -0,0 +1,389 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.TypeNameTesting;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserReporters;
+import walkingkooka.text.cursor.parser.ParserTesting2;
+import walkingkooka.text.cursor.parser.ParserToken;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeParsersValueParserTest implements ParserTesting2<JsonNodeParsersValueParser, ParserContext>,
+        ToStringTesting<JsonNodeParsersValueParser>,
+        TypeNameTesting<JsonNodeParsersValueParser> {
+
+    // same as grammar...................................................................................................
+
+    @Test
+    public void testEmpty() {
+        this.parseAndCheckSameAsGrammar("");
+    }
+
+    @Test
+    public void testInvalidCharacter() {
+        this.parseAndCheckSameAsGrammar("!");
+    }
+
+    @Test
+    public void testNull() {
+        this.parseAndCheckSameAsGrammar("null");
+    }
+
+    @Test
+    public void testNullTrailingText() {
+        this.parseAndCheckSameAsGrammar("nullx");
+    }
+
+    @Test
+    public void testBoolean() {
+        this.parseAndCheckSameAsGrammar("true");
+        this.parseAndCheckSameAsGrammar("false");
+    }
+
+    @Test
+    public void testInvalidLetters() {
+        this.parseAndCheckSameAsGrammar("nope");
+        this.parseAndCheckSameAsGrammar("tru");
+    }
+
+    @Test
+    public void testNumber() {
+        this.parseAndCheckSameAsGrammar("-12.5e3");
+    }
+
+    @Test
+    public void testString() {
+        this.parseAndCheckSameAsGrammar("\"abc\\t\\u0041\"");
+    }
+
+    @Test
+    public void testArrayEmpty() {
+        this.parseAndCheckSameAsGrammar("[]");
+        this.parseAndCheckSameAsGrammar("[  ]");
+    }
+
+    @Test
+    public void testArray() {
+        this.parseAndCheckSameAsGrammar("[1,\"two\",true,false,null,[],{}]");
+    }
+
+    @Test
+    public void testArrayWhitespace() {
+        this.parseAndCheckSameAsGrammar("[ 1 , 2 ,\n3\t]");
+    }
+
+    @Test
+    public void testArrayTrailingText() {
+        this.parseAndCheckSameAsGrammar("[1] after");
+    }
+
+    @Test
+    public void testObjectEmpty() {
+        this.parseAndCheckSameAsGrammar("{}");
+        this.parseAndCheckSameAsGrammar("{  }");
+    }
+
+    @Test
+    public void testObject() {
+        this.parseAndCheckSameAsGrammar("{\"a\":1,\"b\":[true,{\"c\":null}],\"d\":\"e\"}");
+    }
+
+    @Test
+    public void testObjectWhitespace() {
+        this.parseAndCheckSameAsGrammar("{ \"a\" : 1 , \"b\" :\n2 }");
+    }
+
+    @Test
+    public void testNested() {
+        this.parseAndCheckSameAsGrammar("[[[[{\"a\":[[{}]]}]]]]");
+    }
+
+    private void parseAndCheckSameAsGrammar(final String text) {
+        final TextCursor grammarCursor = TextCursors.charSequence(text);
+        final Optional<ParserToken> expected = JsonNodeParsers.grammar()
+                .parse(grammarCursor, this.createContext());
+
+        final TextCursor cursor = TextCursors.charSequence(text);
+        this.checkEquals(
+                expected,
+                this.createParser()
+                        .parse(cursor, this.createContext()),
+                () -> "parse " + text
+        );
+        this.checkEquals(
+                grammarCursor.lineInfo().summary(),
+                cursor.lineInfo().summary(),
+                () -> "cursor after parse " + text
+        );
+    }
+
+    // failures are reported by the grammar..............................................................................
+
+    @Test
+    public void testArrayUnclosedFails() {
+        this.parseFailsSameAsGrammar("[1, 2");
+    }
+
+    @Test
+    public void testArrayMissingElementFails() {
+        this.parseFailsSameAsGrammar("[1, ]");
+    }
+
+    @Test
+    public void testArrayMissingSeparatorFails() {
+        this.parseFailsSameAsGrammar("[123 !ABC]");
+    }
+
+    @Test
+    public void testObjectMissingAssignmentFails() {
+        this.parseFailsSameAsGrammar("{\"key1\":true,\"key2\"!true}");
+    }
+
+    @Test
+    public void testObjectMissingValueFails() {
+        this.parseFailsSameAsGrammar("{\"key1\":}");
+    }
+
+    @Test
+    public void testObjectNestedInvalidFails() {
+        this.parseFailsSameAsGrammar("{\"key1\":[{\"key2\":!}]}");
+    }
+
+    private void parseFailsSameAsGrammar(final String text) {
+        final Parser<ParserContext> grammar = JsonNodeParsers.grammar()
+                .orReport(ParserReporters.basic());
+        final RuntimeException expected = assertThrows(
+                RuntimeException.class,
+                () -> grammar.parse(TextCursors.charSequence(text), this.createContext())
+        );
+
+        final Parser<ParserContext> parser = this.createParser()
+                .orReport(ParserReporters.basic());
+        final RuntimeException thrown = assertThrows(
+                RuntimeException.class,
+                () -> parser.parse(TextCursors.charSequence(text), this.createContext())
+        );
+
+        this.checkEquals(expected.getClass(), thrown.getClass(), () -> "exception " + text);
+        this.checkEquals(expected.getMessage(), thrown.getMessage(), () -> "message " + text);
+    }
+
+    // limits.........................................................................................................
+
+    @Test
+    public void testWithNullLimitsFails() {
+        assertThrows(NullPointerException.class, () -> JsonNodeParsersValueParser.with(null));
+    }
+
+    @Test
+    public void testWithUnlimited() {
+        assertSame(JsonNodeParsersValueParser.INSTANCE, JsonNodeParsersValueParser.with(JsonNodeParserLimits.UNLIMITED));
+    }
+
+    @Test
+    public void testLimitsWithinLimits() {
+        final String text = "{\"abc\": [1.25, true, \"a\\u0041\\n\"], \"b\": {\"c\": null}}";
+        final TextCursor cursor = TextCursors.charSequence(text);
+        this.checkEquals(
+                JsonNodeParsers.grammar()
+                        .parse(TextCursors.charSequence(text), this.createContext()),
+                JsonNodeParsersValueParser.with(
+                        JsonNodeParserLimits.UNLIMITED
+                                .setMaxDepth(2)
+                                .setMaxStringLength(3)
+                                .setMaxNumberLength(4)
+                                .setMaxProperties(2)
+                                .setMaxArrayLength(3)
+                                .setMaxLength(text.length())
+                ).parse(cursor, this.createContext())
+        );
+    }
+
+    @Test
+    public void testLimitsMaxLength() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxLength(3),
+                "[12]",
+                "Document length exceeds 3 at (1,4)",
+                1,
+                4);
+    }
+
+    @Test
+    public void testLimitsMaxLengthWithinToken() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxLength(5),
+                "[1,\n22]",
+                "Document length exceeds 5 at (2,2)",
+                2,
+                2);
+    }
+
+    @Test
+    public void testLimitsMaxLengthRestoredWhitespace() {
+        this.parseAndCheckLimits(JsonNodeParserLimits.UNLIMITED.setMaxLength(8),
+                "[1 , 2 ]");
+    }
+
+    @Test
+    public void testLimitsMaxDepth() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxDepth(2),
+                "[{\"a\":\n  [1]}]",
+                "Nesting depth exceeds 2 at (2,3)",
+                2,
+                3);
+    }
+
+    @Test
+    public void testLimitsMaxDepthBeforeInvalid() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxDepth(2),
+                "[[[1]]!",
+                "Nesting depth exceeds 2 at (1,3)",
+                1,
+                3);
+    }
+
+    @Test
+    public void testLimitsMaxDepthSiblings() {
+        this.parseAndCheckLimits(JsonNodeParserLimits.UNLIMITED.setMaxDepth(2),
+                "[[1], [2], {\"a\": 3}]");
+    }
+
+    @Test
+    public void testLimitsMaxStringLength() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxStringLength(2),
+                "[\"ab\", \"abc\"]",
+                "String length exceeds 2 at (1,8)",
+                1,
+                8);
+    }
+
+    @Test
+    public void testLimitsMaxStringLengthEscapes() {
+        this.parseAndCheckLimits(JsonNodeParserLimits.UNLIMITED.setMaxStringLength(2),
+                "\"\\u0041\\\"\"");
+    }
+
+    @Test
+    public void testLimitsMaxStringLengthPropertyName() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxStringLength(2),
+                "{\"abc\": 1}",
+                "String length exceeds 2 at (1,2)",
+                1,
+                2);
+    }
+
+    @Test
+    public void testLimitsMaxNumberLength() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxNumberLength(4),
+                "[1.25, -1.5e10]",
+                "Number length 7 exceeds 4 at (1,8)",
+                1,
+                8);
+    }
+
+    @Test
+    public void testLimitsMaxProperties() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxProperties(2),
+                "{\"a\": [1, 2, 3], \"b\": 2, \"c\": 3}",
+                "Object properties exceed 2 at (1,26)",
+                1,
+                26);
+    }
+
+    @Test
+    public void testLimitsMaxArrayLength() {
+        this.parseLimitFails(JsonNodeParserLimits.UNLIMITED.setMaxArrayLength(2),
+                "[{\"a\": 1, \"b\": 2, \"c\": 3}, [], null]",
+                "Array length exceeds 2 at (1,32)",
+                1,
+                32);
+    }
+
+    @Test
+    public void testLimitsMaxArrayLengthEmptyArray() {
+        this.parseAndCheckLimits(JsonNodeParserLimits.UNLIMITED.setMaxArrayLength(1),
+                "[[]]");
+    }
+
+    private void parseAndCheckLimits(final JsonNodeParserLimits limits,
+                                     final String text) {
+        this.checkEquals(
+                JsonNodeParsers.grammar()
+                        .parse(TextCursors.charSequence(text), this.createContext()),
+                JsonNodeParsersValueParser.with(limits)
+                        .parse(TextCursors.charSequence(text), this.createContext()),
+                () -> "parse " + text + " " + limits
+        );
+    }
+
+    private void parseLimitFails(final JsonNodeParserLimits limits,
+                                 final String text,
+                                 final String message,
+                                 final int lineNumber,
+                                 final int column) {
+        final JsonNodeParserLimitException thrown = assertThrows(
+                JsonNodeParserLimitException.class,
+                () -> JsonNodeParsersValueParser.with(limits)
+                        .parse(TextCursors.charSequence(text), this.createContext())
+        );
+        this.checkEquals(message, thrown.getMessage(), "message");
+        this.checkEquals(lineNumber, thrown.lineNumber(), "lineNumber");
+        this.checkEquals(column, thrown.column(), "column");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createParser(), "VALUE");
+    }
+
+    @Override
+    public JsonNodeParsersValueParser createParser() {
+        return JsonNodeParsersValueParser.INSTANCE;
+    }
+
+    @Override
+    public ParserContext createContext() {
+        return JsonNodeParserContexts.basic();
+    }
+
+    @Override
+    public Class<JsonNodeParsersValueParser> type() {
+        return JsonNodeParsersValueParser.class;
+    }
+
+    // TypeNaming.......................................................................................................
+
+    @Override
+    public String typeNamePrefix() {
+        return JsonNodeParsers.class.getSimpleName();
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "Value" + Parser.class.getSimpleName();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class JsonPathComparisonOperatorTest implements ClassTesting2<JsonPathComparisonOperator> {
+
+    @Test
+    public void testSymbol() {
+        for (final JsonPathComparisonOperator operator : JsonPathComparisonOperator.values()) {
+            this.checkEquals(
+                    operator,
+                    JsonPathComparisonOperator.symbol(operator.toString())
+            );
+        }
+    }
+
+    @Test
+    public void testSymbolUnknown() {
+        this.checkEquals(
+                null,
+                JsonPathComparisonOperator.symbol("=")
+        );
+    }
+
+    @Test
+    public void testNumbers() {
+        this.numbersAndCheck(1, 2, true, false, true, true, false, false);
+        this.numbersAndCheck(2, 2, false, true, false, true, false, true);
+        this.numbersAndCheck(3, 2, false, false, true, false, true, true);
+    }
+
+    private void numbersAndCheck(final double left,
+                                 final double right,
+                                 final boolean lt,
+                                 final boolean eq,
+                                 final boolean ne,
+                                 final boolean le,
+                                 final boolean gt,
+                                 final boolean ge) {
+        this.checkEquals(lt, JsonPathComparisonOperator.LT.numbers(left, right), () -> left + " < " + right);
+        this.checkEquals(eq, JsonPathComparisonOperator.EQ.numbers(left, right), () -> left + " == " + right);
+        this.checkEquals(ne, JsonPathComparisonOperator.NE.numbers(left, right), () -> left + " != " + right);
+        this.checkEquals(le, JsonPathComparisonOperator.LE.numbers(left, right), () -> left + " <= " + right);
+        this.checkEquals(gt, JsonPathComparisonOperator.GT.numbers(left, right), () -> left + " > " + right);
+        this.checkEquals(ge, JsonPathComparisonOperator.GE.numbers(left, right), () -> left + " >= " + right);
+    }
+
+    @Test
+    public void testCompareTo() {
+        for (final JsonPathComparisonOperator operator : JsonPathComparisonOperator.values()) {
+            for (int i = -1; i <= 1; i++) {
+                this.checkEquals(
+                        operator.numbers(i, 0),
+                        operator.compareTo(i),
+                        operator + " compareTo " + i
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testEquality() {
+        this.equalityAndCheck(JsonPathComparisonOperator.EQ, true, false);
+        this.equalityAndCheck(JsonPathComparisonOperator.NE, false, true);
+        this.equalityAndCheck(JsonPathComparisonOperator.LT, false, false);
+        this.equalityAndCheck(JsonPathComparisonOperator.LE, true, false);
+        this.equalityAndCheck(JsonPathComparisonOperator.GT, false, false);
+        this.equalityAndCheck(JsonPathComparisonOperator.GE, true, false);
+    }
+
+    private void equalityAndCheck(final JsonPathComparisonOperator operator,
+                                  final boolean equal,
+                                  final boolean notEqual) {
+        this.checkEquals(equal, operator.equality(true), operator + " equal");
+        this.checkEquals(notEqual, operator.equality(false), operator + " not equal");
+    }
+
+    @Test
+    public void testFlip() {
+        for (final JsonPathComparisonOperator operator : JsonPathComparisonOperator.values()) {
+            for (int i = -1; i <= 1; i++) {
+                this.checkEquals(
+                        operator.numbers(i, 0),
+                        operator.flip().numbers(0, i),
+                        operator + " flip " + i
+                );
+            }
+        }
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonPathComparisonOperator> type() {
+        return JsonPathComparisonOperator.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
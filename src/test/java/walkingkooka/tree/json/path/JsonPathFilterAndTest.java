@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonPathFilterAndTest extends JsonPathFilterTestCase<JsonPathFilterAnd> {
+
+    @Test
+    public void testBoth() {
+        this.testAndCheck(this.createFilter(), "{\"a\": 1, \"b\": 2}", true);
+    }
+
+    @Test
+    public void testLeftOnly() {
+        this.testAndCheck(this.createFilter(), "{\"a\": 1}", false);
+    }
+
+    @Test
+    public void testRightOnly() {
+        this.testAndCheck(this.createFilter(), "{\"b\": 2}", false);
+    }
+
+    @Test
+    public void testShortCircuits() {
+        this.testAndCheck(
+                JsonPathFilterAnd.with(
+                        JsonPathFilterExists.with(path("a")),
+                        new FakeJsonPathFilter()
+                ),
+                "{}",
+                false
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createFilter(), "(@.a && @.b)");
+    }
+
+    private JsonPathFilterAnd createFilter() {
+        return JsonPathFilterAnd.with(
+                JsonPathFilterExists.with(path("a")),
+                JsonPathFilterExists.with(path("b"))
+        );
+    }
+
+    @Override
+    public Class<JsonPathFilterAnd> type() {
+        return JsonPathFilterAnd.class;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonNode;
+
+public final class JsonPathFilterComparisonTest extends JsonPathFilterTestCase<JsonPathFilterComparison> {
+
+    @Test
+    public void testPathsEqualNumbers() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": 1, \"b\": 1}", true);
+    }
+
+    @Test
+    public void testPathsLessNumbers() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LT), "{\"a\": 1, \"b\": 2}", true);
+    }
+
+    @Test
+    public void testPathsLessStrings() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LT), "{\"a\": \"a\", \"b\": \"b\"}", true);
+    }
+
+    @Test
+    public void testPathsEqualArrays() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": [1, {\"c\": 2}], \"b\": [1, {\"c\": 2}]}", true);
+    }
+
+    @Test
+    public void testPathsEqualObjectsDifferent() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": {\"c\": 1}, \"b\": {\"c\": 2}}", false);
+    }
+
+    @Test
+    public void testPathsLessEqualArrays() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LE), "{\"a\": [1], \"b\": [1]}", true);
+    }
+
+    @Test
+    public void testPathsLessArrays() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LT), "{\"a\": [1], \"b\": [2]}", false);
+    }
+
+    @Test
+    public void testPathsDifferentTypes() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": 1, \"b\": \"1\"}", false);
+    }
+
+    @Test
+    public void testPathsDifferentTypesNotEquals() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.NE), "{\"a\": 1, \"b\": \"1\"}", true);
+    }
+
+    @Test
+    public void testPathsBothMissing() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{}", true);
+    }
+
+    @Test
+    public void testPathsOneMissing() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": null}", false);
+    }
+
+    @Test
+    public void testLiteralNull() {
+        this.testAndCheck(
+                JsonPathFilterComparison.with(
+                        path("a"),
+                        null,
+                        JsonPathComparisonOperator.EQ,
+                        null,
+                        JsonNode.nullNode()
+                ),
+                "{\"a\": null}",
+                true
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createFilter(JsonPathComparisonOperator.NE), "@.a != @.b");
+    }
+
+    @Test
+    public void testToStringLiteral() {
+        this.toStringAndCheck(
+                JsonPathFilterComparison.with(
+                        null,
+                        JsonNode.booleanNode(true),
+                        JsonPathComparisonOperator.EQ,
+                        path("b"),
+                        null
+                ),
+                "true == @.b"
+        );
+    }
+
+    private JsonPathFilterComparison createFilter(final JsonPathComparisonOperator operator) {
+        return JsonPathFilterComparison.with(
+                path("a"),
+                null,
+                operator,
+                path("b"),
+                null
+        );
+    }
+
+    @Override
+    public Class<JsonPathFilterComparison> type() {
+        return JsonPathFilterComparison.class;
+    }
+}
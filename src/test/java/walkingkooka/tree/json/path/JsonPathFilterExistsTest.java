@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonPathFilterExistsTest extends JsonPathFilterTestCase<JsonPathFilterExists> {
+
+    @Test
+    public void testPresent() {
+        this.testAndCheck(this.createFilter(), "{\"a\": 1}", true);
+    }
+
+    @Test
+    public void testPresentNull() {
+        this.testAndCheck(this.createFilter(), "{\"a\": null}", true);
+    }
+
+    @Test
+    public void testAbsent() {
+        this.testAndCheck(this.createFilter(), "{\"b\": 1}", false);
+    }
+
+    @Test
+    public void testLeaf() {
+        this.testAndCheck(this.createFilter(), "1", false);
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createFilter(), "@.a");
+    }
+
+    private JsonPathFilterExists createFilter() {
+        return JsonPathFilterExists.with(path("a"));
+    }
+
+    @Override
+    public Class<JsonPathFilterExists> type() {
+        return JsonPathFilterExists.class;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonPathFilterNumberComparisonTest extends JsonPathFilterTestCase<JsonPathFilterNumberComparison> {
+
+    @Test
+    public void testLess() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LT), "{\"a\": 1}", true);
+    }
+
+    @Test
+    public void testLessEqual() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LT), "{\"a\": 2}", false);
+    }
+
+    @Test
+    public void testEquals() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": 2.0}", true);
+    }
+
+    @Test
+    public void testGreaterEquals() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.GE), "{\"a\": 3}", true);
+    }
+
+    @Test
+    public void testString() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": \"2\"}", false);
+    }
+
+    @Test
+    public void testStringNotEquals() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.NE), "{\"a\": \"2\"}", true);
+    }
+
+    @Test
+    public void testMissing() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LE), "{}", false);
+    }
+
+    @Test
+    public void testMissingNotEquals() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.NE), "{}", true);
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createFilter(JsonPathComparisonOperator.GT), "@.a > 2");
+    }
+
+    private JsonPathFilterNumberComparison createFilter(final JsonPathComparisonOperator operator) {
+        return JsonPathFilterNumberComparison.with(
+                path("a"),
+                operator,
+                2
+        );
+    }
+
+    @Override
+    public Class<JsonPathFilterNumberComparison> type() {
+        return JsonPathFilterNumberComparison.class;
+    }
+}
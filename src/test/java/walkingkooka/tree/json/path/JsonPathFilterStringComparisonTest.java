@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonPathFilterStringComparisonTest extends JsonPathFilterTestCase<JsonPathFilterStringComparison> {
+
+    @Test
+    public void testEquals() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": \"m\"}", true);
+    }
+
+    @Test
+    public void testEqualsDifferentCase() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "{\"a\": \"M\"}", false);
+    }
+
+    @Test
+    public void testLess() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LT), "{\"a\": \"a\"}", true);
+    }
+
+    @Test
+    public void testGreater() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.GT), "{\"a\": \"z\"}", true);
+    }
+
+    @Test
+    public void testNumber() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.LT), "{\"a\": 1}", false);
+    }
+
+    @Test
+    public void testMissingNotEquals() {
+        this.testAndCheck(this.createFilter(JsonPathComparisonOperator.NE), "{}", true);
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createFilter(JsonPathComparisonOperator.EQ), "@.a == \"m\"");
+    }
+
+    private JsonPathFilterStringComparison createFilter(final JsonPathComparisonOperator operator) {
+        return JsonPathFilterStringComparison.with(
+                path("a"),
+                operator,
+                "m"
+        );
+    }
+
+    @Override
+    public Class<JsonPathFilterStringComparison> type() {
+        return JsonPathFilterStringComparison.class;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+public abstract class JsonPathFilterTestCase<F extends JsonPathFilter> implements ClassTesting2<F>,
+        ToStringTesting<F> {
+
+    JsonPathFilterTestCase() {
+        super();
+    }
+
+    /**
+     * Creates the relative path <code>@.name</code>.
+     */
+    static JsonPath path(final String name) {
+        return JsonPath.with(
+                "@." + name,
+                new JsonPathStep[]{
+                        JsonPathStepName.with(JsonPropertyName.with(name))
+                }
+        );
+    }
+
+    final void testAndCheck(final F filter,
+                            final String json,
+                            final boolean expected) {
+        this.checkEquals(
+                expected,
+                filter.test(JsonNode.parse(json)),
+                () -> filter + " test " + json
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public final JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonPathIteratorTest implements ClassTesting2<JsonPathIterator> {
+
+    @Test
+    public void testNoSteps() {
+        final JsonNode node = JsonNode.number(1);
+        final JsonPathIterator iterator = new JsonPathIterator(new JsonPathStep[0], node);
+
+        this.checkEquals(true, iterator.hasNext());
+        assertSame(node, iterator.next());
+        this.checkEquals(false, iterator.hasNext());
+    }
+
+    @Test
+    public void testNextWhenEmptyFails() {
+        final JsonPathIterator iterator = new JsonPathIterator(
+                new JsonPathStep[]{
+                        JsonPathStepIndex.with(1)
+                },
+                JsonNode.parse("[1]")
+        );
+
+        this.checkEquals(false, iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testDocumentOrder() {
+        final JsonPathIterator iterator = new JsonPathIterator(
+                new JsonPathStep[]{
+                        JsonPathStepWildcard.INSTANCE,
+                        JsonPathStepWildcard.INSTANCE
+                },
+                JsonNode.parse("[[1, 2], [], [3]]")
+        );
+
+        final List<JsonNode> selected = Lists.array();
+        while (iterator.hasNext()) {
+            selected.add(iterator.next().removeParent());
+        }
+
+        this.checkEquals(
+                Lists.of(
+                        JsonNode.number(1),
+                        JsonNode.number(2),
+                        JsonNode.number(3)
+                ),
+                selected
+        );
+    }
+
+    @Test
+    public void testLazy() {
+        final List<JsonNode> applied = Lists.array();
+
+        final JsonPathStep recording = new JsonPathStep() {
+            @Override
+            Iterator<JsonNode> apply(final JsonNode node) {
+                applied.add(node.removeParent());
+                return JsonPathStepWildcard.INSTANCE.apply(node);
+            }
+
+            @Override
+            public String toString() {
+                return "recording";
+            }
+        };
+
+        final JsonPathIterator iterator = new JsonPathIterator(
+                new JsonPathStep[]{
+                        JsonPathStepWildcard.INSTANCE,
+                        recording
+                },
+                JsonNode.parse("[[1, 2], [3]]")
+        );
+
+        this.checkEquals(JsonNode.number(1), iterator.next().removeParent());
+        this.checkEquals(
+                Lists.of(JsonNode.parse("[1, 2]")),
+                applied,
+                "second element should not be visited"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonPathIterator> type() {
+        return JsonPathIterator.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
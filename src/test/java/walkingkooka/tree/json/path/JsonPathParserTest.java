@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonPathParserTest implements ClassTesting2<JsonPathParser>,
+        ToStringTesting<JsonPathParser> {
+
+    @Test
+    public void testEmptyFails() {
+        this.parseFails("");
+    }
+
+    @Test
+    public void testMissingRootFails() {
+        this.parseInvalidCharacterFails("a.b", 0);
+    }
+
+    @Test
+    public void testTrailingTextFails() {
+        this.parseInvalidCharacterFails("$.a b", 3);
+    }
+
+    @Test
+    public void testDotMissingNameFails() {
+        this.parseFails("$.");
+    }
+
+    @Test
+    public void testDotInvalidNameFails() {
+        this.parseInvalidCharacterFails("$.!", 2);
+    }
+
+    @Test
+    public void testDescendantMissingSelectorFails() {
+        this.parseFails("$..");
+    }
+
+    @Test
+    public void testBracketUnclosedFails() {
+        this.parseFails("$[1");
+    }
+
+    @Test
+    public void testBracketEmptyFails() {
+        this.parseInvalidCharacterFails("$[]", 2);
+    }
+
+    @Test
+    public void testBracketInvalidSeparatorFails() {
+        this.parseInvalidCharacterFails("$[1;2]", 3);
+    }
+
+    @Test
+    public void testIndexMissingDigitsFails() {
+        this.parseInvalidCharacterFails("$[-]", 3);
+    }
+
+    @Test
+    public void testIndexOverflowFails() {
+        this.parseFails("$[99999999999]");
+    }
+
+    @Test
+    public void testStringUnterminatedFails() {
+        this.parseFails("$['abc");
+    }
+
+    @Test
+    public void testStringInvalidUnicodeEscapeFails() {
+        this.parseInvalidCharacterFails("$['\\u12x4']", 7);
+    }
+
+    @Test
+    public void testFilterMissingComparisonFails() {
+        this.parseFails("$[?(1)]");
+    }
+
+    @Test
+    public void testFilterAbsolutePathFails() {
+        this.parseInvalidCharacterFails("$[?($.a)]", 4);
+    }
+
+    @Test
+    public void testFilterInvalidKeywordFails() {
+        this.parseInvalidCharacterFails("$[?(@.a == tru)]", 11);
+    }
+
+    @Test
+    public void testFilterUnclosedParenthesisFails() {
+        this.parseFails("$[?(@.a");
+    }
+
+    @Test
+    public void testFilterInvalidNumberFails() {
+        this.parseFails("$[?(@.a == 1e)]");
+    }
+
+    @Test
+    public void testParseRoot() {
+        this.parseAndCheck("$");
+    }
+
+    @Test
+    public void testParseDotNames() {
+        this.parseAndCheck("$.a.b_c.d-e.f1");
+    }
+
+    @Test
+    public void testParseBracketsWithWhitespace() {
+        this.parseAndCheck("$[ 'a' , \"b\" , 1 , -1 , * ]");
+    }
+
+    @Test
+    public void testParseSlices() {
+        this.parseAndCheck("$[:][1:][:2][::2][1:2:-1]");
+    }
+
+    @Test
+    public void testParseStringEscapes() {
+        this.parseAndCheck("$['\\'\\\"\\\\\\/\\b\\f\\n\\r\\t\\u0041']");
+    }
+
+    @Test
+    public void testParseFilterWithoutParentheses() {
+        this.parseAndCheck("$[?@.a == 1 && !@.b]");
+    }
+
+    @Test
+    public void testParseFilterLiterals() {
+        this.parseAndCheck("$[?(@.a == true || @.a == false || @.a == null || @.a == -1.5e+2 || @.a != 'x')]");
+    }
+
+    @Test
+    public void testParseFilterNested() {
+        this.parseAndCheck("$..[?(@.a[?(@.b > 1)])]");
+    }
+
+    private void parseAndCheck(final String text) {
+        this.checkEquals(
+                text,
+                JsonPathParser.with(text)
+                        .parse()
+                        .toString()
+        );
+    }
+
+    private void parseFails(final String text) {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> JsonPathParser.with(text).parse()
+        );
+    }
+
+    private void parseInvalidCharacterFails(final String text,
+                                            final int position) {
+        final InvalidCharacterException thrown = assertThrows(
+                InvalidCharacterException.class,
+                () -> JsonPathParser.with(text).parse()
+        );
+        this.checkEquals(position, thrown.position(), () -> "position in " + text);
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonPathParser.with("$.a"), "$.a");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonPathParser> type() {
+        return JsonPathParser.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
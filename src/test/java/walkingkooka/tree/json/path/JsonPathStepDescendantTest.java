@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonPathStepDescendantTest extends JsonPathStepTestCase<JsonPathStepDescendant> {
+
+    @Test
+    public void testApplyLeaf() {
+        this.applyAndCheck(JsonPathStepDescendant.INSTANCE, "1", "1");
+    }
+
+    @Test
+    public void testApplyPreOrder() {
+        this.applyAndCheck(
+                JsonPathStepDescendant.INSTANCE,
+                "{\"a\": [1, {\"b\": 2}], \"c\": 3}",
+                "{\"a\": [1, {\"b\": 2}], \"c\": 3}",
+                "[1, {\"b\": 2}]",
+                "1",
+                "{\"b\": 2}",
+                "2",
+                "3"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonPathStepDescendant.INSTANCE, "..");
+    }
+
+    @Override
+    public Class<JsonPathStepDescendant> type() {
+        return JsonPathStepDescendant.class;
+    }
+}
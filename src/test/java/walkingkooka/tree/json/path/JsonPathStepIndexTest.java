@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonPathStepIndexTest extends JsonPathStepTestCase<JsonPathStepIndex> {
+
+    private final static String ARRAY = "[10, 20, 30]";
+
+    @Test
+    public void testApplyFirst() {
+        this.applyAndCheck(JsonPathStepIndex.with(0), ARRAY, "10");
+    }
+
+    @Test
+    public void testApplyLast() {
+        this.applyAndCheck(JsonPathStepIndex.with(2), ARRAY, "30");
+    }
+
+    @Test
+    public void testApplyOutOfRange() {
+        this.applyAndCheck(JsonPathStepIndex.with(3), ARRAY);
+    }
+
+    @Test
+    public void testApplyNegative() {
+        this.applyAndCheck(JsonPathStepIndex.with(-1), ARRAY, "30");
+    }
+
+    @Test
+    public void testApplyNegativeOutOfRange() {
+        this.applyAndCheck(JsonPathStepIndex.with(-4), ARRAY);
+    }
+
+    @Test
+    public void testApplyObject() {
+        this.applyAndCheck(JsonPathStepIndex.with(0), "{\"0\": 1}");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonPathStepIndex.with(-2), "[-2]");
+    }
+
+    @Override
+    public Class<JsonPathStepIndex> type() {
+        return JsonPathStepIndex.class;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonPropertyName;
+
+public final class JsonPathStepNameTest extends JsonPathStepTestCase<JsonPathStepName> {
+
+    @Test
+    public void testApplyObject() {
+        this.applyAndCheck(
+                this.createStep(),
+                "{\"a\": 1, \"b\": 2}",
+                "2"
+        );
+    }
+
+    @Test
+    public void testApplyObjectMissing() {
+        this.applyAndCheck(
+                this.createStep(),
+                "{\"a\": 1}"
+        );
+    }
+
+    @Test
+    public void testApplyArray() {
+        this.applyAndCheck(
+                this.createStep(),
+                "[1, 2]"
+        );
+    }
+
+    @Test
+    public void testApplyLeaf() {
+        this.applyAndCheck(
+                this.createStep(),
+                "\"b\""
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonPathStepName.with(JsonPropertyName.with("a'b")),
+                "[\"a'b\"]"
+        );
+    }
+
+    private JsonPathStepName createStep() {
+        return JsonPathStepName.with(JsonPropertyName.with("b"));
+    }
+
+    @Override
+    public Class<JsonPathStepName> type() {
+        return JsonPathStepName.class;
+    }
+}
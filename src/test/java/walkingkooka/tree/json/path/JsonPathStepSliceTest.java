@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonPathStepSliceTest extends JsonPathStepTestCase<JsonPathStepSlice> {
+
+    private final static String ARRAY = "[0, 1, 2, 3, 4, 5, 6]";
+
+    @Test
+    public void testApplyAll() {
+        this.applyAndCheck(JsonPathStepSlice.with(null, null, 1), ARRAY, "0", "1", "2", "3", "4", "5", "6");
+    }
+
+    @Test
+    public void testApplyStartEnd() {
+        this.applyAndCheck(JsonPathStepSlice.with(1, 3, 1), ARRAY, "1", "2");
+    }
+
+    @Test
+    public void testApplyStep() {
+        this.applyAndCheck(JsonPathStepSlice.with(1, 6, 2), ARRAY, "1", "3", "5");
+    }
+
+    @Test
+    public void testApplyNegativeStartEnd() {
+        this.applyAndCheck(JsonPathStepSlice.with(-3, -1, 1), ARRAY, "4", "5");
+    }
+
+    @Test
+    public void testApplyStartAfterEnd() {
+        this.applyAndCheck(JsonPathStepSlice.with(5, 2, 1), ARRAY);
+    }
+
+    @Test
+    public void testApplyOutOfRangeClamped() {
+        this.applyAndCheck(JsonPathStepSlice.with(-100, 100, 3), ARRAY, "0", "3", "6");
+    }
+
+    @Test
+    public void testApplyNegativeStep() {
+        this.applyAndCheck(JsonPathStepSlice.with(null, null, -1), ARRAY, "6", "5", "4", "3", "2", "1", "0");
+    }
+
+    @Test
+    public void testApplyNegativeStepStartEnd() {
+        this.applyAndCheck(JsonPathStepSlice.with(5, 1, -2), ARRAY, "5", "3");
+    }
+
+    @Test
+    public void testApplyNegativeStepOutOfRangeClamped() {
+        this.applyAndCheck(JsonPathStepSlice.with(100, -100, -3), ARRAY, "6", "3", "0");
+    }
+
+    @Test
+    public void testApplyZeroStep() {
+        this.applyAndCheck(JsonPathStepSlice.with(null, null, 0), ARRAY);
+    }
+
+    @Test
+    public void testApplyEmptyArray() {
+        this.applyAndCheck(JsonPathStepSlice.with(null, null, -1), "[]");
+    }
+
+    @Test
+    public void testApplyObject() {
+        this.applyAndCheck(JsonPathStepSlice.with(null, null, 1), "{\"a\": 1}");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonPathStepSlice.with(1, null, 2), "[1::2]");
+    }
+
+    @Override
+    public Class<JsonPathStepSlice> type() {
+        return JsonPathStepSlice.class;
+    }
+}
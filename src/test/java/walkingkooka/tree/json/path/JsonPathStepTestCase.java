@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public abstract class JsonPathStepTestCase<S extends JsonPathStep> implements ClassTesting2<S>,
+        ToStringTesting<S> {
+
+    JsonPathStepTestCase() {
+        super();
+    }
+
+    final void applyAndCheck(final S step,
+                             final String json,
+                             final String... expected) {
+        final List<JsonNode> selected = Lists.array();
+        final Iterator<JsonNode> iterator = step.apply(JsonNode.parse(json));
+        while (iterator.hasNext()) {
+            selected.add(iterator.next().removeParent());
+        }
+
+        this.checkEquals(
+                Arrays.stream(expected)
+                        .map(JsonNode::parse)
+                        .collect(Collectors.toList()),
+                selected,
+                () -> step + " apply " + json
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public final JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
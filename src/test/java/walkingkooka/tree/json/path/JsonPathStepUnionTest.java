@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonPropertyName;
+
+public final class JsonPathStepUnionTest extends JsonPathStepTestCase<JsonPathStepUnion> {
+
+    @Test
+    public void testApply() {
+        this.applyAndCheck(
+                this.createStep(),
+                "[10, 20, 30]",
+                "30",
+                "10"
+        );
+    }
+
+    @Test
+    public void testApplyDuplicatesKept() {
+        this.applyAndCheck(
+                JsonPathStepUnion.with(
+                        new JsonPathStep[]{
+                                JsonPathStepIndex.with(0),
+                                JsonPathStepIndex.with(0)
+                        }
+                ),
+                "[10]",
+                "10",
+                "10"
+        );
+    }
+
+    @Test
+    public void testApplyNoneSelected() {
+        this.applyAndCheck(
+                this.createStep(),
+                "{}"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonPathStepUnion.with(
+                        new JsonPathStep[]{
+                                JsonPathStepIndex.with(-1),
+                                JsonPathStepName.with(JsonPropertyName.with("a")),
+                                JsonPathStepWildcard.INSTANCE
+                        }
+                ),
+                "[-1, \"a\", *]"
+        );
+    }
+
+    private JsonPathStepUnion createStep() {
+        return JsonPathStepUnion.with(
+                new JsonPathStep[]{
+                        JsonPathStepIndex.with(-1),
+                        JsonPathStepIndex.with(0)
+                }
+        );
+    }
+
+    @Override
+    public Class<JsonPathStepUnion> type() {
+        return JsonPathStepUnion.class;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonPathStepWildcardTest extends JsonPathStepTestCase<JsonPathStepWildcard> {
+
+    @Test
+    public void testApplyObject() {
+        this.applyAndCheck(
+                JsonPathStepWildcard.INSTANCE,
+                "{\"a\": 1, \"b\": [2]}",
+                "1",
+                "[2]"
+        );
+    }
+
+    @Test
+    public void testApplyArray() {
+        this.applyAndCheck(
+                JsonPathStepWildcard.INSTANCE,
+                "[1, \"2\", null]",
+                "1",
+                "\"2\"",
+                "null"
+        );
+    }
+
+    @Test
+    public void testApplyLeaf() {
+        this.applyAndCheck(
+                JsonPathStepWildcard.INSTANCE,
+                "true"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonPathStepWildcard.INSTANCE, "[*]");
+    }
+
+    @Override
+    public Class<JsonPathStepWildcard> type() {
+        return JsonPathStepWildcard.class;
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.path;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonPathTest implements ClassTesting2<JsonPath>,
+        ToStringTesting<JsonPath> {
+
+    private final static String STORE = "{\"store\": {" +
+            "\"book\": [" +
+            "{\"category\": \"reference\", \"author\": \"Nigel Rees\", \"title\": \"Sayings of the Century\", \"price\": 8.95}," +
+            "{\"category\": \"fiction\", \"author\": \"Evelyn Waugh\", \"title\": \"Sword of Honour\", \"price\": 12.99}," +
+            "{\"category\": \"fiction\", \"author\": \"Herman Melville\", \"title\": \"Moby Dick\", \"isbn\": \"0-553-21311-3\", \"price\": 8.99}," +
+            "{\"category\": \"fiction\", \"author\": \"J. R. R. Tolkien\", \"title\": \"The Lord of the Rings\", \"isbn\": \"0-395-19395-8\", \"price\": 22.99}" +
+            "]," +
+            "\"bicycle\": {\"color\": \"red\", \"price\": 399}" +
+            "}}";
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonPath.parse(null));
+    }
+
+    @Test
+    public void testParseMissingRootFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.parse("store"));
+    }
+
+    // select...........................................................................................................
+
+    @Test
+    public void testSelectNullNodeFails() {
+        assertThrows(NullPointerException.class, () -> JsonPath.parse("$").select(null));
+    }
+
+    @Test
+    public void testSelectNegativeLimitFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.parse("$").select(JsonNode.nullNode(), -1));
+    }
+
+    @Test
+    public void testSelectRoot() {
+        final JsonNode node = JsonNode.parse(STORE);
+        this.checkEquals(
+                Lists.of(node),
+                JsonPath.parse("$").select(node)
+        );
+    }
+
+    @Test
+    public void testSelectDotName() {
+        this.selectAndCheck(
+                "$.store.bicycle.color",
+                "\"red\""
+        );
+    }
+
+    @Test
+    public void testSelectBracketName() {
+        this.selectAndCheck(
+                "$['store']['bicycle'][\"color\"]",
+                "\"red\""
+        );
+    }
+
+    @Test
+    public void testSelectMissing() {
+        this.selectAndCheck(
+                "$.store.missing"
+        );
+    }
+
+    @Test
+    public void testSelectNameOfArray() {
+        this.selectAndCheck(
+                "$.store.book.title"
+        );
+    }
+
+    @Test
+    public void testSelectIndex() {
+        this.selectAndCheck(
+                "$.store.book[1].author",
+                "\"Evelyn Waugh\""
+        );
+    }
+
+    @Test
+    public void testSelectNegativeIndex() {
+        this.selectAndCheck(
+                "$.store.book[-1].author",
+                "\"J. R. R. Tolkien\""
+        );
+    }
+
+    @Test
+    public void testSelectIndexOutOfRange() {
+        this.selectAndCheck(
+                "$.store.book[4]"
+        );
+    }
+
+    @Test
+    public void testSelectWildcardArray() {
+        this.selectAndCheck(
+                "$.store.book[*].author",
+                "\"Nigel Rees\"",
+                "\"Evelyn Waugh\"",
+                "\"Herman Melville\"",
+                "\"J. R. R. Tolkien\""
+        );
+    }
+
+    @Test
+    public void testSelectWildcardObject() {
+        this.selectAndCheck(
+                "$.store.bicycle.*",
+                "\"red\"",
+                "399"
+        );
+    }
+
+    @Test
+    public void testSelectSlice() {
+        this.selectAndCheck(
+                "$.store.book[1:3].author",
+                "\"Evelyn Waugh\"",
+                "\"Herman Melville\""
+        );
+    }
+
+    @Test
+    public void testSelectSliceNegativeStep() {
+        this.selectAndCheck(
+                "$.store.book[::-2].author",
+                "\"J. R. R. Tolkien\"",
+                "\"Evelyn Waugh\""
+        );
+    }
+
+    @Test
+    public void testSelectUnion() {
+        this.selectAndCheck(
+                "$.store.book[0, -1]['title', 'price']",
+                "\"Sayings of the Century\"",
+                "8.95",
+                "\"The Lord of the Rings\"",
+                "22.99"
+        );
+    }
+
+    @Test
+    public void testSelectDescendantName() {
+        this.selectAndCheck(
+                "$..author",
+                "\"Nigel Rees\"",
+                "\"Evelyn Waugh\"",
+                "\"Herman Melville\"",
+                "\"J. R. R. Tolkien\""
+        );
+    }
+
+    @Test
+    public void testSelectDescendantNameNested() {
+        this.selectAndCheck(
+                "$.store..price",
+                "8.95",
+                "12.99",
+                "8.99",
+                "22.99",
+                "399"
+        );
+    }
+
+    @Test
+    public void testSelectDescendantBracket() {
+        this.selectAndCheck(
+                "$..book[2].title",
+                "\"Moby Dick\""
+        );
+    }
+
+    @Test
+    public void testSelectFilterNumber() {
+        this.selectAndCheck(
+                "$.store.book[?(@.price < 10)].title",
+                "\"Sayings of the Century\"",
+                "\"Moby Dick\""
+        );
+    }
+
+    @Test
+    public void testSelectFilterNumberLiteralLeft() {
+        this.selectAndCheck(
+                "$.store.book[?(10 > @.price)].title",
+                "\"Sayings of the Century\"",
+                "\"Moby Dick\""
+        );
+    }
+
+    @Test
+    public void testSelectFilterString() {
+        this.selectAndCheck(
+                "$.store.book[?@.category == 'reference'].author",
+                "\"Nigel Rees\""
+        );
+    }
+
+    @Test
+    public void testSelectFilterExists() {
+        this.selectAndCheck(
+                "$.store.book[?(@.isbn)].title",
+                "\"Moby Dick\"",
+                "\"The Lord of the Rings\""
+        );
+    }
+
+    @Test
+    public void testSelectFilterNot() {
+        this.selectAndCheck(
+                "$.store.book[?(!@.isbn)].title",
+                "\"Sayings of the Century\"",
+                "\"Sword of Honour\""
+        );
+    }
+
+    @Test
+    public void testSelectFilterAndOr() {
+        this.selectAndCheck(
+                "$.store.book[?(@.price > 20 || @.category == 'reference' && @.price < 9)].title",
+                "\"Sayings of the Century\"",
+                "\"The Lord of the Rings\""
+        );
+    }
+
+    @Test
+    public void testSelectFilterParentheses() {
+        this.selectAndCheck(
+                "$.store.book[?((@.price > 20 || @.category == 'reference') && @.price < 9)].title",
+                "\"Sayings of the Century\""
+        );
+    }
+
+    @Test
+    public void testSelectFilterPathComparison() {
+        this.selectAndCheck(
+                "$[?(@.a == @.b)].id",
+                "[{\"id\": 1, \"a\": [1, 2], \"b\": [1, 2]}, {\"id\": 2, \"a\": 1, \"b\": 2}, {\"id\": 3, \"a\": {\"x\": null}, \"b\": {\"x\": null}}]",
+                "1",
+                "3"
+        );
+    }
+
+    @Test
+    public void testSelectFilterBoolean() {
+        this.selectAndCheck(
+                "$[?(@.on == true)].id",
+                "[{\"id\": 1, \"on\": true}, {\"id\": 2, \"on\": false}, {\"id\": 3}]",
+                "1"
+        );
+    }
+
+    @Test
+    public void testSelectFilterNotEqualsMissing() {
+        this.selectAndCheck(
+                "$[?(@.on != true)].id",
+                "[{\"id\": 1, \"on\": true}, {\"id\": 2, \"on\": false}, {\"id\": 3}]",
+                "2",
+                "3"
+        );
+    }
+
+    @Test
+    public void testSelectFilterObjectProperties() {
+        this.selectAndCheck(
+                "$.store[?(@.color)].price",
+                "399"
+        );
+    }
+
+    @Test
+    public void testSelectLimit() {
+        this.checkEquals(
+                Lists.of(JsonNode.string("Nigel Rees"), JsonNode.string("Evelyn Waugh")),
+                JsonPath.parse("$..author")
+                        .select(JsonNode.parse(STORE), 2)
+                        .stream()
+                        .map(JsonNode::removeParent)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testSelectLimitZero() {
+        this.checkEquals(
+                Lists.empty(),
+                JsonPath.parse("$..author")
+                        .select(JsonNode.parse(STORE), 0)
+        );
+    }
+
+    private void selectAndCheck(final String path,
+                                final String... expected) {
+        this.selectAndCheck(path, STORE, expected);
+    }
+
+    private void selectAndCheck(final String path,
+                                final String json,
+                                final String... expected) {
+        this.checkEquals(
+                Arrays.stream(expected)
+                        .map(JsonNode::parse)
+                        .collect(Collectors.toList()),
+                JsonPath.parse(path)
+                        .select(JsonNode.parse(json))
+                        .stream()
+                        .map(JsonNode::removeParent)
+                        .collect(Collectors.toList()),
+                () -> path + " select " + json
+        );
+    }
+
+    // first............................................................................................................
+
+    @Test
+    public void testFirst() {
+        this.checkEquals(
+                Optional.of(JsonNode.string("Evelyn Waugh")),
+                JsonPath.parse("$..book[?(@.price > 10)].author")
+                        .first(JsonNode.parse(STORE))
+                        .map(JsonNode::removeParent)
+        );
+    }
+
+    @Test
+    public void testFirstMissing() {
+        this.checkEquals(
+                Optional.empty(),
+                JsonPath.parse("$..missing")
+                        .first(JsonNode.parse(STORE))
+        );
+    }
+
+    // stream...........................................................................................................
+
+    @Test
+    public void testStream() {
+        this.checkEquals(
+                Lists.of(JsonNode.number(8.95), JsonNode.number(12.99)),
+                JsonPath.parse("$.store.book[*].price")
+                        .stream(JsonNode.parse(STORE))
+                        .limit(2)
+                        .map(JsonNode::removeParent)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testStreamEmpty() {
+        this.checkEquals(
+                Collections.emptyList(),
+                JsonPath.parse("$.missing")
+                        .stream(JsonNode.parse(STORE))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testEquals() {
+        this.checkEquals(JsonPath.parse("$.a[1]"), JsonPath.parse("$.a[1]"));
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        assertNotEquals(JsonPath.parse("$.a[1]"), JsonPath.parse("$.a[2]"));
+    }
+
+    @Test
+    public void testToString() {
+        final String text = "$.store.book[?(@.price < 10)].title";
+        this.toStringAndCheck(JsonPath.parse(text), text);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonPath> type() {
+        return JsonPath.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonSchemaCompilerTest implements ClassTesting2<JsonSchemaCompiler> {
+
+    @Test
+    public void testInvalidSchemaFails() {
+        this.compileFails("1", "Invalid schema \"\" expected boolean or object got 1");
+    }
+
+    @Test
+    public void testInvalidNestedSchemaFails() {
+        this.compileFails("{\"properties\": {\"a/b\": []}}", "Invalid schema \"/properties/a~1b\" expected boolean or object got array");
+    }
+
+    @Test
+    public void testUnknownTypeFails() {
+        this.compileFails("{\"type\": \"date\"}", "Invalid schema \"/type\" unknown type \"date\"");
+    }
+
+    @Test
+    public void testTypeNotStringFails() {
+        this.compileFails("{\"type\": [1]}", "Invalid schema \"/type\" expected string got 1");
+    }
+
+    @Test
+    public void testNegativeCountFails() {
+        this.compileFails("{\"minLength\": -1}", "Invalid schema \"/minLength\" expected non negative integer got -1");
+    }
+
+    @Test
+    public void testFractionCountFails() {
+        this.compileFails("{\"maxItems\": 1.5}", "Invalid schema \"/maxItems\" expected non negative integer got 1.5");
+    }
+
+    @Test
+    public void testMultipleOfZeroFails() {
+        this.compileFails("{\"multipleOf\": 0}", "Invalid schema \"/multipleOf\" expected number greater than 0 got 0");
+    }
+
+    @Test
+    public void testEmptyAnyOfFails() {
+        this.compileFails("{\"anyOf\": []}", "Invalid schema \"/anyOf\" expected non empty array");
+    }
+
+    @Test
+    public void testRequiredNotArrayFails() {
+        this.compileFails("{\"required\": \"a\"}", "Invalid schema \"/required\" expected array got \"a\"");
+    }
+
+    @Test
+    public void testUnsupportedPatternFails() {
+        this.compileFails("{\"pattern\": \"a*\"}", "Invalid schema \"/pattern\" unsupported keyword");
+    }
+
+    @Test
+    public void testUnsupportedUnevaluatedPropertiesFails() {
+        this.compileFails("{\"unevaluatedProperties\": false}", "Invalid schema \"/unevaluatedProperties\" unsupported keyword");
+    }
+
+    @Test
+    public void testExternalRefFails() {
+        this.compileFails(
+                "{\"$ref\": \"other.json\"}",
+                "Invalid schema \"/$ref\" unsupported $ref \"other.json\" only references within the same schema are supported"
+        );
+    }
+
+    @Test
+    public void testUnknownRefFails() {
+        this.compileFails("{\"$ref\": \"#/$defs/missing\"}", "Invalid schema unknown $ref \"#/$defs/missing\"");
+    }
+
+    @Test
+    public void testRefRootCycleFails() {
+        this.compileFails(
+                "{\"$ref\": \"#\"}",
+                "Invalid schema $ref \"#\" refers to itself without descending into a property or item"
+        );
+    }
+
+    @Test
+    public void testRefDefsSelfCycleFails() {
+        this.compileFails(
+                "{\"$defs\": {\"a\": {\"$ref\": \"#/$defs/a\"}}, \"items\": {\"$ref\": \"#/$defs/a\"}}",
+                "Invalid schema $ref \"#/$defs/a\" refers to itself without descending into a property or item"
+        );
+    }
+
+    @Test
+    public void testRefMutualCycleThroughAllOfFails() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> JsonSchemaCompiler.compile(
+                        JsonNode.parse("{\"$defs\": {\"a\": {\"allOf\": [{\"$ref\": \"#/$defs/b\"}]}, \"b\": {\"not\": {\"$ref\": \"#/$defs/a\"}}}, \"$ref\": \"#/$defs/a\"}")
+                )
+        );
+    }
+
+    @Test
+    public void testRefCycleThroughPropertiesCompiles() {
+        JsonSchemaCompiler.compile(
+                JsonNode.parse("{\"$defs\": {\"a\": {\"properties\": {\"next\": {\"$ref\": \"#/$defs/a\"}}}}, \"$ref\": \"#/$defs/a\"}")
+        );
+    }
+
+    @Test
+    public void testRefCycleThroughItemsCompiles() {
+        JsonSchemaCompiler.compile(
+                JsonNode.parse("{\"type\": \"array\", \"items\": {\"$ref\": \"#\"}}")
+        );
+    }
+
+    private void compileFails(final String schema,
+                              final String message) {
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> JsonSchemaCompiler.compile(JsonNode.parse(schema))
+        );
+        this.checkEquals(message, thrown.getMessage(), () -> schema);
+    }
+
+    @Test
+    public void testIgnoresAnnotationsAndUnknownKeywords() {
+        assertSame(
+                JsonSchemaValidatorBoolean.TRUE,
+                JsonSchemaCompiler.compile(
+                        JsonNode.parse("{\"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"title\": \"t\", \"format\": \"email\", \"unknown\": 1, \"$defs\": {}}")
+                )
+        );
+    }
+
+    @Test
+    public void testTrue() {
+        assertSame(
+                JsonSchemaValidatorBoolean.TRUE,
+                JsonSchemaCompiler.compile(JsonNode.booleanNode(true))
+        );
+    }
+
+    @Test
+    public void testFalse() {
+        assertSame(
+                JsonSchemaValidatorBoolean.FALSE,
+                JsonSchemaCompiler.compile(JsonNode.booleanNode(false))
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonSchemaCompiler> type() {
+        return JsonSchemaCompiler.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonPointer;
+
+public final class JsonSchemaContextTest implements ClassTesting2<JsonSchemaContext> {
+
+    @Test
+    public void testFail() {
+        final JsonSchemaContext context = JsonSchemaContext.with(2);
+        context.push("a/b");
+        context.push(1);
+        context.push("c~d");
+
+        this.checkEquals(false, context.fail("keyword", "message"));
+        this.checkEquals(false, context.isComplete());
+        this.checkEquals(
+                Lists.of(
+                        JsonSchemaError.with(JsonPointer.parse("/a~1b/1/c~0d"), "keyword", "message")
+                ),
+                context.errors()
+        );
+    }
+
+    @Test
+    public void testPop() {
+        final JsonSchemaContext context = JsonSchemaContext.with(2);
+        context.push("a");
+        context.push(1);
+        context.pop();
+        context.fail("keyword", "message");
+
+        this.checkEquals(
+                JsonPointer.parse("/a"),
+                context.errors().get(0).path()
+        );
+    }
+
+    @Test
+    public void testComplete() {
+        final JsonSchemaContext context = JsonSchemaContext.with(2);
+        context.fail("keyword", "message1");
+        context.fail("keyword", "message2");
+
+        this.checkEquals(true, context.isComplete());
+    }
+
+    @Test
+    public void testSilent() {
+        final JsonSchemaContext context = JsonSchemaContext.silent();
+        this.checkEquals(false, context.isComplete());
+
+        context.fail("keyword", "message");
+        this.checkEquals(true, context.isComplete());
+        this.checkEquals(null, context.errors());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonSchemaContext> type() {
+        return JsonSchemaContext.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonPointer;
+
+public final class JsonSchemaErrorTest implements ClassTesting2<JsonSchemaError>,
+        ToStringTesting<JsonSchemaError> {
+
+    private final static JsonPointer PATH = JsonPointer.parse("/a/0");
+    private final static String KEYWORD = "minimum";
+    private final static String MESSAGE = "Expected >= 1 got 0";
+
+    @Test
+    public void testWith() {
+        final JsonSchemaError error = this.createObject();
+        this.checkEquals(PATH, error.path(), "path");
+        this.checkEquals(KEYWORD, error.keyword(), "keyword");
+        this.checkEquals(MESSAGE, error.message(), "message");
+    }
+
+    @Test
+    public void testEquals() {
+        final JsonSchemaError error = this.createObject();
+        final JsonSchemaError other = this.createObject();
+        this.checkEquals(error, other);
+        this.checkEquals(error.hashCode(), other.hashCode());
+    }
+
+    @Test
+    public void testEqualsDifferentPath() {
+        this.equalsDifferentAndCheck(JsonSchemaError.with(JsonPointer.parse("/b"), KEYWORD, MESSAGE));
+    }
+
+    @Test
+    public void testEqualsDifferentKeyword() {
+        this.equalsDifferentAndCheck(JsonSchemaError.with(PATH, "maximum", MESSAGE));
+    }
+
+    @Test
+    public void testEqualsDifferentMessage() {
+        this.equalsDifferentAndCheck(JsonSchemaError.with(PATH, KEYWORD, "different"));
+    }
+
+    private void equalsDifferentAndCheck(final JsonSchemaError other) {
+        this.checkEquals(
+                false,
+                this.createObject().equals(other),
+                other::toString
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "\"/a/0\" minimum: Expected >= 1 got 0");
+    }
+
+    private JsonSchemaError createObject() {
+        return JsonSchemaError.with(PATH, KEYWORD, MESSAGE);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonSchemaError> type() {
+        return JsonSchemaError.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPointer;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonSchemaTest implements ClassTesting2<JsonSchema>,
+        ToStringTesting<JsonSchema> {
+
+    private final static String SCHEMA = "{\n" +
+            "  \"type\": \"object\",\n" +
+            "  \"required\": [\"id\", \"name\"],\n" +
+            "  \"properties\": {\n" +
+            "    \"id\": {\"type\": \"integer\", \"minimum\": 1},\n" +
+            "    \"name\": {\"type\": \"string\", \"minLength\": 1},\n" +
+            "    \"tags\": {\"type\": \"array\", \"items\": {\"$ref\": \"#/$defs/tag\"}, \"uniqueItems\": true}\n" +
+            "  },\n" +
+            "  \"additionalProperties\": false,\n" +
+            "  \"$defs\": {\n" +
+            "    \"tag\": {\"type\": \"string\", \"maxLength\": 3}\n" +
+            "  }\n" +
+            "}";
+
+    @Test
+    public void testCompileNullFails() {
+        assertThrows(NullPointerException.class, () -> JsonSchema.compile(null));
+    }
+
+    @Test
+    public void testCompileInvalidFails() {
+        assertThrows(IllegalArgumentException.class, () -> JsonSchema.compile(JsonNode.number(1)));
+    }
+
+    @Test
+    public void testCompileCachedByIdentity() {
+        final JsonNode schema = JsonNode.parse(SCHEMA);
+        assertSame(
+                JsonSchema.compile(schema),
+                JsonSchema.compile(schema)
+        );
+    }
+
+    @Test
+    public void testCompileEqualSchemasNotShared() {
+        assertNotSame(
+                JsonSchema.compile(JsonNode.parse(SCHEMA)),
+                JsonSchema.compile(JsonNode.parse(SCHEMA))
+        );
+    }
+
+    @Test
+    public void testSchema() {
+        final JsonNode schema = JsonNode.parse(SCHEMA);
+        assertSame(schema, JsonSchema.compile(schema).schema());
+    }
+
+    @Test
+    public void testValidateNullFails() {
+        assertThrows(NullPointerException.class, () -> this.createSchema().validate(null));
+    }
+
+    @Test
+    public void testValidateInvalidLimitFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.createSchema().validate(JsonNode.object(), 0));
+    }
+
+    @Test
+    public void testValidateValid() {
+        this.validateAndCheck(
+                "{\"id\": 1, \"name\": \"a\", \"tags\": [\"x\", \"y\"]}"
+        );
+    }
+
+    @Test
+    public void testValidateAll() {
+        this.validateAndCheck(
+                "{\"id\": 0, \"tags\": [\"x\", \"long\", \"x\"], \"extra\": true}",
+                "\"\" required: Missing property \"name\"",
+                "\"/id\" minimum: Expected >= 1 got 0",
+                "\"/tags\" uniqueItems: Element 2 duplicates element 0",
+                "\"/tags/1\" maxLength: Expected at most 3 got 4",
+                "\"/extra\" false: Not allowed"
+        );
+    }
+
+    @Test
+    public void testValidateLimit() {
+        this.checkEquals(
+                2,
+                this.createSchema()
+                        .validate(JsonNode.parse("{\"id\": 0, \"tags\": [\"x\", \"long\", \"x\"], \"extra\": true}"), 2)
+                        .size()
+        );
+    }
+
+    @Test
+    public void testValidateErrorPath() {
+        final List<JsonSchemaError> errors = this.createSchema()
+                .validate(JsonNode.parse("{\"id\": 1, \"name\": \"a\", \"tags\": [1]}"));
+        this.checkEquals(1, errors.size(), errors::toString);
+        this.checkEquals(JsonPointer.parse("/tags/0"), errors.get(0).path());
+        this.checkEquals("type", errors.get(0).keyword());
+    }
+
+    private void validateAndCheck(final String json,
+                                  final String... errors) {
+        this.checkEquals(
+                String.join("\n", errors),
+                this.createSchema()
+                        .validate(JsonNode.parse(json))
+                        .stream()
+                        .map(JsonSchemaError::toString)
+                        .collect(Collectors.joining("\n")),
+                () -> "validate " + json
+        );
+    }
+
+    @Test
+    public void testIsValid() {
+        this.isValidAndCheck("{\"id\": 1, \"name\": \"a\"}", true);
+    }
+
+    @Test
+    public void testIsValidInvalid() {
+        this.isValidAndCheck("{\"id\": 1}", false);
+    }
+
+    @Test
+    public void testIsValidNotObject() {
+        this.isValidAndCheck("[]", false);
+    }
+
+    private void isValidAndCheck(final String json,
+                                 final boolean expected) {
+        this.checkEquals(
+                expected,
+                this.createSchema().isValid(JsonNode.parse(json)),
+                () -> "isValid " + json
+        );
+    }
+
+    private JsonSchema createSchema() {
+        return JsonSchema.compile(JsonNode.parse(SCHEMA));
+    }
+
+    @Test
+    public void testToString() {
+        final JsonNode schema = JsonNode.parse(SCHEMA);
+        this.toStringAndCheck(JsonSchema.compile(schema), schema.toString());
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonSchema> type() {
+        return JsonSchema.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
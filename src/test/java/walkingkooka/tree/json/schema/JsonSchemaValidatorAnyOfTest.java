@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorAnyOfTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorAnyOf> {
+
+    private final static String SCHEMA = "{\"anyOf\": [{\"type\": \"string\"}, {\"minimum\": 10}]}";
+
+    @Test
+    public void testFirst() {
+        this.validateAndCheck(SCHEMA, "\"a\"");
+    }
+
+    @Test
+    public void testSecond() {
+        this.validateAndCheck(SCHEMA, "11");
+    }
+
+    @Test
+    public void testNone() {
+        this.validateAndCheck(
+                SCHEMA,
+                "1",
+                "\"\" anyOf: Expected value to match at least one schema"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorAnyOf.with(
+                        new JsonSchemaValidator[]{
+                                JsonSchemaValidatorBoolean.FALSE,
+                                JsonSchemaValidatorUniqueItems.INSTANCE
+                        }
+                ),
+                "anyOf [false, uniqueItems]"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorAnyOf> type() {
+        return JsonSchemaValidatorAnyOf.class;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorBooleanTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorBoolean> {
+
+    @Test
+    public void testTrue() {
+        this.validateAndCheck("true", "{\"a\": 1}");
+    }
+
+    @Test
+    public void testFalse() {
+        this.validateAndCheck("false", "1", "\"\" false: Not allowed");
+    }
+
+    @Test
+    public void testFalseProperty() {
+        this.validateAndCheck(
+                "{\"properties\": {\"a\": false}}",
+                "{\"a\": 1, \"b\": 2}",
+                "\"/a\" false: Not allowed"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonSchemaValidatorBoolean.TRUE, "true");
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorBoolean> type() {
+        return JsonSchemaValidatorBoolean.class;
+    }
+}
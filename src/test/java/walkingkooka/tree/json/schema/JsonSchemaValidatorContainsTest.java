@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorContainsTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorContains> {
+
+    @Test
+    public void testContains() {
+        this.validateAndCheck("{\"contains\": {\"type\": \"string\"}}", "[1, \"a\", 2]");
+    }
+
+    @Test
+    public void testContainsFails() {
+        this.validateAndCheck(
+                "{\"contains\": {\"type\": \"string\"}}",
+                "[1, 2]",
+                "\"\" contains: Expected at least 1 matching elements got 0"
+        );
+    }
+
+    @Test
+    public void testMinContainsFails() {
+        this.validateAndCheck(
+                "{\"contains\": {\"type\": \"string\"}, \"minContains\": 2}",
+                "[1, \"a\"]",
+                "\"\" minContains: Expected at least 2 matching elements got 1"
+        );
+    }
+
+    @Test
+    public void testMinContainsZero() {
+        this.validateAndCheck("{\"contains\": false, \"minContains\": 0}", "[]");
+    }
+
+    @Test
+    public void testMaxContains() {
+        this.validateAndCheck("{\"contains\": {\"type\": \"string\"}, \"maxContains\": 2}", "[\"a\", 1, \"b\"]");
+    }
+
+    @Test
+    public void testMaxContainsFails() {
+        this.validateAndCheck(
+                "{\"contains\": {\"type\": \"string\"}, \"maxContains\": 2}",
+                "[\"a\", \"b\", \"c\"]",
+                "\"\" maxContains: Expected at most 2 matching elements"
+        );
+    }
+
+    @Test
+    public void testIgnoresNonArrays() {
+        this.validateAndCheck("{\"contains\": false}", "\"a\"");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorContains.with(JsonSchemaValidatorBoolean.TRUE, 1, 2),
+                "contains true 1..2"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorContains> type() {
+        return JsonSchemaValidatorContains.class;
+    }
+}
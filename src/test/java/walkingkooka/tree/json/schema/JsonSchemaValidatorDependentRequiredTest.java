@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.tree.json.JsonPropertyName;
+
+public final class JsonSchemaValidatorDependentRequiredTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorDependentRequired> {
+
+    private final static String SCHEMA = "{\"dependentRequired\": {\"card\": [\"address\", \"name\"]}}";
+
+    @Test
+    public void testAbsent() {
+        this.validateAndCheck(SCHEMA, "{\"name\": \"a\"}");
+    }
+
+    @Test
+    public void testPresent() {
+        this.validateAndCheck(SCHEMA, "{\"card\": 1, \"name\": \"a\", \"address\": \"b\"}");
+    }
+
+    @Test
+    public void testMissing() {
+        this.validateAndCheck(
+                SCHEMA,
+                "{\"card\": 1, \"name\": \"a\"}",
+                "\"\" dependentRequired: Missing property \"address\" required by \"card\""
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorDependentRequired.with(
+                        Maps.of(
+                                JsonPropertyName.with("card"),
+                                new JsonPropertyName[]{
+                                        JsonPropertyName.with("address"),
+                                        JsonPropertyName.with("name")
+                                }
+                        )
+                ),
+                "dependentRequired card=[address, name]"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorDependentRequired> type() {
+        return JsonSchemaValidatorDependentRequired.class;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.tree.json.JsonPropertyName;
+
+public final class JsonSchemaValidatorDependentSchemasTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorDependentSchemas> {
+
+    private final static String SCHEMA = "{\"dependentSchemas\": {\"card\": {\"required\": [\"name\"]}}}";
+
+    @Test
+    public void testAbsent() {
+        this.validateAndCheck(SCHEMA, "{}");
+    }
+
+    @Test
+    public void testPresent() {
+        this.validateAndCheck(SCHEMA, "{\"card\": 1, \"name\": \"a\"}");
+    }
+
+    @Test
+    public void testPresentFails() {
+        this.validateAndCheck(
+                SCHEMA,
+                "{\"card\": 1}",
+                "\"\" required: Missing property \"name\""
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorDependentSchemas.with(
+                        Maps.of(JsonPropertyName.with("a"), JsonSchemaValidatorBoolean.FALSE)
+                ),
+                "dependentSchemas {a=false}"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorDependentSchemas> type() {
+        return JsonSchemaValidatorDependentSchemas.class;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonNode;
+
+public final class JsonSchemaValidatorEnumTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorEnum> {
+
+    @Test
+    public void testEnum() {
+        this.validateAndCheck("{\"enum\": [\"a\", 1, null]}", "1");
+    }
+
+    @Test
+    public void testEnumNumberFraction() {
+        this.validateAndCheck("{\"enum\": [1]}", "1.0");
+    }
+
+    @Test
+    public void testEnumObjectOrderUnimportant() {
+        this.validateAndCheck("{\"enum\": [{\"a\": 1, \"b\": [2]}]}", "{\"b\": [2], \"a\": 1}");
+    }
+
+    @Test
+    public void testEnumFails() {
+        this.validateAndCheck(
+                "{\"enum\": [\"a\", 1, null]}",
+                "\"b\"",
+                "\"\" enum: Expected one of \"a\", 1, null got \"b\""
+        );
+    }
+
+    @Test
+    public void testConst() {
+        this.validateAndCheck("{\"const\": [1, {\"a\": true}]}", "[1, {\"a\": true}]");
+    }
+
+    @Test
+    public void testConstFails() {
+        this.validateAndCheck(
+                "{\"const\": [1, {\"a\": true}]}",
+                "[1, {\"a\": false}]",
+                "\"\" const: Expected value to match const"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorEnum.with(
+                        "const",
+                        new JsonNode[]{JsonNode.string("a")}
+                ),
+                "const [\"a\"]"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorEnum> type() {
+        return JsonSchemaValidatorEnum.class;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorIfTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorIf> {
+
+    private final static String SCHEMA = "{\"if\": {\"type\": \"string\"}, \"then\": {\"minLength\": 2}, \"else\": {\"minimum\": 5}}";
+
+    @Test
+    public void testThen() {
+        this.validateAndCheck(SCHEMA, "\"ab\"");
+    }
+
+    @Test
+    public void testThenFails() {
+        this.validateAndCheck(
+                SCHEMA,
+                "\"a\"",
+                "\"\" minLength: Expected at least 2 got 1"
+        );
+    }
+
+    @Test
+    public void testElse() {
+        this.validateAndCheck(SCHEMA, "5");
+    }
+
+    @Test
+    public void testElseFails() {
+        this.validateAndCheck(
+                SCHEMA,
+                "4",
+                "\"\" minimum: Expected >= 5 got 4"
+        );
+    }
+
+    @Test
+    public void testMissingElse() {
+        this.validateAndCheck("{\"if\": {\"type\": \"string\"}, \"then\": false}", "1");
+    }
+
+    @Test
+    public void testMissingIfIgnored() {
+        this.validateAndCheck("{\"then\": false, \"else\": false}", "1");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorIf.with(
+                        JsonSchemaValidatorUniqueItems.INSTANCE,
+                        JsonSchemaValidatorBoolean.TRUE,
+                        JsonSchemaValidatorBoolean.FALSE
+                ),
+                "if uniqueItems then true else false"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorIf> type() {
+        return JsonSchemaValidatorIf.class;
+    }
+}
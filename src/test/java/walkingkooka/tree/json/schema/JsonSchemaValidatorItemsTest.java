@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorItemsTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorItems> {
+
+    @Test
+    public void testItems() {
+        this.validateAndCheck("{\"items\": {\"type\": \"number\"}}", "[1, 2, 3]");
+    }
+
+    @Test
+    public void testItemsFails() {
+        this.validateAndCheck(
+                "{\"items\": {\"type\": \"number\"}}",
+                "[1, \"a\", 3, null]",
+                "\"/1\" type: Expected number got string",
+                "\"/3\" type: Expected number got null"
+        );
+    }
+
+    @Test
+    public void testPrefixItems() {
+        this.validateAndCheck(
+                "{\"prefixItems\": [{\"type\": \"string\"}, {\"type\": \"number\"}]}",
+                "[\"a\", 1, true, null]"
+        );
+    }
+
+    @Test
+    public void testPrefixItemsFails() {
+        this.validateAndCheck(
+                "{\"prefixItems\": [{\"type\": \"string\"}, {\"type\": \"number\"}]}",
+                "[1]",
+                "\"/0\" type: Expected string got number"
+        );
+    }
+
+    @Test
+    public void testPrefixItemsAndItemsFalse() {
+        this.validateAndCheck(
+                "{\"prefixItems\": [{\"type\": \"string\"}], \"items\": false}",
+                "[\"a\", 1]",
+                "\"/1\" false: Not allowed"
+        );
+    }
+
+    @Test
+    public void testIgnoresNonArrays() {
+        this.validateAndCheck("{\"items\": false}", "{\"a\": 1}");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorItems.with(
+                        new JsonSchemaValidator[]{JsonSchemaValidatorBoolean.TRUE},
+                        JsonSchemaValidatorBoolean.FALSE
+                ),
+                "prefixItems [true] items false"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorItems> type() {
+        return JsonSchemaValidatorItems.class;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class JsonSchemaValidatorKeywordsTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorKeywords> {
+
+    @Test
+    public void testWithEmpty() {
+        assertSame(
+                JsonSchemaValidatorBoolean.TRUE,
+                JsonSchemaValidatorKeywords.with(new JsonSchemaValidator[0])
+        );
+    }
+
+    @Test
+    public void testWithOne() {
+        final JsonSchemaValidator validator = JsonSchemaValidatorUniqueItems.INSTANCE;
+        assertSame(
+                validator,
+                JsonSchemaValidatorKeywords.with(new JsonSchemaValidator[]{validator})
+        );
+    }
+
+    @Test
+    public void testEmptySchema() {
+        this.validateAndCheck("{}", "[1, \"a\"]");
+    }
+
+    @Test
+    public void testAllKeywordsValid() {
+        this.validateAndCheck(
+                "{\"type\": \"number\", \"minimum\": 1, \"maximum\": 3}",
+                "2"
+        );
+    }
+
+    @Test
+    public void testSeveralKeywordsFail() {
+        this.validateAndCheck(
+                "{\"type\": \"string\", \"minLength\": 2, \"maxLength\": 1}",
+                "\"abc\"",
+                "\"\" maxLength: Expected at most 1 got 3"
+        );
+    }
+
+    @Test
+    public void testCollectsAll() {
+        this.validateAndCheck(
+                "{\"minimum\": 3, \"multipleOf\": 2}",
+                "1",
+                "\"\" minimum: Expected >= 3 got 1",
+                "\"\" multipleOf: Expected multiple of 2 got 1"
+        );
+    }
+
+    @Test
+    public void testAllOf() {
+        this.validateAndCheck(
+                "{\"allOf\": [{\"minimum\": 3}, {\"multipleOf\": 2}]}",
+                "4"
+        );
+    }
+
+    @Test
+    public void testAllOfFails() {
+        this.validateAndCheck(
+                "{\"allOf\": [{\"minimum\": 3}, {\"multipleOf\": 2}]}",
+                "1",
+                "\"\" minimum: Expected >= 3 got 1",
+                "\"\" multipleOf: Expected multiple of 2 got 1"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorKeywords.with(
+                        new JsonSchemaValidator[]{
+                                JsonSchemaValidatorSize.minItems(1),
+                                JsonSchemaValidatorUniqueItems.INSTANCE
+                        }
+                ),
+                "[minItems 1, uniqueItems]"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorKeywords> type() {
+        return JsonSchemaValidatorKeywords.class;
+    }
+}
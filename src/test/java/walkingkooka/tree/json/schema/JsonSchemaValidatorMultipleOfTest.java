@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorMultipleOfTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorMultipleOf> {
+
+    @Test
+    public void testWholeNumber() {
+        this.validateAndCheck("{\"multipleOf\": 3}", "-9");
+    }
+
+    @Test
+    public void testDecimal() {
+        this.validateAndCheck("{\"multipleOf\": 0.1}", "0.3");
+    }
+
+    @Test
+    public void testDecimal2() {
+        this.validateAndCheck("{\"multipleOf\": 0.01}", "19.99");
+    }
+
+    @Test
+    public void testFails() {
+        this.validateAndCheck("{\"multipleOf\": 0.5}", "1.25", "\"\" multipleOf: Expected multiple of 0.5 got 1.25");
+    }
+
+    @Test
+    public void testIgnoresNonNumbers() {
+        this.validateAndCheck("{\"multipleOf\": 2}", "true");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonSchemaValidatorMultipleOf.with(0.25), "multipleOf 0.25");
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorMultipleOf> type() {
+        return JsonSchemaValidatorMultipleOf.class;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorNotTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorNot> {
+
+    @Test
+    public void testNot() {
+        this.validateAndCheck("{\"not\": {\"type\": \"null\"}}", "1");
+    }
+
+    @Test
+    public void testNotFails() {
+        this.validateAndCheck(
+                "{\"not\": {\"type\": \"null\"}}",
+                "null",
+                "\"\" not: Expected value to not match schema"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorNot.with(JsonSchemaValidatorBoolean.TRUE),
+                "not true"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorNot> type() {
+        return JsonSchemaValidatorNot.class;
+    }
+}
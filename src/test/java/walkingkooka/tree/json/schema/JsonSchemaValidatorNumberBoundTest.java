@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorNumberBoundTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorNumberBound> {
+
+    @Test
+    public void testMinimum() {
+        this.validateAndCheck("{\"minimum\": 1}", "1");
+    }
+
+    @Test
+    public void testMinimumFails() {
+        this.validateAndCheck("{\"minimum\": 1}", "0.5", "\"\" minimum: Expected >= 1 got 0.5");
+    }
+
+    @Test
+    public void testExclusiveMinimum() {
+        this.validateAndCheck("{\"exclusiveMinimum\": 1}", "1.5");
+    }
+
+    @Test
+    public void testExclusiveMinimumFails() {
+        this.validateAndCheck("{\"exclusiveMinimum\": 1}", "1", "\"\" exclusiveMinimum: Expected > 1 got 1");
+    }
+
+    @Test
+    public void testMaximum() {
+        this.validateAndCheck("{\"maximum\": 1}", "1");
+    }
+
+    @Test
+    public void testMaximumFails() {
+        this.validateAndCheck("{\"maximum\": 1}", "2", "\"\" maximum: Expected <= 1 got 2");
+    }
+
+    @Test
+    public void testExclusiveMaximum() {
+        this.validateAndCheck("{\"exclusiveMaximum\": 1}", "-1");
+    }
+
+    @Test
+    public void testExclusiveMaximumFails() {
+        this.validateAndCheck("{\"exclusiveMaximum\": 1}", "1", "\"\" exclusiveMaximum: Expected < 1 got 1");
+    }
+
+    @Test
+    public void testIgnoresNonNumbers() {
+        this.validateAndCheck("{\"minimum\": 1}", "\"0\"");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonSchemaValidatorNumberBound.maximum(1.5), "maximum 1.5");
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorNumberBound> type() {
+        return JsonSchemaValidatorNumberBound.class;
+    }
+}
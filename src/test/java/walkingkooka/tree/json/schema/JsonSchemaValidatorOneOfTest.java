@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorOneOfTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorOneOf> {
+
+    private final static String SCHEMA = "{\"oneOf\": [{\"type\": \"integer\"}, {\"minimum\": 10}]}";
+
+    @Test
+    public void testFirst() {
+        this.validateAndCheck(SCHEMA, "1");
+    }
+
+    @Test
+    public void testSecond() {
+        this.validateAndCheck(SCHEMA, "10.5");
+    }
+
+    @Test
+    public void testBoth() {
+        this.validateAndCheck(
+                SCHEMA,
+                "10",
+                "\"\" oneOf: Expected value to match exactly one schema but matched 0 and 1"
+        );
+    }
+
+    @Test
+    public void testNone() {
+        this.validateAndCheck(
+                SCHEMA,
+                "1.5",
+                "\"\" oneOf: Expected value to match exactly one schema but matched none"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorOneOf.with(
+                        new JsonSchemaValidator[]{
+                                JsonSchemaValidatorBoolean.TRUE,
+                                JsonSchemaValidatorBoolean.FALSE
+                        }
+                ),
+                "oneOf [true, false]"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorOneOf> type() {
+        return JsonSchemaValidatorOneOf.class;
+    }
+}
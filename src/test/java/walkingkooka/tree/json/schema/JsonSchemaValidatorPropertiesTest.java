@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.tree.json.JsonPropertyName;
+
+public final class JsonSchemaValidatorPropertiesTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorProperties> {
+
+    @Test
+    public void testProperties() {
+        this.validateAndCheck(
+                "{\"properties\": {\"a\": {\"type\": \"number\"}, \"b\": {\"type\": \"string\"}}}",
+                "{\"a\": 1, \"c\": true}"
+        );
+    }
+
+    @Test
+    public void testPropertiesFails() {
+        this.validateAndCheck(
+                "{\"properties\": {\"a\": {\"type\": \"number\"}, \"b\": {\"type\": \"string\"}}}",
+                "{\"a\": \"x\", \"b\": 2}",
+                "\"/a\" type: Expected number got string",
+                "\"/b\" type: Expected string got number"
+        );
+    }
+
+    @Test
+    public void testNested() {
+        this.validateAndCheck(
+                "{\"properties\": {\"a\": {\"properties\": {\"b/c\": {\"minimum\": 1}}}}}",
+                "{\"a\": {\"b/c\": 0}}",
+                "\"/a/b~1c\" minimum: Expected >= 1 got 0"
+        );
+    }
+
+    @Test
+    public void testAdditionalPropertiesFalse() {
+        this.validateAndCheck(
+                "{\"properties\": {\"a\": true}, \"additionalProperties\": false}",
+                "{\"a\": 1, \"b\": 2}",
+                "\"/b\" false: Not allowed"
+        );
+    }
+
+    @Test
+    public void testAdditionalPropertiesSchema() {
+        this.validateAndCheck(
+                "{\"additionalProperties\": {\"type\": \"boolean\"}}",
+                "{\"a\": true, \"b\": 2}",
+                "\"/b\" type: Expected boolean got number"
+        );
+    }
+
+    @Test
+    public void testIgnoresNonObjects() {
+        this.validateAndCheck("{\"additionalProperties\": false}", "[1]");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorProperties.with(
+                        Maps.of(JsonPropertyName.with("a"), JsonSchemaValidatorBoolean.TRUE),
+                        JsonSchemaValidatorBoolean.FALSE
+                ),
+                "properties {a=true} additionalProperties false"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorProperties> type() {
+        return JsonSchemaValidatorProperties.class;
+    }
+}
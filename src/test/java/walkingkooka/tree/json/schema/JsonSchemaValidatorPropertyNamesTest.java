@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorPropertyNamesTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorPropertyNames> {
+
+    @Test
+    public void testValid() {
+        this.validateAndCheck("{\"propertyNames\": {\"maxLength\": 2}}", "{\"a\": 1, \"bb\": 2}");
+    }
+
+    @Test
+    public void testInvalid() {
+        this.validateAndCheck(
+                "{\"propertyNames\": {\"maxLength\": 2}}",
+                "{\"a\": 1, \"ccc\": 2}",
+                "\"\" propertyNames: Invalid property name \"ccc\""
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorPropertyNames.with(JsonSchemaValidatorSize.maxLength(2)),
+                "propertyNames maxLength 2"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorPropertyNames> type() {
+        return JsonSchemaValidatorPropertyNames.class;
+    }
+}
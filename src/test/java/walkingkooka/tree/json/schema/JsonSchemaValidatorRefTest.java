@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorRefTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorRef> {
+
+    @Test
+    public void testDefs() {
+        this.validateAndCheck(
+                "{\"$defs\": {\"positive\": {\"exclusiveMinimum\": 0}}, \"items\": {\"$ref\": \"#/$defs/positive\"}}",
+                "[1, 2]"
+        );
+    }
+
+    @Test
+    public void testDefsFails() {
+        this.validateAndCheck(
+                "{\"$defs\": {\"positive\": {\"exclusiveMinimum\": 0}}, \"items\": {\"$ref\": \"#/$defs/positive\"}}",
+                "[1, -2]",
+                "\"/1\" exclusiveMinimum: Expected > 0 got -2"
+        );
+    }
+
+    @Test
+    public void testSiblingKeywords() {
+        this.validateAndCheck(
+                "{\"$defs\": {\"number\": {\"type\": \"number\"}}, \"$ref\": \"#/$defs/number\", \"maximum\": 1}",
+                "2",
+                "\"\" maximum: Expected <= 1 got 2"
+        );
+    }
+
+    @Test
+    public void testRecursive() {
+        final String schema = "{\"type\": \"object\", \"properties\": {\"value\": {\"type\": \"number\"}, \"next\": {\"$ref\": \"#\"}}}";
+
+        this.validateAndCheck(
+                schema,
+                "{\"value\": 1, \"next\": {\"value\": 2, \"next\": {\"value\": 3}}}"
+        );
+        this.validateAndCheck(
+                schema,
+                "{\"value\": 1, \"next\": {\"value\": 2, \"next\": {\"value\": \"3\"}}}",
+                "\"/next/next/value\" type: Expected number got string"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorRef.with("#/$defs/a"),
+                "$ref #/$defs/a"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorRef> type() {
+        return JsonSchemaValidatorRef.class;
+    }
+}
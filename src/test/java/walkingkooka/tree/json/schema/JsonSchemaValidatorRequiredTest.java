@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.tree.json.JsonPropertyName;
+
+public final class JsonSchemaValidatorRequiredTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorRequired> {
+
+    @Test
+    public void testPresent() {
+        this.validateAndCheck("{\"required\": [\"a\", \"b\"]}", "{\"a\": null, \"b\": 2, \"c\": 3}");
+    }
+
+    @Test
+    public void testMissing() {
+        this.validateAndCheck(
+                "{\"required\": [\"a\", \"b\", \"c\"]}",
+                "{\"b\": 2}",
+                "\"\" required: Missing property \"a\"",
+                "\"\" required: Missing property \"c\""
+        );
+    }
+
+    @Test
+    public void testIgnoresNonObjects() {
+        this.validateAndCheck("{\"required\": [\"a\"]}", "[]");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorRequired.with(
+                        new JsonPropertyName[]{
+                                JsonPropertyName.with("a"),
+                                JsonPropertyName.with("b")
+                        }
+                ),
+                "required [a, b]"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorRequired> type() {
+        return JsonSchemaValidatorRequired.class;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorSizeTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorSize> {
+
+    @Test
+    public void testMinLength() {
+        this.validateAndCheck("{\"minLength\": 2}", "\"ab\"");
+    }
+
+    @Test
+    public void testMinLengthFails() {
+        this.validateAndCheck("{\"minLength\": 2}", "\"a\"", "\"\" minLength: Expected at least 2 got 1");
+    }
+
+    @Test
+    public void testMaxLengthCountsCodePoints() {
+        this.validateAndCheck("{\"maxLength\": 1}", "\"\\ud83d\\ude00\"");
+    }
+
+    @Test
+    public void testMaxLengthFails() {
+        this.validateAndCheck("{\"maxLength\": 1}", "\"ab\"", "\"\" maxLength: Expected at most 1 got 2");
+    }
+
+    @Test
+    public void testMinItems() {
+        this.validateAndCheck("{\"minItems\": 1}", "[1]");
+    }
+
+    @Test
+    public void testMinItemsFails() {
+        this.validateAndCheck("{\"minItems\": 1}", "[]", "\"\" minItems: Expected at least 1 got 0");
+    }
+
+    @Test
+    public void testMaxItemsFails() {
+        this.validateAndCheck("{\"maxItems\": 1}", "[1, 2]", "\"\" maxItems: Expected at most 1 got 2");
+    }
+
+    @Test
+    public void testMinPropertiesFails() {
+        this.validateAndCheck("{\"minProperties\": 1}", "{}", "\"\" minProperties: Expected at least 1 got 0");
+    }
+
+    @Test
+    public void testMaxProperties() {
+        this.validateAndCheck("{\"maxProperties\": 1}", "{\"a\": 1}");
+    }
+
+    @Test
+    public void testMaxPropertiesFails() {
+        this.validateAndCheck("{\"maxProperties\": 1}", "{\"a\": 1, \"b\": 2}", "\"\" maxProperties: Expected at most 1 got 2");
+    }
+
+    @Test
+    public void testIgnoresOtherTypes() {
+        this.validateAndCheck("{\"minLength\": 2, \"minItems\": 2, \"minProperties\": 2}", "1");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonSchemaValidatorSize.maxItems(3), "maxItems 3");
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorSize> type() {
+        return JsonSchemaValidatorSize.class;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public abstract class JsonSchemaValidatorTestCase<V extends JsonSchemaValidator> implements ClassTesting2<V>,
+        ToStringTesting<V> {
+
+    JsonSchemaValidatorTestCase() {
+        super();
+    }
+
+    final void validateAndCheck(final String schema,
+                                final String json,
+                                final String... errors) {
+        final JsonSchemaValidator validator = JsonSchemaCompiler.compile(JsonNode.parse(schema));
+        final JsonNode node = JsonNode.parse(json);
+
+        final JsonSchemaContext context = JsonSchemaContext.with(Integer.MAX_VALUE);
+        final boolean valid = validator.validate(node, context);
+
+        this.checkEquals(
+                Arrays.asList(errors),
+                context.errors()
+                        .stream()
+                        .map(JsonSchemaError::toString)
+                        .collect(Collectors.toList()),
+                () -> schema + " validate " + json
+        );
+        this.checkEquals(
+                0 == errors.length,
+                valid,
+                () -> schema + " validate " + json
+        );
+        this.checkEquals(
+                valid,
+                JsonSchemaValidator.test(validator, node),
+                () -> schema + " test " + json
+        );
+    }
+
+    final JsonSchemaValidator compile(final String schema) {
+        return JsonSchemaCompiler.compile(JsonNode.parse(schema));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public final JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
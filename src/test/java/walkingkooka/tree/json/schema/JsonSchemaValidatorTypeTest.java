@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorTypeTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorType> {
+
+    @Test
+    public void testNull() {
+        this.validateAndCheck("{\"type\": \"null\"}", "null");
+    }
+
+    @Test
+    public void testBoolean() {
+        this.validateAndCheck("{\"type\": \"boolean\"}", "false");
+    }
+
+    @Test
+    public void testNumber() {
+        this.validateAndCheck("{\"type\": \"number\"}", "1.5");
+    }
+
+    @Test
+    public void testNumberInteger() {
+        this.validateAndCheck("{\"type\": \"number\"}", "1");
+    }
+
+    @Test
+    public void testInteger() {
+        this.validateAndCheck("{\"type\": \"integer\"}", "2");
+    }
+
+    @Test
+    public void testIntegerZeroFraction() {
+        this.validateAndCheck("{\"type\": \"integer\"}", "2.0");
+    }
+
+    @Test
+    public void testIntegerFails() {
+        this.validateAndCheck(
+                "{\"type\": \"integer\"}",
+                "2.5",
+                "\"\" type: Expected integer got number"
+        );
+    }
+
+    @Test
+    public void testString() {
+        this.validateAndCheck("{\"type\": \"string\"}", "\"a\"");
+    }
+
+    @Test
+    public void testArray() {
+        this.validateAndCheck("{\"type\": \"array\"}", "[]");
+    }
+
+    @Test
+    public void testObject() {
+        this.validateAndCheck("{\"type\": \"object\"}", "{}");
+    }
+
+    @Test
+    public void testObjectFails() {
+        this.validateAndCheck(
+                "{\"type\": \"object\"}",
+                "[]",
+                "\"\" type: Expected object got array"
+        );
+    }
+
+    @Test
+    public void testSeveral() {
+        this.validateAndCheck("{\"type\": [\"string\", \"null\"]}", "null");
+    }
+
+    @Test
+    public void testSeveralFails() {
+        this.validateAndCheck(
+                "{\"type\": [\"string\", \"null\"]}",
+                "true",
+                "\"\" type: Expected null|string got boolean"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                JsonSchemaValidatorType.with(
+                        JsonSchemaValidatorType.bit("integer") | JsonSchemaValidatorType.bit("array")
+                ),
+                "integer|array"
+        );
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorType> type() {
+        return JsonSchemaValidatorType.class;
+    }
+}
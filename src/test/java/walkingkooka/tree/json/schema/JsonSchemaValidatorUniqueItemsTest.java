@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.schema;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonSchemaValidatorUniqueItemsTest extends JsonSchemaValidatorTestCase<JsonSchemaValidatorUniqueItems> {
+
+    @Test
+    public void testUnique() {
+        this.validateAndCheck("{\"uniqueItems\": true}", "[1, \"1\", [1], {\"a\": 1}, {\"a\": 2}]");
+    }
+
+    @Test
+    public void testDuplicate() {
+        this.validateAndCheck(
+                "{\"uniqueItems\": true}",
+                "[1, 2, 1.0]",
+                "\"\" uniqueItems: Element 2 duplicates element 0"
+        );
+    }
+
+    @Test
+    public void testDuplicateObjects() {
+        this.validateAndCheck(
+                "{\"uniqueItems\": true}",
+                "[{\"a\": 1, \"b\": 2}, {\"b\": 2, \"a\": 1}]",
+                "\"\" uniqueItems: Element 1 duplicates element 0"
+        );
+    }
+
+    @Test
+    public void testFalse() {
+        this.validateAndCheck("{\"uniqueItems\": false}", "[1, 1]");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(JsonSchemaValidatorUniqueItems.INSTANCE, "uniqueItems");
+    }
+
+    @Override
+    public Class<JsonSchemaValidatorUniqueItems> type() {
+        return JsonSchemaValidatorUniqueItems.class;
+    }
+}
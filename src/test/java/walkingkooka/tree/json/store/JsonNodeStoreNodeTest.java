@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.store;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeStoreNodeTest implements ClassTesting2<JsonNodeStoreNode>,
+        ToStringTesting<JsonNodeStoreNode> {
+
+    @Test
+    public void testNull() {
+        final JsonNodeStoreNode node = this.node(JsonNode.nullNode());
+        this.checkEquals(true, node.isNull(), "isNull");
+        this.checkEquals(false, node.isBoolean(), "isBoolean");
+        this.checkEquals(0, node.size(), "size");
+    }
+
+    @Test
+    public void testBoolean() {
+        this.checkEquals(true, this.node(JsonNode.booleanNode(true)).booleanOrFail());
+        this.checkEquals(false, this.node(JsonNode.booleanNode(false)).booleanOrFail());
+    }
+
+    @Test
+    public void testNumber() {
+        final JsonNodeStoreNode node = this.node(JsonNode.number(-12.5));
+        this.checkEquals(true, node.isNumber(), "isNumber");
+        this.checkEquals(-12.5, node.numberOrFail());
+    }
+
+    @Test
+    public void testString() {
+        final JsonNodeStoreNode node = this.node(JsonNode.string("abc\u00e9"));
+        this.checkEquals(true, node.isString(), "isString");
+        this.checkEquals("abc\u00e9", node.stringOrFail());
+    }
+
+    @Test
+    public void testStringOrFailNumberFails() {
+        assertThrows(ClassCastException.class, () -> this.node(JsonNode.number(1)).stringOrFail());
+    }
+
+    @Test
+    public void testNumberOrFailStringFails() {
+        assertThrows(ClassCastException.class, () -> this.node(JsonNode.string("a")).numberOrFail());
+    }
+
+    @Test
+    public void testBooleanOrFailNullFails() {
+        assertThrows(ClassCastException.class, () -> this.node(JsonNode.nullNode()).booleanOrFail());
+    }
+
+    @Test
+    public void testArray() {
+        final JsonNodeStoreNode node = this.node(JsonNode.parse("[1, \"two\", [true]]"));
+        this.checkEquals(true, node.isArray(), "isArray");
+        this.checkEquals(3, node.size(), "size");
+        this.checkEquals(1.0, node.get(0).numberOrFail());
+        this.checkEquals("two", node.get(1).stringOrFail());
+        this.checkEquals(true, node.get(2).get(0).booleanOrFail());
+    }
+
+    @Test
+    public void testArrayGetInvalidIndexFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> this.node(JsonNode.parse("[1]")).get(1));
+    }
+
+    @Test
+    public void testGetLeafFails() {
+        assertThrows(ClassCastException.class, () -> this.node(JsonNode.number(1)).get(0));
+    }
+
+    @Test
+    public void testObject() {
+        final JsonNodeStoreNode node = this.node(JsonNode.parse("{\"a\": 1, \"b\": \"bee\"}"));
+        this.checkEquals(true, node.isObject(), "isObject");
+        this.checkEquals(2, node.size(), "size");
+        this.checkEquals(JsonPropertyName.with("a"), node.name(0));
+        this.checkEquals(JsonPropertyName.with("b"), node.name(1));
+        this.checkEquals(1.0, node.get(0).numberOrFail());
+        this.checkEquals("bee", node.get(1).stringOrFail());
+    }
+
+    @Test
+    public void testObjectGetProperty() {
+        final JsonNodeStoreNode node = this.node(JsonNode.parse("{\"a\": 1, \"\u00e9\": \"bee\"}"));
+        this.checkEquals("bee", node.get(JsonPropertyName.with("\u00e9")).get().stringOrFail());
+    }
+
+    @Test
+    public void testObjectGetPropertyMissing() {
+        final JsonNodeStoreNode node = this.node(JsonNode.parse("{\"a\": 1}"));
+        this.checkEquals(Optional.empty(), node.get(JsonPropertyName.with("b")));
+    }
+
+    @Test
+    public void testObjectGetPropertyNullFails() {
+        assertThrows(NullPointerException.class, () -> this.node(JsonNode.object()).get(null));
+    }
+
+    @Test
+    public void testArrayGetPropertyFails() {
+        assertThrows(ClassCastException.class, () -> this.node(JsonNode.array()).get(JsonPropertyName.with("a")));
+    }
+
+    @Test
+    public void testNameArrayFails() {
+        assertThrows(ClassCastException.class, () -> this.node(JsonNode.parse("[1]")).name(0));
+    }
+
+    @Test
+    public void testToJsonNode() {
+        final JsonNode json = JsonNode.parse("{\"a\": [1, 2.5, null, false], \"b\": {\"c\": \"d\"}, \"e\": {}}");
+        this.checkEquals(json, this.node(json).toJsonNode());
+    }
+
+    @Test
+    public void testObjectGetPropertySurrogatePair() {
+        final JsonNodeStoreNode node = this.node(JsonNode.parse("{\"\uD83D\uDE00\": 1, \"\u4e2d\": 2}"));
+        this.checkEquals(1.0, node.get(JsonPropertyName.with("\uD83D\uDE00")).get().numberOrFail());
+        this.checkEquals(2.0, node.get(JsonPropertyName.with("\u4e2d")).get().numberOrFail());
+    }
+
+    @Test
+    public void testObjectGetPropertyPrefixMissing() {
+        final JsonNodeStoreNode node = this.node(JsonNode.parse("{\"abc\": 1, \"\u00e9\": 2}"));
+        this.checkEquals(Optional.empty(), node.get(JsonPropertyName.with("ab")));
+        this.checkEquals(Optional.empty(), node.get(JsonPropertyName.with("abcd")));
+        this.checkEquals(Optional.empty(), node.get(JsonPropertyName.with("e")));
+    }
+
+    @Test
+    public void testToStringNull() {
+        this.toStringAndCheck(this.node(JsonNode.nullNode()), "null");
+    }
+
+    @Test
+    public void testToStringBoolean() {
+        this.toStringAndCheck(this.node(JsonNode.booleanNode(true)), "true");
+    }
+
+    @Test
+    public void testToStringNumber() {
+        this.toStringAndCheck(this.node(JsonNode.number(1.5)), "1.5");
+    }
+
+    @Test
+    public void testToStringString() {
+        this.toStringAndCheck(this.node(JsonNode.string("abc")), "\"abc\"");
+    }
+
+    @Test
+    public void testToStringLongStringTruncated() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < JsonNodeStoreNode.TO_STRING_MAX_BYTES; i++) {
+            b.append('\u00e9');
+        }
+        // each char is two bytes so only half fit
+        this.toStringAndCheck(
+                this.node(JsonNode.string(b.toString())),
+                "\"" + b.substring(0, JsonNodeStoreNode.TO_STRING_MAX_BYTES / 2) + "...\""
+        );
+    }
+
+    @Test
+    public void testToStringArray() {
+        this.toStringAndCheck(this.node(JsonNode.parse("[1, \"two\"]")), "[2 elements]");
+    }
+
+    @Test
+    public void testToStringObject() {
+        this.toStringAndCheck(this.node(JsonNode.parse("{\"a\": [1, 2, 3]}")), "{1 properties}");
+    }
+
+    private JsonNodeStoreNode node(final JsonNode node) {
+        return JsonNodeStoreNode.root(JsonNodeStoreWriter.write(node));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeStoreNode> type() {
+        return JsonNodeStoreNode.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
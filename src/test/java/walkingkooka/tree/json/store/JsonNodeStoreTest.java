@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.store;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JsonNodeStoreTest implements ClassTesting2<JsonNodeStore>,
+        ToStringTesting<JsonNodeStore> {
+
+    @Test
+    public void testWriteNullPathFails() {
+        assertThrows(NullPointerException.class, () -> JsonNodeStore.write(null, Lists.empty()));
+    }
+
+    @Test
+    public void testWriteNullDocumentsFails() throws IOException {
+        final Path path = this.path();
+        try {
+            assertThrows(NullPointerException.class, () -> JsonNodeStore.write(path, null));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testOpenNullPathFails() {
+        assertThrows(NullPointerException.class, () -> JsonNodeStore.open(null));
+    }
+
+    @Test
+    public void testOpenInvalidFileFails() throws IOException {
+        final Path path = this.path();
+        try {
+            Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+            assertThrows(IOException.class, () -> JsonNodeStore.open(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testOpenEmptyFileFails() throws IOException {
+        final Path path = this.path();
+        try {
+            assertThrows(IOException.class, () -> JsonNodeStore.open(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        this.writeOpenAndCheck();
+    }
+
+    @Test
+    public void testLeafs() throws IOException {
+        this.writeOpenAndCheck(
+                JsonNode.nullNode(),
+                JsonNode.booleanNode(true),
+                JsonNode.booleanNode(false),
+                JsonNode.number(1.5),
+                JsonNode.string("abc")
+        );
+    }
+
+    @Test
+    public void testArrayAndObject() throws IOException {
+        this.writeOpenAndCheck(
+                JsonNode.parse("[1, \"two\", true, null, [], {}]"),
+                JsonNode.parse("{\"a\": 1, \"b\": {\"c\": [\"d\", \"d\"]}, \"e\": \"\u00e9\u4e2d\"}")
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() throws IOException {
+        final Path path = this.path();
+        try {
+            JsonNodeStore.write(path, Lists.of(JsonNode.nullNode()));
+
+            try (final JsonNodeStore store = JsonNodeStore.open(path)) {
+                assertThrows(IndexOutOfBoundsException.class, () -> store.get(-1));
+                assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testGetAfterCloseFails() throws IOException {
+        final Path path = this.path();
+        try {
+            JsonNodeStore.write(path, Lists.of(JsonNode.nullNode()));
+
+            final JsonNodeStore store = JsonNodeStore.open(path);
+            store.close();
+
+            assertThrows(IllegalStateException.class, () -> store.get(0));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testGetProperty() throws IOException {
+        final Path path = this.path();
+        try {
+            JsonNodeStore.write(
+                    path,
+                    Lists.of(
+                            JsonNode.parse("{\"a\": 1, \"b\": \"bee\"}")
+                    )
+            );
+
+            try (final JsonNodeStore store = JsonNodeStore.open(path)) {
+                this.checkEquals(
+                        "bee",
+                        store.get(0)
+                                .get(JsonPropertyName.with("b"))
+                                .get()
+                                .stringOrFail()
+                );
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testManyRegions() throws IOException {
+        final List<JsonNode> documents = Lists.of(
+                JsonNode.parse("[1, 2, 3]"),
+                JsonNode.string("abc"),
+                JsonNode.parse("{\"a\": true}"),
+                JsonNode.number(4)
+        );
+        final Path path = this.path();
+        try {
+            JsonNodeStore.write(path, documents);
+
+            // every document is mapped in its own region
+            try (final JsonNodeStore store = JsonNodeStore.open(path, 1)) {
+                for (int i = 0; i < documents.size(); i++) {
+                    this.checkEquals(documents.get(i), store.get(i).toJsonNode(), "document " + i);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private void writeOpenAndCheck(final JsonNode... documents) throws IOException {
+        final List<JsonNode> list = Lists.of(documents);
+        final Path path = this.path();
+        try {
+            JsonNodeStore.write(path, list);
+
+            try (final JsonNodeStore store = JsonNodeStore.open(path)) {
+                this.checkEquals(list.size(), store.size(), "size");
+
+                for (int i = 0; i < documents.length; i++) {
+                    this.checkEquals(documents[i], store.get(i).toJsonNode(), () -> store.toString());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    // ToString.........................................................................................................
+
+    @Test
+    public void testToString() throws IOException {
+        final Path path = this.path();
+        try {
+            JsonNodeStore.write(path, Lists.of(JsonNode.nullNode(), JsonNode.nullNode()));
+
+            try (final JsonNodeStore store = JsonNodeStore.open(path)) {
+                this.toStringAndCheck(store, path + " 2");
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private Path path() throws IOException {
+        return Files.createTempFile(JsonNodeStoreTest.class.getSimpleName(), ".store");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeStore> type() {
+        return JsonNodeStore.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
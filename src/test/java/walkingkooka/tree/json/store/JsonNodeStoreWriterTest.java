@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.tree.json.store;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.nio.ByteBuffer;
+
+public final class JsonNodeStoreWriterTest implements ClassTesting2<JsonNodeStoreWriter> {
+
+    @Test
+    public void testNull() {
+        final ByteBuffer buffer = JsonNodeStoreWriter.write(JsonNode.nullNode());
+        this.checkEquals(0, buffer.position(), "position");
+        this.checkEquals(JsonNodeStoreWriter.ROOT_OFFSET + 1, buffer.getInt(0), "strings offset");
+        this.checkEquals(JsonNodeStoreNode.NULL, buffer.get(JsonNodeStoreWriter.ROOT_OFFSET), "tag");
+        this.checkEquals(JsonNodeStoreWriter.ROOT_OFFSET + 1, buffer.limit(), "limit");
+    }
+
+    @Test
+    public void testStringsShared() {
+        final ByteBuffer once = JsonNodeStoreWriter.write(JsonNode.parse("[\"abc\"]"));
+        final ByteBuffer twice = JsonNodeStoreWriter.write(JsonNode.parse("[\"abc\", \"abc\"]"));
+
+        this.checkEquals(
+                once.limit() - once.getInt(0),
+                twice.limit() - twice.getInt(0),
+                "string table size"
+        );
+    }
+
+    @Test
+    public void testKeysAndValuesShared() {
+        final ByteBuffer buffer = JsonNodeStoreWriter.write(JsonNode.parse("{\"abc\": \"abc\"}"));
+        this.checkEquals(4 + 3, buffer.limit() - buffer.getInt(0), "string table size");
+    }
+
+    @Test
+    public void testGrows() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append("{\"key").append(i).append("\": ").append(i).append('}');
+        }
+        b.append(']');
+
+        final JsonNode json = JsonNode.parse(b.toString());
+        this.checkEquals(
+                json,
+                JsonNodeStoreNode.root(JsonNodeStoreWriter.write(json)).toJsonNode()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<JsonNodeStoreWriter> type() {
+        return JsonNodeStoreWriter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}